@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.base.model.common;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * A snapshot of the statistics of a cache which is registered at the {@link CacheStatisticsRegistry}.
+ *
+ * @since 2.5.0
+ */
+public interface CacheStatistics {
+
+    /**
+     * Returns the name of the cache which prefixes the names of its metrics, e.g. {@code rql_predicate}.
+     *
+     * @return the name.
+     */
+    String getName();
+
+    /**
+     * Returns the number of entries in the cache.
+     *
+     * @return the size.
+     */
+    int getSize();
+
+    /**
+     * Returns the maximum number of entries in the cache.
+     *
+     * @return the maximum size.
+     */
+    int getMaxSize();
+
+    /**
+     * Returns the number of lookups which were answered from the cache since the cache was created.
+     *
+     * @return the hit count.
+     */
+    long getHitCount();
+
+    /**
+     * Returns the number of lookups which were not answered from the cache since the cache was created.
+     *
+     * @return the miss count.
+     */
+    long getMissCount();
+
+    /**
+     * Returns the ratio of hits to all lookups or {@code 1.0} if there was no lookup yet.
+     *
+     * @return the hit rate.
+     */
+    default double getHitRate() {
+        final long lookupCount = getHitCount() + getMissCount();
+        return 0 == lookupCount ? 1.0 : (double) getHitCount() / lookupCount;
+    }
+
+    /**
+     * Returns further counts specific to the cache, which only ever increase, by their names.
+     * Each count is reported as a counter whose name is the name of the cache and the name of the count joined by
+     * an underscore.
+     *
+     * @return the additional counts, empty by default.
+     */
+    default Map<String, Long> getAdditionalCounts() {
+        return Collections.emptyMap();
+    }
+
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.base.model.common;
+
+import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Registry of the statistics of the static caches of the Ditto model modules, e.g. of parsed RQL predicates.
+ * The caches register themselves when they are created; a service reports the statistics of all registered caches as
+ * metrics without having to depend on the modules which own the caches.
+ *
+ * @since 2.5.0
+ */
+@ThreadSafe
+public final class CacheStatisticsRegistry {
+
+    private static final List<Supplier<? extends CacheStatistics>> STATISTICS_SUPPLIERS =
+            new CopyOnWriteArrayList<>();
+
+    private CacheStatisticsRegistry() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Registers a cache by the supplier of snapshots of its statistics.
+     *
+     * @param statisticsSupplier supplies a snapshot of the current statistics of the cache.
+     * @throws NullPointerException if {@code statisticsSupplier} is {@code null}.
+     */
+    public static void register(final Supplier<? extends CacheStatistics> statisticsSupplier) {
+        STATISTICS_SUPPLIERS.add(checkNotNull(statisticsSupplier, "statisticsSupplier"));
+    }
+
+    /**
+     * Returns snapshots of the statistics of all registered caches.
+     *
+     * @return the statistics in the order in which the caches were registered.
+     */
+    public static List<CacheStatistics> getStatistics() {
+        final List<CacheStatistics> result = new ArrayList<>(STATISTICS_SUPPLIERS.size());
+        for (final Supplier<? extends CacheStatistics> statisticsSupplier : STATISTICS_SUPPLIERS) {
+            result.add(statisticsSupplier.get());
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.base.model.common;
+
+import static org.eclipse.ditto.base.model.common.ConditionChecker.checkArgument;
+import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A bounded cache for values which are expensive to create but requested for the same few keys again and again, e.g.
+ * parsed topic paths or RQL predicates.
+ * <p>
+ * The cache consists of two generations: new values are added to the current generation; once it reached half of the
+ * maximum size, it becomes the previous generation and the former previous generation is discarded.
+ * Values found in the previous generation are moved to the current one, so frequently used values stay cached without
+ * the bookkeeping of a LRU cache on the hot path.
+ * A maximum size of {@code 0} disables the cache.
+ * </p>
+ *
+ * @param <K> the type of the keys.
+ * @param <V> the type of the cached values.
+ * @since 2.5.0
+ */
+@ThreadSafe
+public final class GenerationalCache<K, V> {
+
+    private final int maxSize;
+    private final int generationSize;
+    private final LongAdder hitCount;
+    private final LongAdder missCount;
+    private volatile ConcurrentMap<K, V> currentGeneration;
+    private volatile ConcurrentMap<K, V> previousGeneration;
+
+    private GenerationalCache(final int maxSize) {
+        this.maxSize = maxSize;
+        generationSize = Math.max(1, maxSize / 2);
+        hitCount = new LongAdder();
+        missCount = new LongAdder();
+        currentGeneration = new ConcurrentHashMap<>();
+        previousGeneration = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Returns a new instance of {@code GenerationalCache}.
+     *
+     * @param maxSize the maximum number of cached values or {@code 0} to disable the cache.
+     * @param <K> the type of the keys.
+     * @param <V> the type of the cached values.
+     * @return the cache.
+     * @throws IllegalArgumentException if {@code maxSize} is negative.
+     */
+    public static <K, V> GenerationalCache<K, V> newInstance(final int maxSize) {
+        checkArgument(maxSize, size -> 0 <= size, () -> "The maxSize must not be negative!");
+        return new GenerationalCache<>(maxSize);
+    }
+
+    /**
+     * Returns the maximum size of a cache as configured by the specified system property.
+     * As caches are usually created when a class is initialized, an invalid value does not fail but falls back to
+     * the default value; negative values are treated as {@code 0}, which disables the cache.
+     *
+     * @param systemPropertyName the name of the system property.
+     * @param defaultMaxSize the maximum size if the property is not set or not an integer.
+     * @return the maximum size.
+     * @throws NullPointerException if {@code systemPropertyName} is {@code null}.
+     */
+    public static int getMaxSize(final String systemPropertyName, final int defaultMaxSize) {
+        checkNotNull(systemPropertyName, "systemPropertyName");
+        return parseMaxSize(System.getProperty(systemPropertyName), defaultMaxSize);
+    }
+
+    static int parseMaxSize(@Nullable final String propertyValue, final int defaultMaxSize) {
+        int result = defaultMaxSize;
+        if (null != propertyValue) {
+            try {
+                result = Math.max(0, Integer.parseInt(propertyValue.trim()));
+            } catch (final NumberFormatException e) {
+                result = defaultMaxSize;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the cached value for the passed key or loads and caches it.
+     * Exceptions thrown by the loader are propagated and nothing is cached.
+     *
+     * @param key the key of the value.
+     * @param loader creates the value for the key if it is not cached.
+     * @return the value.
+     * @throws NullPointerException if any argument is {@code null} or if the loader returns {@code null}.
+     */
+    public V get(final K key, final Function<? super K, ? extends V> loader) {
+        checkNotNull(key, "key");
+        checkNotNull(loader, "loader");
+        if (0 == maxSize) {
+            return load(key, loader);
+        }
+        final ConcurrentMap<K, V> current = currentGeneration;
+        @Nullable V result = current.get(key);
+        if (null != result) {
+            hitCount.increment();
+            return result;
+        }
+        result = previousGeneration.get(key);
+        if (null != result) {
+            hitCount.increment();
+        } else {
+            result = load(key, loader);
+        }
+        put(current, key, result);
+        return result;
+    }
+
+    private V load(final K key, final Function<? super K, ? extends V> loader) {
+        missCount.increment();
+        return checkNotNull(loader.apply(key), "loaded value");
+    }
+
+    private void put(final ConcurrentMap<K, V> current, final K key, final V value) {
+        if (current.size() >= generationSize) {
+            rotateGenerations(current);
+        }
+        currentGeneration.putIfAbsent(key, value);
+    }
+
+    private synchronized void rotateGenerations(final ConcurrentMap<K, V> full) {
+        // another thread might have rotated the generations in the meantime
+        if (full == currentGeneration) {
+            previousGeneration = full;
+            currentGeneration = new ConcurrentHashMap<>();
+        }
+    }
+
+    /**
+     * Returns the number of cached values.
+     *
+     * @return the size.
+     */
+    public int size() {
+        return Math.min(maxSize, currentGeneration.size() + previousGeneration.size());
+    }
+
+    /**
+     * Returns the maximum number of cached values.
+     *
+     * @return the maximum size.
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Returns the number of lookups which were answered from the cache since the cache was created.
+     *
+     * @return the hit count.
+     */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * Returns the number of lookups which had to load the value since the cache was created.
+     *
+     * @return the miss count.
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+}
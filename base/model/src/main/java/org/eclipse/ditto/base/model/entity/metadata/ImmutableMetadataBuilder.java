@@ -25,6 +25,7 @@ import org.eclipse.ditto.json.JsonField;
 import org.eclipse.ditto.json.JsonFieldDefinition;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonSerializationMode;
 import org.eclipse.ditto.json.JsonValue;
 
 /**
@@ -162,6 +163,11 @@ final class ImmutableMetadataBuilder implements MetadataBuilder {
         return ImmutableMetadata.of(attributesJsonObject);
     }
 
+    @Override
+    public Metadata build(final JsonSerializationMode serializationMode) {
+        return ImmutableMetadata.of(jsonObjectBuilder.build(serializationMode));
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
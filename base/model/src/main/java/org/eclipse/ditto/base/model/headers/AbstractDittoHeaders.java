@@ -15,9 +15,11 @@ package org.eclipse.ditto.base.model.headers;
 import static org.eclipse.ditto.base.model.common.ConditionChecker.checkArgument;
 import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
 
+import java.io.IOException;
 import java.text.MessageFormat;
 import java.time.Duration;
 import java.util.AbstractMap;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
@@ -50,13 +52,15 @@ import org.eclipse.ditto.json.JsonFactory;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonObjectBuilder;
 import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.json.JsonWritable;
+import org.eclipse.ditto.json.JsonWriter;
 
 /**
  * Abstract immutable implementation of {@link org.eclipse.ditto.base.model.headers.DittoHeaders} which is heavily based on {@link java.util.AbstractMap}.
  */
 @Immutable
 @SuppressWarnings("squid:S2160")
-public abstract class AbstractDittoHeaders implements DittoHeaders {
+public abstract class AbstractDittoHeaders implements DittoHeaders, JsonWritable {
 
     final Map<String, Header> headers;
 
@@ -397,6 +401,132 @@ public abstract class AbstractDittoHeaders implements DittoHeaders {
         return jsonObjectBuilder.build();
     }
 
+    /**
+     * Writes the same JSON object as returned by {@link #toJson()} without building it first.
+     *
+     * @since 2.5.0
+     */
+    @Override
+    public void writeJson(final JsonWriter jsonWriter) throws IOException {
+        jsonWriter.writeStartObject();
+        for (final Entry<String, Header> entry : headers.entrySet()) {
+            final Header header = entry.getValue();
+            jsonWriter.writeFieldName(header.getKey());
+            writeHeaderValue(getSerializationTypeForKey(entry.getKey()), header.getValue(), jsonWriter);
+        }
+        jsonWriter.writeEndObject();
+    }
+
+    /**
+     * Writes the header value as the JSON value {@link #toJson()} would parse it into.
+     * Strings, booleans, integers and arrays of strings without escape sequences are written without parsing; all
+     * other values are parsed as JSON.
+     */
+    private static void writeHeaderValue(final Class<?> serializationType, final String value,
+            final JsonWriter jsonWriter) throws IOException {
+
+        if (CharSequence.class.isAssignableFrom(serializationType)) {
+            jsonWriter.writeString(value);
+        } else if (isBooleanType(serializationType) && isBooleanLiteral(value)) {
+            jsonWriter.writeBoolean(Boolean.parseBoolean(value));
+        } else if (isIntType(serializationType) && isIntLiteral(value)) {
+            jsonWriter.writeNumber(Integer.parseInt(value));
+        } else {
+            @Nullable final List<String> strings =
+                    JsonArray.class.equals(serializationType) ? parseSimpleStringArray(value) : null;
+            if (null != strings) {
+                jsonWriter.writeStartArray();
+                for (final String string : strings) {
+                    jsonWriter.writeString(string);
+                }
+                jsonWriter.writeEndArray();
+            } else {
+                jsonWriter.writeValue(JsonFactory.readFrom(value));
+            }
+        }
+    }
+
+    private static boolean isBooleanType(final Class<?> serializationType) {
+        return boolean.class.equals(serializationType) || Boolean.class.equals(serializationType);
+    }
+
+    private static boolean isBooleanLiteral(final String value) {
+        return "true".equals(value) || "false".equals(value);
+    }
+
+    private static boolean isIntType(final Class<?> serializationType) {
+        return int.class.equals(serializationType) || Integer.class.equals(serializationType);
+    }
+
+    private static boolean isIntLiteral(final String value) {
+        final int length = value.length();
+        if (0 == length || length > 9) {
+            // longer numbers might overflow an int
+            return false;
+        }
+        final int start = '-' == value.charAt(0) && 1 < length ? 1 : 0;
+        if ('0' == value.charAt(start) && start + 1 < length) {
+            return false;
+        }
+        for (int i = start; i < length; i++) {
+            final char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the strings of a JSON array which only contains strings without escape sequences, e.g. the subjects of
+     * {@link DittoHeaderDefinition#READ_SUBJECTS}, or {@code null} if the value is any other JSON.
+     */
+    @Nullable
+    private static List<String> parseSimpleStringArray(final String value) {
+        final int length = value.length();
+        int i = skipWhitespace(value, 0);
+        if (i >= length || '[' != value.charAt(i)) {
+            return null;
+        }
+        final List<String> result = new ArrayList<>();
+        i = skipWhitespace(value, i + 1);
+        if (i < length && ']' == value.charAt(i)) {
+            return skipWhitespace(value, i + 1) == length ? result : null;
+        }
+        while (i < length && '"' == value.charAt(i)) {
+            final int start = i + 1;
+            int end = start;
+            while (end < length && '"' != value.charAt(end)) {
+                final char c = value.charAt(end);
+                if ('\\' == c || c < ' ') {
+                    return null;
+                }
+                end++;
+            }
+            if (end >= length) {
+                return null;
+            }
+            result.add(value.substring(start, end));
+            i = skipWhitespace(value, end + 1);
+            if (i < length && ',' == value.charAt(i)) {
+                i = skipWhitespace(value, i + 1);
+            } else if (i < length && ']' == value.charAt(i)) {
+                return skipWhitespace(value, i + 1) == length ? result : null;
+            } else {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    private static int skipWhitespace(final String value, final int start) {
+        int result = start;
+        while (result < value.length() && Character.isWhitespace(value.charAt(result))) {
+            result++;
+        }
+        return result;
+    }
+
     private Class<?> getSerializationTypeForKey(final CharSequence key) {
         return getSpecificDefinitionByKey(key)
                 .map(HeaderDefinition::getSerializationType)
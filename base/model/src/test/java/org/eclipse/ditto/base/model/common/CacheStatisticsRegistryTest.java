@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.base.model.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link CacheStatisticsRegistry}.
+ */
+public final class CacheStatisticsRegistryTest {
+
+    @Test
+    public void returnsCurrentStatisticsOfRegisteredCache() {
+        final AtomicLong hitCount = new AtomicLong();
+        CacheStatisticsRegistry.register(() -> new TestStatistics(hitCount.get()));
+
+        hitCount.set(3L);
+
+        assertThat(CacheStatisticsRegistry.getStatistics())
+                .filteredOn(statistics -> TestStatistics.NAME.equals(statistics.getName()))
+                .singleElement()
+                .satisfies(statistics -> {
+                    assertThat(statistics.getHitCount()).isEqualTo(3L);
+                    assertThat(statistics.getHitRate()).isEqualTo(0.75);
+                    assertThat(statistics.getAdditionalCounts()).isEmpty();
+                });
+    }
+
+    private static final class TestStatistics implements CacheStatistics {
+
+        private static final String NAME = "cache_statistics_registry_test";
+
+        private final long hitCount;
+
+        private TestStatistics(final long hitCount) {
+            this.hitCount = hitCount;
+        }
+
+        @Override
+        public String getName() {
+            return NAME;
+        }
+
+        @Override
+        public int getSize() {
+            return 1;
+        }
+
+        @Override
+        public int getMaxSize() {
+            return 1;
+        }
+
+        @Override
+        public long getHitCount() {
+            return hitCount;
+        }
+
+        @Override
+        public long getMissCount() {
+            return 1L;
+        }
+
+    }
+
+}
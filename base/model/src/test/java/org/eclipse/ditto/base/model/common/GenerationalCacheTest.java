@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.base.model.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link GenerationalCache}.
+ */
+public final class GenerationalCacheTest {
+
+    @Test
+    public void returnsCachedValue() {
+        final GenerationalCache<String, Object> underTest = GenerationalCache.newInstance(16);
+        final CountingLoader loader = new CountingLoader();
+
+        final Object first = underTest.get("thing", loader);
+        final Object second = underTest.get("thing", loader);
+
+        assertThat(second).isSameAs(first);
+        assertThat(loader.count.get()).isEqualTo(1);
+        assertThat(underTest.size()).isEqualTo(1);
+        assertThat(underTest.getHitCount()).isEqualTo(1L);
+        assertThat(underTest.getMissCount()).isEqualTo(1L);
+    }
+
+    @Test
+    public void failuresOfLoaderAreNotCached() {
+        final GenerationalCache<String, Object> underTest = GenerationalCache.newInstance(16);
+
+        assertThatExceptionOfType(UnsupportedOperationException.class)
+                .isThrownBy(() -> underTest.get("invalid", key -> {
+                    throw new UnsupportedOperationException(key);
+                }));
+        assertThat(underTest.size()).isZero();
+    }
+
+    @Test
+    public void frequentlyUsedValuesSurviveRotation() {
+        final GenerationalCache<String, Object> underTest = GenerationalCache.newInstance(4);
+        final CountingLoader loader = new CountingLoader();
+        final Object frequent = underTest.get("frequent", loader);
+
+        for (int i = 0; i < 10; i++) {
+            underTest.get("thing" + i, loader);
+            assertThat(underTest.get("frequent", loader)).isSameAs(frequent);
+        }
+        assertThat(underTest.size()).isLessThanOrEqualTo(4);
+    }
+
+    @Test
+    public void disabledCacheLoadsEachTime() {
+        final GenerationalCache<String, Object> underTest = GenerationalCache.newInstance(0);
+        final CountingLoader loader = new CountingLoader();
+
+        underTest.get("thing", loader);
+        underTest.get("thing", loader);
+
+        assertThat(loader.count.get()).isEqualTo(2);
+        assertThat(underTest.size()).isZero();
+        assertThat(underTest.getMissCount()).isEqualTo(2L);
+    }
+
+    @Test
+    public void negativeMaxSizeIsRejected() {
+        assertThatIllegalArgumentException().isThrownBy(() -> GenerationalCache.newInstance(-1));
+    }
+
+    @Test
+    public void parseMaxSize() {
+        assertThat(GenerationalCache.parseMaxSize(null, 42)).isEqualTo(42);
+        assertThat(GenerationalCache.parseMaxSize(" 16 ", 42)).isEqualTo(16);
+        assertThat(GenerationalCache.parseMaxSize("-1", 42)).isZero();
+        assertThat(GenerationalCache.parseMaxSize("many", 42)).isEqualTo(42);
+    }
+
+    @Test
+    public void getMaxSizeOfUnsetPropertyReturnsDefault() {
+        assertThat(GenerationalCache.getMaxSize("ditto.test.unset-cache.max-size", 42)).isEqualTo(42);
+    }
+
+    private static final class CountingLoader implements Function<String, Object> {
+
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Object apply(final String key) {
+            count.incrementAndGet();
+            return new Object();
+        }
+
+    }
+
+}
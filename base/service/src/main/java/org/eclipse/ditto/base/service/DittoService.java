@@ -20,13 +20,17 @@ import java.text.MessageFormat;
 import java.time.Duration;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
 import javax.annotation.concurrent.NotThreadSafe;
 
+import org.eclipse.ditto.base.model.common.CacheStatistics;
+import org.eclipse.ditto.base.model.common.CacheStatisticsRegistry;
 import org.eclipse.ditto.base.model.signals.FeatureToggle;
 import org.eclipse.ditto.base.service.config.ServiceSpecificConfig;
 import org.eclipse.ditto.base.service.devops.DevOpsCommandsActor;
@@ -37,9 +41,13 @@ import org.eclipse.ditto.internal.utils.config.InstanceIdentifierSupplier;
 import org.eclipse.ditto.internal.utils.config.ScopedConfig;
 import org.eclipse.ditto.internal.utils.config.raw.RawConfigSupplier;
 import org.eclipse.ditto.internal.utils.health.status.StatusSupplierActor;
+import org.eclipse.ditto.internal.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.internal.utils.metrics.instruments.counter.Counter;
 import org.eclipse.ditto.internal.utils.metrics.prometheus.PrometheusReporterRoute;
 import org.eclipse.ditto.internal.utils.persistence.mongo.config.WithMongoDbConfig;
 import org.eclipse.ditto.internal.utils.tracing.DittoTracing;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonInternPoolStatistics;
 import org.eclipse.ditto.messages.model.signals.commands.MessageCommandSizeValidator;
 import org.eclipse.ditto.policies.model.signals.commands.PolicyCommandSizeValidator;
 import org.eclipse.ditto.things.model.signals.commands.ThingCommandSizeValidator;
@@ -103,11 +111,14 @@ public abstract class DittoService<C extends ServiceSpecificConfig> {
      */
     public static final String DITTO_CONFIG_PATH = ScopedConfig.DITTO_SCOPE;
 
+    private static final Duration CACHE_METRICS_INTERVAL = Duration.ofSeconds(30L);
+
     private final Logger logger;
     private final String serviceName;
     private final String rootActorName;
     private final Config rawConfig;
     private final C serviceSpecificConfig;
+    private final Map<String, Long> reportedCacheCounts;
 
     @Nullable
     private PrometheusReporter prometheusReporter;
@@ -126,6 +137,7 @@ public abstract class DittoService<C extends ServiceSpecificConfig> {
         this.serviceName = argumentNotEmpty(serviceName, "service name");
         this.rootActorName = argumentNotEmpty(rootActorName, "root actor name");
         rawConfig = determineRawConfig();
+        reportedCacheCounts = new ConcurrentHashMap<>();
         serviceSpecificConfig = getServiceSpecificConfig(tryToGetDittoConfigOrEmpty(rawConfig));
         if (null == serviceSpecificConfig) {
             throw new DittoConfigError("The service specific config must not be null!");
@@ -288,6 +300,7 @@ public abstract class DittoService<C extends ServiceSpecificConfig> {
     protected void initializeActorSystem(final ActorSystem actorSystem) {
         startAkkaManagement(actorSystem);
         startClusterBootstrap(actorSystem);
+        startCacheMetrics(actorSystem);
 
         startStatusSupplierActor(actorSystem);
         startDevOpsCommandsActor(actorSystem);
@@ -354,6 +367,56 @@ public abstract class DittoService<C extends ServiceSpecificConfig> {
         clusterBootstrap.start();
     }
 
+    private void startCacheMetrics(final ActorSystem actorSystem) {
+        actorSystem.scheduler().scheduleWithFixedDelay(Duration.ZERO, CACHE_METRICS_INTERVAL,
+                this::reportCacheMetrics, actorSystem.dispatcher());
+    }
+
+    private void reportCacheMetrics() {
+        reportJsonInternPoolMetrics();
+        reportRegisteredCacheMetrics();
+    }
+
+    private void reportJsonInternPoolMetrics() {
+        for (final JsonInternPoolStatistics statistics : JsonFactory.getInternPoolStatistics()) {
+            final String poolName = statistics.getName();
+            DittoMetrics.gauge("json_intern_pool_size").tag("pool", poolName).set((long) statistics.getSize());
+            incrementByDelta(DittoMetrics.counter("json_intern_pool_hits").tag("pool", poolName),
+                    "json_intern_pool_hits:" + poolName, statistics.getHitCount());
+            incrementByDelta(DittoMetrics.counter("json_intern_pool_misses").tag("pool", poolName),
+                    "json_intern_pool_misses:" + poolName, statistics.getMissCount());
+            DittoMetrics.gauge("json_intern_pool_hit_rate").tag("pool", poolName).set(statistics.getHitRate());
+        }
+    }
+
+    /**
+     * Increments the counter by the difference between the passed cumulative count and the count which was reported
+     * last time for the same key.
+     */
+    private void incrementByDelta(final Counter counter, final String key, final long cumulativeCount) {
+        @Nullable final Long reportedCount = reportedCacheCounts.put(key, cumulativeCount);
+        final long delta = cumulativeCount - (null != reportedCount ? reportedCount : 0L);
+        if (0 < delta) {
+            counter.increment(delta);
+        }
+    }
+
+    private void reportRegisteredCacheMetrics() {
+        for (final CacheStatistics statistics : CacheStatisticsRegistry.getStatistics()) {
+            final String cacheName = statistics.getName();
+            DittoMetrics.gauge(cacheName + "_cache_size").set((long) statistics.getSize());
+            incrementByDelta(cacheName + "_cache_hits", statistics.getHitCount());
+            incrementByDelta(cacheName + "_cache_misses", statistics.getMissCount());
+            DittoMetrics.gauge(cacheName + "_cache_hit_rate").set(statistics.getHitRate());
+            statistics.getAdditionalCounts()
+                    .forEach((countName, count) -> incrementByDelta(cacheName + "_" + countName, count));
+        }
+    }
+
+    private void incrementByDelta(final String counterName, final long cumulativeCount) {
+        incrementByDelta(DittoMetrics.counter(counterName), counterName, cumulativeCount);
+    }
+
     /**
      * Starts the {@link org.eclipse.ditto.internal.utils.health.status.StatusSupplierActor}.
      * May be overridden to change the way how the actor is started.
@@ -16,6 +16,8 @@ import javax.annotation.concurrent.Immutable;
 
 import org.eclipse.ditto.internal.utils.cache.config.CacheConfig;
 import org.eclipse.ditto.internal.utils.cacheloaders.config.AskWithRetryConfig;
+import org.eclipse.ditto.internal.utils.cacheloaders.config.PolicyEnforcerAlgorithm;
+import org.eclipse.ditto.internal.utils.config.KnownConfigValue;
 
 /**
  * Provides configuration settings of the caches of Concierge.
@@ -44,4 +46,70 @@ public interface CachesConfig {
      */
     CacheConfig getEnforcerCacheConfig();
 
+    /**
+     * Returns the algorithm to build the enforcers of the enforcer cache with.
+     *
+     * @return the algorithm.
+     * @since 2.5.0
+     */
+    PolicyEnforcerAlgorithm getPolicyEnforcerAlgorithm();
+
+    /**
+     * Returns the maximum number of authorization decisions to memoize per cached enforcer.
+     *
+     * @return the maximum number of decisions, {@code 0} if decisions should not be memoized.
+     * @since 2.5.0
+     */
+    int getPolicyEnforcerDecisionsMaxSize();
+
+    /**
+     * Indicates whether cached enforcers are updated by applying the published policy events instead of being
+     * invalidated and loaded again.
+     *
+     * @return {@code true} if cached enforcers are updated from policy events.
+     * @since 2.5.0
+     */
+    boolean isPolicyEnforcerUpdatedFromEvents();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * {@code CachesConfig}.
+     */
+    enum CachesConfigValue implements KnownConfigValue {
+
+        /**
+         * The {@link PolicyEnforcerAlgorithm} to build the enforcers of the enforcer cache with.
+         */
+        POLICY_ENFORCER_ALGORITHM("policy-enforcer-algorithm", PolicyEnforcerAlgorithm.TRIE.name()),
+
+        /**
+         * The maximum number of authorization decisions to memoize per cached enforcer.
+         */
+        POLICY_ENFORCER_DECISIONS_MAX_SIZE("policy-enforcer-decisions-max-size", 256),
+
+        /**
+         * Whether cached enforcers are updated by applying the published policy events.
+         */
+        POLICY_ENFORCER_UPDATE_FROM_EVENTS("policy-enforcer-update-from-events", true);
+
+        private final String path;
+        private final Object defaultValue;
+
+        CachesConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+    }
+
 }
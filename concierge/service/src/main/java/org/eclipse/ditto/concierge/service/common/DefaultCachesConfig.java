@@ -20,7 +20,8 @@ import org.eclipse.ditto.internal.utils.cache.config.CacheConfig;
 import org.eclipse.ditto.internal.utils.cache.config.DefaultCacheConfig;
 import org.eclipse.ditto.internal.utils.cacheloaders.config.AskWithRetryConfig;
 import org.eclipse.ditto.internal.utils.cacheloaders.config.DefaultAskWithRetryConfig;
-import org.eclipse.ditto.internal.utils.config.DefaultScopedConfig;
+import org.eclipse.ditto.internal.utils.cacheloaders.config.PolicyEnforcerAlgorithm;
+import org.eclipse.ditto.internal.utils.config.ConfigWithFallback;
 import org.eclipse.ditto.internal.utils.config.ScopedConfig;
 
 import com.typesafe.config.Config;
@@ -37,11 +38,20 @@ public final class DefaultCachesConfig implements CachesConfig {
     private final AskWithRetryConfig askWithRetryConfig;
     private final CacheConfig idCacheConfig;
     private final CacheConfig enforcerCacheConfig;
+    private final PolicyEnforcerAlgorithm policyEnforcerAlgorithm;
+    private final int policyEnforcerDecisionsMaxSize;
+    private final boolean policyEnforcerUpdatedFromEvents;
 
     private DefaultCachesConfig(final ScopedConfig config) {
         askWithRetryConfig = DefaultAskWithRetryConfig.of(config, ASK_WITH_RETRY_CONFIG_PATH);
         idCacheConfig = DefaultCacheConfig.of(config, "id");
         enforcerCacheConfig = DefaultCacheConfig.of(config, "enforcer");
+        policyEnforcerAlgorithm = config.getEnum(PolicyEnforcerAlgorithm.class,
+                CachesConfigValue.POLICY_ENFORCER_ALGORITHM.getConfigPath());
+        policyEnforcerDecisionsMaxSize =
+                config.getNonNegativeIntOrThrow(CachesConfigValue.POLICY_ENFORCER_DECISIONS_MAX_SIZE);
+        policyEnforcerUpdatedFromEvents =
+                config.getBoolean(CachesConfigValue.POLICY_ENFORCER_UPDATE_FROM_EVENTS.getConfigPath());
     }
 
     /**
@@ -52,7 +62,8 @@ public final class DefaultCachesConfig implements CachesConfig {
      * @throws org.eclipse.ditto.internal.utils.config.DittoConfigError if {@code config} is invalid.
      */
     public static DefaultCachesConfig of(final Config config) {
-        return new DefaultCachesConfig(DefaultScopedConfig.newInstance(config, CONFIG_PATH));
+        return new DefaultCachesConfig(
+                ConfigWithFallback.newInstance(config, CONFIG_PATH, CachesConfigValue.values()));
     }
 
     @Override
@@ -70,6 +81,21 @@ public final class DefaultCachesConfig implements CachesConfig {
         return enforcerCacheConfig;
     }
 
+    @Override
+    public PolicyEnforcerAlgorithm getPolicyEnforcerAlgorithm() {
+        return policyEnforcerAlgorithm;
+    }
+
+    @Override
+    public int getPolicyEnforcerDecisionsMaxSize() {
+        return policyEnforcerDecisionsMaxSize;
+    }
+
+    @Override
+    public boolean isPolicyEnforcerUpdatedFromEvents() {
+        return policyEnforcerUpdatedFromEvents;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -80,12 +106,16 @@ public final class DefaultCachesConfig implements CachesConfig {
         }
         final DefaultCachesConfig that = (DefaultCachesConfig) o;
         return askWithRetryConfig.equals(that.askWithRetryConfig) &&
-                idCacheConfig.equals(that.idCacheConfig) && enforcerCacheConfig.equals(that.enforcerCacheConfig);
+                idCacheConfig.equals(that.idCacheConfig) && enforcerCacheConfig.equals(that.enforcerCacheConfig) &&
+                policyEnforcerAlgorithm == that.policyEnforcerAlgorithm &&
+                policyEnforcerDecisionsMaxSize == that.policyEnforcerDecisionsMaxSize &&
+                policyEnforcerUpdatedFromEvents == that.policyEnforcerUpdatedFromEvents;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(askWithRetryConfig, idCacheConfig, enforcerCacheConfig);
+        return Objects.hash(askWithRetryConfig, idCacheConfig, enforcerCacheConfig, policyEnforcerAlgorithm,
+                policyEnforcerDecisionsMaxSize, policyEnforcerUpdatedFromEvents);
     }
 
     @Override
@@ -94,6 +124,9 @@ public final class DefaultCachesConfig implements CachesConfig {
                 "askWithRetryConfig=" + askWithRetryConfig +
                 ", idCacheConfig=" + idCacheConfig +
                 ", enforcerCacheConfig=" + enforcerCacheConfig +
+                ", policyEnforcerAlgorithm=" + policyEnforcerAlgorithm +
+                ", policyEnforcerDecisionsMaxSize=" + policyEnforcerDecisionsMaxSize +
+                ", policyEnforcerUpdatedFromEvents=" + policyEnforcerUpdatedFromEvents +
                 "]";
     }
 }
@@ -36,6 +36,7 @@ public final class DefaultEnforcementConfig implements EnforcementConfig {
 
     private final AskWithRetryConfig askWithRetryConfig;
     private final int bufferSize;
+    private final int schedulerStripes;
     private final boolean globalLiveResponseDispatching;
     private final Set<String> specialLoggingInspectedNamespaces;
     private final EntityCreationConfig entityCreation;
@@ -43,6 +44,7 @@ public final class DefaultEnforcementConfig implements EnforcementConfig {
     private DefaultEnforcementConfig(final ConfigWithFallback configWithFallback) {
         askWithRetryConfig = DefaultAskWithRetryConfig.of(configWithFallback, ASK_WITH_RETRY_CONFIG_PATH);
         bufferSize = configWithFallback.getPositiveIntOrThrow(EnforcementConfigValue.BUFFER_SIZE);
+        schedulerStripes = configWithFallback.getPositiveIntOrThrow(EnforcementConfigValue.SCHEDULER_STRIPES);
         globalLiveResponseDispatching =
                 configWithFallback.getBoolean(EnforcementConfigValue.GLOBAL_LIVE_RESPONSE_DISPATCHING.getConfigPath());
         specialLoggingInspectedNamespaces = Collections.unmodifiableSet(new HashSet<>(configWithFallback.getStringList(
@@ -72,6 +74,11 @@ public final class DefaultEnforcementConfig implements EnforcementConfig {
         return bufferSize;
     }
 
+    @Override
+    public int getSchedulerStripes() {
+        return schedulerStripes;
+    }
+
     @Override
     public boolean isDispatchLiveResponsesGlobally() {
         return globalLiveResponseDispatching;
@@ -97,6 +104,7 @@ public final class DefaultEnforcementConfig implements EnforcementConfig {
         }
         final DefaultEnforcementConfig that = (DefaultEnforcementConfig) o;
         return bufferSize == that.bufferSize &&
+                schedulerStripes == that.schedulerStripes &&
                 globalLiveResponseDispatching == that.globalLiveResponseDispatching &&
                 askWithRetryConfig.equals(that.askWithRetryConfig) &&
                 entityCreation.equals(that.entityCreation) &&
@@ -105,7 +113,7 @@ public final class DefaultEnforcementConfig implements EnforcementConfig {
 
     @Override
     public int hashCode() {
-        return Objects.hash(askWithRetryConfig, bufferSize, globalLiveResponseDispatching,
+        return Objects.hash(askWithRetryConfig, bufferSize, schedulerStripes, globalLiveResponseDispatching,
                 entityCreation, specialLoggingInspectedNamespaces);
     }
 
@@ -114,6 +122,7 @@ public final class DefaultEnforcementConfig implements EnforcementConfig {
         return getClass().getSimpleName() + " [" +
                 "askWithRetryConfig=" + askWithRetryConfig +
                 ", bufferSize=" + bufferSize +
+                ", schedulerStripes=" + schedulerStripes +
                 ", globalLiveResponseDispatching=" + globalLiveResponseDispatching +
                 ", entityCreation=" + entityCreation +
                 ", specialLoggingInspectedNamespaces=" + specialLoggingInspectedNamespaces +
@@ -43,6 +43,16 @@ public interface EnforcementConfig {
      */
     int getBufferSize();
 
+    /**
+     * Returns the number of stripes of the enforcement scheduler in the enforcer actor. The entities are partitioned
+     * across the stripes by the hash of their IDs, so that enforcement tasks of different entities are scheduled in
+     * parallel.
+     *
+     * @return the number of scheduler stripes.
+     * @since 2.5.0
+     */
+    int getSchedulerStripes();
+
     /**
      * Returns whether live responses from channels other than their subscribers should be dispatched.
      *
@@ -87,6 +97,13 @@ public interface EnforcementConfig {
          */
         BUFFER_SIZE("buffer-size", 1_000),
 
+        /**
+         * The number of stripes of the enforcement scheduler in the enforcer actor.
+         *
+         * @since 2.5.0
+         */
+        SCHEDULER_STRIPES("scheduler-stripes", 4),
+
         /**
          * Whether to enable dispatching live responses from channels other than the subscribers.
          */
@@ -25,10 +25,12 @@ import org.eclipse.ditto.internal.utils.cache.Cache;
 import org.eclipse.ditto.internal.utils.cache.CacheKey;
 import org.eclipse.ditto.internal.utils.cache.entry.Entry;
 import org.eclipse.ditto.internal.utils.cacheloaders.EnforcementCacheKey;
+import org.eclipse.ditto.internal.utils.cacheloaders.PolicyEnforcer;
+import org.eclipse.ditto.internal.utils.cacheloaders.PolicyEnforcerUpdater;
 import org.eclipse.ditto.internal.utils.cluster.DistPubSubAccess;
 import org.eclipse.ditto.internal.utils.config.DefaultScopedConfig;
 import org.eclipse.ditto.policies.api.PolicyTag;
-import org.eclipse.ditto.policies.model.enforcers.Enforcer;
+import org.eclipse.ditto.policies.model.signals.events.PolicyEvent;
 
 import akka.actor.ActorRef;
 import akka.japi.pf.ReceiveBuilder;
@@ -48,8 +50,24 @@ public abstract class AbstractEnforcerActor extends AbstractGraphActor<Contextua
     private final EnforcementConfig enforcementConfig;
 
     @Nullable private final Cache<CacheKey, Entry<CacheKey>> thingIdCache;
-    @Nullable private final Cache<CacheKey, Entry<Enforcer>> policyEnforcerCache;
+    @Nullable private final Cache<EnforcementCacheKey, Entry<PolicyEnforcer>> policyEnforcerCache;
+    @Nullable private final PolicyEnforcerUpdater policyEnforcerUpdater;
 
+    /**
+     * Create an instance of this actor.
+     *
+     * @param pubSubMediator Akka pub-sub-mediator.
+     * @param conciergeForwarder the concierge forwarder.
+     * @param thingIdCache the cache for Thing IDs to Policy ID.
+     * @param policyEnforcerCache the Policy cache.
+     */
+    protected AbstractEnforcerActor(final ActorRef pubSubMediator,
+            final ActorRef conciergeForwarder,
+            @Nullable final Cache<CacheKey, Entry<CacheKey>> thingIdCache,
+            @Nullable final Cache<EnforcementCacheKey, Entry<PolicyEnforcer>> policyEnforcerCache) {
+
+        this(pubSubMediator, conciergeForwarder, thingIdCache, policyEnforcerCache, null);
+    }
 
     /**
      * Create an instance of this actor.
@@ -58,11 +76,15 @@ public abstract class AbstractEnforcerActor extends AbstractGraphActor<Contextua
      * @param conciergeForwarder the concierge forwarder.
      * @param thingIdCache the cache for Thing IDs to Policy ID.
      * @param policyEnforcerCache the Policy cache.
+     * @param policyEnforcerUpdater applies policy events to the Policy cache, if {@code null} the entries of the
+     * Policy cache are invalidated on policy modifications.
+     * @since 2.5.0
      */
     protected AbstractEnforcerActor(final ActorRef pubSubMediator,
             final ActorRef conciergeForwarder,
             @Nullable final Cache<CacheKey, Entry<CacheKey>> thingIdCache,
-            @Nullable final Cache<CacheKey, Entry<Enforcer>> policyEnforcerCache) {
+            @Nullable final Cache<EnforcementCacheKey, Entry<PolicyEnforcer>> policyEnforcerCache,
+            @Nullable final PolicyEnforcerUpdater policyEnforcerUpdater) {
 
         super(WithDittoHeaders.class, UnaryOperator.identity());
 
@@ -75,6 +97,7 @@ public abstract class AbstractEnforcerActor extends AbstractGraphActor<Contextua
 
         this.thingIdCache = thingIdCache;
         this.policyEnforcerCache = policyEnforcerCache;
+        this.policyEnforcerUpdater = policyEnforcerUpdater;
 
         final var self = getSelf();
         contextual = Contextual.forActor(self,
@@ -90,16 +113,18 @@ public abstract class AbstractEnforcerActor extends AbstractGraphActor<Contextua
         // register for receiving invalidate policy enforcers
         pubSubMediator.tell(DistPubSubAccess.subscribe(PolicyTag.PUB_SUB_TOPIC_INVALIDATE_ENFORCERS, self),
                 ActorRef.noSender());
+        if (null != policyEnforcerCache && null != policyEnforcerUpdater) {
+            // register for receiving policy events to update policy enforcers with
+            pubSubMediator.tell(DistPubSubAccess.subscribe(PolicyTag.PUB_SUB_TOPIC_UPDATE_ENFORCERS, self),
+                    ActorRef.noSender());
+        }
     }
 
     @Override
     protected void preEnhancement(final ReceiveBuilder receiveBuilder) {
         receiveBuilder
-                .match(PolicyTag.class, policyTag -> {
-                    logger.debug("Received <{}> -> Invalidating caches...", policyTag);
-                    final var entityId = EnforcementCacheKey.of(policyTag.getEntityId());
-                    invalidateCaches(entityId);
-                })
+                .match(PolicyTag.class, this::handlePolicyTag)
+                .match(PolicyEvent.class, this::updatePolicyEnforcer)
                 .match(InvalidateCacheEntry.class, invalidateCacheEntry -> {
                     logger.debug("Received <{}> -> Invalidating caches...", invalidateCacheEntry);
                     final EnforcementCacheKey entityId = invalidateCacheEntry.getEntityId();
@@ -107,6 +132,37 @@ public abstract class AbstractEnforcerActor extends AbstractGraphActor<Contextua
                 });
     }
 
+    private void handlePolicyTag(final PolicyTag policyTag) {
+        final var entityId = EnforcementCacheKey.of(policyTag.getEntityId());
+        if (null != policyEnforcerCache && null != policyEnforcerUpdater) {
+            // the cached policy enforcer may already have been updated by the policy event of the tag's revision
+            policyEnforcerCache.getIfPresent(entityId).thenAccept(cachedEntry -> {
+                if (cachedEntry.filter(Entry::exists)
+                        .filter(entry -> entry.getRevision() >= policyTag.getRevision())
+                        .isPresent()) {
+                    logger.debug("Received <{}> -> Policy enforcer cache is up-to-date.", policyTag);
+                } else {
+                    logger.debug("Received <{}> -> Invalidating caches...", policyTag);
+                    invalidateCaches(entityId);
+                }
+            });
+        } else {
+            logger.debug("Received <{}> -> Invalidating caches...", policyTag);
+            invalidateCaches(entityId);
+        }
+    }
+
+    private void updatePolicyEnforcer(final PolicyEvent<?> policyEvent) {
+        if (null != policyEnforcerCache && null != policyEnforcerUpdater) {
+            final var entityId = EnforcementCacheKey.of(policyEvent.getEntityId());
+            // only look at completely loaded entries in order to not block on loading ones
+            policyEnforcerCache.getIfPresent(entityId).thenAccept(cachedEntry -> cachedEntry.ifPresent(entry ->
+                    policyEnforcerCache.asMap().computeIfPresent(entityId, (key, currentEntry) ->
+                            policyEnforcerUpdater.applyEvent(currentEntry, policyEvent).orElse(null))
+            ));
+        }
+    }
+
     private void invalidateCaches(final EnforcementCacheKey entityId) {
         if (thingIdCache != null) {
             final boolean invalidated = thingIdCache.invalidate(entityId);
@@ -126,6 +182,16 @@ public abstract class AbstractEnforcerActor extends AbstractGraphActor<Contextua
         return enforcementConfig.getBufferSize();
     }
 
+    /**
+     * Returns the enforcement config of this actor.
+     *
+     * @return the enforcement config.
+     * @since 2.5.0
+     */
+    protected EnforcementConfig getEnforcementConfig() {
+        return enforcementConfig;
+    }
+
     @Override
     protected Contextual<WithDittoHeaders> mapMessage(final WithDittoHeaders message) {
         return contextual.withReceivedMessage(message, getSender());
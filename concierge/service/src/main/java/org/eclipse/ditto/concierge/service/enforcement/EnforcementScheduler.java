@@ -17,6 +17,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 
 import javax.annotation.Nullable;
@@ -28,6 +29,8 @@ import org.eclipse.ditto.internal.utils.akka.logging.DittoLoggerFactory;
 import org.eclipse.ditto.internal.utils.akka.logging.ThreadSafeDittoLoggingAdapter;
 import org.eclipse.ditto.internal.utils.metrics.DittoMetrics;
 import org.eclipse.ditto.internal.utils.metrics.instruments.counter.Counter;
+import org.eclipse.ditto.internal.utils.metrics.instruments.gauge.Gauge;
+import org.eclipse.ditto.internal.utils.metrics.instruments.timer.PreparedTimer;
 
 import akka.actor.AbstractActor;
 import akka.actor.ActorRef;
@@ -37,6 +40,10 @@ import akka.pattern.Patterns;
 
 /**
  * Actor that schedules enforcement tasks. Relying on the inherent timeout of enforcement tasks to not leak memory.
+ * <p>
+ * An enforcer actor may partition the entities across several schedulers, each being one stripe. All enforcement tasks
+ * of one entity have to be sent to the same stripe in order to keep their order.
+ * </p>
  */
 final class EnforcementScheduler extends AbstractActor {
 
@@ -45,6 +52,8 @@ final class EnforcementScheduler extends AbstractActor {
      */
     static final String ACTOR_NAME = "scheduler";
 
+    private static final String STRIPE_TAG = "stripe";
+
     /**
      * Cache of started enforcement tasks for each entity ID.
      */
@@ -52,16 +61,49 @@ final class EnforcementScheduler extends AbstractActor {
     private final DittoDiagnosticLoggingAdapter log;
     private final Counter scheduledEnforcementTasks;
     private final Counter completedEnforcementTasks;
+    private final Gauge inFlightEnforcementTasks;
+    private final PreparedTimer enforcementTaskWaitTime;
 
-    private EnforcementScheduler() {
+    @SuppressWarnings("unused")
+    private EnforcementScheduler(final int stripe) {
         futuresMap = new HashMap<>();
         log = DittoLoggerFactory.getDiagnosticLoggingAdapter(this);
-        scheduledEnforcementTasks = DittoMetrics.counter("scheduled_enforcement_tasks");
-        completedEnforcementTasks = DittoMetrics.counter("completed_enforcement_tasks");
+        final String stripeTag = String.valueOf(stripe);
+        scheduledEnforcementTasks = DittoMetrics.counter("scheduled_enforcement_tasks").tag(STRIPE_TAG, stripeTag);
+        completedEnforcementTasks = DittoMetrics.counter("completed_enforcement_tasks").tag(STRIPE_TAG, stripeTag);
+        inFlightEnforcementTasks = DittoMetrics.gauge("in_flight_enforcement_tasks").tag(STRIPE_TAG, stripeTag);
+        enforcementTaskWaitTime = DittoMetrics.timer("enforcement_task_wait_time").tag(STRIPE_TAG, stripeTag);
+    }
+
+    /**
+     * Creates Akka configuration object Props for the scheduler of one stripe.
+     *
+     * @param stripe the index of the stripe, used to tag the metrics of the scheduler.
+     * @return the Akka configuration Props object.
+     */
+    static Props props(final int stripe) {
+        return Props.create(EnforcementScheduler.class, stripe);
+    }
+
+    /**
+     * Returns the name of the scheduler of a stripe under the parent actor.
+     *
+     * @param stripe the index of the stripe.
+     * @return the actor name.
+     */
+    static String getActorName(final int stripe) {
+        return ACTOR_NAME + "-" + stripe;
     }
 
-    static Props props() {
-        return Props.create(EnforcementScheduler.class);
+    /**
+     * Selects the stripe which schedules the enforcement tasks of an entity.
+     *
+     * @param entityId the ID of the entity.
+     * @param stripes the number of stripes.
+     * @return the index of the stripe.
+     */
+    static int selectStripe(final EntityId entityId, final int stripes) {
+        return Math.floorMod(entityId.hashCode(), stripes);
     }
 
     @Override
@@ -80,6 +122,7 @@ final class EnforcementScheduler extends AbstractActor {
             return scheduleTaskAfter(previousFutures, task);
         });
         scheduledEnforcementTasks.increment();
+        inFlightEnforcementTasks.increment();
     }
 
     private void futureComplete(final FutureComplete futureComplete) {
@@ -90,6 +133,7 @@ final class EnforcementScheduler extends AbstractActor {
             return futures.onComplete();
         });
         completedEnforcementTasks.increment();
+        inFlightEnforcementTasks.decrement();
     }
 
     private Void dispatchEnforcedMessage(final Contextual<?> enforcementResult) {
@@ -135,12 +179,14 @@ final class EnforcementScheduler extends AbstractActor {
      * @return the next in-flight enforcement tasks, including the scheduled task.
      */
     private Futures scheduleTaskAfter(final Futures previousFutures, final EnforcementTask task) {
+        final long scheduledNanos = System.nanoTime();
         final CompletionStage<?> taskFuture =
-                previousFutures.beforeStartFuture.thenCompose(authChangeComplete ->
-                        previousFutures.beforeCompleteFuture.thenCombine(task.start(),
-                                (previousTaskComplete, enforcementResult) -> dispatchEnforcedMessage(enforcementResult)
-                        )
-                ).handle((result, error) -> sendFutureComplete(task, error));
+                previousFutures.beforeStartFuture.thenCompose(authChangeComplete -> {
+                    enforcementTaskWaitTime.record(System.nanoTime() - scheduledNanos, TimeUnit.NANOSECONDS);
+                    return previousFutures.beforeCompleteFuture.thenCombine(task.start(),
+                            (previousTaskComplete, enforcementResult) -> dispatchEnforcedMessage(enforcementResult)
+                    );
+                }).handle((result, error) -> sendFutureComplete(task, error));
         return task.changesAuthorization()
                 ? previousFutures.appendBeforeStartFuture(taskFuture)
                 : previousFutures.appendBeforeCompleteFuture(taskFuture);
@@ -13,6 +13,7 @@
 package org.eclipse.ditto.concierge.service.enforcement;
 
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
@@ -25,7 +26,7 @@ import org.eclipse.ditto.internal.utils.cache.CacheKey;
 import org.eclipse.ditto.internal.utils.cache.entry.Entry;
 import org.eclipse.ditto.internal.utils.cacheloaders.EnforcementCacheKey;
 import org.eclipse.ditto.internal.utils.cacheloaders.PolicyEnforcer;
-import org.eclipse.ditto.policies.model.enforcers.Enforcer;
+import org.eclipse.ditto.internal.utils.cacheloaders.PolicyEnforcerUpdater;
 
 import akka.Done;
 import akka.NotUsed;
@@ -58,12 +59,17 @@ public final class EnforcerActor extends AbstractEnforcerActor {
             final ActorRef conciergeForwarder,
             @Nullable final PreEnforcer preEnforcer,
             @Nullable final Cache<CacheKey, Entry<CacheKey>> thingIdCache,
-            @Nullable final Cache<CacheKey, Entry<Enforcer>> policyEnforcerCache) {
-
-        super(pubSubMediator, conciergeForwarder, thingIdCache, policyEnforcerCache);
-        final ActorRef enforcementScheduler =
-                getContext().actorOf(EnforcementScheduler.props(), EnforcementScheduler.ACTOR_NAME);
-        sink = assembleSink(enforcementProviders, preEnforcer, enforcementScheduler);
+            @Nullable final Cache<EnforcementCacheKey, Entry<PolicyEnforcer>> policyEnforcerCache,
+            @Nullable final PolicyEnforcerUpdater policyEnforcerUpdater) {
+
+        super(pubSubMediator, conciergeForwarder, thingIdCache, policyEnforcerCache, policyEnforcerUpdater);
+        final int schedulerStripes = getEnforcementConfig().getSchedulerStripes();
+        final List<ActorRef> enforcementSchedulers = new ArrayList<>(schedulerStripes);
+        for (int stripe = 0; stripe < schedulerStripes; stripe++) {
+            enforcementSchedulers.add(getContext().actorOf(EnforcementScheduler.props(stripe),
+                    EnforcementScheduler.getActorName(stripe)));
+        }
+        sink = assembleSink(enforcementProviders, preEnforcer, enforcementSchedulers);
     }
 
     /**
@@ -84,8 +90,33 @@ public final class EnforcerActor extends AbstractEnforcerActor {
             @Nullable final Cache<EnforcementCacheKey, Entry<EnforcementCacheKey>> thingIdCache,
             @Nullable final Cache<EnforcementCacheKey, Entry<PolicyEnforcer>> policyEnforcerCache) {
 
+        return props(pubSubMediator, enforcementProviders, conciergeForwarder, preEnforcer, thingIdCache,
+                policyEnforcerCache, null);
+    }
+
+    /**
+     * Creates Akka configuration object Props for this enforcer actor.
+     *
+     * @param pubSubMediator Akka pub sub mediator.
+     * @param enforcementProviders a set of {@link EnforcementProvider}s.
+     * @param conciergeForwarder an actorRef to concierge forwarder.
+     * @param preEnforcer a function executed before actual enforcement, may be {@code null}.
+     * @param thingIdCache the cache for Thing IDs to Policy ID.
+     * @param policyEnforcerCache the Policy cache.
+     * @param policyEnforcerUpdater applies policy events to the Policy cache, may be {@code null}.
+     * @return the Akka configuration Props object.
+     * @since 2.5.0
+     */
+    public static Props props(final ActorRef pubSubMediator,
+            final Set<EnforcementProvider<?>> enforcementProviders,
+            final ActorRef conciergeForwarder,
+            @Nullable final PreEnforcer preEnforcer,
+            @Nullable final Cache<EnforcementCacheKey, Entry<EnforcementCacheKey>> thingIdCache,
+            @Nullable final Cache<EnforcementCacheKey, Entry<PolicyEnforcer>> policyEnforcerCache,
+            @Nullable final PolicyEnforcerUpdater policyEnforcerUpdater) {
+
         return Props.create(EnforcerActor.class, pubSubMediator, enforcementProviders, conciergeForwarder, preEnforcer,
-                thingIdCache, policyEnforcerCache);
+                thingIdCache, policyEnforcerCache, policyEnforcerUpdater);
     }
 
     /**
@@ -119,13 +150,14 @@ public final class EnforcerActor extends AbstractEnforcerActor {
      *
      * @param enforcementProviders a set of {@link EnforcementProvider}s.
      * @param preEnforcer a function executed before actual enforcement, may be {@code null}.
+     * @param enforcementSchedulers the schedulers of the stripes which the entities are partitioned across.
      * @return a handler as {@link Flow} of {@link Contextual} messages.
      */
     @SuppressWarnings("unchecked") // due to GraphDSL usage
     private Sink<Contextual<WithDittoHeaders>, CompletionStage<Done>> assembleSink(
             final Set<EnforcementProvider<?>> enforcementProviders,
             @Nullable final PreEnforcer preEnforcer,
-            final ActorRef enforcementScheduler) {
+            final List<ActorRef> enforcementSchedulers) {
 
         final PreEnforcer preEnforcerStep =
                 preEnforcer != null ? preEnforcer : CompletableFuture::completedStage;
@@ -147,6 +179,8 @@ public final class EnforcerActor extends AbstractEnforcerActor {
 
         return Flow.<Contextual<WithDittoHeaders>>create()
                 .via(enforcerFlow)
-                .toMat(Sink.foreach(task -> enforcementScheduler.tell(task, ActorRef.noSender())), Keep.right());
+                .toMat(Sink.foreach(task -> enforcementSchedulers.get(
+                                EnforcementScheduler.selectStripe(task.getEntityId(), enforcementSchedulers.size()))
+                        .tell(task, ActorRef.noSender())), Keep.right());
     }
 }
@@ -47,6 +47,7 @@ import org.eclipse.ditto.internal.utils.cache.entry.Entry;
 import org.eclipse.ditto.internal.utils.cacheloaders.EnforcementCacheKey;
 import org.eclipse.ditto.internal.utils.cacheloaders.PolicyEnforcer;
 import org.eclipse.ditto.internal.utils.cacheloaders.PolicyEnforcerCacheLoader;
+import org.eclipse.ditto.internal.utils.cacheloaders.PolicyEnforcerUpdater;
 import org.eclipse.ditto.internal.utils.cacheloaders.ThingEnforcementIdCacheLoader;
 import org.eclipse.ditto.internal.utils.cluster.ClusterUtil;
 import org.eclipse.ditto.internal.utils.cluster.DistPubSubAccess;
@@ -103,8 +104,11 @@ public final class DefaultEnforcerActorFactory implements EnforcerActorFactory<C
                         ID_CACHE_METRIC_NAME_PREFIX + ThingCommand.RESOURCE_TYPE,
                         actorSystem.dispatchers().lookup("thing-id-cache-dispatcher"));
 
+        final PolicyEnforcerUpdater policyEnforcerUpdater = PolicyEnforcerUpdater.of(
+                cachesConfig.getPolicyEnforcerAlgorithm(), cachesConfig.getPolicyEnforcerDecisionsMaxSize());
         final AsyncCacheLoader<EnforcementCacheKey, Entry<PolicyEnforcer>> policyEnforcerCacheLoader =
-                new PolicyEnforcerCacheLoader(askWithRetryConfig, actorSystem.getScheduler(), policiesShardRegionProxy);
+                new PolicyEnforcerCacheLoader(askWithRetryConfig, actorSystem.getScheduler(), policiesShardRegionProxy,
+                        policyEnforcerUpdater);
         final Cache<EnforcementCacheKey, Entry<PolicyEnforcer>> policyEnforcerCache =
                 CacheFactory.createCache(policyEnforcerCacheLoader, cachesConfig.getEnforcerCacheConfig(),
                         ENFORCER_CACHE_METRIC_NAME_PREFIX + "policy",
@@ -162,7 +166,8 @@ public final class DefaultEnforcerActorFactory implements EnforcerActorFactory<C
         // passes in the caches to be able to invalidate cache entries
         final Props enforcerProps =
                 EnforcerActor.props(pubSubMediator, enforcementProviders, conciergeForwarder, preEnforcer, thingIdCache,
-                        policyEnforcerCache);
+                        policyEnforcerCache,
+                        cachesConfig.isPolicyEnforcerUpdatedFromEvents() ? policyEnforcerUpdater : null);
 
         return context.actorOf(enforcerProps, EnforcerActor.ACTOR_NAME);
     }
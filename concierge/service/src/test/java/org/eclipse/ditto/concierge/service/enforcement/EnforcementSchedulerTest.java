@@ -12,6 +12,7 @@
  */
 package org.eclipse.ditto.concierge.service.enforcement;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.after;
 import static org.mockito.Mockito.doAnswer;
@@ -53,7 +54,7 @@ public final class EnforcementSchedulerTest {
 
     @Before
     public void setup() {
-        underTest = ACTOR_SYSTEM_RESOURCE.newActor(EnforcementScheduler.props());
+        underTest = ACTOR_SYSTEM_RESOURCE.newActor(EnforcementScheduler.props(0));
     }
 
     @Test
@@ -151,4 +152,17 @@ public final class EnforcementSchedulerTest {
         receiver.expectMsg(modifyPolicyId2);
     }
 
+    @Test
+    public void selectedStripeIsStablePerEntityAndWithinBounds() {
+        final int stripes = 4;
+        for (int i = 0; i < 100; i++) {
+            final var thingId = ThingId.of("namespace", "thing-" + i);
+            final int stripe = EnforcementScheduler.selectStripe(thingId, stripes);
+
+            assertThat(stripe).isBetween(0, stripes - 1);
+            assertThat(EnforcementScheduler.selectStripe(ThingId.of("namespace", "thing-" + i), stripes))
+                    .isEqualTo(stripe);
+        }
+    }
+
 }
@@ -12,8 +12,10 @@
  */
 package org.eclipse.ditto.connectivity.service.mapping;
 
+import java.nio.ByteBuffer;
 import java.nio.CharBuffer;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.Collection;
 import java.util.Map;
 import java.util.Optional;
@@ -25,6 +27,9 @@ import org.eclipse.ditto.connectivity.model.Connection;
 import org.eclipse.ditto.connectivity.model.MessageMappingFailedException;
 import org.eclipse.ditto.connectivity.service.config.ConnectivityConfig;
 import org.eclipse.ditto.connectivity.service.config.mapping.MappingConfig;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.protocol.Adaptable;
 import org.eclipse.ditto.protocol.TopicPath;
 
@@ -111,6 +116,34 @@ public abstract class AbstractMessageMapper implements MessageMapper {
                         .build());
     }
 
+    /**
+     * Extracts the payload of the given message as JSON object.
+     * UTF-8 encoded bytes payload is parsed directly without decoding it to a String first.
+     *
+     * @param message the message to extract the JSON object from.
+     * @return the JSON object.
+     * @throws MessageMappingFailedException if the payload was absent or empty.
+     * @throws org.eclipse.ditto.json.JsonParseException if the payload is no valid JSON object.
+     */
+    protected static JsonObject extractPayloadAsJsonObject(final ExternalMessage message) {
+        final Optional<ByteBuffer> utf8BytePayload;
+        if (message.isBytesMessage() &&
+                StandardCharsets.UTF_8.equals(determineCharset(message.getHeaders()))) {
+            utf8BytePayload = message.getBytePayload().filter(ByteBuffer::hasRemaining);
+        } else {
+            utf8BytePayload = Optional.empty();
+        }
+
+        final JsonObject result;
+        if (utf8BytePayload.isPresent()) {
+            final JsonValue jsonValue = JsonFactory.readFrom(utf8BytePayload.get());
+            result = jsonValue.isNull() ? JsonFactory.nullObject() : JsonFactory.newObject(jsonValue);
+        } else {
+            result = JsonFactory.newObject(extractPayloadAsString(message));
+        }
+        return result;
+    }
+
     protected static Charset determineCharset(final Map<String, String> messageHeaders) {
         return CharsetDeterminer.getInstance().apply(messageHeaders.get(ExternalMessage.CONTENT_TYPE_HEADER));
     }
@@ -106,6 +106,7 @@ import org.eclipse.ditto.connectivity.service.messaging.monitoring.logs.Connecti
 import org.eclipse.ditto.connectivity.service.messaging.monitoring.logs.InfoProviderFactory;
 import org.eclipse.ditto.connectivity.service.messaging.monitoring.metrics.ConnectivityCounterRegistry;
 import org.eclipse.ditto.connectivity.service.messaging.persistence.ConnectionPersistenceActor;
+import org.eclipse.ditto.connectivity.service.messaging.persistence.TargetFilterCriteria;
 import org.eclipse.ditto.connectivity.service.messaging.tunnel.SshTunnelActor;
 import org.eclipse.ditto.connectivity.service.messaging.tunnel.SshTunnelState;
 import org.eclipse.ditto.connectivity.service.messaging.validation.ConnectionValidator;
@@ -1724,10 +1725,12 @@ public abstract class BaseClientActor extends AbstractFSMWithStash<BaseClientSta
         final OutboundMappingSettings settings;
         final List<OutboundMappingProcessor> outboundMappingProcessors;
         final int processorPoolSize = connection.getProcessorPoolSize();
+        // the target filters are parsed once and shared by the signal filter and the outbound mapping processor actor
+        final TargetFilterCriteria targetFilterCriteria = TargetFilterCriteria.of(connection);
         try {
             // this one throws DittoRuntimeExceptions when the mapper could not be configured
             settings = OutboundMappingSettings.of(connection, connectivityConfig, getContext().getSystem(),
-                    proxyActorSelection, protocolAdapter, logger);
+                    proxyActorSelection, protocolAdapter, logger, targetFilterCriteria);
             outboundMappingProcessors = IntStream.range(0, processorPoolSize)
                     .mapToObj(i -> OutboundMappingProcessor.of(settings))
                     .collect(Collectors.toList());
@@ -1741,7 +1744,7 @@ public abstract class BaseClientActor extends AbstractFSMWithStash<BaseClientSta
         logger.debug("Starting mapping processor actors with pool size of <{}>.", processorPoolSize);
         final Props outboundMappingProcessorActorProps =
                 OutboundMappingProcessorActor.props(getSelf(), outboundMappingProcessors, connection,
-                        connectivityConfig, processorPoolSize);
+                        connectivityConfig, processorPoolSize, targetFilterCriteria);
 
         final ActorRef processorActor =
                 getContext().actorOf(outboundMappingProcessorActorProps, OutboundMappingProcessorActor.ACTOR_NAME);
@@ -118,6 +118,7 @@ public abstract class BasePublisherActor<T extends PublishTarget> extends Abstra
     private final List<Optional<ReplyTarget>> replyTargets;
     private final int acknowledgementSizeBudget;
     private final String clientId;
+    private final ConnectionTemplates connectionTemplates;
 
     protected BasePublisherActor(final Connection connection,
             final String clientId,
@@ -147,6 +148,7 @@ public abstract class BasePublisherActor<T extends PublishTarget> extends Abstra
         connectionIdResolver = PlaceholderFactory.newExpressionResolver(
                 ConnectivityPlaceholders.newConnectionIdPlaceholder(),
                 connection.getId());
+        connectionTemplates = ConnectionTemplates.of(connection);
     }
 
     @Override
@@ -488,11 +490,12 @@ public abstract class BasePublisherActor<T extends PublishTarget> extends Abstra
         return result;
     }
 
-    private static ExternalMessage applyHeaderMapping(final ExpressionResolver expressionResolver,
+    private ExternalMessage applyHeaderMapping(final ExpressionResolver expressionResolver,
             final OutboundSignal.Mapped outboundSignal, @Nullable final HeaderMapping headerMapping) {
 
         final OutboundSignalToExternalMessage outboundSignalToExternalMessage =
-                OutboundSignalToExternalMessage.newInstance(outboundSignal, expressionResolver, headerMapping);
+                OutboundSignalToExternalMessage.newInstance(outboundSignal, expressionResolver, headerMapping,
+                        connectionTemplates);
 
         return outboundSignalToExternalMessage.get();
     }
@@ -606,8 +609,8 @@ public abstract class BasePublisherActor<T extends PublishTarget> extends Abstra
      * Resolve target address.
      * If not resolvable, the returned Optional will be empty.
      */
-    private static Optional<String> resolveTargetAddress(final ExpressionResolver resolver, final String value) {
-        return resolver.resolve(value).toOptional();
+    private Optional<String> resolveTargetAddress(final ExpressionResolver resolver, final String value) {
+        return connectionTemplates.resolve(value, resolver).toOptional();
     }
 
     private static Charset determineCharset(final CharSequence contentType) {
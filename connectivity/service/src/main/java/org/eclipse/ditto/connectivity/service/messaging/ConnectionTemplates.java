@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.connectivity.service.messaging;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.base.model.auth.AuthorizationContext;
+import org.eclipse.ditto.base.model.auth.AuthorizationModelFactory;
+import org.eclipse.ditto.base.model.auth.AuthorizationSubject;
+import org.eclipse.ditto.connectivity.model.Connection;
+import org.eclipse.ditto.connectivity.model.HeaderMapping;
+import org.eclipse.ditto.connectivity.model.Source;
+import org.eclipse.ditto.connectivity.model.Target;
+import org.eclipse.ditto.placeholders.CompiledTemplate;
+import org.eclipse.ditto.placeholders.ExpressionResolver;
+import org.eclipse.ditto.placeholders.PlaceholderFactory;
+import org.eclipse.ditto.placeholders.PipelineElement;
+import org.eclipse.ditto.placeholders.PlaceholderFilter;
+
+/**
+ * The placeholder templates of the sources and targets of a connection, compiled once when the connection is opened
+ * or modified: the authorization subjects and header mappings of sources and reply targets as well as the addresses
+ * and header mappings of targets.
+ * Templates which are not part of the connection, e.g. already resolved reply addresses, are not compiled but resolved
+ * as strings, so nothing is compiled per message.
+ */
+@Immutable
+final class ConnectionTemplates {
+
+    private static final ConnectionTemplates EMPTY = new ConnectionTemplates(Map.of());
+
+    private final Map<String, CompiledTemplate> compiledTemplates;
+
+    private ConnectionTemplates(final Map<String, CompiledTemplate> compiledTemplates) {
+        this.compiledTemplates = compiledTemplates;
+    }
+
+    /**
+     * Compiles the templates of the sources and targets of the passed connection.
+     *
+     * @param connection the connection.
+     * @return the compiled templates of the connection.
+     */
+    static ConnectionTemplates of(final Connection connection) {
+        final Map<String, CompiledTemplate> compiledTemplates = new HashMap<>();
+        for (final Source source : connection.getSources()) {
+            source.getAuthorizationContext()
+                    .forEach(subject -> compile(subject.getId(), compiledTemplates));
+            compile(source.getHeaderMapping(), compiledTemplates);
+            source.getReplyTarget().ifPresent(replyTarget -> {
+                compile(replyTarget.getAddress(), compiledTemplates);
+                compile(replyTarget.getHeaderMapping(), compiledTemplates);
+            });
+        }
+        for (final Target target : connection.getTargets()) {
+            compile(target.getAddress(), compiledTemplates);
+            compile(target.getHeaderMapping(), compiledTemplates);
+        }
+        return new ConnectionTemplates(Map.copyOf(compiledTemplates));
+    }
+
+    /**
+     * Returns an instance without compiled templates which resolves all templates as strings.
+     *
+     * @return the instance.
+     */
+    static ConnectionTemplates empty() {
+        return EMPTY;
+    }
+
+    private static void compile(final HeaderMapping headerMapping,
+            final Map<String, CompiledTemplate> compiledTemplates) {
+
+        headerMapping.getMapping().values().forEach(template -> compile(template, compiledTemplates));
+    }
+
+    private static void compile(final String template, final Map<String, CompiledTemplate> compiledTemplates) {
+        compiledTemplates.computeIfAbsent(template, CompiledTemplate::of);
+    }
+
+    /**
+     * Returns the compiled form of the passed template if it is part of the connection.
+     *
+     * @param template the template.
+     * @return the compiled template or an empty Optional.
+     */
+    Optional<CompiledTemplate> get(final String template) {
+        return Optional.ofNullable(compiledTemplates.get(template));
+    }
+
+    /**
+     * Resolves the passed template like {@link ExpressionResolver#resolve(String)} does, but with its compiled form
+     * if it is part of the connection.
+     *
+     * @param template the template.
+     * @param expressionResolver the resolver.
+     * @return the resolved template.
+     */
+    PipelineElement resolve(final String template, final ExpressionResolver expressionResolver) {
+        @Nullable final CompiledTemplate compiledTemplate = compiledTemplates.get(template);
+        if (null != compiledTemplate) {
+            return expressionResolver.resolve(compiledTemplate);
+        }
+        return expressionResolver.resolve(template);
+    }
+
+    /**
+     * Applies the passed template like {@link PlaceholderFilter#applyOrElseDelete(String, ExpressionResolver)}
+     * does, but with its compiled form if it is part of the connection.
+     *
+     * @param template the template.
+     * @param expressionResolver the resolver.
+     * @return the template with placeholders replaced or an empty Optional if a placeholder was deleted.
+     */
+    Optional<String> applyOrElseDelete(final String template, final ExpressionResolver expressionResolver) {
+        @Nullable final CompiledTemplate compiledTemplate = compiledTemplates.get(template);
+        if (null != compiledTemplate) {
+            return PlaceholderFilter.applyOrElseDelete(compiledTemplate, expressionResolver);
+        }
+        return PlaceholderFilter.applyOrElseDelete(template, expressionResolver);
+    }
+
+    /**
+     * Apply header placeholders to the subjects of the passed authorization context like
+     * {@link PlaceholderFilter#applyHeadersPlaceholderToAuthContext(AuthorizationContext, Map)} does, but with the
+     * compiled templates of the subjects if they are part of the connection.
+     *
+     * @param authorizationContext authorizationContext to apply placeholder substitution in.
+     * @param headers the headers to apply header placeholder substitution with.
+     * @return AuthorizationContext as result of placeholder substitution.
+     * @throws org.eclipse.ditto.placeholders.UnresolvedPlaceholderException if not all placeholders could be
+     * resolved.
+     */
+    AuthorizationContext applyHeadersPlaceholderToAuthContext(final AuthorizationContext authorizationContext,
+            final Map<String, String> headers) {
+
+        final List<CompiledTemplate> subjectTemplates = authorizationContext.stream()
+                .map(AuthorizationSubject::getId)
+                .map(compiledTemplates::get)
+                .collect(Collectors.toList());
+        if (subjectTemplates.contains(null)) {
+            return PlaceholderFilter.applyHeadersPlaceholderToAuthContext(authorizationContext, headers);
+        }
+
+        // check if we have to replace anything at all
+        if (subjectTemplates.stream().noneMatch(CompiledTemplate::containsPlaceholders)) {
+            return authorizationContext;
+        }
+
+        final ExpressionResolver expressionResolver =
+                PlaceholderFactory.newExpressionResolver(PlaceholderFactory.newHeadersPlaceholder(), headers);
+        final List<AuthorizationSubject> subjects = subjectTemplates.stream()
+                .map(template -> PlaceholderFilter.apply(template, expressionResolver))
+                .map(AuthorizationModelFactory::newAuthSubject)
+                .collect(Collectors.toList());
+        return AuthorizationModelFactory.newAuthContext(authorizationContext.getType(), subjects);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "compiledTemplates=" + compiledTemplates.keySet() +
+                "]";
+    }
+
+}
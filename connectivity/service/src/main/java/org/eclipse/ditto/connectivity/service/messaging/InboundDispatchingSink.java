@@ -80,7 +80,6 @@ import org.eclipse.ditto.internal.utils.akka.logging.ThreadSafeDittoLogger;
 import org.eclipse.ditto.messages.model.signals.commands.acks.MessageCommandAckRequestSetter;
 import org.eclipse.ditto.placeholders.ExpressionResolver;
 import org.eclipse.ditto.placeholders.PlaceholderFactory;
-import org.eclipse.ditto.placeholders.PlaceholderFilter;
 import org.eclipse.ditto.protocol.HeaderTranslator;
 import org.eclipse.ditto.protocol.ProtocolFactory;
 import org.eclipse.ditto.protocol.TopicPath;
@@ -124,6 +123,7 @@ public final class InboundDispatchingSink
 
     private final HeaderTranslator headerTranslator;
     private final Connection connection;
+    private final ConnectionTemplates connectionTemplates;
     private final ActorSelection proxyActor;
     private final ActorRef connectionActor;
     private final ActorRef outboundMessageMappingProcessorActor;
@@ -148,6 +148,7 @@ public final class InboundDispatchingSink
             @Nullable final Consumer<MatchingValidationResult.Failure> responseValidationFailureConsumer) {
 
         this.connection = checkNotNull(connection, "connection");
+        connectionTemplates = ConnectionTemplates.of(connection);
         this.headerTranslator = checkNotNull(headerTranslator, "headerTranslator");
         this.proxyActor = checkNotNull(proxyActor, "proxyActor");
         this.connectionActor = checkNotNull(connectionActor, "connectionActor");
@@ -807,7 +808,7 @@ public final class InboundDispatchingSink
                     final Map<String, String> mappedExternalHeaders = mapping.getMapping()
                             .entrySet()
                             .stream()
-                            .flatMap(e -> PlaceholderFilter.applyOrElseDelete(e.getValue(), expressionResolver)
+                            .flatMap(e -> connectionTemplates.applyOrElseDelete(e.getValue(), expressionResolver)
                                     .stream()
                                     .map(resolvedValue -> new AbstractMap.SimpleEntry<>(e.getKey(), resolvedValue))
                             )
@@ -878,7 +879,7 @@ public final class InboundDispatchingSink
                 acknowledgements.getDittoHeaders());
     }
 
-    private static Optional<AuthorizationContext> getAuthorizationContext(final ExternalMessage externalMessage) {
+    private Optional<AuthorizationContext> getAuthorizationContext(final ExternalMessage externalMessage) {
         final Either<RuntimeException, AuthorizationContext> result = getAuthorizationContextAsEither(externalMessage);
         if (result.isRight()) {
             return Optional.of(result.right().get());
@@ -887,7 +888,7 @@ public final class InboundDispatchingSink
         }
     }
 
-    private static AuthorizationContext getAuthorizationContextOrThrow(final ExternalMessage externalMessage) {
+    private AuthorizationContext getAuthorizationContextOrThrow(final ExternalMessage externalMessage) {
         final Either<RuntimeException, AuthorizationContext> result = getAuthorizationContextAsEither(externalMessage);
         if (result.isRight()) {
             return result.right().get();
@@ -896,7 +897,7 @@ public final class InboundDispatchingSink
         }
     }
 
-    private static Either<RuntimeException, AuthorizationContext> getAuthorizationContextAsEither(
+    private Either<RuntimeException, AuthorizationContext> getAuthorizationContextAsEither(
             final ExternalMessage externalMessage) {
 
         return externalMessage.getAuthorizationContext()
@@ -904,7 +905,7 @@ public final class InboundDispatchingSink
                 .<Either<RuntimeException, AuthorizationContext>>map(authorizationContext -> {
                     try {
                         return new Right<>(
-                                PlaceholderFilter.applyHeadersPlaceholderToAuthContext(authorizationContext,
+                                connectionTemplates.applyHeadersPlaceholderToAuthContext(authorizationContext,
                                         externalMessage.getHeaders()));
                     } catch (final RuntimeException e) {
                         return new Left<>(e);
@@ -44,7 +44,6 @@ import org.eclipse.ditto.base.model.headers.DittoHeaderDefinition;
 import org.eclipse.ditto.base.model.headers.DittoHeaders;
 import org.eclipse.ditto.base.model.json.JsonSchemaVersion;
 import org.eclipse.ditto.base.model.signals.Signal;
-import org.eclipse.ditto.base.model.signals.WithResource;
 import org.eclipse.ditto.base.model.signals.acks.Acknowledgement;
 import org.eclipse.ditto.base.model.signals.acks.Acknowledgements;
 import org.eclipse.ditto.base.model.signals.commands.CommandResponse;
@@ -69,27 +68,23 @@ import org.eclipse.ditto.connectivity.service.messaging.mappingoutcome.MappingOu
 import org.eclipse.ditto.connectivity.service.messaging.monitoring.ConnectionMonitor;
 import org.eclipse.ditto.connectivity.service.messaging.monitoring.DefaultConnectionMonitorRegistry;
 import org.eclipse.ditto.connectivity.service.messaging.monitoring.logs.InfoProviderFactory;
+import org.eclipse.ditto.connectivity.service.messaging.persistence.TargetFilterCriteria;
 import org.eclipse.ditto.connectivity.service.messaging.validation.ConnectionValidator;
 import org.eclipse.ditto.connectivity.service.util.ConnectivityMdcEntryKey;
 import org.eclipse.ditto.internal.models.signalenrichment.SignalEnrichmentFacade;
 import org.eclipse.ditto.internal.utils.akka.controlflow.AbstractGraphActor;
 import org.eclipse.ditto.internal.utils.akka.logging.ThreadSafeDittoLoggingAdapter;
+import org.eclipse.ditto.internal.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.internal.utils.metrics.instruments.gauge.Gauge;
 import org.eclipse.ditto.internal.utils.pubsub.StreamingType;
 import org.eclipse.ditto.json.JsonField;
 import org.eclipse.ditto.json.JsonFieldSelector;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonValue;
-import org.eclipse.ditto.placeholders.PlaceholderFactory;
-import org.eclipse.ditto.placeholders.PlaceholderResolver;
-import org.eclipse.ditto.placeholders.TimePlaceholder;
 import org.eclipse.ditto.protocol.TopicPath;
 import org.eclipse.ditto.protocol.adapter.DittoProtocolAdapter;
-import org.eclipse.ditto.protocol.placeholders.ResourcePlaceholder;
 import org.eclipse.ditto.protocol.placeholders.TopicPathPlaceholder;
-import org.eclipse.ditto.rql.parser.RqlPredicateParser;
-import org.eclipse.ditto.rql.query.criteria.Criteria;
-import org.eclipse.ditto.rql.query.filter.QueryFilterCriteriaFactory;
-import org.eclipse.ditto.rql.query.things.ThingPredicateVisitor;
+import org.eclipse.ditto.rql.query.things.CompiledThingPredicate;
 import org.eclipse.ditto.things.model.ThingId;
 import org.eclipse.ditto.things.model.signals.commands.exceptions.ThingNotAccessibleException;
 import org.eclipse.ditto.things.model.signals.events.ThingEventToThingConverter;
@@ -125,8 +120,7 @@ public final class OutboundMappingProcessorActor
 
     private static final DittoProtocolAdapter DITTO_PROTOCOL_ADAPTER = DittoProtocolAdapter.newInstance();
     private static final TopicPathPlaceholder TOPIC_PATH_PLACEHOLDER = TopicPathPlaceholder.getInstance();
-    private static final ResourcePlaceholder RESOURCE_PLACEHOLDER = ResourcePlaceholder.getInstance();
-    private static final TimePlaceholder TIME_PLACEHOLDER = TimePlaceholder.getInstance();
+    private static final Object TIME_PLACEHOLDER_SOURCE = new Object();
 
     private final ActorRef clientActor;
     private final Connection connection;
@@ -139,13 +133,16 @@ public final class OutboundMappingProcessorActor
     private final int processorPoolSize;
     private final DittoRuntimeExceptionToErrorResponseFunction toErrorResponseFunction;
     private final List<OutboundMappingProcessor> outboundMappingProcessors;
+    private final TargetFilterCriteria targetFilterCriteria;
+    private final Gauge parsedTargetFiltersGauge;
 
     @SuppressWarnings("unused")
     private OutboundMappingProcessorActor(final ActorRef clientActor,
             final List<OutboundMappingProcessor> outboundMappingProcessors,
             final Connection connection,
             final ConnectivityConfig connectivityConfig,
-            final int processorPoolSize) {
+            final int processorPoolSize,
+            final TargetFilterCriteria targetFilterCriteria) {
 
         super(OutboundSignal.class, logger ->
                 logger.withMdcEntry(ConnectivityMdcEntryKey.CONNECTION_ID, connection.getId())
@@ -167,6 +164,10 @@ public final class OutboundMappingProcessorActor
                 ConnectivitySignalEnrichmentProvider.get(getContext().getSystem()).getFacade(this.connection.getId());
         this.processorPoolSize = determinePoolSize(processorPoolSize, mappingConfig.getMaxPoolSize());
         toErrorResponseFunction = DittoRuntimeExceptionToErrorResponseFunction.of(limitsConfig.getHeadersMaxSize());
+        this.targetFilterCriteria = targetFilterCriteria;
+        parsedTargetFiltersGauge = DittoMetrics.gauge("connection_parsed_target_filters")
+                .tag("id", connection.getId().toString());
+        parsedTargetFiltersGauge.set((long) targetFilterCriteria.getSize());
     }
 
     /**
@@ -252,15 +253,46 @@ public final class OutboundMappingProcessorActor
             final ConnectivityConfig connectivityConfig,
             final int processorPoolSize) {
 
+        return props(clientActor, outboundMappingProcessors, connection, connectivityConfig, processorPoolSize,
+                TargetFilterCriteria.of(connection));
+    }
+
+    /**
+     * Creates Akka configuration object for this actor.
+     *
+     * @param clientActor the client actor that created this mapping actor.
+     * @param outboundMappingProcessors the MessageMappingProcessors to use for outbound messages. If at least as many
+     * processors are given as `processorPoolSize`, then each processor is guaranteed to be invoked sequentially.
+     * @param connection the connection.
+     * @param connectivityConfig the config of the connectivity service with potential overwrites.
+     * @param processorPoolSize how many message processing may happen in parallel per direction (incoming or outgoing).
+     * @param targetFilterCriteria the parsed filters of the targets of {@code connection}, shared with the
+     * {@link org.eclipse.ditto.connectivity.service.messaging.persistence.SignalFilter} of the connection.
+     * @return the Akka configuration Props object.
+     */
+    public static Props props(final ActorRef clientActor,
+            final List<OutboundMappingProcessor> outboundMappingProcessors,
+            final Connection connection,
+            final ConnectivityConfig connectivityConfig,
+            final int processorPoolSize,
+            final TargetFilterCriteria targetFilterCriteria) {
+
         return Props.create(OutboundMappingProcessorActor.class,
                 clientActor,
                 outboundMappingProcessors,
                 connection,
                 connectivityConfig,
-                processorPoolSize
+                processorPoolSize,
+                targetFilterCriteria
         ).withDispatcher(MESSAGE_MAPPING_PROCESSOR_DISPATCHER);
     }
 
+    @Override
+    public void postStop() throws Exception {
+        parsedTargetFiltersGauge.set(0L);
+        super.postStop();
+    }
+
     @Override
     public Receive createReceive() {
         final PartialFunction<Object, Object> wrapAsOutboundSignal = new PFBuilder<>()
@@ -702,22 +734,16 @@ public final class OutboundMappingProcessorActor
         if (filter.isPresent() && extraFields.isPresent()) {
             // evaluate filter criteria again if signal enrichment is involved.
             final Signal<?> signal = outboundSignalWithExtra.getSource();
-            final TopicPath topicPath = DITTO_PROTOCOL_ADAPTER.toTopicPath(signal);
-            final PlaceholderResolver<TopicPath> topicPathPlaceholderResolver = PlaceholderFactory
-                    .newPlaceholderResolver(TOPIC_PATH_PLACEHOLDER, topicPath);
-            final PlaceholderResolver<WithResource> resourcePlaceholderResolver = PlaceholderFactory
-                    .newPlaceholderResolver(RESOURCE_PLACEHOLDER, signal);
-            final PlaceholderResolver<Object> timePlaceholderResolver = PlaceholderFactory
-                    .newPlaceholderResolver(TIME_PLACEHOLDER, new Object());
-            final DittoHeaders dittoHeaders = signal.getDittoHeaders();
-            final Criteria criteria = QueryFilterCriteriaFactory.modelBased(RqlPredicateParser.getInstance(),
-                    topicPathPlaceholderResolver, resourcePlaceholderResolver, timePlaceholderResolver
-            ).filterCriteria(filter.get(), dittoHeaders);
+            final CompiledThingPredicate predicate =
+                    targetFilterCriteria.getCompiledPredicate(filter.get(), signal.getDittoHeaders());
+            @Nullable final TopicPath topicPath = predicate.usesPlaceholder(TOPIC_PATH_PLACEHOLDER)
+                    ? DITTO_PROTOCOL_ADAPTER.toTopicPath(signal)
+                    : null;
+            // the placeholder sources in the order of TargetFilterCriteria.PLACEHOLDERS
             return outboundSignalWithExtra.getExtra()
                     .flatMap(extra -> ThingEventToThingConverter
                             .mergeThingWithExtraFields(signal, extraFields.get(), extra)
-                            .filter(ThingPredicateVisitor.apply(criteria, topicPathPlaceholderResolver,
-                                    resourcePlaceholderResolver, timePlaceholderResolver))
+                            .filter(thing -> predicate.test(thing, topicPath, signal, TIME_PLACEHOLDER_SOURCE))
                             .map(thing -> outboundSignalWithExtra))
                     .map(Collections::singletonList)
                     .orElse(List.of());
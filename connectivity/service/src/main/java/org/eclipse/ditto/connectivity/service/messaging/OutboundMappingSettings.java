@@ -32,6 +32,7 @@ import org.eclipse.ditto.connectivity.service.messaging.monitoring.ConnectionMon
 import org.eclipse.ditto.connectivity.service.messaging.monitoring.ConnectionMonitorRegistry;
 import org.eclipse.ditto.connectivity.service.messaging.monitoring.DefaultConnectionMonitorRegistry;
 import org.eclipse.ditto.connectivity.service.messaging.persistence.SignalFilter;
+import org.eclipse.ditto.connectivity.service.messaging.persistence.TargetFilterCriteria;
 import org.eclipse.ditto.connectivity.service.messaging.validation.ConnectionValidator;
 import org.eclipse.ditto.connectivity.service.util.ConnectivityMdcEntryKey;
 import org.eclipse.ditto.internal.models.acks.config.AcknowledgementConfig;
@@ -88,6 +89,18 @@ final class OutboundMappingSettings {
             final ProtocolAdapter protocolAdapter,
             final ThreadSafeDittoLoggingAdapter logger) {
 
+        return of(connection, connectivityConfig, actorSystem, proxyActor, protocolAdapter, logger,
+                TargetFilterCriteria.of(connection));
+    }
+
+    static OutboundMappingSettings of(final Connection connection,
+            final ConnectivityConfig connectivityConfig,
+            final ActorSystem actorSystem,
+            final ActorSelection proxyActor,
+            final ProtocolAdapter protocolAdapter,
+            final ThreadSafeDittoLoggingAdapter logger,
+            final TargetFilterCriteria targetFilterCriteria) {
+
         final ConnectionId connectionId = connection.getId();
         final ConnectionType connectionType = connection.getConnectionType();
         final PayloadMappingDefinition mappingDefinition = connection.getPayloadMappingDefinition();
@@ -110,7 +123,8 @@ final class OutboundMappingSettings {
 
         final ConnectionMonitorRegistry<ConnectionMonitor> connectionMonitorRegistry =
                 DefaultConnectionMonitorRegistry.fromConfig(connectivityConfig);
-        final SignalFilter signalFilter = SignalFilter.of(connection, connectionMonitorRegistry);
+        final SignalFilter signalFilter =
+                SignalFilter.of(connection, connectionMonitorRegistry, targetFilterCriteria);
 
         final AcknowledgementConfig acknowledgementConfig = connectivityConfig.getAcknowledgementConfig();
 
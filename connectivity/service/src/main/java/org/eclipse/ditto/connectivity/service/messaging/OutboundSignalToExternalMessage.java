@@ -29,7 +29,6 @@ import org.eclipse.ditto.connectivity.model.HeaderMapping;
 import org.eclipse.ditto.internal.utils.akka.logging.DittoLoggerFactory;
 import org.eclipse.ditto.internal.utils.akka.logging.ThreadSafeDittoLogger;
 import org.eclipse.ditto.placeholders.ExpressionResolver;
-import org.eclipse.ditto.placeholders.PlaceholderFilter;
 
 /**
  * Applies an optional "header mapping" potentially configured on a target on a passed {@link OutboundSignal.Mapped}.
@@ -42,14 +41,17 @@ final class OutboundSignalToExternalMessage implements Supplier<ExternalMessage>
     private final OutboundSignal.Mapped outboundMappedSignal;
     private final ExpressionResolver expressionResolver;
     private final Map<String, String> headerMapping;
+    private final ConnectionTemplates connectionTemplates;
     private final ThreadSafeDittoLogger logger;
 
     private OutboundSignalToExternalMessage(final OutboundSignal.Mapped outboundMappedSignal,
-            final ExpressionResolver expressionResolver, final Map<String, String> headerMapping) {
+            final ExpressionResolver expressionResolver, final Map<String, String> headerMapping,
+            final ConnectionTemplates connectionTemplates) {
 
         this.outboundMappedSignal = checkNotNull(outboundMappedSignal, "outboundMappedSignal");
         this.expressionResolver = checkNotNull(expressionResolver, "expressionResolver");
         this.headerMapping = headerMapping;
+        this.connectionTemplates = checkNotNull(connectionTemplates, "connectionTemplates");
         logger = DittoLoggerFactory.getThreadSafeLogger(getClass()).withCorrelationId(outboundMappedSignal.getSource());
     }
 
@@ -67,13 +69,35 @@ final class OutboundSignalToExternalMessage implements Supplier<ExternalMessage>
     static OutboundSignalToExternalMessage newInstance(final OutboundSignal.Mapped outboundMappedSignal,
             final ExpressionResolver expressionResolver, @Nullable final HeaderMapping headerMapping) {
 
+        return newInstance(outboundMappedSignal, expressionResolver, headerMapping, ConnectionTemplates.empty());
+    }
+
+    /**
+     * Returns a new instance of OutboundSignalToExternalMessage which resolves the header mappings with the compiled
+     * templates of their connection.
+     *
+     * @param outboundMappedSignal the OutboundSignal containing the {@link ExternalMessage} with headers potentially
+     * containing placeholders
+     * @param expressionResolver the expression-resolver used to resolve placeholders and optionally pipeline stages
+     * (functions).
+     * @param headerMapping optional header mappings to apply.
+     * @param connectionTemplates the compiled templates of the connection containing the header mappings.
+     * @return the instance.
+     * @throws NullPointerException if {@code outboundMappedSignal}, {@code expressionResolver} or
+     * {@code connectionTemplates} is {@code null}.
+     */
+    static OutboundSignalToExternalMessage newInstance(final OutboundSignal.Mapped outboundMappedSignal,
+            final ExpressionResolver expressionResolver, @Nullable final HeaderMapping headerMapping,
+            final ConnectionTemplates connectionTemplates) {
+
         final Map<String, String> mapping;
         if (null != headerMapping) {
             mapping = headerMapping.getMapping();
         } else {
             mapping = Map.of();
         }
-        return new OutboundSignalToExternalMessage(outboundMappedSignal, expressionResolver, mapping);
+        return new OutboundSignalToExternalMessage(outboundMappedSignal, expressionResolver, mapping,
+                connectionTemplates);
     }
 
     @Override
@@ -102,7 +126,7 @@ final class OutboundSignalToExternalMessage implements Supplier<ExternalMessage>
     }
 
     private Optional<String> mapHeaderByResolver(final String value) {
-        return PlaceholderFilter.applyOrElseDelete(value, expressionResolver);
+        return connectionTemplates.applyOrElseDelete(value, expressionResolver);
     }
 
 }
@@ -0,0 +1,314 @@
+/*
+ * Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.connectivity.service.messaging.persistence;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Optional;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonKey;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.placeholders.Expression;
+import org.eclipse.ditto.placeholders.PlaceholderResolver;
+import org.eclipse.ditto.rql.query.expression.ExistsFieldExpression;
+import org.eclipse.ditto.rql.query.expression.visitors.ExistsFieldExpressionVisitor;
+import org.eclipse.ditto.rql.query.things.ExistsThingPredicateVisitor;
+import org.eclipse.ditto.things.model.Thing;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.things.model.signals.events.AttributeCreated;
+import org.eclipse.ditto.things.model.signals.events.AttributeModified;
+import org.eclipse.ditto.things.model.signals.events.FeaturePropertyCreated;
+import org.eclipse.ditto.things.model.signals.events.FeaturePropertyModified;
+import org.eclipse.ditto.things.model.signals.events.ThingEvent;
+import org.eclipse.ditto.things.model.signals.events.ThingEventToThingConverter;
+
+/**
+ * Pointer-addressable view of the partial thing which is contained in a signal.
+ * <p>
+ * Events which modify a single attribute or feature property are the most frequent ones. For them the view answers
+ * field lookups directly from the resource path and the value of the event instead of creating a {@code Thing} with
+ * {@link ThingEventToThingConverter} and converting it to JSON for each lookup. The results are the same as those of
+ * the converted thing. All other events are converted to a thing once.
+ * </p>
+ */
+@NotThreadSafe
+final class PartialThingView {
+
+    private static final JsonKey ATTRIBUTES = Thing.JsonFields.ATTRIBUTES.getPointer().getRoot().orElseThrow();
+    private static final JsonKey FEATURES = Thing.JsonFields.FEATURES.getPointer().getRoot().orElseThrow();
+    private static final JsonKey PROPERTIES = JsonKey.of("properties");
+    private static final JsonKey DESIRED_PROPERTIES = JsonKey.of("desiredProperties");
+    private static final JsonKey THING_ID = Thing.JsonFields.ID.getPointer().getRoot().orElseThrow();
+    private static final JsonKey NAMESPACE = Thing.JsonFields.NAMESPACE.getPointer().getRoot().orElseThrow();
+    private static final JsonKey REVISION = Thing.JsonFields.REVISION.getPointer().getRoot().orElseThrow();
+    private static final JsonKey MODIFIED = Thing.JsonFields.MODIFIED.getPointer().getRoot().orElseThrow();
+
+    @Nullable private final Thing thing;
+    @Nullable private final ThingEvent<?> thingEvent;
+    @Nullable private final JsonPointer valuePath;
+    @Nullable private final JsonValue value;
+    @Nullable private JsonObject thingJson;
+
+    private PartialThingView(@Nullable final Thing thing, @Nullable final ThingEvent<?> thingEvent,
+            @Nullable final JsonPointer valuePath, @Nullable final JsonValue value) {
+
+        this.thing = thing;
+        this.thingEvent = thingEvent;
+        this.valuePath = valuePath;
+        this.value = value;
+        thingJson = null;
+    }
+
+    /**
+     * Returns a view of the passed thing.
+     *
+     * @param thing the thing.
+     * @return the view.
+     */
+    static PartialThingView of(final Thing thing) {
+        return new PartialThingView(thing, null, null, null);
+    }
+
+    /**
+     * Returns a view of the thing which is contained in the passed thing event.
+     *
+     * @param thingEvent the thing event.
+     * @return the view or an empty optional if the event does not contain thing information.
+     */
+    static Optional<PartialThingView> of(final ThingEvent<?> thingEvent) {
+        final PartialThingView result;
+        if (thingEvent instanceof AttributeModified) {
+            final AttributeModified attributeModified = (AttributeModified) thingEvent;
+            result = ofSingleValue(attributeModified, attributesPath(attributeModified.getAttributePointer()),
+                    attributeModified.getAttributeValue());
+        } else if (thingEvent instanceof AttributeCreated) {
+            final AttributeCreated attributeCreated = (AttributeCreated) thingEvent;
+            result = ofSingleValue(attributeCreated, attributesPath(attributeCreated.getAttributePointer()),
+                    attributeCreated.getAttributeValue());
+        } else if (thingEvent instanceof FeaturePropertyModified) {
+            final FeaturePropertyModified propertyModified = (FeaturePropertyModified) thingEvent;
+            result = ofSingleValue(propertyModified,
+                    propertiesPath(propertyModified.getFeatureId(), propertyModified.getPropertyPointer()),
+                    propertyModified.getPropertyValue());
+        } else if (thingEvent instanceof FeaturePropertyCreated) {
+            final FeaturePropertyCreated propertyCreated = (FeaturePropertyCreated) thingEvent;
+            result = ofSingleValue(propertyCreated,
+                    propertiesPath(propertyCreated.getFeatureId(), propertyCreated.getPropertyPointer()),
+                    propertyCreated.getPropertyValue());
+        } else {
+            result = ThingEventToThingConverter.thingEventToThing(thingEvent).map(PartialThingView::of).orElse(null);
+        }
+        return Optional.ofNullable(result);
+    }
+
+    @Nullable
+    private static PartialThingView ofSingleValue(final ThingEvent<?> thingEvent, final JsonPointer valuePath,
+            final JsonValue value) {
+
+        // the converter fails for empty paths, let it decide what to do with them
+        if (valuePath.getLevelCount() < 2 || valuePath.getLevelCount() < 4 && FEATURES.equals(valuePath.get(0)
+                .orElse(null))) {
+            return ThingEventToThingConverter.thingEventToThing(thingEvent).map(PartialThingView::of).orElse(null);
+        }
+        return new PartialThingView(null, thingEvent, valuePath, value);
+    }
+
+    private static JsonPointer attributesPath(final JsonPointer attributePointer) {
+        return JsonPointer.empty().addLeaf(ATTRIBUTES).append(attributePointer);
+    }
+
+    private static JsonPointer propertiesPath(final String featureId, final JsonPointer propertyPointer) {
+        return JsonPointer.empty()
+                .addLeaf(FEATURES)
+                .addLeaf(JsonKey.of(featureId))
+                .addLeaf(PROPERTIES)
+                .append(propertyPointer);
+    }
+
+    /**
+     * Returns the value of the field with the passed name in the JSON representation of the thing including all
+     * fields.
+     *
+     * @param fieldName the name of the field, i.e. a JSON pointer.
+     * @return the value.
+     */
+    Optional<JsonValue> getValue(final CharSequence fieldName) {
+        final JsonPointer pointer = JsonPointer.of(fieldName);
+        if (null == thingEvent || pointer.isEmpty()) {
+            return Optional.of(getThingJson()).flatMap(json -> json.getValue(pointer));
+        }
+        final JsonKey root = pointer.getRoot().orElseThrow();
+        if (1 == pointer.getLevelCount()) {
+            return getRootValue(root);
+        }
+        return getNestedValue(pointer);
+    }
+
+    /**
+     * Evaluates the passed "exists" expression against the thing.
+     *
+     * @param fieldExpression the expression.
+     * @param placeholderResolvers the placeholder resolvers to resolve field names of the form {@code prefix:name}
+     * which do not exist in the thing.
+     * @return whether the field exists.
+     */
+    boolean exists(final ExistsFieldExpression fieldExpression,
+            final Collection<PlaceholderResolver<?>> placeholderResolvers) {
+
+        if (null != thing) {
+            return ExistsThingPredicateVisitor.apply(fieldExpression, placeholderResolvers).test(thing);
+        }
+        return fieldExpression.acceptExistsVisitor(new ExistsVisitor(placeholderResolvers));
+    }
+
+    private Optional<JsonValue> getRootValue(final JsonKey key) {
+        final ThingEvent<?> event = thingEvent;
+        final JsonPointer path = valuePath;
+        if (THING_ID.equals(key)) {
+            return Optional.of(JsonValue.of(event.getEntityId().toString()));
+        } else if (NAMESPACE.equals(key)) {
+            return Optional.of(JsonValue.of(((ThingId) event.getEntityId()).getNamespace()));
+        } else if (REVISION.equals(key)) {
+            return Optional.of(JsonValue.of(event.getRevision()));
+        } else if (MODIFIED.equals(key)) {
+            return event.getTimestamp().map(Instant::toString).map(JsonValue::of);
+        } else if (path.getRoot().orElseThrow().equals(key)) {
+            return Optional.of(JsonFactory.newObject(path.nextLevel(), value));
+        }
+        return Optional.empty();
+    }
+
+    private Optional<JsonValue> getNestedValue(final JsonPointer pointer) {
+        final JsonPointer path = valuePath;
+        final int pathLevels = path.getLevelCount();
+        final int pointerLevels = pointer.getLevelCount();
+        final int commonLevels = Math.min(pathLevels, pointerLevels);
+        for (int i = 0; i < commonLevels; i++) {
+            if (!path.get(i).equals(pointer.get(i))) {
+                return Optional.empty();
+            }
+        }
+        if (pointerLevels < pathLevels) {
+            return path.getSubPointer(pointerLevels)
+                    .map(remainingPath -> JsonFactory.newObject(remainingPath, value));
+        } else if (pointerLevels == pathLevels) {
+            return Optional.of(value);
+        } else if (value.isObject()) {
+            return pointer.getSubPointer(pathLevels).flatMap(value.asObject()::getValue);
+        }
+        return Optional.empty();
+    }
+
+    private JsonObject getThingJson() {
+        JsonObject result = thingJson;
+        if (null == result) {
+            result = getThing().toJson(field -> true);
+            thingJson = result;
+        }
+        return result;
+    }
+
+    private Thing getThing() {
+        if (null != thing) {
+            return thing;
+        }
+        return ThingEventToThingConverter.thingEventToThing(thingEvent).orElseThrow();
+    }
+
+    /**
+     * Evaluates "exists" expressions against the single value of an event mirroring the semantics of
+     * {@link ExistsThingPredicateVisitor}. Such a thing has neither metadata nor other regular fields than its ID and
+     * the attributes or features.
+     */
+    private final class ExistsVisitor implements ExistsFieldExpressionVisitor<Boolean> {
+
+        private final Collection<PlaceholderResolver<?>> placeholderResolvers;
+
+        private ExistsVisitor(final Collection<PlaceholderResolver<?>> placeholderResolvers) {
+            this.placeholderResolvers = placeholderResolvers;
+        }
+
+        @Override
+        public Boolean visitAttribute(final String key) {
+            return getNestedValue(attributesPath(JsonPointer.of(key))).isPresent();
+        }
+
+        @Override
+        public Boolean visitFeature(final String featureId) {
+            return getNestedValue(JsonPointer.empty().addLeaf(FEATURES).addLeaf(JsonKey.of(featureId))).isPresent();
+        }
+
+        @Override
+        public Boolean visitFeatureProperties(final CharSequence featureId) {
+            return getNestedValue(propertiesPath(featureId.toString(), JsonPointer.empty())).isPresent();
+        }
+
+        @Override
+        public Boolean visitFeatureDesiredProperties(final CharSequence featureId) {
+            // ExistsThingPredicateVisitor checks the properties here as well
+            return visitFeatureProperties(featureId);
+        }
+
+        @Override
+        public Boolean visitFeatureIdProperty(final String featureId, final String property) {
+            return getNestedValue(propertiesPath(featureId, JsonPointer.of(property))).isPresent();
+        }
+
+        @Override
+        public Boolean visitFeatureIdDesiredProperty(final CharSequence featureId, final CharSequence property) {
+            return getNestedValue(JsonPointer.empty()
+                    .addLeaf(FEATURES)
+                    .addLeaf(JsonKey.of(featureId))
+                    .addLeaf(DESIRED_PROPERTIES)
+                    .append(JsonPointer.of(property))).isPresent();
+        }
+
+        @Override
+        public Boolean visitSimple(final String fieldName) {
+            // only the regular fields are considered, i.e. not the hidden "_namespace", "_revision" and "_modified"
+            final JsonPointer pointer = JsonPointer.of(fieldName);
+            final boolean isRegularField = pointer.getRoot()
+                    .filter(root -> THING_ID.equals(root) || valuePath.getRoot().orElseThrow().equals(root))
+                    .isPresent();
+            return isRegularField && getValue(fieldName).isPresent() ||
+                    existsInPlaceholderResolvers(fieldName);
+        }
+
+        @Override
+        public Boolean visitMetadata(final String key) {
+            return false;
+        }
+
+        private boolean existsInPlaceholderResolvers(final String fieldName) {
+            final String[] fieldNameSplit = fieldName.split(Expression.SEPARATOR, 2);
+            if (fieldNameSplit.length > 1) {
+                final String placeholderPrefix = fieldNameSplit[0];
+                final String placeholderName = fieldNameSplit[1];
+                return placeholderResolvers.stream()
+                        .filter(pr -> placeholderPrefix.equals(pr.getPrefix()))
+                        .filter(pr -> pr.supports(placeholderName))
+                        .map(pr -> pr.resolve(placeholderName))
+                        .anyMatch(Optional::isPresent);
+            }
+            return false;
+        }
+
+    }
+
+}
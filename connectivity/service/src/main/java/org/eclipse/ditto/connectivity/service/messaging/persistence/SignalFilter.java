@@ -52,13 +52,10 @@ import org.eclipse.ditto.protocol.TopicPath;
 import org.eclipse.ditto.protocol.adapter.DittoProtocolAdapter;
 import org.eclipse.ditto.protocol.placeholders.ResourcePlaceholder;
 import org.eclipse.ditto.protocol.placeholders.TopicPathPlaceholder;
-import org.eclipse.ditto.rql.parser.RqlPredicateParser;
 import org.eclipse.ditto.rql.query.criteria.Criteria;
-import org.eclipse.ditto.rql.query.filter.QueryFilterCriteriaFactory;
 import org.eclipse.ditto.things.model.Thing;
 import org.eclipse.ditto.things.model.ThingId;
 import org.eclipse.ditto.things.model.signals.events.ThingEvent;
-import org.eclipse.ditto.things.model.signals.events.ThingEventToThingConverter;
 
 /**
  * Filters a set of targets by
@@ -76,11 +73,19 @@ public final class SignalFilter {
 
     private final Connection connection;
     private final ConnectionMonitorRegistry<ConnectionMonitor> connectionMonitorRegistry;
+    private final TargetFilterCriteria targetFilterCriteria;
 
     SignalFilter(final Connection connection,
             final ConnectionMonitorRegistry<ConnectionMonitor> connectionMonitorRegistry) {
+        this(connection, connectionMonitorRegistry, TargetFilterCriteria.of(connection));
+    }
+
+    private SignalFilter(final Connection connection,
+            final ConnectionMonitorRegistry<ConnectionMonitor> connectionMonitorRegistry,
+            final TargetFilterCriteria targetFilterCriteria) {
         this.connection = connection;
         this.connectionMonitorRegistry = connectionMonitorRegistry;
+        this.targetFilterCriteria = targetFilterCriteria;
     }
 
     /**
@@ -95,6 +100,21 @@ public final class SignalFilter {
         return new SignalFilter(connection, connectionMonitorRegistry);
     }
 
+    /**
+     * Constructs a new SignalFilter instance with the given {@code connection} and the already parsed filters of its
+     * targets.
+     *
+     * @param connection the connection to filter the signals on.
+     * @param connectionMonitorRegistry the monitor registry.
+     * @param targetFilterCriteria the parsed filters of the targets of {@code connection}.
+     * @return the signal filter.
+     */
+    public static SignalFilter of(final Connection connection,
+            final ConnectionMonitorRegistry<ConnectionMonitor> connectionMonitorRegistry,
+            final TargetFilterCriteria targetFilterCriteria) {
+        return new SignalFilter(connection, connectionMonitorRegistry, targetFilterCriteria);
+    }
+
     /**
      * Filters the passed {@code signal} by extracting those {@link Target}s which should receive the signal.
      * Fields are ignored if they occur as "extra targets" to be evaluated later after signal enrichment.
@@ -137,7 +157,7 @@ public final class SignalFilter {
                 .anyMatch(applyTopicFilter(signal));
     }
 
-    private static boolean isTargetSubscribedForTopicWithFiltering(final Target target, final Signal<?> signal) {
+    private boolean isTargetSubscribedForTopicWithFiltering(final Target target, final Signal<?> signal) {
         return target.getTopics().stream()
                 .filter(applyTopicFilter(signal))
                 .filter(applyNamespaceFilter(signal))
@@ -158,7 +178,7 @@ public final class SignalFilter {
         return NamespaceReader.fromEntityId(withEntityId.getEntityId()).orElse(null);
     }
 
-    private static boolean matchesFilterBeforeEnrichment(final FilteredTopic filteredTopic, final Signal<?> signal) {
+    private boolean matchesFilterBeforeEnrichment(final FilteredTopic filteredTopic, final Signal<?> signal) {
         final Optional<String> filterOptional = filteredTopic.getFilter();
         if (filterOptional.isPresent()) {
             // match filter ignoring "extraFields"
@@ -170,18 +190,17 @@ public final class SignalFilter {
                     .newPlaceholderResolver(RESOURCE_PLACEHOLDER, signal);
             final PlaceholderResolver<Object> timePlaceholderResolver = PlaceholderFactory
                     .newPlaceholderResolver(TIME_PLACEHOLDER, new Object());
-            final Criteria criteria = parseCriteria(filterOptional.get(), signal.getDittoHeaders(),
-                    topicPathPlaceholderResolver, resourcePlaceholderResolver, timePlaceholderResolver);
+            final Criteria criteria = targetFilterCriteria.getCriteria(filterOptional.get(), signal.getDittoHeaders());
             final Set<JsonPointer> extraFields = filteredTopic.getExtraFields()
                     .map(JsonFieldSelector::getPointers)
                     .orElse(Collections.emptySet());
             if (signal instanceof ThingEvent) {
-                return ThingEventToThingConverter.thingEventToThing((ThingEvent<?>) signal)
+                return PartialThingView.of((ThingEvent<?>) signal)
                         .filter(thing -> Thing3ValuePredicateVisitor.couldBeTrue(criteria, extraFields, thing,
                                 topicPathPlaceholderResolver, resourcePlaceholderResolver, timePlaceholderResolver))
                         .isPresent();
             } else {
-                final Thing emptyThing = Thing.newBuilder().build();
+                final PartialThingView emptyThing = PartialThingView.of(Thing.newBuilder().build());
                 return Thing3ValuePredicateVisitor.couldBeTrue(criteria, extraFields, emptyThing,
                         topicPathPlaceholderResolver, resourcePlaceholderResolver, timePlaceholderResolver);
             }
@@ -190,16 +209,6 @@ public final class SignalFilter {
         }
     }
 
-    /**
-     * @throws org.eclipse.ditto.base.model.exceptions.InvalidRqlExpressionException if the filter string cannot be
-     * mapped to a valid criterion
-     */
-    private static Criteria parseCriteria(final String filter, final DittoHeaders dittoHeaders,
-            final PlaceholderResolver<?>... placeholderResolvers) {
-        return QueryFilterCriteriaFactory.modelBased(RqlPredicateParser.getInstance(), placeholderResolvers)
-                .filterCriteria(filter, dittoHeaders);
-    }
-
     private static Optional<Topic> topicFromSignal(final Signal<?> signal) {
         if (signal instanceof PolicyAnnouncement) {
             return Optional.of(Topic.POLICY_ANNOUNCEMENTS);
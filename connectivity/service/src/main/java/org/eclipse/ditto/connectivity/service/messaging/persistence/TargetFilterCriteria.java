@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.connectivity.service.messaging.persistence;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.base.model.exceptions.DittoRuntimeException;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.connectivity.model.Connection;
+import org.eclipse.ditto.connectivity.model.FilteredTopic;
+import org.eclipse.ditto.connectivity.model.Target;
+import org.eclipse.ditto.internal.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.internal.utils.metrics.instruments.counter.Counter;
+import org.eclipse.ditto.placeholders.Placeholder;
+import org.eclipse.ditto.placeholders.TimePlaceholder;
+import org.eclipse.ditto.protocol.placeholders.ResourcePlaceholder;
+import org.eclipse.ditto.protocol.placeholders.TopicPathPlaceholder;
+import org.eclipse.ditto.rql.parser.RqlPredicateParser;
+import org.eclipse.ditto.rql.query.criteria.Criteria;
+import org.eclipse.ditto.rql.query.filter.QueryFilterCriteriaFactory;
+import org.eclipse.ditto.rql.query.things.CompiledThingPredicate;
+
+/**
+ * The RQL filters of all {@link FilteredTopic}s of the targets of a connection, parsed once when the outbound actors of
+ * the connection are started and shared by all of them.
+ * <p>
+ * The filters are parsed with the placeholders {@code topic}, {@code resource} and {@code time} which stay symbolic in
+ * the parsed criteria; their sources are bound when the criteria are evaluated for a signal.
+ * A new instance has to be created whenever the connection changes.
+ * </p>
+ */
+@Immutable
+public final class TargetFilterCriteria {
+
+    /**
+     * The placeholders available in target filters in the order in which their sources are passed to the
+     * {@link #getCompiledPredicate(String, DittoHeaders) compiled predicates}.
+     */
+    public static final List<Placeholder<?>> PLACEHOLDERS = List.of(TopicPathPlaceholder.getInstance(),
+            ResourcePlaceholder.getInstance(), TimePlaceholder.getInstance());
+
+    private static final QueryFilterCriteriaFactory CRITERIA_FACTORY =
+            QueryFilterCriteriaFactory.modelBased(RqlPredicateParser.getInstance(),
+                    PLACEHOLDERS.toArray(new Placeholder<?>[0]));
+
+    private static final String METRIC_NAME = "connection_target_filter_lookups";
+    private static final String METRIC_TAG_RESULT = "result";
+
+    private final Map<String, ParsedFilter> parsedFilters;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    private TargetFilterCriteria(final Map<String, ParsedFilter> parsedFilters, final Counter hitCounter,
+            final Counter missCounter) {
+
+        this.parsedFilters = parsedFilters;
+        this.hitCounter = hitCounter;
+        this.missCounter = missCounter;
+    }
+
+    /**
+     * Parses the filters of all targets of the passed connection.
+     * Filters which cannot be parsed are skipped; they fail when they are requested for a signal.
+     *
+     * @param connection the connection.
+     * @return the parsed filters of the connection.
+     */
+    public static TargetFilterCriteria of(final Connection connection) {
+        final Map<String, ParsedFilter> parsedFilters = new HashMap<>();
+        for (final Target target : connection.getTargets()) {
+            for (final FilteredTopic filteredTopic : target.getTopics()) {
+                filteredTopic.getFilter()
+                        .filter(filter -> !parsedFilters.containsKey(filter))
+                        .ifPresent(filter -> {
+                            @Nullable final ParsedFilter parsedFilter = tryToParse(filter);
+                            if (null != parsedFilter) {
+                                parsedFilters.put(filter, parsedFilter);
+                            }
+                        });
+            }
+        }
+        final String connectionId = connection.getId().toString();
+        final Counter hitCounter = DittoMetrics.counter(METRIC_NAME)
+                .tag("id", connectionId)
+                .tag(METRIC_TAG_RESULT, "hit");
+        final Counter missCounter = DittoMetrics.counter(METRIC_NAME)
+                .tag("id", connectionId)
+                .tag(METRIC_TAG_RESULT, "miss");
+        return new TargetFilterCriteria(Map.copyOf(parsedFilters), hitCounter, missCounter);
+    }
+
+    @Nullable
+    private static ParsedFilter tryToParse(final String filter) {
+        try {
+            final Criteria criteria = parse(filter, DittoHeaders.empty());
+            return new ParsedFilter(criteria, CompiledThingPredicate.compile(criteria, PLACEHOLDERS));
+        } catch (final DittoRuntimeException e) {
+            return null;
+        }
+    }
+
+    private static Criteria parse(final String filter, final DittoHeaders dittoHeaders) {
+        return CRITERIA_FACTORY.filterCriteria(filter, dittoHeaders);
+    }
+
+    /**
+     * Returns the parsed criteria of the passed filter.
+     *
+     * @param filter the filter of a {@link FilteredTopic} of the connection.
+     * @param dittoHeaders the headers of the signal the filter is evaluated for.
+     * @return the parsed criteria.
+     * @throws org.eclipse.ditto.base.model.exceptions.InvalidRqlExpressionException if the filter is not a valid RQL
+     * expression.
+     */
+    public Criteria getCriteria(final String filter, final DittoHeaders dittoHeaders) {
+        @Nullable final ParsedFilter parsedFilter = getParsedFilter(filter);
+        if (null != parsedFilter) {
+            return parsedFilter.criteria;
+        }
+        return parse(filter, dittoHeaders);
+    }
+
+    /**
+     * Returns the compiled predicate of the passed filter. The sources of the placeholders have to be passed to the
+     * predicate in the order of {@link #PLACEHOLDERS}.
+     *
+     * @param filter the filter of a {@link FilteredTopic} of the connection.
+     * @param dittoHeaders the headers of the signal the filter is evaluated for.
+     * @return the compiled predicate.
+     * @throws org.eclipse.ditto.base.model.exceptions.InvalidRqlExpressionException if the filter is not a valid RQL
+     * expression.
+     */
+    public CompiledThingPredicate getCompiledPredicate(final String filter, final DittoHeaders dittoHeaders) {
+        @Nullable final ParsedFilter parsedFilter = getParsedFilter(filter);
+        if (null != parsedFilter) {
+            return parsedFilter.compiledPredicate;
+        }
+        return CompiledThingPredicate.compile(parse(filter, dittoHeaders), PLACEHOLDERS);
+    }
+
+    /**
+     * @return the number of parsed filters.
+     */
+    public int getSize() {
+        return parsedFilters.size();
+    }
+
+    @Nullable
+    private ParsedFilter getParsedFilter(final String filter) {
+        @Nullable final ParsedFilter parsedFilter = parsedFilters.get(filter);
+        if (null != parsedFilter) {
+            hitCounter.increment();
+        } else {
+            missCounter.increment();
+        }
+        return parsedFilter;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "parsedFilters=" + parsedFilters.keySet() +
+                "]";
+    }
+
+    @Immutable
+    private static final class ParsedFilter {
+
+        private final Criteria criteria;
+        private final CompiledThingPredicate compiledPredicate;
+
+        private ParsedFilter(final Criteria criteria, final CompiledThingPredicate compiledPredicate) {
+            this.criteria = criteria;
+            this.compiledPredicate = compiledPredicate;
+        }
+
+    }
+
+}
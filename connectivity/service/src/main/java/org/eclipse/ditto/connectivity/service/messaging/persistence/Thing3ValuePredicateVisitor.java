@@ -29,24 +29,26 @@ import org.eclipse.ditto.rql.query.expression.ExistsFieldExpression;
 import org.eclipse.ditto.rql.query.expression.FieldExpression;
 import org.eclipse.ditto.rql.query.expression.FilterFieldExpression;
 import org.eclipse.ditto.rql.query.expression.visitors.FieldExpressionVisitor;
-import org.eclipse.ditto.rql.query.things.ExistsThingPredicateVisitor;
+import org.eclipse.ditto.rql.query.things.FieldValuePredicateVisitor;
 import org.eclipse.ditto.rql.query.things.FilterThingPredicateVisitor;
-import org.eclipse.ditto.rql.query.things.ThingPredicatePredicateVisitor;
 import org.eclipse.ditto.things.model.Thing;
 
 /**
- * Visitor to evaluate a criteria against a partial thing with unknown fields.
+ * Visitor to evaluate a criteria against a partial thing with unknown fields. The partial thing is accessed via a
+ * {@link PartialThingView} so that the criteria can be evaluated against events without converting them to things.
  */
-final class Thing3ValuePredicateVisitor implements CriteriaVisitor<Function<Thing, Trilean>> {
+final class Thing3ValuePredicateVisitor implements CriteriaVisitor<Function<PartialThingView, Trilean>> {
 
     private final Set<JsonPointer> unknownFields;
     private final List<PlaceholderResolver<?>> placeholderResolvers;
+    private final FieldValuePredicateVisitor<PartialThingView> fieldValuePredicateVisitor;
 
     private Thing3ValuePredicateVisitor(final Set<JsonPointer> unknownFields,
             final Collection<PlaceholderResolver<?>> placeholderResolvers) {
         // only internally instantiable, therefore no copying + immutability of fields
         this.unknownFields = unknownFields;
         this.placeholderResolvers = new ArrayList<>(placeholderResolvers);
+        fieldValuePredicateVisitor = FieldValuePredicateVisitor.of(PartialThingView::getValue, placeholderResolvers);
     }
 
     /**
@@ -62,7 +64,7 @@ final class Thing3ValuePredicateVisitor implements CriteriaVisitor<Function<Thin
      */
     static boolean couldBeTrue(final Criteria criteria,
             final Set<JsonPointer> unknownFields,
-            final Thing partialThing,
+            final PartialThingView partialThing,
             final PlaceholderResolver<?>... placeholderResolvers) {
         return couldBeTrue(criteria, unknownFields, partialThing, Arrays.asList(placeholderResolvers));
     }
@@ -80,51 +82,51 @@ final class Thing3ValuePredicateVisitor implements CriteriaVisitor<Function<Thin
      */
     static boolean couldBeTrue(final Criteria criteria,
             final Set<JsonPointer> unknownFields,
-            final Thing partialThing,
+            final PartialThingView partialThing,
             final Collection<PlaceholderResolver<?>> placeholderResolvers) {
         return Trilean.FALSE != criteria.accept(new Thing3ValuePredicateVisitor(unknownFields, placeholderResolvers))
                 .apply(partialThing);
     }
 
     @Override
-    public Function<Thing, Trilean> visitAnd(final List<Function<Thing, Trilean>> conjuncts) {
+    public Function<PartialThingView, Trilean> visitAnd(final List<Function<PartialThingView, Trilean>> conjuncts) {
         return thing -> conjuncts.stream().map(f -> f.apply(thing)).reduce(Trilean::and).orElse(Trilean.TRUE);
     }
 
     @Override
-    public Function<Thing, Trilean> visitAny() {
+    public Function<PartialThingView, Trilean> visitAny() {
         return thing -> Trilean.TRUE;
     }
 
     @Override
-    public Function<Thing, Trilean> visitExists(final ExistsFieldExpression fieldExpression) {
+    public Function<PartialThingView, Trilean> visitExists(final ExistsFieldExpression fieldExpression) {
         return thing -> isUnknownField(fieldExpression)
                 ? Trilean.UNKNOWN
-                : Trilean.lift(ExistsThingPredicateVisitor.apply(fieldExpression, placeholderResolvers).test(thing));
+                : Trilean.lift(thing.exists(fieldExpression, placeholderResolvers));
     }
 
     @Override
-    public Function<Thing, Trilean> visitField(final FilterFieldExpression fieldExpression, final Predicate predicate) {
-        return thing -> {
-            if (isUnknownField(fieldExpression)) {
-                return Trilean.UNKNOWN;
-            } else {
-                final ThingPredicatePredicateVisitor ppVisitor = ThingPredicatePredicateVisitor
-                        .createInstance(placeholderResolvers);
-                return Trilean.lift(
-                        FilterThingPredicateVisitor.apply(fieldExpression, predicate.accept(ppVisitor)).test(thing)
-                );
-            }
-        };
+    public Function<PartialThingView, Trilean> visitField(final FilterFieldExpression fieldExpression,
+            final Predicate predicate) {
+
+        if (isUnknownField(fieldExpression)) {
+            return thing -> Trilean.UNKNOWN;
+        }
+        final String fieldName = FilterThingPredicateVisitor.getFieldName(fieldExpression);
+        final Function<PartialThingView, Boolean> fieldPredicate =
+                predicate.accept(fieldValuePredicateVisitor).apply(fieldName)::test;
+        return thing -> Trilean.lift(fieldPredicate.apply(thing));
     }
 
     @Override
-    public Function<Thing, Trilean> visitNor(final List<Function<Thing, Trilean>> negativeDisjoints) {
+    public Function<PartialThingView, Trilean> visitNor(
+            final List<Function<PartialThingView, Trilean>> negativeDisjoints) {
+
         return visitOr(negativeDisjoints).andThen(Trilean::not);
     }
 
     @Override
-    public Function<Thing, Trilean> visitOr(final List<Function<Thing, Trilean>> disjoints) {
+    public Function<PartialThingView, Trilean> visitOr(final List<Function<PartialThingView, Trilean>> disjoints) {
         return thing -> disjoints.stream().map(f -> f.apply(thing)).reduce(Trilean::or).orElse(Trilean.FALSE);
     }
 
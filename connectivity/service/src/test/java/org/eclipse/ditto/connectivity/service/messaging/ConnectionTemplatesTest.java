@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.connectivity.service.messaging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.ditto.base.model.auth.AuthorizationModelFactory.newAuthContext;
+import static org.eclipse.ditto.base.model.auth.AuthorizationModelFactory.newAuthSubject;
+
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.ditto.base.model.auth.AuthorizationContext;
+import org.eclipse.ditto.base.model.auth.DittoAuthorizationContextType;
+import org.eclipse.ditto.connectivity.model.Connection;
+import org.eclipse.ditto.connectivity.model.ConnectivityModelFactory;
+import org.eclipse.ditto.connectivity.model.Source;
+import org.eclipse.ditto.connectivity.model.Target;
+import org.eclipse.ditto.connectivity.model.Topic;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.placeholders.ExpressionResolver;
+import org.eclipse.ditto.placeholders.PlaceholderFactory;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link ConnectionTemplates}.
+ */
+public final class ConnectionTemplatesTest {
+
+    private static final String TARGET_ADDRESS = "events/{{ thing:id }}";
+    private static final String HEADER_TEMPLATE = "{{ header:device | fn:lower() }}";
+    private static final String SUBJECT_TEMPLATE = "integration:{{ header:device }}";
+
+    private static final AuthorizationContext AUTHORIZATION_CONTEXT =
+            newAuthContext(DittoAuthorizationContextType.UNSPECIFIED, newAuthSubject(SUBJECT_TEMPLATE));
+
+    @Test
+    public void compilesTemplatesOfSourcesAndTargetsOnce() {
+        final ConnectionTemplates underTest = ConnectionTemplates.of(createConnection());
+
+        assertThat(underTest.get(TARGET_ADDRESS)).containsSame(underTest.get(TARGET_ADDRESS).orElseThrow());
+        assertThat(underTest.get(HEADER_TEMPLATE)).containsSame(underTest.get(HEADER_TEMPLATE).orElseThrow());
+        assertThat(underTest.get(SUBJECT_TEMPLATE)).containsSame(underTest.get(SUBJECT_TEMPLATE).orElseThrow());
+    }
+
+    @Test
+    public void unknownTemplatesAreResolvedWithoutCompiling() {
+        final ConnectionTemplates underTest = ConnectionTemplates.of(createConnection());
+        final String template = "other/{{ header:device }}";
+        final ExpressionResolver expressionResolver =
+                PlaceholderFactory.newExpressionResolver(PlaceholderFactory.newHeadersPlaceholder(),
+                        Map.of("device", "sensor"));
+
+        assertThat(underTest.get(template)).isEmpty();
+        assertThat(underTest.resolve(template, expressionResolver).toOptional()).contains("other/sensor");
+        assertThat(underTest.applyOrElseDelete(template, expressionResolver)).contains("other/sensor");
+    }
+
+    @Test
+    public void appliesHeadersToAuthorizationSubjects() {
+        final ConnectionTemplates underTest = ConnectionTemplates.of(createConnection());
+
+        final AuthorizationContext result =
+                underTest.applyHeadersPlaceholderToAuthContext(AUTHORIZATION_CONTEXT, Map.of("device", "sensor"));
+
+        assertThat(result).isEqualTo(newAuthContext(DittoAuthorizationContextType.UNSPECIFIED,
+                newAuthSubject("integration:sensor")));
+    }
+
+    @Test
+    public void authorizationContextWithoutPlaceholdersIsReturnedUnchanged() {
+        final AuthorizationContext authorizationContext =
+                newAuthContext(DittoAuthorizationContextType.UNSPECIFIED, newAuthSubject("integration:fixed"));
+
+        final AuthorizationContext result = ConnectionTemplates.of(createConnection())
+                .applyHeadersPlaceholderToAuthContext(authorizationContext, Map.of());
+
+        assertThat(result).isSameAs(authorizationContext);
+    }
+
+    private static Connection createConnection() {
+        final Source source = ConnectivityModelFactory.newSourceBuilder()
+                .address("source")
+                .authorizationContext(AUTHORIZATION_CONTEXT)
+                .headerMapping(ConnectivityModelFactory.newHeaderMapping(JsonObject.newBuilder()
+                        .set("device", HEADER_TEMPLATE)
+                        .build()))
+                .build();
+        final Target target = ConnectivityModelFactory.newTargetBuilder()
+                .address(TARGET_ADDRESS)
+                .authorizationContext(AUTHORIZATION_CONTEXT)
+                .headerMapping(ConnectivityModelFactory.newHeaderMapping(JsonObject.newBuilder()
+                        .set("device", HEADER_TEMPLATE)
+                        .build()))
+                .topics(Topic.TWIN_EVENTS)
+                .build();
+        return ConnectivityModelFactory.newConnectionBuilder(TestConstants.createConnection())
+                .setSources(List.of(source))
+                .setTargets(List.of(target))
+                .build();
+    }
+
+}
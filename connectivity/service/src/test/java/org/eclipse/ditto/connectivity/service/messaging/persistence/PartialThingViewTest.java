@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.connectivity.service.messaging.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.assertj.core.api.JUnitSoftAssertions;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.rql.query.things.ModelBasedThingsFieldExpressionFactory;
+import org.eclipse.ditto.things.model.Thing;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.things.model.signals.events.AttributeModified;
+import org.eclipse.ditto.things.model.signals.events.FeaturePropertyCreated;
+import org.eclipse.ditto.things.model.signals.events.ThingEvent;
+import org.eclipse.ditto.things.model.signals.events.ThingEventToThingConverter;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link PartialThingView}.
+ */
+public final class PartialThingViewTest {
+
+    private static final ThingId THING_ID = ThingId.of("org.eclipse.ditto:thing");
+    private static final Instant TIMESTAMP = Instant.parse("2022-02-22T10:20:30Z");
+
+    private static final List<String> FIELD_NAMES = List.of("", "thingId", "_namespace", "_revision", "_modified",
+            "_created", "policyId", "attributes", "attributes/location", "attributes/location/lat",
+            "attributes/location/lat/deeper", "attributes/location/lon", "attributes/other", "features",
+            "features/lamp", "features/lamp/properties", "features/lamp/properties/on",
+            "features/lamp/properties/on/deeper", "features/lamp/desiredProperties/on", "features/other");
+
+    private static final List<String> EXISTS_FIELD_NAMES = List.of("thingId", "_revision", "_namespace",
+            "attributes/location", "attributes/location/lat", "attributes/other", "features/lamp",
+            "features/other", "features/lamp/properties", "features/lamp/desiredProperties",
+            "features/lamp/properties/on", "features/lamp/desiredProperties/on", "_metadata/attributes");
+
+    @Rule
+    public final JUnitSoftAssertions softly = new JUnitSoftAssertions();
+
+    @Test
+    public void valuesOfAttributeEventAreTheSameAsOfConvertedThing() {
+        final AttributeModified attributeModified = AttributeModified.of(THING_ID, JsonPointer.of("location"),
+                JsonObject.newBuilder().set("lat", 49.8).set("lon", 9.9).build(), 42L, TIMESTAMP,
+                DittoHeaders.empty(), null);
+
+        assertSameAsConvertedThing(attributeModified);
+    }
+
+    @Test
+    public void valuesOfFeaturePropertyEventAreTheSameAsOfConvertedThing() {
+        final FeaturePropertyCreated featurePropertyCreated = FeaturePropertyCreated.of(THING_ID, "lamp",
+                JsonPointer.of("on"), JsonValue.of(true), 1L, null, DittoHeaders.empty(), null);
+
+        assertSameAsConvertedThing(featurePropertyCreated);
+    }
+
+    @Test
+    public void nestedValueOfAttributeEvent() {
+        final AttributeModified attributeModified = AttributeModified.of(THING_ID, JsonPointer.of("location/lat"),
+                JsonValue.of(49.8), 42L, null, DittoHeaders.empty(), null);
+
+        final PartialThingView underTest = PartialThingView.of(attributeModified).orElseThrow();
+
+        assertThat(underTest.getValue("attributes")).contains(JsonObject.of("{\"location\":{\"lat\":49.8}}"));
+        assertThat(underTest.getValue("/attributes/location/lat")).contains(JsonValue.of(49.8));
+        assertThat(underTest.getValue("attributes/location/lon")).isEmpty();
+        assertThat(underTest.getValue("features")).isEmpty();
+        assertThat(underTest.getValue("_modified")).isEmpty();
+    }
+
+    private void assertSameAsConvertedThing(final ThingEvent<?> thingEvent) {
+        final Thing thing = ThingEventToThingConverter.thingEventToThing(thingEvent).orElseThrow();
+        final JsonObject thingJson = thing.toJson(field -> true);
+        final PartialThingView underTest = PartialThingView.of(thingEvent).orElseThrow();
+
+        for (final String fieldName : FIELD_NAMES) {
+            softly.assertThat(underTest.getValue(fieldName).map(JsonValue::toString))
+                    .as(fieldName)
+                    .isEqualTo(thingJson.getValue(fieldName).map(JsonValue::toString));
+        }
+        for (final String fieldName : EXISTS_FIELD_NAMES) {
+            softly.assertThat(underTest.exists(ModelBasedThingsFieldExpressionFactory.getInstance()
+                            .existsBy(fieldName), List.of()))
+                    .as("exists(%s)", fieldName)
+                    .isEqualTo(PartialThingView.of(thing).exists(ModelBasedThingsFieldExpressionFactory.getInstance()
+                            .existsBy(fieldName), List.of()));
+        }
+    }
+
+}
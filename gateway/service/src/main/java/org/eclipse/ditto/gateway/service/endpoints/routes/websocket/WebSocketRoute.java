@@ -25,6 +25,7 @@ import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.function.BiConsumer;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -87,6 +88,7 @@ import org.eclipse.ditto.protocol.Adaptable;
 import org.eclipse.ditto.protocol.HeaderTranslator;
 import org.eclipse.ditto.protocol.JsonifiableAdaptable;
 import org.eclipse.ditto.protocol.ProtocolFactory;
+import org.eclipse.ditto.protocol.SignalJsonEncoder;
 import org.eclipse.ditto.protocol.adapter.ProtocolAdapter;
 import org.eclipse.ditto.protocol.mappingstrategies.IllegalAdaptableException;
 import org.eclipse.ditto.things.model.ThingId;
@@ -718,6 +720,7 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
             final ProtocolAdapter adapter, @Nullable final SignalEnrichmentFacade facade,
             final ThreadSafeDittoLogger logger) {
 
+        final SignalJsonEncoder signalJsonEncoder = SignalJsonEncoder.of(adapter);
         return sessionedJsonifiable -> {
             final Jsonifiable.WithPredicate<JsonObject, JsonField> jsonifiable = sessionedJsonifiable.getJsonifiable();
             if (jsonifiable instanceof StreamingAck) {
@@ -726,18 +729,31 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
                 );
             }
 
-            final Adaptable adaptable = jsonifiableToAdaptable(jsonifiable, adapter);
+            // signals which are written directly only need an adaptable if they are enriched or enrichment failed
+            @Nullable final Signal<?> directlyWrittenSignal;
+            final Supplier<Adaptable> adaptableSupplier;
+            if (jsonifiable instanceof Signal && signalJsonEncoder.isWrittenDirectly((Signal<?>) jsonifiable)) {
+                directlyWrittenSignal = (Signal<?>) jsonifiable;
+                adaptableSupplier = () -> adapter.toAdaptable(directlyWrittenSignal);
+            } else {
+                directlyWrittenSignal = null;
+                final Adaptable adaptable = jsonifiableToAdaptable(jsonifiable, adapter);
+                adaptableSupplier = () -> adaptable;
+            }
             final CompletionStage<JsonObject> extraFuture = sessionedJsonifiable.retrieveExtraFields(facade);
             return extraFuture.<Collection<String>>thenApply(extra -> {
                 if (matchesFilter(sessionedJsonifiable, extra)) {
-                    return Collections.singletonList(toJsonStringWithExtra(adaptable, extra));
+                    final String jsonString = null != directlyWrittenSignal && extra.isEmpty()
+                            ? signalJsonEncoder.toJsonString(directlyWrittenSignal)
+                            : toJsonStringWithExtra(adaptableSupplier.get(), extra);
+                    return Collections.singletonList(jsonString);
                 }
                 issuePotentialWeakAcknowledgements(sessionedJsonifiable);
                 sessionedJsonifiable.finishTrace();
                 return Collections.emptyList();
             }).exceptionally(error -> {
                 sessionedJsonifiable.finishTrace();
-                return WebSocketRoute.reportEnrichmentError(error, adapter, adaptable, logger);
+                return WebSocketRoute.reportEnrichmentError(error, adapter, adaptableSupplier.get(), logger);
             });
         };
     }
@@ -61,6 +61,7 @@ public final class StreamingActor extends AbstractActorWithTimers implements Ret
     private final JwtValidator jwtValidator;
     private final JwtAuthenticationResultProvider jwtAuthenticationResultProvider;
     private final Props subscriptionManagerProps;
+    private final SubscriptionFilterIndex subscriptionFilterIndex;
     private final DittoDiagnosticLoggingAdapter logger = DittoLoggerFactory.getDiagnosticLoggingAdapter(this);
     private final HeaderTranslator headerTranslator;
     private int childCounter = -1;
@@ -97,6 +98,7 @@ public final class StreamingActor extends AbstractActorWithTimers implements Ret
         subscriptionManagerProps =
                 SubscriptionManager.props(streamingConfig.getSearchIdleTimeout(), pubSubMediator,
                         conciergeForwarderSelection, Materializer.createMaterializer(getContext()));
+        subscriptionFilterIndex = SubscriptionFilterIndex.newInstance();
         scheduleScrapeStreamSessionsCounter();
     }
 
@@ -144,7 +146,8 @@ public final class StreamingActor extends AbstractActorWithTimers implements Ret
                     final ActorRef streamingSessionActor = getContext().actorOf(
                             StreamingSessionActor.props(connect, dittoProtocolSub,
                                     commandRouter, streamingConfig.getAcknowledgementConfig(), headerTranslator,
-                                    subscriptionManagerProps, jwtValidator, jwtAuthenticationResultProvider),
+                                    subscriptionManagerProps, jwtValidator, jwtAuthenticationResultProvider,
+                                    subscriptionFilterIndex),
                             sessionActorName);
                     getSender().tell(streamingSessionActor, ActorRef.noSender());
                 })
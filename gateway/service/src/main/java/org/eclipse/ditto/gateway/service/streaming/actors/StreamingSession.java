@@ -14,7 +14,6 @@ package org.eclipse.ditto.gateway.service.streaming.actors;
 
 import java.util.List;
 import java.util.Optional;
-import java.util.function.BiPredicate;
 
 import javax.annotation.Nullable;
 
@@ -23,13 +22,14 @@ import org.eclipse.ditto.base.model.signals.Signal;
 import org.eclipse.ditto.connectivity.api.placeholders.EntityIdPlaceholder;
 import org.eclipse.ditto.internal.utils.akka.logging.ThreadSafeDittoLoggingAdapter;
 import org.eclipse.ditto.json.JsonObject;
-import org.eclipse.ditto.placeholders.PlaceholderFactory;
+import org.eclipse.ditto.placeholders.Placeholder;
 import org.eclipse.ditto.placeholders.TimePlaceholder;
+import org.eclipse.ditto.protocol.TopicPath;
 import org.eclipse.ditto.protocol.adapter.DittoProtocolAdapter;
 import org.eclipse.ditto.protocol.placeholders.ResourcePlaceholder;
 import org.eclipse.ditto.protocol.placeholders.TopicPathPlaceholder;
 import org.eclipse.ditto.rql.query.criteria.Criteria;
-import org.eclipse.ditto.rql.query.things.ThingPredicateVisitor;
+import org.eclipse.ditto.rql.query.things.CompiledThingPredicate;
 import org.eclipse.ditto.things.model.Thing;
 import org.eclipse.ditto.things.model.ThingFieldSelector;
 import org.eclipse.ditto.things.model.signals.events.ThingEventToThingConverter;
@@ -45,11 +45,19 @@ public final class StreamingSession {
     private static final TopicPathPlaceholder TOPIC_PATH_PLACEHOLDER = TopicPathPlaceholder.getInstance();
     private static final ResourcePlaceholder RESOURCE_PLACEHOLDER = ResourcePlaceholder.getInstance();
     private static final TimePlaceholder TIME_PLACEHOLDER = TimePlaceholder.getInstance();
+    private static final Object TIME_PLACEHOLDER_SOURCE = new Object();
+
+    /*
+     * The placeholders available in filters in the order in which their sources are passed to the compiled filter.
+     */
+    private static final List<Placeholder<?>> FILTER_PLACEHOLDERS =
+            List.of(TOPIC_PATH_PLACEHOLDER, ENTITY_ID_PLACEHOLDER, RESOURCE_PLACEHOLDER, TIME_PLACEHOLDER);
 
     private static final DittoProtocolAdapter PROTOCOL_ADAPTER = DittoProtocolAdapter.newInstance();
 
     private final List<String> namespaces;
-    private final BiPredicate<Thing, Signal<?>> thingPredicate;
+    @Nullable private final CompiledThingPredicate thingPredicate;
+    private final boolean filterUsesTopicPath;
     @Nullable private final ThingFieldSelector extraFields;
     private final ActorRef streamingSessionActor;
     private final ThreadSafeDittoLoggingAdapter logger;
@@ -59,16 +67,9 @@ public final class StreamingSession {
             final ThreadSafeDittoLoggingAdapter logger) {
         this.namespaces = namespaces;
         thingPredicate = filterCriteria == null
-                ? (thing, signal) -> true
-                : (thing, signal) -> ThingPredicateVisitor.apply(filterCriteria,
-                        PlaceholderFactory.newPlaceholderResolver(TOPIC_PATH_PLACEHOLDER,
-                                PROTOCOL_ADAPTER.toTopicPath(signal)),
-                        PlaceholderFactory.newPlaceholderResolver(ENTITY_ID_PLACEHOLDER,
-                                        ((WithEntityId) signal).getEntityId()),
-                        PlaceholderFactory.newPlaceholderResolver(RESOURCE_PLACEHOLDER, signal),
-                        PlaceholderFactory.newPlaceholderResolver(TIME_PLACEHOLDER, new Object())
-                )
-                .test(thing);
+                ? null
+                : CompiledThingPredicate.compile(filterCriteria, FILTER_PLACEHOLDERS);
+        filterUsesTopicPath = thingPredicate != null && thingPredicate.usesPlaceholder(TOPIC_PATH_PLACEHOLDER);
         this.extraFields = extraFields;
         this.streamingSessionActor = streamingSessionActor;
         this.logger = logger;
@@ -117,7 +118,13 @@ public final class StreamingSession {
      * @return whether the thing passes the filter.
      */
     public boolean matchesFilter(final Thing thing, final Signal<?> signal) {
-        return thingPredicate.test(thing, signal);
+        if (thingPredicate == null) {
+            return true;
+        }
+        // the topic path is the only placeholder source which is expensive to determine
+        @Nullable final TopicPath topicPath = filterUsesTopicPath ? PROTOCOL_ADAPTER.toTopicPath(signal) : null;
+        return thingPredicate.test(thing, topicPath, ((WithEntityId) signal).getEntityId(), signal,
+                TIME_PLACEHOLDER_SOURCE);
     }
 
     public ActorRef getStreamingSessionActor() {
@@ -107,6 +107,7 @@ final class StreamingSessionActor extends AbstractActorWithTimers {
     private final ActorRef subscriptionManager;
     private final Set<StreamingType> outstandingSubscriptionAcks;
     private final Map<StreamingType, StreamingSession> streamingSessions;
+    private final SubscriptionFilterIndex subscriptionFilterIndex;
     private final JwtValidator jwtValidator;
     private final JwtAuthenticationResultProvider jwtAuthenticationResultProvider;
     private final AcknowledgementAggregatorActorStarter ackregatorStarter;
@@ -123,7 +124,8 @@ final class StreamingSessionActor extends AbstractActorWithTimers {
             final HeaderTranslator headerTranslator,
             final Props subscriptionManagerProps,
             final JwtValidator jwtValidator,
-            final JwtAuthenticationResultProvider jwtAuthenticationResultProvider) {
+            final JwtAuthenticationResultProvider jwtAuthenticationResultProvider,
+            final SubscriptionFilterIndex subscriptionFilterIndex) {
 
         jsonSchemaVersion = connect.getJsonSchemaVersion();
         connectionCorrelationId = connect.getConnectionCorrelationId();
@@ -137,6 +139,7 @@ final class StreamingSessionActor extends AbstractActorWithTimers {
         outstandingSubscriptionAcks = EnumSet.noneOf(StreamingType.class);
         authorizationContext = connect.getConnectionAuthContext();
         streamingSessions = new EnumMap<>(StreamingType.class);
+        this.subscriptionFilterIndex = subscriptionFilterIndex;
         ackregatorStarter = AcknowledgementAggregatorActorStarter.of(getContext(),
                 acknowledgementConfig,
                 headerTranslator,
@@ -162,6 +165,7 @@ final class StreamingSessionActor extends AbstractActorWithTimers {
      * @param subscriptionManagerProps Props of the subscription manager for search protocol.
      * @param jwtValidator validator of JWT tokens.
      * @param jwtAuthenticationResultProvider provider of JWT authentication results.
+     * @param subscriptionFilterIndex the index of the filters of all streaming sessions of this gateway node.
      * @return the Akka configuration Props object.
      */
     static Props props(final Connect connect,
@@ -171,7 +175,8 @@ final class StreamingSessionActor extends AbstractActorWithTimers {
             final HeaderTranslator headerTranslator,
             final Props subscriptionManagerProps,
             final JwtValidator jwtValidator,
-            final JwtAuthenticationResultProvider jwtAuthenticationResultProvider) {
+            final JwtAuthenticationResultProvider jwtAuthenticationResultProvider,
+            final SubscriptionFilterIndex subscriptionFilterIndex) {
 
         return Props.create(StreamingSessionActor.class,
                 connect,
@@ -181,7 +186,8 @@ final class StreamingSessionActor extends AbstractActorWithTimers {
                 headerTranslator,
                 subscriptionManagerProps,
                 jwtValidator,
-                jwtAuthenticationResultProvider);
+                jwtAuthenticationResultProvider,
+                subscriptionFilterIndex);
     }
 
     @Override
@@ -195,6 +201,7 @@ final class StreamingSessionActor extends AbstractActorWithTimers {
     public void postStop() {
         logger.info("Closing <{}> streaming session.", type);
         cancelSessionTimeout();
+        streamingSessions.values().forEach(subscriptionFilterIndex::unregister);
         eventAndResponsePublisher.complete();
     }
 
@@ -203,6 +210,7 @@ final class StreamingSessionActor extends AbstractActorWithTimers {
         return createIncomingSignalBehavior()
                 .orElse(createPubSubBehavior())
                 .orElse(createSelfTerminationBehavior())
+                .orElse(createSubscriptionFilterIndexBehavior())
                 .orElse(createOutgoingSignalBehavior())
                 .orElse(logUnknownMessage());
     }
@@ -230,6 +238,14 @@ final class StreamingSessionActor extends AbstractActorWithTimers {
         return addPreprocessors(List.of(stripEnvelope, setAckRequestAndStartAckregator), signalBehavior);
     }
 
+    private Receive createSubscriptionFilterIndexBehavior() {
+        // must see the published signal before the ack forwarder replaces it, as the index identifies it by instance
+        return ReceiveBuilder.create()
+                .match(Signal.class, this::isExcludedBySubscriptionFilterIndex, signal ->
+                        logger.withCorrelationId(signal).debug("Signal does not match filter of <{}> session.", type))
+                .build();
+    }
+
     private Receive createOutgoingSignalBehavior() {
         final PartialFunction<Object, Object> setCorrelationIdAndStartAckForwarder = new PFBuilder<>()
                 .match(Signal.class, this::startAckForwarder)
@@ -292,7 +308,12 @@ final class StreamingSessionActor extends AbstractActorWithTimers {
                     }
                     final var session = StreamingSession.of(startStreaming.getNamespaces(), criteria,
                             startStreaming.getExtraFields().orElse(null), getSelf(), logger);
-                    streamingSessions.put(startStreaming.getStreamingType(), session);
+                    @Nullable final var previousSession =
+                            streamingSessions.put(startStreaming.getStreamingType(), session);
+                    if (null != previousSession) {
+                        subscriptionFilterIndex.unregister(previousSession);
+                    }
+                    subscriptionFilterIndex.register(session, criteria);
 
                     logger.debug("Got 'StartStreaming' message in <{}> session, subscribing for <{}> in Cluster ...",
                             type, startStreaming.getStreamingType().name());
@@ -328,7 +349,10 @@ final class StreamingSessionActor extends AbstractActorWithTimers {
                     logger.debug("Got 'StopStreaming' message in <{}> session, unsubscribing from <{}> in Cluster ...",
                             type, stopStreaming.getStreamingType().name());
 
-                    streamingSessions.remove(stopStreaming.getStreamingType());
+                    @Nullable final var stoppedSession = streamingSessions.remove(stopStreaming.getStreamingType());
+                    if (null != stoppedSession) {
+                        subscriptionFilterIndex.unregister(stoppedSession);
+                    }
 
                     // In Cluster: Unsubscribe
                     final var unsubscribeConfirmation = new ConfirmUnsubscription(stopStreaming.getStreamingType());
@@ -536,6 +560,16 @@ final class StreamingSessionActor extends AbstractActorWithTimers {
         }
     }
 
+    private boolean isExcludedBySubscriptionFilterIndex(final Signal<?> signal) {
+        if (signal instanceof CommandResponse || signal instanceof SubscriptionEvent ||
+                !signal.getDittoHeaders().getAcknowledgementRequests().isEmpty()) {
+            // responses are not filtered; signals requesting acks pass on to be weakly acknowledged when filtered
+            return false;
+        }
+        @Nullable final var session = streamingSessions.get(determineStreamingType(signal));
+        return null != session && !subscriptionFilterIndex.mayMatch(signal, session);
+    }
+
     private void startSessionTimeout(final Instant sessionExpirationTime) {
         final var sessionTimeout = Duration.between(Instant.now(), sessionExpirationTime);
         if (sessionTimeout.isNegative() || sessionTimeout.isZero()) {
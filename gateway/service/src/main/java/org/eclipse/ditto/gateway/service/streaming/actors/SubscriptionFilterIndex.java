@@ -0,0 +1,589 @@
+/*
+ * Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.gateway.service.streaming.actors;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.base.model.entity.id.WithEntityId;
+import org.eclipse.ditto.base.model.signals.Signal;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.rql.query.criteria.Criteria;
+import org.eclipse.ditto.rql.query.criteria.Predicate;
+import org.eclipse.ditto.rql.query.criteria.visitors.CriteriaVisitor;
+import org.eclipse.ditto.rql.query.criteria.visitors.PredicateVisitor;
+import org.eclipse.ditto.rql.query.expression.ExistsFieldExpression;
+import org.eclipse.ditto.rql.query.expression.FilterFieldExpression;
+import org.eclipse.ditto.rql.query.expression.visitors.FilterFieldExpressionVisitor;
+import org.eclipse.ditto.things.model.Thing;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.things.model.signals.events.ThingEvent;
+import org.eclipse.ditto.things.model.signals.events.ThingEventToThingConverter;
+
+/**
+ * Index of the filters of all streaming sessions of a gateway node.
+ * It determines once per signal which sessions may receive it, instead of evaluating the filter of each session.
+ * <p>
+ * Most filters require the thing ID to be one of a few values, to start with a prefix or to be in a namespace, or
+ * an attribute to be equal to a string. When a session is registered, such a necessary condition is extracted from
+ * its filter and its namespaces, and the session is indexed by the required values.
+ * For a signal, the candidate sessions are looked up in the hash maps of these values. Sessions which are no
+ * candidates skip signal enrichment and the evaluation of their filter.
+ * Sessions without an indexable condition are never excluded.
+ * </p>
+ * <p>
+ * Each streaming session actor receives a published signal on its own, but all local subscribers receive the same
+ * signal instance. Therefore the candidates of the most recent signals are remembered by identity. For each session
+ * only a set lookup remains, so the cost of matching scales with the number of matching sessions.
+ * </p>
+ */
+@ThreadSafe
+final class SubscriptionFilterIndex {
+
+    private static final int RECENT_CANDIDATES_SIZE = 64;
+
+    private static final String THING_ID_FIELD = Thing.JsonFields.ID.getPointer().toString();
+    private static final String NAMESPACE_FIELD = Thing.JsonFields.NAMESPACE.getPointer().toString();
+    private static final Set<String> THING_ID_FIELDS = Set.of(THING_ID_FIELD, "entity:id");
+    private static final Set<String> NAMESPACE_FIELDS =
+            Set.of(NAMESPACE_FIELD, "entity:namespace", "topic:namespace");
+
+    private final Map<StreamingSession, Registration> registrations;
+    private final Map<String, Set<StreamingSession>> byThingId;
+    private final Map<Integer, Map<String, Set<StreamingSession>>> byThingIdPrefixLength;
+    private final Map<String, Set<StreamingSession>> byNamespace;
+    private final Map<JsonPointer, Map<String, Set<StreamingSession>>> byAttributeValue;
+    private final AtomicLong registrationSequence;
+    private final AtomicReferenceArray<Candidates> recentCandidates;
+
+    private SubscriptionFilterIndex() {
+        registrations = new ConcurrentHashMap<>();
+        byThingId = new ConcurrentHashMap<>();
+        byThingIdPrefixLength = new ConcurrentHashMap<>();
+        byNamespace = new ConcurrentHashMap<>();
+        byAttributeValue = new ConcurrentHashMap<>();
+        registrationSequence = new AtomicLong();
+        recentCandidates = new AtomicReferenceArray<>(RECENT_CANDIDATES_SIZE);
+    }
+
+    /**
+     * Returns a new, empty {@code SubscriptionFilterIndex}.
+     *
+     * @return the index.
+     */
+    static SubscriptionFilterIndex newInstance() {
+        return new SubscriptionFilterIndex();
+    }
+
+    /**
+     * Registers a streaming session with the parsed criteria of its filter.
+     *
+     * @param session the session.
+     * @param filterCriteria the criteria of the filter of the session or {@code null} if it has no filter.
+     */
+    synchronized void register(final StreamingSession session, @Nullable final Criteria filterCriteria) {
+        final Optional<Constraint> constraint =
+                Constraint.of(filterCriteria, session.getNamespaces(), session.getExtraFields().isPresent());
+        if (constraint.isPresent()) {
+            for (final String value : constraint.get().values) {
+                getSessionsByValue(constraint.get(), value, true)
+                        .computeIfAbsent(value, v -> ConcurrentHashMap.newKeySet())
+                        .add(session);
+            }
+            // the sequence is incremented after the session was indexed, see findCandidates
+            registrations.put(session, new Registration(constraint.get(), registrationSequence.incrementAndGet()));
+        }
+    }
+
+    /**
+     * Removes a streaming session from the index.
+     *
+     * @param session the session.
+     */
+    synchronized void unregister(final StreamingSession session) {
+        @Nullable final Registration registration = registrations.remove(session);
+        if (null != registration) {
+            for (final String value : registration.constraint.values) {
+                @Nullable final Map<String, Set<StreamingSession>> sessionsByValue =
+                        getSessionsByValue(registration.constraint, value, false);
+                if (null != sessionsByValue) {
+                    removeFromIndex(sessionsByValue, value, session);
+                }
+            }
+            byThingIdPrefixLength.values().removeIf(Map::isEmpty);
+            byAttributeValue.values().removeIf(Map::isEmpty);
+        }
+    }
+
+    /**
+     * Indicates whether the filter of the passed session may match the signal.
+     * If this returns {@code false}, the filter of the session definitely does not match.
+     *
+     * @param signal the signal as published to the session.
+     * @param session the session.
+     * @return {@code false} if the session is registered and the signal does not fulfil the necessary condition of
+     * its filter, {@code true} else.
+     */
+    boolean mayMatch(final Signal<?> signal, final StreamingSession session) {
+        @Nullable final Registration registration = registrations.get(session);
+        if (null == registration) {
+            return true;
+        }
+        final Optional<ThingId> thingId = WithEntityId.getEntityIdOfType(ThingId.class, signal);
+        if (thingId.isEmpty()) {
+            return true;
+        }
+        final Candidates candidates = getCandidates(signal, thingId.get());
+        return registration.sequence > candidates.sequence || candidates.sessions.contains(session);
+    }
+
+    /**
+     * Returns the number of indexed sessions.
+     *
+     * @return the number of sessions with a necessary condition in the index.
+     */
+    int size() {
+        return registrations.size();
+    }
+
+    @Nullable
+    private Map<String, Set<StreamingSession>> getSessionsByValue(final Constraint constraint, final String value,
+            final boolean create) {
+
+        switch (constraint.kind) {
+            case THING_ID:
+                return byThingId;
+            case THING_ID_PREFIX:
+                return create
+                        ? byThingIdPrefixLength.computeIfAbsent(value.length(), l -> new ConcurrentHashMap<>())
+                        : byThingIdPrefixLength.get(value.length());
+            case ATTRIBUTE:
+                return create
+                        ? byAttributeValue.computeIfAbsent(constraint.attribute, a -> new ConcurrentHashMap<>())
+                        : byAttributeValue.get(constraint.attribute);
+            case NAMESPACE:
+            default:
+                return byNamespace;
+        }
+    }
+
+    private static void removeFromIndex(final Map<String, Set<StreamingSession>> sessionsByValue, final String value,
+            final StreamingSession session) {
+
+        @Nullable final Set<StreamingSession> sessions = sessionsByValue.get(value);
+        if (null != sessions) {
+            sessions.remove(session);
+            if (sessions.isEmpty()) {
+                sessionsByValue.remove(value);
+            }
+        }
+    }
+
+    private Candidates getCandidates(final Signal<?> signal, final ThingId thingId) {
+        final int slot = System.identityHashCode(signal) & (RECENT_CANDIDATES_SIZE - 1);
+        @Nullable final Candidates recent = recentCandidates.get(slot);
+        if (null != recent && recent.signal == signal) {
+            return recent;
+        }
+        final Candidates candidates = findCandidates(signal, thingId);
+        recentCandidates.set(slot, candidates);
+        return candidates;
+    }
+
+    private Candidates findCandidates(final Signal<?> signal, final ThingId thingId) {
+        // sessions registered after reading the sequence might be missing in the maps and are not excluded
+        final long sequence = registrationSequence.get();
+        final Set<StreamingSession> sessions = new HashSet<>();
+        final String id = thingId.toString();
+        addAll(sessions, byThingId.get(id));
+        byThingIdPrefixLength.forEach((prefixLength, sessionsByPrefix) -> {
+            if (prefixLength <= id.length()) {
+                addAll(sessions, sessionsByPrefix.get(id.substring(0, prefixLength)));
+            }
+        });
+        addAll(sessions, byNamespace.get(thingId.getNamespace()));
+        if (!byAttributeValue.isEmpty() && signal instanceof ThingEvent) {
+            ThingEventToThingConverter.thingEventToThing((ThingEvent<?>) signal)
+                    .flatMap(Thing::getAttributes)
+                    .ifPresent(attributes -> byAttributeValue.forEach((attribute, sessionsByValue) -> {
+                        @Nullable final String value = attributes.getValue(attribute)
+                                .map(SubscriptionFilterIndex::toIndexedValue)
+                                .orElse(null);
+                        if (null != value) {
+                            addAll(sessions, sessionsByValue.get(value));
+                        }
+                    }));
+        }
+        return new Candidates(signal, sessions, sequence);
+    }
+
+    private static void addAll(final Set<StreamingSession> candidates,
+            @Nullable final Set<StreamingSession> sessions) {
+
+        if (null != sessions) {
+            candidates.addAll(sessions);
+        }
+    }
+
+    /*
+     * Returns the value under which sessions requiring an attribute to equal a non-numeric string are indexed.
+     * RQL compares booleans with strings by their string representation and numbers never equal non-numeric
+     * strings.
+     */
+    @Nullable
+    private static String toIndexedValue(final JsonValue attributeValue) {
+        if (attributeValue.isString()) {
+            return attributeValue.asString();
+        } else if (attributeValue.isBoolean()) {
+            return String.valueOf(attributeValue.asBoolean());
+        }
+        return null;
+    }
+
+    @Immutable
+    private static final class Registration {
+
+        private final Constraint constraint;
+        private final long sequence;
+
+        private Registration(final Constraint constraint, final long sequence) {
+            this.constraint = constraint;
+            this.sequence = sequence;
+        }
+
+    }
+
+    @Immutable
+    private static final class Candidates {
+
+        private final Signal<?> signal;
+        private final Set<StreamingSession> sessions;
+        private final long sequence;
+
+        private Candidates(final Signal<?> signal, final Set<StreamingSession> sessions, final long sequence) {
+            this.signal = signal;
+            this.sessions = sessions;
+            this.sequence = sequence;
+        }
+
+    }
+
+    /**
+     * The kinds of necessary conditions in the order of their selectivity.
+     */
+    private enum ConstraintKind {
+
+        THING_ID,
+
+        THING_ID_PREFIX,
+
+        ATTRIBUTE,
+
+        NAMESPACE
+
+    }
+
+    /**
+     * A necessary condition of a filter: the thing ID, a prefix of it, the namespace or an attribute has to be one
+     * of a set of values.
+     */
+    @Immutable
+    private static final class Constraint {
+
+        private final ConstraintKind kind;
+        @Nullable private final JsonPointer attribute;
+        private final Set<String> values;
+
+        private Constraint(final ConstraintKind kind, @Nullable final JsonPointer attribute,
+                final Set<String> values) {
+
+            this.kind = kind;
+            this.attribute = attribute;
+            this.values = values;
+        }
+
+        private static Optional<Constraint> of(@Nullable final Criteria filterCriteria,
+                final Collection<String> namespaces, final boolean hasExtraFields) {
+
+            final Optional<Constraint> namespaceConstraint = namespaces.isEmpty()
+                    ? Optional.empty()
+                    : Optional.of(new Constraint(ConstraintKind.NAMESPACE, null, new LinkedHashSet<>(namespaces)));
+            if (null == filterCriteria) {
+                return namespaceConstraint;
+            }
+            // attributes may be enriched from extra fields which are unknown before the enrichment
+            final Optional<Constraint> filterConstraint =
+                    filterCriteria.accept(new ConstraintExtractor(!hasExtraFields));
+            return mostSelective(filterConstraint, namespaceConstraint);
+        }
+
+        private static Optional<Constraint> mostSelective(final Optional<Constraint> first,
+                final Optional<Constraint> second) {
+
+            if (first.isEmpty()) {
+                return second;
+            } else if (second.isEmpty()) {
+                return first;
+            }
+            final Constraint a = first.get();
+            final Constraint b = second.get();
+            final int kindComparison = a.kind.compareTo(b.kind);
+            if (kindComparison < 0 || (0 == kindComparison && a.values.size() <= b.values.size())) {
+                return first;
+            }
+            return second;
+        }
+
+        private Optional<Constraint> union(final Constraint other) {
+            if (kind != other.kind || (ConstraintKind.ATTRIBUTE == kind && !attribute.equals(other.attribute))) {
+                return Optional.empty();
+            }
+            final Set<String> unitedValues = new LinkedHashSet<>(values);
+            unitedValues.addAll(other.values);
+            return Optional.of(new Constraint(kind, attribute, unitedValues));
+        }
+
+    }
+
+    /**
+     * Extracts a necessary condition from RQL criteria.
+     * The condition of a conjunction is the most selective one of its conjuncts, the condition of a disjunction is
+     * the union of the conditions of its disjuncts if they are of the same kind.
+     * Negations, existence checks and comparisons other than equality, membership and "like" with a literal prefix
+     * yield no condition.
+     */
+    @Immutable
+    private static final class ConstraintExtractor implements CriteriaVisitor<Optional<Constraint>> {
+
+        private final boolean indexAttributes;
+
+        private ConstraintExtractor(final boolean indexAttributes) {
+            this.indexAttributes = indexAttributes;
+        }
+
+        @Override
+        public Optional<Constraint> visitAnd(final List<Optional<Constraint>> conjuncts) {
+            Optional<Constraint> result = Optional.empty();
+            for (final Optional<Constraint> conjunct : conjuncts) {
+                result = Constraint.mostSelective(result, conjunct);
+            }
+            return result;
+        }
+
+        @Override
+        public Optional<Constraint> visitAny() {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<Constraint> visitExists(final ExistsFieldExpression fieldExpression) {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<Constraint> visitField(final FilterFieldExpression fieldExpression,
+                final Predicate predicate) {
+
+            return fieldExpression.acceptFilterVisitor(FieldVisitor.INSTANCE)
+                    .filter(field -> indexAttributes || null == field.attribute)
+                    .flatMap(field -> predicate.accept(new ConstraintPredicateVisitor(field)));
+        }
+
+        @Override
+        public Optional<Constraint> visitNor(final List<Optional<Constraint>> negativeDisjoints) {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<Constraint> visitOr(final List<Optional<Constraint>> disjoints) {
+            if (disjoints.isEmpty()) {
+                return Optional.empty();
+            }
+            Optional<Constraint> result = disjoints.get(0);
+            for (int i = 1; i < disjoints.size() && result.isPresent(); i++) {
+                final Optional<Constraint> disjoint = disjoints.get(i);
+                result = disjoint.isPresent() ? result.get().union(disjoint.get()) : Optional.empty();
+            }
+            return result;
+        }
+
+    }
+
+    /**
+     * A field whose values can be indexed: the thing ID, the namespace or an attribute.
+     */
+    @Immutable
+    private static final class IndexedField {
+
+        private static final IndexedField THING_ID = new IndexedField(ConstraintKind.THING_ID, null);
+        private static final IndexedField NAMESPACE = new IndexedField(ConstraintKind.NAMESPACE, null);
+
+        private final ConstraintKind kind;
+        @Nullable private final JsonPointer attribute;
+
+        private IndexedField(final ConstraintKind kind, @Nullable final JsonPointer attribute) {
+            this.kind = kind;
+            this.attribute = attribute;
+        }
+
+    }
+
+    @Immutable
+    private static final class FieldVisitor implements FilterFieldExpressionVisitor<Optional<IndexedField>> {
+
+        private static final FieldVisitor INSTANCE = new FieldVisitor();
+
+        @Override
+        public Optional<IndexedField> visitAttribute(final String key) {
+            return Optional.of(new IndexedField(ConstraintKind.ATTRIBUTE, JsonPointer.of(key)));
+        }
+
+        @Override
+        public Optional<IndexedField> visitFeatureIdProperty(final String featureId, final String property) {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<IndexedField> visitFeatureIdDesiredProperty(final CharSequence featureId,
+                final CharSequence desiredProperty) {
+
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<IndexedField> visitSimple(final String fieldName) {
+            if (THING_ID_FIELDS.contains(fieldName)) {
+                return Optional.of(IndexedField.THING_ID);
+            } else if (NAMESPACE_FIELDS.contains(fieldName)) {
+                return Optional.of(IndexedField.NAMESPACE);
+            }
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<IndexedField> visitMetadata(final String key) {
+            return Optional.empty();
+        }
+
+    }
+
+    /**
+     * Determines the condition of a single comparison.
+     * Only string literals are indexed; comparisons with placeholders or other types yield no condition.
+     */
+    @Immutable
+    private static final class ConstraintPredicateVisitor implements PredicateVisitor<Optional<Constraint>> {
+
+        private static final String QUOTE_START = "\\Q";
+        private static final String QUOTE_END = "\\E";
+
+        private final IndexedField field;
+
+        private ConstraintPredicateVisitor(final IndexedField field) {
+            this.field = field;
+        }
+
+        @Override
+        public Optional<Constraint> visitEq(@Nullable final Object value) {
+            return visitIn(null == value ? List.of() : List.of(value));
+        }
+
+        @Override
+        public Optional<Constraint> visitGe(@Nullable final Object value) {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<Constraint> visitGt(@Nullable final Object value) {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<Constraint> visitLe(@Nullable final Object value) {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<Constraint> visitLt(@Nullable final Object value) {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<Constraint> visitNe(@Nullable final Object value) {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<Constraint> visitLike(@Nullable final String value) {
+            if (ConstraintKind.THING_ID != field.kind || null == value) {
+                return Optional.empty();
+            }
+            // the regex of a "like" pattern starts with its literal prefix quoted
+            final int quoteStart = value.startsWith("^") ? 1 : 0;
+            final int quoteEnd = value.indexOf(QUOTE_END);
+            if (!value.startsWith(QUOTE_START, quoteStart) || quoteEnd <= quoteStart + QUOTE_START.length()) {
+                return Optional.empty();
+            }
+            final String prefix = value.substring(quoteStart + QUOTE_START.length(), quoteEnd);
+            return Optional.of(new Constraint(ConstraintKind.THING_ID_PREFIX, null, Set.of(prefix)));
+        }
+
+        @Override
+        public Optional<Constraint> visitIn(final List<?> values) {
+            final Set<String> stringValues = new LinkedHashSet<>();
+            for (final Object value : values) {
+                if (!isIndexable(value)) {
+                    return Optional.empty();
+                }
+                stringValues.add((String) value);
+            }
+            if (stringValues.isEmpty()) {
+                return Optional.empty();
+            }
+            return Optional.of(new Constraint(field.kind, field.attribute, stringValues));
+        }
+
+        private boolean isIndexable(@Nullable final Object value) {
+            if (!(value instanceof String)) {
+                return false;
+            }
+            // thing IDs and namespaces are strings, attributes compare numbers and numeric strings by value
+            return ConstraintKind.ATTRIBUTE != field.kind || !isNumeric((String) value);
+        }
+
+        private static boolean isNumeric(final String value) {
+            try {
+                new BigDecimal(value);
+                return true;
+            } catch (final NumberFormatException e) {
+                return false;
+            }
+        }
+
+    }
+
+}
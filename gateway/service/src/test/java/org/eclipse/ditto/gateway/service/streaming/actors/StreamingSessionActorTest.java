@@ -377,7 +377,8 @@ public final class StreamingSessionActorTest {
                 HeaderTranslator.empty(),
                 Props.create(Actor.class, () -> new TestActor(new LinkedBlockingDeque<>())),
                 mockValidator,
-                mockAuthenticationResultProvider);
+                mockAuthenticationResultProvider,
+                SubscriptionFilterIndex.newInstance());
     }
 
     private void onDeclareAckLabels(final CompletionStage<Void> answer) {
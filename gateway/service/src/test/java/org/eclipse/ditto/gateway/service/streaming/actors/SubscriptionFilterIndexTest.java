@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.gateway.service.streaming.actors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+import org.assertj.core.api.JUnitSoftAssertions;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.base.model.signals.Signal;
+import org.eclipse.ditto.connectivity.api.placeholders.EntityIdPlaceholder;
+import org.eclipse.ditto.internal.utils.akka.logging.ThreadSafeDittoLoggingAdapter;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.placeholders.TimePlaceholder;
+import org.eclipse.ditto.protocol.placeholders.ResourcePlaceholder;
+import org.eclipse.ditto.protocol.placeholders.TopicPathPlaceholder;
+import org.eclipse.ditto.rql.parser.RqlPredicateParser;
+import org.eclipse.ditto.rql.query.criteria.Criteria;
+import org.eclipse.ditto.rql.query.filter.QueryFilterCriteriaFactory;
+import org.eclipse.ditto.things.model.ThingFieldSelector;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.things.model.signals.events.AttributeModified;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import akka.actor.ActorRef;
+
+/**
+ * Unit test for {@link SubscriptionFilterIndex}.
+ */
+public final class SubscriptionFilterIndexTest {
+
+    private static final QueryFilterCriteriaFactory CRITERIA_FACTORY = QueryFilterCriteriaFactory.modelBased(
+            RqlPredicateParser.getInstance(),
+            TopicPathPlaceholder.getInstance(),
+            EntityIdPlaceholder.getInstance(),
+            ResourcePlaceholder.getInstance(),
+            TimePlaceholder.getInstance());
+
+    private static final ThingId THING_ID = ThingId.of("org.eclipse.ditto", "thing-1");
+    private static final ThingId OTHER_THING_ID = ThingId.of("org.eclipse.ditto", "other-thing");
+    private static final ThingId THING_ID_IN_OTHER_NAMESPACE = ThingId.of("com.example", "thing-1");
+
+    @Rule
+    public final JUnitSoftAssertions softly = new JUnitSoftAssertions();
+
+    private final SubscriptionFilterIndex underTest = SubscriptionFilterIndex.newInstance();
+
+    @Test
+    public void sessionsWithoutConditionAreNotIndexed() {
+        final StreamingSession withoutFilter = register(List.of(), null, null);
+        final StreamingSession withNegation =
+                register(List.of(), "not(eq(thingId,\"org.eclipse.ditto:thing-1\"))", null);
+        final StreamingSession withRange = register(List.of(), "gt(attributes/counter,5)", null);
+
+        assertThat(underTest.size()).isZero();
+        final Signal<?> signal = attributeModified(OTHER_THING_ID, "color", JsonValue.of("red"));
+        softly.assertThat(underTest.mayMatch(signal, withoutFilter)).isTrue();
+        softly.assertThat(underTest.mayMatch(signal, withNegation)).isTrue();
+        softly.assertThat(underTest.mayMatch(signal, withRange)).isTrue();
+    }
+
+    @Test
+    public void excludesOtherThingsForEqualityOfThingId() {
+        final StreamingSession session = register(List.of(), "eq(thingId,\"org.eclipse.ditto:thing-1\")", null);
+        final StreamingSession placeholderSession =
+                register(List.of(), "in(entity:id,\"org.eclipse.ditto:thing-1\",\"org.eclipse.ditto:thing-2\")", null);
+
+        softly.assertThat(underTest.mayMatch(attributeModified(THING_ID), session)).isTrue();
+        softly.assertThat(underTest.mayMatch(attributeModified(OTHER_THING_ID), session)).isFalse();
+        softly.assertThat(underTest.mayMatch(attributeModified(THING_ID), placeholderSession)).isTrue();
+        softly.assertThat(underTest.mayMatch(attributeModified(OTHER_THING_ID), placeholderSession)).isFalse();
+    }
+
+    @Test
+    public void excludesThingsWithoutPrefixForLikeOfThingId() {
+        final StreamingSession session = register(List.of(), "like(thingId,\"org.eclipse.ditto:thing-*\")", null);
+        final StreamingSession leadingWildcardSession = register(List.of(), "like(thingId,\"*:thing-1\")", null);
+
+        softly.assertThat(underTest.mayMatch(attributeModified(THING_ID), session)).isTrue();
+        softly.assertThat(underTest.mayMatch(attributeModified(OTHER_THING_ID), session)).isFalse();
+        softly.assertThat(underTest.mayMatch(attributeModified(OTHER_THING_ID), leadingWildcardSession)).isTrue();
+    }
+
+    @Test
+    public void excludesOtherNamespaces() {
+        final StreamingSession session = register(List.of("org.eclipse.ditto"), null, null);
+        final StreamingSession filterSession = register(List.of(), "eq(topic:namespace,\"org.eclipse.ditto\")", null);
+
+        softly.assertThat(underTest.mayMatch(attributeModified(OTHER_THING_ID), session)).isTrue();
+        softly.assertThat(underTest.mayMatch(attributeModified(THING_ID_IN_OTHER_NAMESPACE), session)).isFalse();
+        softly.assertThat(underTest.mayMatch(attributeModified(OTHER_THING_ID), filterSession)).isTrue();
+        softly.assertThat(underTest.mayMatch(attributeModified(THING_ID_IN_OTHER_NAMESPACE), filterSession))
+                .isFalse();
+    }
+
+    @Test
+    public void usesMostSelectiveConditionOfConjunction() {
+        final StreamingSession session = register(List.of("org.eclipse.ditto"),
+                "and(eq(attributes/color,\"red\"),eq(thingId,\"org.eclipse.ditto:thing-1\"))", null);
+
+        softly.assertThat(underTest.mayMatch(attributeModified(THING_ID), session)).isTrue();
+        softly.assertThat(underTest.mayMatch(attributeModified(OTHER_THING_ID), session)).isFalse();
+    }
+
+    @Test
+    public void unitesConditionsOfDisjunction() {
+        final StreamingSession session = register(List.of(),
+                "or(eq(thingId,\"org.eclipse.ditto:thing-1\"),eq(thingId,\"com.example:thing-1\"))", null);
+        final StreamingSession mixedSession = register(List.of(),
+                "or(eq(thingId,\"org.eclipse.ditto:thing-1\"),eq(attributes/color,\"red\"))", null);
+
+        softly.assertThat(underTest.mayMatch(attributeModified(THING_ID_IN_OTHER_NAMESPACE), session)).isTrue();
+        softly.assertThat(underTest.mayMatch(attributeModified(OTHER_THING_ID), session)).isFalse();
+        softly.assertThat(underTest.mayMatch(attributeModified(OTHER_THING_ID), mixedSession)).isTrue();
+    }
+
+    @Test
+    public void excludesEventsWithOtherAttributeValues() {
+        final StreamingSession session = register(List.of(), "eq(attributes/color,\"red\")", null);
+        final StreamingSession booleanSession = register(List.of(), "in(attributes/active,\"true\",\"yes\")", null);
+        final StreamingSession numericSession = register(List.of(), "eq(attributes/counter,\"42\")", null);
+
+        softly.assertThat(underTest.mayMatch(attributeModified(THING_ID, "color", JsonValue.of("red")), session))
+                .isTrue();
+        softly.assertThat(underTest.mayMatch(attributeModified(THING_ID, "color", JsonValue.of("blue")), session))
+                .isFalse();
+        softly.assertThat(underTest.mayMatch(attributeModified(THING_ID, "active", JsonValue.of(true)),
+                booleanSession)).isTrue();
+        softly.assertThat(underTest.mayMatch(attributeModified(THING_ID, "counter", JsonValue.of(42)),
+                numericSession)).isTrue();
+    }
+
+    @Test
+    public void doesNotIndexAttributesOfSessionsWithExtraFields() {
+        final StreamingSession session = register(List.of(), "eq(attributes/color,\"red\")",
+                ThingFieldSelector.fromString("attributes/color"));
+
+        assertThat(underTest.size()).isZero();
+        assertThat(underTest.mayMatch(attributeModified(THING_ID, "size", JsonValue.of(3)), session)).isTrue();
+    }
+
+    @Test
+    public void doesNotExcludeSessionsRegisteredAfterCandidatesWereDetermined() {
+        final Signal<?> signal = attributeModified(OTHER_THING_ID);
+        final StreamingSession session = register(List.of(), "eq(thingId,\"org.eclipse.ditto:thing-1\")", null);
+        assertThat(underTest.mayMatch(signal, session)).isFalse();
+
+        final StreamingSession laterSession = register(List.of(), "eq(thingId,\"org.eclipse.ditto:thing-2\")", null);
+
+        assertThat(underTest.mayMatch(signal, laterSession)).isTrue();
+        assertThat(underTest.mayMatch(attributeModified(OTHER_THING_ID), laterSession)).isFalse();
+    }
+
+    @Test
+    public void doesNotExcludeUnregisteredSessions() {
+        final StreamingSession session = register(List.of(), "eq(thingId,\"org.eclipse.ditto:thing-1\")", null);
+
+        underTest.unregister(session);
+
+        assertThat(underTest.size()).isZero();
+        assertThat(underTest.mayMatch(attributeModified(OTHER_THING_ID), session)).isTrue();
+    }
+
+    private StreamingSession register(final List<String> namespaces, @Nullable final String filter,
+            @Nullable final ThingFieldSelector extraFields) {
+
+        final Criteria criteria = null != filter ? CRITERIA_FACTORY.filterCriteria(filter, DittoHeaders.empty()) : null;
+        final StreamingSession session = StreamingSession.of(namespaces, criteria, extraFields,
+                Mockito.mock(ActorRef.class), Mockito.mock(ThreadSafeDittoLoggingAdapter.class));
+        underTest.register(session, criteria);
+        return session;
+    }
+
+    private static Signal<?> attributeModified(final ThingId thingId) {
+        return attributeModified(thingId, "color", JsonValue.of("red"));
+    }
+
+    private static Signal<?> attributeModified(final ThingId thingId, final String attribute, final JsonValue value) {
+        return AttributeModified.of(thingId, JsonPointer.of(attribute), value, 1L, null, DittoHeaders.empty(), null);
+    }
+
+}
@@ -58,7 +58,7 @@ public interface CachingSignalEnrichmentFacade extends SignalEnrichmentFacade {
                     .orElse(Collections.emptyList());
             final JsonFieldSelector expandedSelector =
                     ThingsModelFactory.expandFeatureIdWildcards(featureIds, fieldSelector);
-            result = jsonObject.get(expandedSelector);
+            result = JsonFieldSelectorProjectorCache.getInstance().get(expandedSelector).project(jsonObject);
         }
 
         return result;
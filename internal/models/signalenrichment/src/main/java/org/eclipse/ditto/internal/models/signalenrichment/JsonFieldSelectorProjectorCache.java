@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.models.signalenrichment;
+
+import java.util.Iterator;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.base.model.common.GenerationalCache;
+import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.json.JsonFieldSelectorProjector;
+import org.eclipse.ditto.json.JsonPointer;
+
+/**
+ * Bounded cache of compiled {@link JsonFieldSelectorProjector}s by the string representation of their field selector.
+ * The extra fields of streaming sessions and connection targets are applied to each enriched signal, but the field
+ * selector is expanded for each thing and thus a new instance every time.
+ */
+@ThreadSafe
+final class JsonFieldSelectorProjectorCache {
+
+    /**
+     * The maximum size of the cache.
+     */
+    static final int MAX_SIZE = 256;
+
+    private static final JsonFieldSelectorProjectorCache INSTANCE = new JsonFieldSelectorProjectorCache(MAX_SIZE);
+
+    private final GenerationalCache<String, JsonFieldSelectorProjector> projectors;
+
+    private JsonFieldSelectorProjectorCache(final int maxSize) {
+        projectors = GenerationalCache.newInstance(maxSize);
+    }
+
+    /**
+     * Returns the cache which is shared by all signal enrichment facades of this JVM.
+     *
+     * @return the cache.
+     */
+    static JsonFieldSelectorProjectorCache getInstance() {
+        return INSTANCE;
+    }
+
+    static JsonFieldSelectorProjectorCache newInstance(final int maxSize) {
+        return new JsonFieldSelectorProjectorCache(maxSize);
+    }
+
+    /**
+     * Returns the cached projector of a field selector with the same string representation and the same pointers
+     * as the passed one or compiles and caches the projector of the passed field selector.
+     *
+     * @param fieldSelector the field selector to get the projector for.
+     * @return the projector.
+     */
+    JsonFieldSelectorProjector get(final JsonFieldSelector fieldSelector) {
+        final JsonFieldSelectorProjector result =
+                projectors.get(fieldSelector.toString(), key -> JsonFieldSelectorProjector.of(fieldSelector));
+
+        // pointers with keys containing slashes or commas could share the string representation of other pointers
+        return haveSamePointers(result.getFieldSelector(), fieldSelector)
+                ? result
+                : JsonFieldSelectorProjector.of(fieldSelector);
+    }
+
+    private static boolean haveSamePointers(final JsonFieldSelector cached, final JsonFieldSelector requested) {
+        if (cached == requested) {
+            return true;
+        }
+        if (cached.getSize() != requested.getSize()) {
+            return false;
+        }
+        final Iterator<JsonPointer> requestedPointers = requested.iterator();
+        for (final JsonPointer cachedPointer : cached) {
+            if (!cachedPointer.equals(requestedPointers.next())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the number of cached projectors.
+     *
+     * @return the size.
+     */
+    int size() {
+        return projectors.size();
+    }
+
+}
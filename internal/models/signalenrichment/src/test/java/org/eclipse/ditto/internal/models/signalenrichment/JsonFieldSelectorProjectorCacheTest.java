@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.models.signalenrichment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.json.JsonFieldSelectorProjector;
+import org.eclipse.ditto.json.JsonKey;
+import org.eclipse.ditto.json.JsonPointer;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link JsonFieldSelectorProjectorCache}.
+ */
+public final class JsonFieldSelectorProjectorCacheTest {
+
+    @Test
+    public void returnsCachedProjectorForFieldSelectorWithSameString() {
+        final JsonFieldSelectorProjectorCache underTest = JsonFieldSelectorProjectorCache.newInstance(4);
+        final JsonFieldSelector fieldSelector = JsonFieldSelector.newInstance("attributes/location", "_revision");
+
+        final JsonFieldSelectorProjector projector = underTest.get(fieldSelector);
+
+        assertThat(underTest.get(JsonFieldSelector.newInstance("attributes/location", "_revision")))
+                .isSameAs(projector);
+        assertThat(underTest.get(JsonFieldSelector.newInstance("_revision", "attributes/location")))
+                .isNotSameAs(projector);
+    }
+
+    @Test
+    public void doesNotReturnProjectorOfOtherPointersWithSameString() {
+        final JsonFieldSelectorProjectorCache underTest = JsonFieldSelectorProjectorCache.newInstance(4);
+        final JsonFieldSelector nestedPointer = JsonFieldSelector.newInstance("a/b");
+        final JsonFieldSelector slashInKey =
+                JsonFactory.newFieldSelector(List.of(JsonPointer.of(JsonKey.of("a/b"))));
+        underTest.get(nestedPointer);
+
+        assertThat(underTest.get(slashInKey).getFieldSelector().getPointers())
+                .isEqualTo(slashInKey.getPointers());
+    }
+
+    @Test
+    public void sizeIsBounded() {
+        final JsonFieldSelectorProjectorCache underTest = JsonFieldSelectorProjectorCache.newInstance(4);
+
+        for (int i = 0; i < 10; i++) {
+            underTest.get(JsonFieldSelector.newInstance("attributes/a" + i));
+        }
+
+        assertThat(underTest.size()).isLessThanOrEqualTo(4);
+    }
+
+}
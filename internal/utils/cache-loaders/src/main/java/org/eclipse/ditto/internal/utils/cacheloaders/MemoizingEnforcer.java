@@ -0,0 +1,280 @@
+/*
+ * Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.cacheloaders;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.base.model.auth.AuthorizationContext;
+import org.eclipse.ditto.base.model.auth.AuthorizationSubject;
+import org.eclipse.ditto.internal.utils.cache.MetricsStatsCounter;
+import org.eclipse.ditto.internal.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.internal.utils.metrics.instruments.counter.Counter;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.policies.model.Permissions;
+import org.eclipse.ditto.policies.model.ResourceKey;
+import org.eclipse.ditto.policies.model.enforcers.EffectedSubjects;
+import org.eclipse.ditto.policies.model.enforcers.Enforcer;
+
+/**
+ * Enforcer which memoizes the authorization decisions of another enforcer. The decisions of
+ * {@link #hasUnrestrictedPermissions(ResourceKey, AuthorizationContext, Permissions)} and
+ * {@link #hasPartialPermissions(ResourceKey, AuthorizationContext, Permissions)} are cached by resource key,
+ * permissions and the set of authorization subjects. The effected subjects of
+ * {@link #getSubjectsWithPermission(ResourceKey, Permissions)},
+ * {@link #getSubjectsWithPartialPermission(ResourceKey, Permissions)} and
+ * {@link #getSubjectsWithUnrestrictedPermission(ResourceKey, Permissions)}, which are computed for the read subjects
+ * of each signal, are cached by resource key and permissions. The caches are bounded: each is cleared once it reached
+ * its maximum size, so that it adapts to the currently asked questions.
+ * <p>
+ * An instance belongs to exactly one cached policy enforcer, thus the memoized results are discarded together with
+ * the enforcer as soon as the policy revision changes.
+ * </p>
+ */
+@ThreadSafe
+final class MemoizingEnforcer implements Enforcer {
+
+    private static final String CACHE_NAME_TAG = "cache_name";
+    private static final String CACHE_NAME = "policy_enforcer_decisions";
+    private static final String SUBJECTS_CACHE_NAME = "policy_enforcer_subjects";
+
+    private final Enforcer delegate;
+    private final int maxDecisions;
+    private final Factory factory;
+    private final Map<Decision, Boolean> decisions;
+    private final Map<SubjectsQuery, EffectedSubjects> effectedSubjects;
+    private final Map<SubjectsQuery, Set<AuthorizationSubject>> subjects;
+
+    private MemoizingEnforcer(final Enforcer delegate, final int maxDecisions, final Factory factory) {
+        this.delegate = delegate;
+        this.maxDecisions = maxDecisions;
+        this.factory = factory;
+        decisions = new ConcurrentHashMap<>();
+        effectedSubjects = new ConcurrentHashMap<>();
+        subjects = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Returns a factory of memoizing enforcers which share the hit and miss counters of their caches.
+     *
+     * @param maxDecisions the maximum number of decisions and of effected subjects to memoize per enforcer.
+     * @return the factory.
+     */
+    static Factory newFactory(final int maxDecisions) {
+        return new Factory(maxDecisions,
+                newCounter(MetricsStatsCounter.MetricName.HITS, CACHE_NAME),
+                newCounter(MetricsStatsCounter.MetricName.MISSES, CACHE_NAME),
+                newCounter(MetricsStatsCounter.MetricName.HITS, SUBJECTS_CACHE_NAME),
+                newCounter(MetricsStatsCounter.MetricName.MISSES, SUBJECTS_CACHE_NAME));
+    }
+
+    private static Counter newCounter(final MetricsStatsCounter.MetricName metricName, final String cacheName) {
+        return DittoMetrics.counter(metricName.getValue()).tag(CACHE_NAME_TAG, cacheName);
+    }
+
+    @Override
+    public boolean hasUnrestrictedPermissions(final ResourceKey resourceKey,
+            final AuthorizationContext authorizationContext, final Permissions permissions) {
+
+        return memoize(decisions, new Decision(true, resourceKey, permissions, authorizationContext),
+                () -> delegate.hasUnrestrictedPermissions(resourceKey, authorizationContext, permissions),
+                factory.hitCount, factory.missCount);
+    }
+
+    @Override
+    public boolean hasPartialPermissions(final ResourceKey resourceKey, final AuthorizationContext authorizationContext,
+            final Permissions permissions) {
+
+        return memoize(decisions, new Decision(false, resourceKey, permissions, authorizationContext),
+                () -> delegate.hasPartialPermissions(resourceKey, authorizationContext, permissions),
+                factory.hitCount, factory.missCount);
+    }
+
+    @Override
+    public EffectedSubjects getSubjectsWithPermission(final ResourceKey resourceKey, final Permissions permissions) {
+        return memoize(effectedSubjects, new SubjectsQuery(true, resourceKey, permissions),
+                () -> delegate.getSubjectsWithPermission(resourceKey, permissions),
+                factory.subjectsHitCount, factory.subjectsMissCount);
+    }
+
+    @Override
+    public Set<AuthorizationSubject> getSubjectsWithPartialPermission(final ResourceKey resourceKey,
+            final Permissions permissions) {
+
+        return memoize(subjects, new SubjectsQuery(false, resourceKey, permissions),
+                () -> Set.copyOf(delegate.getSubjectsWithPartialPermission(resourceKey, permissions)),
+                factory.subjectsHitCount, factory.subjectsMissCount);
+    }
+
+    @Override
+    public Set<AuthorizationSubject> getSubjectsWithUnrestrictedPermission(final ResourceKey resourceKey,
+            final Permissions permissions) {
+
+        return memoize(subjects, new SubjectsQuery(true, resourceKey, permissions),
+                () -> Set.copyOf(delegate.getSubjectsWithUnrestrictedPermission(resourceKey, permissions)),
+                factory.subjectsHitCount, factory.subjectsMissCount);
+    }
+
+    private <K, V> V memoize(final Map<K, V> memoizedResults, final K key, final Supplier<V> compute,
+            final Counter hits, final Counter misses) {
+
+        @Nullable final V memoizedResult = memoizedResults.get(key);
+        if (null != memoizedResult) {
+            hits.increment();
+            return memoizedResult;
+        }
+        misses.increment();
+        final V result = compute.get();
+        if (memoizedResults.size() >= maxDecisions) {
+            memoizedResults.clear();
+        }
+        memoizedResults.put(key, result);
+        return result;
+    }
+
+    @Override
+    public JsonObject buildJsonView(final ResourceKey resourceKey, final Iterable<JsonField> jsonFields,
+            final AuthorizationContext authorizationContext, final Permissions permissions) {
+
+        return delegate.buildJsonView(resourceKey, jsonFields, authorizationContext, permissions);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "delegate=" + delegate +
+                ", maxDecisions=" + maxDecisions +
+                "]";
+    }
+
+    /**
+     * Creates memoizing enforcers.
+     */
+    static final class Factory {
+
+        private final int maxDecisions;
+        private final Counter hitCount;
+        private final Counter missCount;
+        private final Counter subjectsHitCount;
+        private final Counter subjectsMissCount;
+
+        private Factory(final int maxDecisions, final Counter hitCount, final Counter missCount,
+                final Counter subjectsHitCount, final Counter subjectsMissCount) {
+
+            this.maxDecisions = maxDecisions;
+            this.hitCount = hitCount;
+            this.missCount = missCount;
+            this.subjectsHitCount = subjectsHitCount;
+            this.subjectsMissCount = subjectsMissCount;
+        }
+
+        /**
+         * Memoizes the decisions of the given enforcer if memoization is enabled.
+         *
+         * @param enforcer the enforcer to memoize the decisions of.
+         * @return the memoizing enforcer or {@code enforcer} if the maximum number of decisions is not positive.
+         */
+        Enforcer memoize(final Enforcer enforcer) {
+            if (maxDecisions <= 0) {
+                return enforcer;
+            }
+            return new MemoizingEnforcer(enforcer, maxDecisions, this);
+        }
+
+    }
+
+    private static final class Decision {
+
+        private final boolean unrestricted;
+        private final ResourceKey resourceKey;
+        private final Set<String> permissions;
+        private final Set<AuthorizationSubject> authorizationSubjects;
+        private final int hashCode;
+
+        private Decision(final boolean unrestricted, final ResourceKey resourceKey, final Permissions permissions,
+                final AuthorizationContext authorizationContext) {
+
+            this.unrestricted = unrestricted;
+            this.resourceKey = resourceKey;
+            this.permissions = Set.copyOf(permissions);
+            authorizationSubjects = Set.copyOf(authorizationContext.getAuthorizationSubjects());
+            hashCode = Objects.hash(unrestricted, resourceKey, this.permissions, authorizationSubjects);
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final Decision that = (Decision) o;
+            return unrestricted == that.unrestricted &&
+                    resourceKey.equals(that.resourceKey) &&
+                    permissions.equals(that.permissions) &&
+                    authorizationSubjects.equals(that.authorizationSubjects);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+    }
+
+    private static final class SubjectsQuery {
+
+        private final boolean unrestricted;
+        private final ResourceKey resourceKey;
+        private final Set<String> permissions;
+        private final int hashCode;
+
+        private SubjectsQuery(final boolean unrestricted, final ResourceKey resourceKey,
+                final Permissions permissions) {
+
+            this.unrestricted = unrestricted;
+            this.resourceKey = resourceKey;
+            this.permissions = Set.copyOf(permissions);
+            hashCode = Objects.hash(unrestricted, resourceKey, this.permissions);
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final SubjectsQuery that = (SubjectsQuery) o;
+            return unrestricted == that.unrestricted &&
+                    resourceKey.equals(that.resourceKey) &&
+                    permissions.equals(that.permissions);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+    }
+
+}
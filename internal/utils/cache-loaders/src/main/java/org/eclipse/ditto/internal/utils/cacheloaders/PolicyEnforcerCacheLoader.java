@@ -21,10 +21,10 @@ import javax.annotation.concurrent.Immutable;
 import org.eclipse.ditto.base.model.signals.commands.Command;
 import org.eclipse.ditto.internal.utils.cache.entry.Entry;
 import org.eclipse.ditto.internal.utils.cacheloaders.config.AskWithRetryConfig;
+import org.eclipse.ditto.internal.utils.cacheloaders.config.PolicyEnforcerAlgorithm;
 import org.eclipse.ditto.policies.api.commands.sudo.SudoRetrievePolicyResponse;
 import org.eclipse.ditto.policies.model.PolicyConstants;
 import org.eclipse.ditto.policies.model.PolicyRevision;
-import org.eclipse.ditto.policies.model.enforcers.PolicyEnforcers;
 import org.eclipse.ditto.policies.model.signals.commands.exceptions.PolicyNotAccessibleException;
 
 import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
@@ -51,12 +51,51 @@ public final class PolicyEnforcerCacheLoader implements AsyncCacheLoader<Enforce
             final Scheduler scheduler,
             final ActorRef policiesShardRegionProxy) {
 
+        this(askWithRetryConfig, scheduler, policiesShardRegionProxy, PolicyEnforcerAlgorithm.TRIE, 0);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param askWithRetryConfig the configuration for the "ask with retry" pattern applied for the cache loader.
+     * @param scheduler the scheduler to use for the "ask with retry" for retries.
+     * @param policiesShardRegionProxy the shard-region-proxy.
+     * @param policyEnforcerAlgorithm the algorithm to build the enforcers of loaded policies with.
+     * @param maxMemoizedDecisions the maximum number of authorization decisions to memoize per loaded enforcer,
+     * {@code 0} disables memoization.
+     * @since 2.5.0
+     */
+    public PolicyEnforcerCacheLoader(final AskWithRetryConfig askWithRetryConfig,
+            final Scheduler scheduler,
+            final ActorRef policiesShardRegionProxy,
+            final PolicyEnforcerAlgorithm policyEnforcerAlgorithm,
+            final int maxMemoizedDecisions) {
+
+        this(askWithRetryConfig, scheduler, policiesShardRegionProxy,
+                PolicyEnforcerUpdater.of(policyEnforcerAlgorithm, maxMemoizedDecisions));
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param askWithRetryConfig the configuration for the "ask with retry" pattern applied for the cache loader.
+     * @param scheduler the scheduler to use for the "ask with retry" for retries.
+     * @param policiesShardRegionProxy the shard-region-proxy.
+     * @param policyEnforcerUpdater creates the enforcers of loaded policies.
+     * @since 2.5.0
+     */
+    public PolicyEnforcerCacheLoader(final AskWithRetryConfig askWithRetryConfig,
+            final Scheduler scheduler,
+            final ActorRef policiesShardRegionProxy,
+            final PolicyEnforcerUpdater policyEnforcerUpdater) {
+
         delegate = ActorAskCacheLoader.forShard(askWithRetryConfig,
                 scheduler,
                 PolicyConstants.ENTITY_TYPE,
                 policiesShardRegionProxy,
                 (entityId, enforcementContext) -> PolicyCommandFactory.sudoRetrievePolicy(entityId),
-                PolicyEnforcerCacheLoader::handleSudoRetrievePolicyResponse);
+                (response, enforcementContext) -> handleSudoRetrievePolicyResponse(response, enforcementContext,
+                        policyEnforcerUpdater));
     }
 
     @Override
@@ -66,13 +105,14 @@ public final class PolicyEnforcerCacheLoader implements AsyncCacheLoader<Enforce
     }
 
     private static Entry<PolicyEnforcer> handleSudoRetrievePolicyResponse(final Object response,
-            @Nullable final EnforcementContext cacheLookupContext) {
+            @Nullable final EnforcementContext cacheLookupContext,
+            final PolicyEnforcerUpdater policyEnforcerUpdater) {
         if (response instanceof SudoRetrievePolicyResponse) {
             final var sudoRetrievePolicyResponse = (SudoRetrievePolicyResponse) response;
             final var policy = sudoRetrievePolicyResponse.getPolicy();
             final long revision = policy.getRevision().map(PolicyRevision::toLong)
                     .orElseThrow(() -> new IllegalStateException("Bad SudoRetrievePolicyResponse: no revision"));
-            return Entry.of(revision, PolicyEnforcer.of(policy, PolicyEnforcers.defaultEvaluator(policy)));
+            return Entry.of(revision, policyEnforcerUpdater.createPolicyEnforcer(policy));
         } else if (response instanceof PolicyNotAccessibleException) {
             return Entry.nonexistent();
         } else {
@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.cacheloaders;
+
+import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.internal.utils.cache.entry.Entry;
+import org.eclipse.ditto.internal.utils.cacheloaders.config.PolicyEnforcerAlgorithm;
+import org.eclipse.ditto.policies.model.PoliciesModelFactory;
+import org.eclipse.ditto.policies.model.Policy;
+import org.eclipse.ditto.policies.model.PolicyBuilder;
+import org.eclipse.ditto.policies.model.signals.events.PolicyCreated;
+import org.eclipse.ditto.policies.model.signals.events.PolicyEntriesModified;
+import org.eclipse.ditto.policies.model.signals.events.PolicyEntryCreated;
+import org.eclipse.ditto.policies.model.signals.events.PolicyEntryDeleted;
+import org.eclipse.ditto.policies.model.signals.events.PolicyEntryModified;
+import org.eclipse.ditto.policies.model.signals.events.PolicyEvent;
+import org.eclipse.ditto.policies.model.signals.events.PolicyModified;
+import org.eclipse.ditto.policies.model.signals.events.ResourceCreated;
+import org.eclipse.ditto.policies.model.signals.events.ResourceDeleted;
+import org.eclipse.ditto.policies.model.signals.events.ResourceModified;
+import org.eclipse.ditto.policies.model.signals.events.ResourcesModified;
+import org.eclipse.ditto.policies.model.signals.events.SubjectCreated;
+import org.eclipse.ditto.policies.model.signals.events.SubjectDeleted;
+import org.eclipse.ditto.policies.model.signals.events.SubjectModified;
+import org.eclipse.ditto.policies.model.signals.events.SubjectsDeletedPartially;
+import org.eclipse.ditto.policies.model.signals.events.SubjectsModified;
+import org.eclipse.ditto.policies.model.signals.events.SubjectsModifiedPartially;
+
+/**
+ * Creates the policy enforcers of loaded policies and updates cached policy enforcers by applying policy events to
+ * them, so that a policy does not have to be loaded again after each modification.
+ * <p>
+ * Events which modify parts of a policy are only applied to a cached policy enforcer whose revision directly precedes
+ * the revision of the event. Events which contain the whole policy are applied to any cached policy enforcer with a
+ * lower revision. The entries of the cached policy are modified the same way as the policies service applies the
+ * events to its persisted policy; metadata are not maintained as they are irrelevant for enforcement.
+ * </p>
+ *
+ * @since 2.5.0
+ */
+@Immutable
+public final class PolicyEnforcerUpdater {
+
+    private static final Map<Class<?>, EventApplication> EVENT_APPLICATIONS = initEventApplications();
+
+    private final PolicyEnforcerAlgorithm policyEnforcerAlgorithm;
+    private final MemoizingEnforcer.Factory memoizingEnforcerFactory;
+
+    private PolicyEnforcerUpdater(final PolicyEnforcerAlgorithm policyEnforcerAlgorithm,
+            final MemoizingEnforcer.Factory memoizingEnforcerFactory) {
+
+        this.policyEnforcerAlgorithm = policyEnforcerAlgorithm;
+        this.memoizingEnforcerFactory = memoizingEnforcerFactory;
+    }
+
+    /**
+     * Returns an instance of {@code PolicyEnforcerUpdater}.
+     *
+     * @param policyEnforcerAlgorithm the algorithm to build the enforcers of policies with.
+     * @param maxMemoizedDecisions the maximum number of authorization decisions to memoize per enforcer, {@code 0}
+     * disables memoization.
+     * @return the instance.
+     * @throws NullPointerException if {@code policyEnforcerAlgorithm} is {@code null}.
+     */
+    public static PolicyEnforcerUpdater of(final PolicyEnforcerAlgorithm policyEnforcerAlgorithm,
+            final int maxMemoizedDecisions) {
+
+        return new PolicyEnforcerUpdater(checkNotNull(policyEnforcerAlgorithm, "policyEnforcerAlgorithm"),
+                MemoizingEnforcer.newFactory(maxMemoizedDecisions));
+    }
+
+    /**
+     * Creates the policy enforcer of the given policy.
+     *
+     * @param policy the policy.
+     * @return the policy enforcer.
+     */
+    PolicyEnforcer createPolicyEnforcer(final Policy policy) {
+        return PolicyEnforcer.of(policy,
+                memoizingEnforcerFactory.memoize(policyEnforcerAlgorithm.createEnforcer(policy)));
+    }
+
+    /**
+     * Applies a policy event to a cached policy enforcer entry.
+     *
+     * @param cachedEntry the cached policy enforcer entry.
+     * @param policyEvent the event of the policy of the cached entry.
+     * @return the cached entry if it is already up-to-date with the event, the updated entry if the event could be
+     * applied, or an empty Optional if the policy enforcer has to be loaded again.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public Optional<Entry<PolicyEnforcer>> applyEvent(final Entry<PolicyEnforcer> cachedEntry,
+            final PolicyEvent<?> policyEvent) {
+
+        checkNotNull(cachedEntry, "cachedEntry");
+        checkNotNull(policyEvent, "policyEvent");
+
+        final long revision = policyEvent.getRevision();
+        if (cachedEntry.exists() && cachedEntry.getRevision() >= revision) {
+            return Optional.of(cachedEntry);
+        }
+
+        @Nullable final Policy updatedPolicy;
+        if (policyEvent instanceof PolicyCreated) {
+            updatedPolicy = ((PolicyCreated) policyEvent).getPolicy();
+        } else if (policyEvent instanceof PolicyModified) {
+            updatedPolicy = ((PolicyModified) policyEvent).getPolicy();
+        } else if (cachedEntry.exists() && cachedEntry.getRevision() + 1 == revision) {
+            updatedPolicy = cachedEntry.getValueOrThrow()
+                    .getPolicy()
+                    .map(policy -> applyPartialEvent(policyEvent, policy))
+                    .orElse(null);
+        } else {
+            updatedPolicy = null;
+        }
+
+        return Optional.ofNullable(updatedPolicy)
+                .map(policy -> policy.toBuilder()
+                        .setRevision(revision)
+                        .setModified(policyEvent.getTimestamp().orElse(null))
+                        .build())
+                .map(policy -> Entry.of(revision, createPolicyEnforcer(policy)));
+    }
+
+    @Nullable
+    private static Policy applyPartialEvent(final PolicyEvent<?> policyEvent, final Policy policy) {
+        @Nullable final EventApplication eventApplication = EVENT_APPLICATIONS.get(policyEvent.getClass());
+        if (null == eventApplication) {
+            return null;
+        }
+        return eventApplication.apply(policyEvent, policy).build();
+    }
+
+    private static Map<Class<?>, EventApplication> initEventApplications() {
+        final Map<Class<?>, EventApplication> result = new HashMap<>();
+        addEventApplication(result, SubjectCreated.class, (event, policy, policyBuilder) ->
+                policyBuilder.setSubjectFor(event.getLabel(), event.getSubject()));
+        addEventApplication(result, SubjectModified.class, (event, policy, policyBuilder) ->
+                policyBuilder.setSubjectFor(event.getLabel(), event.getSubject()));
+        addEventApplication(result, SubjectDeleted.class, (event, policy, policyBuilder) ->
+                policyBuilder.removeSubjectFor(event.getLabel(), event.getSubjectId()));
+        addEventApplication(result, SubjectsModified.class, (event, policy, policyBuilder) ->
+                policy.getEntryFor(event.getLabel())
+                        .map(policyEntry -> PoliciesModelFactory.newPolicyEntry(event.getLabel(),
+                                event.getSubjects(), policyEntry.getResources()))
+                        .map(policyBuilder::set)
+                        .orElseGet(() -> policyBuilder.setSubjectsFor(event.getLabel(), event.getSubjects())));
+        addEventApplication(result, SubjectsDeletedPartially.class, (event, policy, policyBuilder) -> {
+            event.getDeletedSubjectIds().forEach((label, subjectIds) ->
+                    subjectIds.forEach(subjectId -> policyBuilder.removeSubjectFor(label, subjectId)));
+            return policyBuilder;
+        });
+        addEventApplication(result, SubjectsModifiedPartially.class, (event, policy, policyBuilder) -> {
+            final Instant now = Instant.now();
+            event.getModifiedSubjects().forEach((label, subjects) ->
+                    subjects.forEach(subject -> {
+                        final boolean isSubjectExpiryAfterNow = subject.getExpiry()
+                                .map(expiry -> expiry.getTimestamp().isAfter(now))
+                                .orElse(false);
+                        if (isSubjectExpiryAfterNow) {
+                            policyBuilder.setSubjectFor(label, subject);
+                        }
+                    }));
+            return policyBuilder;
+        });
+        addEventApplication(result, ResourceCreated.class, (event, policy, policyBuilder) ->
+                policyBuilder.setResourceFor(event.getLabel(), event.getResource()));
+        addEventApplication(result, ResourceModified.class, (event, policy, policyBuilder) ->
+                policyBuilder.setResourceFor(event.getLabel(), event.getResource()));
+        addEventApplication(result, ResourceDeleted.class, (event, policy, policyBuilder) ->
+                policyBuilder.removeResourceFor(event.getLabel(), event.getResourceKey()));
+        addEventApplication(result, ResourcesModified.class, (event, policy, policyBuilder) ->
+                policy.getEntryFor(event.getLabel())
+                        .map(policyEntry -> PoliciesModelFactory.newPolicyEntry(event.getLabel(),
+                                policyEntry.getSubjects(), event.getResources()))
+                        .map(policyBuilder::set)
+                        .orElseGet(() -> policyBuilder.setResourcesFor(event.getLabel(), event.getResources())));
+        addEventApplication(result, PolicyEntryCreated.class, (event, policy, policyBuilder) ->
+                policyBuilder.set(event.getPolicyEntry()));
+        addEventApplication(result, PolicyEntryModified.class, (event, policy, policyBuilder) ->
+                policyBuilder.set(event.getPolicyEntry()));
+        addEventApplication(result, PolicyEntryDeleted.class, (event, policy, policyBuilder) ->
+                policyBuilder.remove(event.getLabel()));
+        addEventApplication(result, PolicyEntriesModified.class, (event, policy, policyBuilder) ->
+                policyBuilder.removeAll(policy.getEntriesSet()).setAll(event.getPolicyEntries()));
+        return result;
+    }
+
+    private static <T extends PolicyEvent<T>> void addEventApplication(
+            final Map<Class<?>, EventApplication> eventApplications,
+            final Class<T> eventClass,
+            final TypedEventApplication<T> typedEventApplication) {
+
+        eventApplications.put(eventClass, (event, policy) ->
+                typedEventApplication.apply(eventClass.cast(event), policy, policy.toBuilder()));
+    }
+
+    @FunctionalInterface
+    private interface EventApplication {
+
+        PolicyBuilder apply(PolicyEvent<?> event, Policy policy);
+
+    }
+
+    @FunctionalInterface
+    private interface TypedEventApplication<T extends PolicyEvent<T>> {
+
+        PolicyBuilder apply(T event, Policy policy, PolicyBuilder policyBuilder);
+
+    }
+
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.cacheloaders.config;
+
+import org.eclipse.ditto.policies.model.Policy;
+import org.eclipse.ditto.policies.model.enforcers.Enforcer;
+import org.eclipse.ditto.policies.model.enforcers.PolicyEnforcers;
+
+/**
+ * The available algorithms to build the enforcer of a loaded policy.
+ *
+ * @since 2.5.0
+ */
+public enum PolicyEnforcerAlgorithm {
+
+    /**
+     * The trie based enforcer, see {@link PolicyEnforcers#throughputOptimizedEvaluator(Policy)}.
+     */
+    TRIE,
+
+    /**
+     * The tree based enforcer, see {@link PolicyEnforcers#memoryOptimizedEvaluator(Policy)}.
+     */
+    TREE,
+
+    /**
+     * The bit set based enforcer, see {@link PolicyEnforcers#bitSetBasedEvaluator(Policy)}.
+     */
+    BITSET;
+
+    /**
+     * Builds the enforcer of the given policy with this algorithm.
+     *
+     * @param policy the policy.
+     * @return the enforcer.
+     * @throws NullPointerException if {@code policy} is {@code null}.
+     */
+    public Enforcer createEnforcer(final Policy policy) {
+        switch (this) {
+            case TREE:
+                return PolicyEnforcers.memoryOptimizedEvaluator(policy);
+            case BITSET:
+                return PolicyEnforcers.bitSetBasedEvaluator(policy);
+            case TRIE:
+            default:
+                return PolicyEnforcers.throughputOptimizedEvaluator(policy);
+        }
+    }
+
+}
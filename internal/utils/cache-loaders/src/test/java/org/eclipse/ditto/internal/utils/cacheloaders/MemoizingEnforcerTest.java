@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.cacheloaders;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.Set;
+
+import org.eclipse.ditto.base.model.auth.AuthorizationContext;
+import org.eclipse.ditto.base.model.auth.AuthorizationSubject;
+import org.eclipse.ditto.base.model.auth.DittoAuthorizationContextType;
+import org.eclipse.ditto.policies.model.Permissions;
+import org.eclipse.ditto.policies.model.PoliciesResourceType;
+import org.eclipse.ditto.policies.model.ResourceKey;
+import org.eclipse.ditto.policies.model.enforcers.DefaultEffectedSubjects;
+import org.eclipse.ditto.policies.model.enforcers.EffectedSubjects;
+import org.eclipse.ditto.policies.model.enforcers.Enforcer;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link MemoizingEnforcer}.
+ */
+public final class MemoizingEnforcerTest {
+
+    private static final ResourceKey RESOURCE_KEY = PoliciesResourceType.thingResource("/features/lamp");
+    private static final Permissions WRITE = Permissions.newInstance("WRITE");
+    private static final AuthorizationSubject ALICE = AuthorizationSubject.newInstance("test:alice");
+    private static final AuthorizationSubject BOB = AuthorizationSubject.newInstance("test:bob");
+
+    private Enforcer delegate;
+
+    @Before
+    public void setUp() {
+        delegate = mock(Enforcer.class);
+        when(delegate.hasUnrestrictedPermissions(any(), any(), any())).thenReturn(true);
+        when(delegate.hasPartialPermissions(any(), any(), any())).thenReturn(false);
+        when(delegate.getSubjectsWithPermission(any(ResourceKey.class), any(Permissions.class)))
+                .thenReturn(DefaultEffectedSubjects.of(Set.of(ALICE), Set.of(BOB)));
+        when(delegate.getSubjectsWithUnrestrictedPermission(any(ResourceKey.class), any(Permissions.class)))
+                .thenReturn(Set.of(ALICE));
+        when(delegate.getSubjectsWithPartialPermission(any(ResourceKey.class), any(Permissions.class)))
+                .thenReturn(Set.of(ALICE, BOB));
+    }
+
+    @Test
+    public void decisionsAreComputedOnlyOnce() {
+        final Enforcer underTest = MemoizingEnforcer.newFactory(10).memoize(delegate);
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(underTest.hasUnrestrictedPermissions(RESOURCE_KEY, context(ALICE, BOB), WRITE)).isTrue();
+            assertThat(underTest.hasPartialPermissions(RESOURCE_KEY, context(ALICE, BOB), WRITE)).isFalse();
+        }
+
+        verify(delegate, times(1)).hasUnrestrictedPermissions(any(), any(), any());
+        verify(delegate, times(1)).hasPartialPermissions(any(), any(), any());
+    }
+
+    @Test
+    public void orderOfAuthorizationSubjectsDoesNotMatter() {
+        final Enforcer underTest = MemoizingEnforcer.newFactory(10).memoize(delegate);
+
+        underTest.hasUnrestrictedPermissions(RESOURCE_KEY, context(ALICE, BOB), WRITE);
+        underTest.hasUnrestrictedPermissions(RESOURCE_KEY, context(BOB, ALICE), WRITE);
+
+        verify(delegate, times(1)).hasUnrestrictedPermissions(any(), any(), any());
+    }
+
+    @Test
+    public void differentQuestionsAreDecidedSeparately() {
+        final Enforcer underTest = MemoizingEnforcer.newFactory(10).memoize(delegate);
+
+        underTest.hasUnrestrictedPermissions(RESOURCE_KEY, context(ALICE), WRITE);
+        underTest.hasUnrestrictedPermissions(RESOURCE_KEY, context(BOB), WRITE);
+        underTest.hasUnrestrictedPermissions(RESOURCE_KEY, context(ALICE), Permissions.newInstance("READ"));
+        underTest.hasUnrestrictedPermissions(PoliciesResourceType.thingResource("/"), context(ALICE), WRITE);
+
+        verify(delegate, times(4)).hasUnrestrictedPermissions(any(), any(), any());
+    }
+
+    @Test
+    public void decisionsAreBounded() {
+        final Enforcer underTest = MemoizingEnforcer.newFactory(1).memoize(delegate);
+
+        underTest.hasUnrestrictedPermissions(RESOURCE_KEY, context(ALICE), WRITE);
+        underTest.hasUnrestrictedPermissions(RESOURCE_KEY, context(BOB), WRITE);
+        underTest.hasUnrestrictedPermissions(RESOURCE_KEY, context(ALICE), WRITE);
+
+        verify(delegate, times(3)).hasUnrestrictedPermissions(any(), any(), any());
+    }
+
+    @Test
+    public void effectedSubjectsAreComputedOnlyOncePerResourceKeyAndPermissions() {
+        final Enforcer underTest = MemoizingEnforcer.newFactory(10).memoize(delegate);
+
+        for (int i = 0; i < 3; i++) {
+            final EffectedSubjects effectedSubjects = underTest.getSubjectsWithPermission(RESOURCE_KEY, WRITE);
+            assertThat(effectedSubjects.getGranted()).containsOnly(ALICE);
+            assertThat(effectedSubjects.getRevoked()).containsOnly(BOB);
+            assertThat(underTest.getSubjectsWithUnrestrictedPermission(RESOURCE_KEY, WRITE)).containsOnly(ALICE);
+            assertThat(underTest.getSubjectsWithPartialPermission(RESOURCE_KEY, WRITE)).containsOnly(ALICE, BOB);
+        }
+        underTest.getSubjectsWithPermission(PoliciesResourceType.thingResource("/"), WRITE);
+
+        verify(delegate, times(2)).getSubjectsWithPermission(any(ResourceKey.class), any(Permissions.class));
+        verify(delegate, times(1)).getSubjectsWithUnrestrictedPermission(any(ResourceKey.class),
+                any(Permissions.class));
+        verify(delegate, times(1)).getSubjectsWithPartialPermission(any(ResourceKey.class), any(Permissions.class));
+    }
+
+    @Test
+    public void memoizationIsDisabledForZeroMaximumSize() {
+        assertThat(MemoizingEnforcer.newFactory(0).memoize(delegate)).isSameAs(delegate);
+    }
+
+    private static AuthorizationContext context(final AuthorizationSubject... authorizationSubjects) {
+        return AuthorizationContext.newInstance(DittoAuthorizationContextType.UNSPECIFIED,
+                Arrays.asList(authorizationSubjects));
+    }
+
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.cacheloaders;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.Optional;
+
+import org.eclipse.ditto.base.model.auth.AuthorizationContext;
+import org.eclipse.ditto.base.model.auth.AuthorizationSubject;
+import org.eclipse.ditto.base.model.auth.DittoAuthorizationContextType;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.internal.utils.cache.entry.Entry;
+import org.eclipse.ditto.internal.utils.cacheloaders.config.PolicyEnforcerAlgorithm;
+import org.eclipse.ditto.policies.model.Label;
+import org.eclipse.ditto.policies.model.Permissions;
+import org.eclipse.ditto.policies.model.PoliciesResourceType;
+import org.eclipse.ditto.policies.model.Policy;
+import org.eclipse.ditto.policies.model.PolicyId;
+import org.eclipse.ditto.policies.model.PolicyRevision;
+import org.eclipse.ditto.policies.model.ResourceKey;
+import org.eclipse.ditto.policies.model.Subject;
+import org.eclipse.ditto.policies.model.SubjectType;
+import org.eclipse.ditto.policies.model.signals.events.PolicyDeleted;
+import org.eclipse.ditto.policies.model.signals.events.PolicyModified;
+import org.eclipse.ditto.policies.model.signals.events.ResourceDeleted;
+import org.eclipse.ditto.policies.model.signals.events.SubjectCreated;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link PolicyEnforcerUpdater}.
+ */
+public final class PolicyEnforcerUpdaterTest {
+
+    private static final PolicyId POLICY_ID = PolicyId.of("namespace", "policy");
+    private static final Label LABEL = Label.of("owner");
+    private static final ResourceKey THING_ROOT = PoliciesResourceType.thingResource("/");
+    private static final Permissions READ = Permissions.newInstance("READ");
+    private static final String OWNER = "test:owner";
+    private static final String OTHER = "test:other";
+    private static final long REVISION = 3L;
+
+    private final PolicyEnforcerUpdater underTest = PolicyEnforcerUpdater.of(PolicyEnforcerAlgorithm.TRIE, 0);
+
+    @Test
+    public void applyConsecutiveEvent() {
+        final Entry<PolicyEnforcer> cachedEntry = cachedEntry(REVISION);
+        final Instant timestamp = Instant.now();
+        final SubjectCreated subjectCreated = SubjectCreated.of(POLICY_ID, LABEL,
+                Subject.newInstance(OTHER, SubjectType.GENERATED), REVISION + 1, timestamp, DittoHeaders.empty(),
+                null);
+
+        final Optional<Entry<PolicyEnforcer>> result = underTest.applyEvent(cachedEntry, subjectCreated);
+
+        assertThat(result).isPresent();
+        final Entry<PolicyEnforcer> updatedEntry = result.get();
+        assertThat(updatedEntry.getRevision()).isEqualTo(REVISION + 1);
+        final Policy updatedPolicy = updatedEntry.getValueOrThrow().getPolicy().orElseThrow();
+        assertThat(updatedPolicy.getRevision()).contains(PolicyRevision.newInstance(REVISION + 1));
+        assertThat(updatedPolicy.getModified()).contains(timestamp);
+        assertThat(isReadable(updatedEntry, OTHER)).isTrue();
+        assertThat(isReadable(cachedEntry, OTHER)).isFalse();
+    }
+
+    @Test
+    public void doNotApplyEventAfterRevisionGap() {
+        final ResourceDeleted resourceDeleted = ResourceDeleted.of(POLICY_ID, LABEL, THING_ROOT, REVISION + 2, null,
+                DittoHeaders.empty(), null);
+
+        assertThat(underTest.applyEvent(cachedEntry(REVISION), resourceDeleted)).isEmpty();
+    }
+
+    @Test
+    public void keepUpToDateEntry() {
+        final Entry<PolicyEnforcer> cachedEntry = cachedEntry(REVISION);
+        final ResourceDeleted resourceDeleted = ResourceDeleted.of(POLICY_ID, LABEL, THING_ROOT, REVISION, null,
+                DittoHeaders.empty(), null);
+
+        assertThat(underTest.applyEvent(cachedEntry, resourceDeleted)).containsSame(cachedEntry);
+    }
+
+    @Test
+    public void applyEventContainingWholePolicyAfterRevisionGap() {
+        final Policy modifiedPolicy = policy(OTHER);
+        final PolicyModified policyModified = PolicyModified.of(modifiedPolicy, REVISION + 5, null,
+                DittoHeaders.empty(), null);
+
+        final Optional<Entry<PolicyEnforcer>> result = underTest.applyEvent(cachedEntry(REVISION), policyModified);
+
+        assertThat(result).isPresent();
+        assertThat(result.get().getRevision()).isEqualTo(REVISION + 5);
+        assertThat(isReadable(result.get(), OTHER)).isTrue();
+        assertThat(isReadable(result.get(), OWNER)).isFalse();
+    }
+
+    @Test
+    public void doNotApplyUnsupportedEvent() {
+        final PolicyDeleted policyDeleted = PolicyDeleted.of(POLICY_ID, REVISION + 1, null, DittoHeaders.empty(),
+                null);
+
+        assertThat(underTest.applyEvent(cachedEntry(REVISION), policyDeleted)).isEmpty();
+    }
+
+    @Test
+    public void doNotApplyPartialEventToNonexistentEntry() {
+        final ResourceDeleted resourceDeleted = ResourceDeleted.of(POLICY_ID, LABEL, THING_ROOT, REVISION, null,
+                DittoHeaders.empty(), null);
+
+        assertThat(underTest.applyEvent(Entry.nonexistent(), resourceDeleted)).isEmpty();
+    }
+
+    private Entry<PolicyEnforcer> cachedEntry(final long revision) {
+        return Entry.of(revision, underTest.createPolicyEnforcer(policy(OWNER).toBuilder()
+                .setRevision(revision)
+                .build()));
+    }
+
+    private static Policy policy(final String subjectId) {
+        return Policy.newBuilder(POLICY_ID)
+                .forLabel(LABEL)
+                .setSubject(subjectId, SubjectType.GENERATED)
+                .setGrantedPermissions(THING_ROOT, READ)
+                .build();
+    }
+
+    private static boolean isReadable(final Entry<PolicyEnforcer> entry, final String subjectId) {
+        return entry.getValueOrThrow()
+                .getEnforcer()
+                .hasUnrestrictedPermissions(THING_ROOT, AuthorizationContext.newInstance(
+                        DittoAuthorizationContextType.UNSPECIFIED,
+                        Collections.singletonList(AuthorizationSubject.newInstance(subjectId))), READ);
+    }
+
+}
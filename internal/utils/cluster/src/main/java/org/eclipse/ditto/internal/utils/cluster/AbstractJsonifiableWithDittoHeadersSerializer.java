@@ -41,13 +41,15 @@ import org.eclipse.ditto.internal.utils.metrics.DittoMetrics;
 import org.eclipse.ditto.internal.utils.metrics.instruments.counter.Counter;
 import org.eclipse.ditto.internal.utils.tracing.DittoTracing;
 import org.eclipse.ditto.internal.utils.tracing.instruments.trace.StartedTrace;
+import org.eclipse.ditto.json.JsonArray;
 import org.eclipse.ditto.json.JsonFactory;
 import org.eclipse.ditto.json.JsonFieldDefinition;
 import org.eclipse.ditto.json.JsonObject;
-import org.eclipse.ditto.json.JsonObjectBuilder;
 import org.eclipse.ditto.json.JsonParseException;
 import org.eclipse.ditto.json.JsonRuntimeException;
 import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.json.JsonWritable;
+import org.eclipse.ditto.json.JsonWriter;
 import org.eclipse.ditto.json.cbor.BinaryToHexConverter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -75,19 +77,32 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
 
     protected static final Charset CHARSET = StandardCharsets.UTF_8;
 
+    private static final String DITTO_HEADERS_FIELD_NAME = "dittoHeaders";
+    private static final String COMPACT_DITTO_HEADERS_FIELD_NAME = "h";
+    private static final String PAYLOAD_FIELD_NAME = "payload";
+
     private static final JsonFieldDefinition<JsonObject> JSON_DITTO_HEADERS =
-            JsonFactory.newJsonObjectFieldDefinition("dittoHeaders");
+            JsonFactory.newJsonObjectFieldDefinition(DITTO_HEADERS_FIELD_NAME);
+
+    private static final JsonFieldDefinition<JsonArray> JSON_COMPACT_DITTO_HEADERS =
+            JsonFactory.newJsonArrayFieldDefinition(COMPACT_DITTO_HEADERS_FIELD_NAME);
 
     private static final JsonFieldDefinition<JsonValue> JSON_PAYLOAD =
-            JsonFactory.newJsonValueFieldDefinition("payload");
+            JsonFactory.newJsonValueFieldDefinition(PAYLOAD_FIELD_NAME);
 
     private static final String CONFIG_DIRECT_BUFFER_SIZE = "akka.actor.serializers-json.direct-buffer-size";
     private static final String CONFIG_DIRECT_BUFFER_POOL_LIMIT =
             "akka.actor.serializers-json.direct-buffer-pool-limit";
+    private static final String CONFIG_COMPACT_DITTO_HEADERS = "akka.actor.serializers-json.compact-ditto-headers";
+    private static final String CONFIG_COMPACT_DITTO_HEADERS_VERSION =
+            "akka.actor.serializers-json.compact-ditto-headers-version";
 
     private static final Config FALLBACK_CONF = ConfigFactory.empty()
             .withValue(CONFIG_DIRECT_BUFFER_SIZE, ConfigValueFactory.fromAnyRef("64 KiB"))
-            .withValue(CONFIG_DIRECT_BUFFER_POOL_LIMIT, ConfigValueFactory.fromAnyRef("500"));
+            .withValue(CONFIG_DIRECT_BUFFER_POOL_LIMIT, ConfigValueFactory.fromAnyRef("500"))
+            .withValue(CONFIG_COMPACT_DITTO_HEADERS, ConfigValueFactory.fromAnyRef(false))
+            .withValue(CONFIG_COMPACT_DITTO_HEADERS_VERSION,
+                    ConfigValueFactory.fromAnyRef(CompactDittoHeaders.MIN_VERSION));
 
     private static final String METRIC_NAME_SUFFIX = "_serializer_messages";
     private static final String METRIC_DIRECTION = "direction";
@@ -97,6 +112,8 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
     private final Function<Object, String> manifestProvider;
     private final BufferPool byteBufferPool;
     private final Long defaultBufferSize;
+    private final boolean compactDittoHeaders;
+    private final int compactDittoHeadersVersion;
     private final Counter inCounter;
     private final Counter outCounter;
     private final String serializerName;
@@ -124,6 +141,9 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
         defaultBufferSize = config.withFallback(FALLBACK_CONF).getBytes(CONFIG_DIRECT_BUFFER_SIZE);
         final int maxPoolEntries = config.withFallback(FALLBACK_CONF).getInt(CONFIG_DIRECT_BUFFER_POOL_LIMIT);
         byteBufferPool = new DirectByteBufferPool(defaultBufferSize.intValue(), maxPoolEntries);
+        compactDittoHeaders = config.withFallback(FALLBACK_CONF).getBoolean(CONFIG_COMPACT_DITTO_HEADERS);
+        compactDittoHeadersVersion = CompactDittoHeaders.checkVersion(
+                config.withFallback(FALLBACK_CONF).getInt(CONFIG_COMPACT_DITTO_HEADERS_VERSION));
 
         inCounter = DittoMetrics.counter(serializerName.toLowerCase() + METRIC_NAME_SUFFIX)
                 .tag(METRIC_DIRECTION, "in");
@@ -145,7 +165,6 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
     public void toBinary(final Object object, final ByteBuffer buf) {
         if (object instanceof Jsonifiable) {
             final Instant beforeSerializeInstant = DittoTracing.getTracingInstantNow();
-            final JsonObjectBuilder jsonObjectBuilder = JsonObject.newBuilder();
             final DittoHeaders dittoHeaders = getDittoHeadersOrEmpty(object);
 
             final Context context = DittoTracing.extractTraceContext(dittoHeaders);
@@ -155,35 +174,20 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
             final DittoHeaders dittoHeadersWithTraceContext =
                     DittoTracing.propagateContext(trace.getContext(), dittoHeaders);
 
-            jsonObjectBuilder.set(JSON_DITTO_HEADERS, dittoHeadersWithTraceContext.toJson());
-
-            final JsonValue jsonValue;
-
-            if (object instanceof Jsonifiable.WithPredicate) {
-                final JsonSchemaVersion schemaVersion =
-                        dittoHeaders.getSchemaVersion().orElse(JsonSchemaVersion.LATEST);
-
-                jsonValue = ((Jsonifiable.WithPredicate) object).toJson(schemaVersion, FieldType.regularOrSpecial());
-            } else {
-                jsonValue = ((Jsonifiable<?>) object).toJson();
-            }
-
-            jsonObjectBuilder.set(JSON_PAYLOAD, jsonValue);
-            final JsonObject jsonObject = jsonObjectBuilder.build();
             try {
-                serializeIntoByteBuffer(jsonObject, buf);
-                LOG.trace("toBinary jsonStr about to send 'out': {}", jsonObject);
+                serializeJsonifiable((Jsonifiable<?>) object, dittoHeadersWithTraceContext, buf);
+                LOG.trace("toBinary Jsonifiable about to send 'out': {}", object);
                 outCounter.increment();
             } catch (final BufferOverflowException e) {
                 final String errorMessage = MessageFormat.format(
-                        "Could not put bytes of JSON string <{0}> into ByteBuffer due to BufferOverflow", jsonObject);
+                        "Could not put bytes of Jsonifiable <{0}> into ByteBuffer due to BufferOverflow", object);
                 LOG.error(errorMessage, e);
                 trace.fail(e);
                 throw new IllegalArgumentException(errorMessage, e);
             } catch (final IOException e) {
                 final String errorMessage = MessageFormat.format(
-                        "Serialization failed with {} on Jsonifiable with string representation <{}>",
-                        e.getClass().getName(), jsonObject);
+                        "Serialization failed with {0} on Jsonifiable with string representation <{1}>",
+                        e.getClass().getName(), object);
                 LOG.warn(errorMessage, e);
                 trace.fail(e);
                 throw new RuntimeException(errorMessage, e);
@@ -198,6 +202,62 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
         }
     }
 
+    private void serializeJsonifiable(final Jsonifiable<?> jsonifiable, final DittoHeaders dittoHeaders,
+            final ByteBuffer buf) throws IOException {
+
+        @Nullable final JsonWriter jsonWriter = createJsonWriter(buf);
+        if (null != jsonWriter) {
+            writeJsonifiable(jsonifiable, dittoHeaders, jsonWriter);
+        } else {
+            serializeIntoByteBuffer(toJsonObject(jsonifiable, dittoHeaders), buf);
+        }
+    }
+
+    private static JsonObject toJsonObject(final Jsonifiable<?> jsonifiable, final DittoHeaders dittoHeaders) {
+        return JsonObject.newBuilder()
+                .set(JSON_DITTO_HEADERS, dittoHeaders.toJson())
+                .set(JSON_PAYLOAD, getPayloadJson(jsonifiable, dittoHeaders))
+                .build();
+    }
+
+    /**
+     * Writes the JSON object which {@link #toJsonObject(Jsonifiable, DittoHeaders)} would create directly into the
+     * passed writer.
+     * DittoHeaders which are {@link JsonWritable} are streamed without building their JSON first.
+     * If configured, the DittoHeaders are written in their dictionary encoded form.
+     */
+    private void writeJsonifiable(final Jsonifiable<?> jsonifiable, final DittoHeaders dittoHeaders,
+            final JsonWriter jsonWriter) throws IOException {
+
+        try (jsonWriter) {
+            jsonWriter.writeStartObject();
+            if (compactDittoHeaders) {
+                jsonWriter.writeFieldName(COMPACT_DITTO_HEADERS_FIELD_NAME);
+                CompactDittoHeaders.write(dittoHeaders, compactDittoHeadersVersion, jsonWriter);
+            } else if (dittoHeaders instanceof JsonWritable) {
+                jsonWriter.writeFieldName(DITTO_HEADERS_FIELD_NAME);
+                ((JsonWritable) dittoHeaders).writeJson(jsonWriter);
+            } else {
+                jsonWriter.writeFieldName(DITTO_HEADERS_FIELD_NAME);
+                jsonWriter.writeValue(dittoHeaders.toJson());
+            }
+            jsonWriter.writeFieldName(PAYLOAD_FIELD_NAME);
+            jsonWriter.writeValue(getPayloadJson(jsonifiable, dittoHeaders));
+            jsonWriter.writeEndObject();
+        }
+    }
+
+    private static JsonValue getPayloadJson(final Jsonifiable<?> jsonifiable, final DittoHeaders dittoHeaders) {
+        final JsonValue result;
+        if (jsonifiable instanceof Jsonifiable.WithPredicate) {
+            final JsonSchemaVersion schemaVersion = dittoHeaders.getSchemaVersion().orElse(JsonSchemaVersion.LATEST);
+            result = ((Jsonifiable.WithPredicate) jsonifiable).toJson(schemaVersion, FieldType.regularOrSpecial());
+        } else {
+            result = jsonifiable.toJson();
+        }
+        return result;
+    }
+
     /**
      * Serializes the passed {@code jsonObject} into the passed {@code byteBuffer}.
      *
@@ -207,6 +267,22 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
      */
     protected abstract void serializeIntoByteBuffer(JsonObject jsonObject, ByteBuffer byteBuffer) throws IOException;
 
+    /**
+     * Creates a writer which streams the serialized Jsonifiable directly into the passed {@code byteBuffer}.
+     * If a writer is returned, DittoHeaders and payload are written into it instead of building a JSON object and
+     * passing it to {@link #serializeIntoByteBuffer(JsonObject, ByteBuffer)}.
+     * This implementation returns {@code null}; subclasses override it if their format supports streaming.
+     *
+     * @param byteBuffer the ByteBuffer to serialize into.
+     * @return the writer or {@code null} if streaming is not supported.
+     * @throws IOException in case the writer cannot be created.
+     * @since 2.5.0
+     */
+    @Nullable
+    protected JsonWriter createJsonWriter(final ByteBuffer byteBuffer) throws IOException {
+        return null;
+    }
+
     @Override
     public byte[] toBinary(final Object object) {
         final ByteBuffer buf = byteBufferPool.acquire();
@@ -294,22 +370,30 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
 
         final JsonObject payload = getPayload(jsonObject);
 
-        final DittoHeadersBuilder<?, ?> dittoHeadersBuilder = jsonObject.getValue(JSON_DITTO_HEADERS)
-                .map(DittoHeaders::newBuilder)
-                .orElseGet(DittoHeaders::newBuilder);
-
-        final DittoHeaders dittoHeaders = dittoHeadersBuilder.build();
+        final DittoHeaders dittoHeaders = getDittoHeaders(jsonObject);
         final StartedTrace trace = DittoTracing.trace(dittoHeaders, "deserialize")
                 .startAt(beforeDeserializeInstant);
         try {
             final DittoHeaders dittoHeadersWithTraceContext =
                     DittoTracing.propagateContext(trace.getContext(), dittoHeaders);
-            return deserializeJson(payload, manifest, dittoHeadersWithTraceContext);
+            final Jsonifiable<?> jsonifiable = deserializeJson(payload, manifest, dittoHeadersWithTraceContext);
+            return jsonifiable;
         } finally {
             trace.finish();
         }
     }
 
+    private static DittoHeaders getDittoHeaders(final JsonObject jsonObject) {
+        final Optional<JsonArray> compactDittoHeaders = jsonObject.getValue(JSON_COMPACT_DITTO_HEADERS);
+        if (compactDittoHeaders.isPresent()) {
+            return CompactDittoHeaders.read(compactDittoHeaders.get());
+        }
+        final DittoHeadersBuilder<?, ?> dittoHeadersBuilder = jsonObject.getValue(JSON_DITTO_HEADERS)
+                .map(DittoHeaders::newBuilder)
+                .orElseGet(DittoHeaders::newBuilder);
+        return dittoHeadersBuilder.build();
+    }
+
     private Jsonifiable<?> deserializeJson(final JsonObject jsonPayload, final String manifest,
             final DittoHeaders dittoHeaders)
             throws NotSerializableException {
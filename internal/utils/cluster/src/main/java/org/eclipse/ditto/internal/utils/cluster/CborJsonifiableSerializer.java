@@ -18,6 +18,7 @@ import java.nio.ByteBuffer;
 import org.eclipse.ditto.json.CborFactory;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.json.JsonWriter;
 
 import akka.actor.ExtendedActorSystem;
 
@@ -28,6 +29,13 @@ public final class CborJsonifiableSerializer extends AbstractJsonifiableWithDitt
 
     private static final int UNIQUE_IDENTIFIER = 656329405;
 
+    /*
+     * Only the envelope (depth 0) is decoded eagerly. Its DittoHeaders and payload are sliced from the buffer and
+     * decoded on first access, one level at a time, so JSON objects nested within the payload, e.g. the value of a
+     * modify command or the payload of a message, stay undecoded unless they are accessed. Such objects keep their
+     * received bytes, which are written again if the object is serialized unchanged.
+     */
+    private static final int EAGER_DEPTH = 0;
 
     private final CborFactory cborFactory;
 
@@ -47,9 +55,14 @@ public final class CborJsonifiableSerializer extends AbstractJsonifiableWithDitt
         cborFactory.writeToByteBuffer(jsonObject, byteBuffer);
     }
 
+    @Override
+    protected JsonWriter createJsonWriter(final ByteBuffer byteBuffer) throws IOException {
+        return cborFactory.createWriter(byteBuffer);
+    }
+
     @Override
     protected JsonValue deserializeFromByteBuffer(final ByteBuffer byteBuffer) {
-        return cborFactory.readFrom(byteBuffer);
+        return cborFactory.readFrom(byteBuffer, EAGER_DEPTH);
     }
 
 }
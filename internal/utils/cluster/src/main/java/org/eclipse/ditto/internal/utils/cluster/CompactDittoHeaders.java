@@ -0,0 +1,332 @@
+/*
+ * Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.cluster;
+
+import java.io.IOException;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.base.model.headers.DittoHeaderDefinition;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.base.model.json.JsonSchemaVersion;
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonArrayBuilder;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonParseException;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.json.JsonWriter;
+
+/**
+ * Dictionary based encoding of {@link DittoHeaders} for the cluster serialization.
+ * <p>
+ * The headers are encoded as JSON array.
+ * The first element is the version of the dictionary, followed by alternating header names and values.
+ * Well-known header names and values are replaced by their index in the static dictionaries of this class which in
+ * CBOR mostly take a single byte; all other names and values are written as strings.
+ * </p>
+ * <p>
+ * Since version 2 the values of the read subject headers, which list all subjects with READ permission and may
+ * thereby be much larger than the payload, are written as arrays of subjects instead of strings of JSON arrays.
+ * Subjects are written as strings, except for subjects whose issuer was already written in the same array: these are
+ * written as the index of the already written issuer followed by the subject without issuer.
+ * </p>
+ * <p>
+ * All versions from {@link #MIN_VERSION} to {@link #LATEST_VERSION} are read, but the version to write is chosen by
+ * the caller, so that a newer version is only written once all cluster members are able to read it.
+ * The dictionaries must only be changed together with incrementing {@link #LATEST_VERSION} as cluster members with a
+ * different version are not able to decode the headers.
+ * </p>
+ */
+@Immutable
+final class CompactDittoHeaders {
+
+    /**
+     * The oldest version of the encoding which can still be read.
+     */
+    static final int MIN_VERSION = 1;
+
+    /**
+     * The latest version of the encoding which additionally writes read subjects with issuer references.
+     */
+    static final int LATEST_VERSION = 2;
+
+    private static final char ISSUER_SEPARATOR = ':';
+
+    private static final Set<String> SUBJECTS_NAMES = Set.of(
+            DittoHeaderDefinition.READ_SUBJECTS.getKey(),
+            DittoHeaderDefinition.READ_REVOKED_SUBJECTS.getKey()
+    );
+
+    private static final List<String> NAMES = List.of(
+            DittoHeaderDefinition.AUTHORIZATION_CONTEXT.getKey(),
+            DittoHeaderDefinition.CORRELATION_ID.getKey(),
+            DittoHeaderDefinition.SCHEMA_VERSION.getKey(),
+            DittoHeaderDefinition.RESPONSE_REQUIRED.getKey(),
+            DittoHeaderDefinition.DRY_RUN.getKey(),
+            DittoHeaderDefinition.READ_SUBJECTS.getKey(),
+            DittoHeaderDefinition.READ_REVOKED_SUBJECTS.getKey(),
+            DittoHeaderDefinition.CONTENT_TYPE.getKey(),
+            DittoHeaderDefinition.ACCEPT.getKey(),
+            DittoHeaderDefinition.REPLY_TO.getKey(),
+            DittoHeaderDefinition.CHANNEL.getKey(),
+            DittoHeaderDefinition.LIVE_CHANNEL_TIMEOUT_STRATEGY.getKey(),
+            DittoHeaderDefinition.ORIGIN.getKey(),
+            DittoHeaderDefinition.ETAG.getKey(),
+            DittoHeaderDefinition.IF_MATCH.getKey(),
+            DittoHeaderDefinition.IF_NONE_MATCH.getKey(),
+            DittoHeaderDefinition.REPLY_TARGET.getKey(),
+            DittoHeaderDefinition.EXPECTED_RESPONSE_TYPES.getKey(),
+            DittoHeaderDefinition.INBOUND_PAYLOAD_MAPPER.getKey(),
+            DittoHeaderDefinition.ORIGINATOR.getKey(),
+            DittoHeaderDefinition.REQUESTED_ACKS.getKey(),
+            DittoHeaderDefinition.DECLARED_ACKS.getKey(),
+            DittoHeaderDefinition.TIMEOUT.getKey(),
+            DittoHeaderDefinition.ENTITY_ID.getKey(),
+            DittoHeaderDefinition.CONNECTION_ID.getKey(),
+            DittoHeaderDefinition.PUT_METADATA.getKey(),
+            DittoHeaderDefinition.ALLOW_POLICY_LOCKOUT.getKey(),
+            DittoHeaderDefinition.WEAK_ACK.getKey(),
+            DittoHeaderDefinition.POLICY_ENFORCER_INVALIDATED_PREEMPTIVELY.getKey(),
+            DittoHeaderDefinition.EVENT_JOURNAL_TAGS.getKey(),
+            DittoHeaderDefinition.DITTO_SUDO.getKey(),
+            DittoHeaderDefinition.DITTO_RETRIEVE_DELETED.getKey(),
+            DittoHeaderDefinition.CONDITION.getKey(),
+            DittoHeaderDefinition.LIVE_CHANNEL_CONDITION.getKey(),
+            DittoHeaderDefinition.LIVE_CHANNEL_CONDITION_MATCHED.getKey(),
+            "traceparent",
+            "tracestate"
+    );
+
+    private static final List<String> VALUES = List.of(
+            Boolean.TRUE.toString(),
+            Boolean.FALSE.toString(),
+            JsonSchemaVersion.V_2.toString(),
+            "application/json",
+            "application/vnd.eclipse.ditto+json",
+            "application/merge-patch+json",
+            "application/octet-stream",
+            "text/plain",
+            "[]",
+            "[\"twin-persisted\"]",
+            "[\"live-response\"]",
+            "[\"search-persisted\"]",
+            "[\"response\",\"error\"]",
+            "[\"response\",\"error\",\"nack\"]",
+            "twin",
+            "live",
+            "fail",
+            "use-twin",
+            "60s",
+            "10s"
+    );
+
+    private static final Map<String, Integer> NAME_IDS = indexOf(NAMES);
+    private static final Map<String, Integer> VALUE_IDS = indexOf(VALUES);
+
+    private CompactDittoHeaders() {
+        throw new AssertionError();
+    }
+
+    private static Map<String, Integer> indexOf(final List<String> dictionary) {
+        final Map<String, Integer> result = new HashMap<>();
+        for (int i = 0; i < dictionary.size(); i++) {
+            result.put(dictionary.get(i), i);
+        }
+        return Map.copyOf(result);
+    }
+
+    /**
+     * Checks that the passed version of the encoding can be written.
+     *
+     * @param version the version to check.
+     * @return the version.
+     * @throws IllegalArgumentException if {@code version} is not supported.
+     */
+    static int checkVersion(final int version) {
+        if (version < MIN_VERSION || LATEST_VERSION < version) {
+            throw new IllegalArgumentException(MessageFormat.format(
+                    "The version <{0}> of compact DittoHeaders is not supported, only versions <{1}> to <{2}> are.",
+                    version, MIN_VERSION, LATEST_VERSION));
+        }
+        return version;
+    }
+
+    /**
+     * Writes the encoded form of the passed DittoHeaders into the passed writer.
+     *
+     * @param dittoHeaders the headers to be written.
+     * @param version the version of the encoding to write, see {@link #checkVersion(int)}.
+     * @param jsonWriter the writer to write into.
+     * @throws IOException if writing failed.
+     */
+    static void write(final DittoHeaders dittoHeaders, final int version, final JsonWriter jsonWriter)
+            throws IOException {
+
+        final boolean writeSubjectArrays = 2 <= version;
+        jsonWriter.writeStartArray();
+        jsonWriter.writeNumber(version);
+        // the entry set of DittoHeaders has lower-case keys, thus the case-sensitive map keeps the original names
+        for (final Map.Entry<String, String> header : dittoHeaders.asCaseSensitiveMap().entrySet()) {
+            writeEntry(header.getKey(), NAME_IDS, jsonWriter);
+            @Nullable final JsonArray subjects = writeSubjectArrays && isSubjectsName(header.getKey())
+                    ? parseSubjectsOrNull(header.getValue())
+                    : null;
+            if (null != subjects) {
+                writeSubjects(subjects, jsonWriter);
+            } else {
+                writeEntry(header.getValue(), VALUE_IDS, jsonWriter);
+            }
+        }
+        jsonWriter.writeEndArray();
+    }
+
+    private static boolean isSubjectsName(final String headerName) {
+        return SUBJECTS_NAMES.contains(headerName.toLowerCase());
+    }
+
+    /*
+     * Returns the subjects of the header value only if they are written exactly like the header value, so that
+     * reading them reproduces the header value.
+     */
+    @Nullable
+    private static JsonArray parseSubjectsOrNull(final String headerValue) {
+        final JsonValue jsonValue;
+        try {
+            jsonValue = JsonFactory.readFrom(headerValue);
+        } catch (final JsonParseException e) {
+            return null;
+        }
+        if (jsonValue.isArray() && jsonValue.asArray().stream().allMatch(JsonValue::isString) &&
+                jsonValue.toString().equals(headerValue)) {
+            return jsonValue.asArray();
+        }
+        return null;
+    }
+
+    private static void writeSubjects(final JsonArray subjects, final JsonWriter jsonWriter) throws IOException {
+        final Map<String, Integer> issuerIds = new HashMap<>();
+        jsonWriter.writeStartArray();
+        for (final JsonValue subject : subjects) {
+            final String subjectId = subject.asString();
+            final int separatorIndex = subjectId.indexOf(ISSUER_SEPARATOR);
+            @Nullable final Integer issuerId =
+                    0 < separatorIndex ? issuerIds.get(subjectId.substring(0, separatorIndex)) : null;
+            if (null != issuerId) {
+                jsonWriter.writeNumber(issuerId.intValue());
+                jsonWriter.writeString(subjectId.substring(separatorIndex + 1));
+            } else {
+                if (0 < separatorIndex) {
+                    issuerIds.put(subjectId.substring(0, separatorIndex), issuerIds.size());
+                }
+                jsonWriter.writeString(subjectId);
+            }
+        }
+        jsonWriter.writeEndArray();
+    }
+
+    private static void writeEntry(final String entry, final Map<String, Integer> ids, final JsonWriter jsonWriter)
+            throws IOException {
+
+        @Nullable final Integer id = ids.get(entry);
+        if (null != id) {
+            jsonWriter.writeNumber(id.intValue());
+        } else {
+            jsonWriter.writeString(entry);
+        }
+    }
+
+    /**
+     * Decodes the DittoHeaders from the passed JSON array.
+     *
+     * @param jsonArray the encoded headers.
+     * @return the decoded headers.
+     * @throws JsonParseException if {@code jsonArray} was written with an unsupported version or is malformed.
+     */
+    static DittoHeaders read(final JsonArray jsonArray) {
+        final int version = jsonArray.get(0)
+                .filter(JsonValue::isInt)
+                .map(JsonValue::asInt)
+                .orElseThrow(() -> newJsonParseException("The version of the compact DittoHeaders is missing."));
+        if (version < MIN_VERSION || LATEST_VERSION < version) {
+            throw newJsonParseException(MessageFormat.format(
+                    "The compact DittoHeaders have version <{0}> but only versions <{1}> to <{2}> are supported.",
+                    version, MIN_VERSION, LATEST_VERSION));
+        }
+        if (0 == jsonArray.getSize() % 2) {
+            throw newJsonParseException("The compact DittoHeaders contain a header name without value.");
+        }
+        final Map<String, String> headers = new LinkedHashMap<>();
+        for (int i = 1; i < jsonArray.getSize(); i += 2) {
+            final String name = readEntry(jsonArray, i, NAMES);
+            final JsonValue value = jsonArray.get(i + 1).orElseThrow();
+            if (value.isArray() && isSubjectsName(name)) {
+                headers.put(name, readSubjects(value.asArray()).toString());
+            } else {
+                headers.put(name, readEntry(jsonArray, i + 1, VALUES));
+            }
+        }
+        return DittoHeaders.of(headers);
+    }
+
+    private static JsonArray readSubjects(final JsonArray encodedSubjects) {
+        final List<String> issuers = new ArrayList<>();
+        final JsonArrayBuilder subjects = JsonArray.newBuilder();
+        for (int i = 0; i < encodedSubjects.getSize(); i++) {
+            final JsonValue entry = encodedSubjects.get(i).orElseThrow();
+            final String subjectId;
+            if (entry.isString()) {
+                subjectId = entry.asString();
+                final int separatorIndex = subjectId.indexOf(ISSUER_SEPARATOR);
+                if (0 < separatorIndex) {
+                    issuers.add(subjectId.substring(0, separatorIndex));
+                }
+            } else if (entry.isInt() && 0 <= entry.asInt() && entry.asInt() < issuers.size() &&
+                    i + 1 < encodedSubjects.getSize() && encodedSubjects.get(i + 1).orElseThrow().isString()) {
+                subjectId = issuers.get(entry.asInt()) + ISSUER_SEPARATOR +
+                        encodedSubjects.get(++i).orElseThrow().asString();
+            } else {
+                throw newJsonParseException(
+                        MessageFormat.format("The compact DittoHeaders contain the unknown subject <{0}>.", entry));
+            }
+            subjects.add(subjectId);
+        }
+        return subjects.build();
+    }
+
+    private static String readEntry(final JsonArray jsonArray, final int index, final List<String> dictionary) {
+        final JsonValue entry = jsonArray.get(index).orElseThrow();
+        final String result;
+        if (entry.isString()) {
+            result = entry.asString();
+        } else if (entry.isInt() && 0 <= entry.asInt() && entry.asInt() < dictionary.size()) {
+            result = dictionary.get(entry.asInt());
+        } else {
+            throw newJsonParseException(
+                    MessageFormat.format("The compact DittoHeaders contain the unknown entry <{0}>.", entry));
+        }
+        return result;
+    }
+
+    private static JsonParseException newJsonParseException(final String message) {
+        return JsonParseException.newBuilder().message(message).build();
+    }
+
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.cluster;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import org.eclipse.ditto.base.model.acks.AcknowledgementLabel;
+import org.eclipse.ditto.base.model.acks.AcknowledgementRequest;
+import org.eclipse.ditto.base.model.acks.DittoAcknowledgementLabel;
+import org.eclipse.ditto.base.model.auth.AuthorizationModelFactory;
+import org.eclipse.ditto.base.model.auth.AuthorizationSubject;
+import org.eclipse.ditto.base.model.auth.DittoAuthorizationContextType;
+import org.eclipse.ditto.base.model.headers.DittoHeaderDefinition;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.base.model.json.JsonSchemaVersion;
+import org.eclipse.ditto.json.CborFactory;
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonParseException;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.json.JsonWriter;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link CompactDittoHeaders}.
+ */
+public final class CompactDittoHeadersTest {
+
+    private static final CborFactory CBOR_FACTORY = CborFactoryLoader.getInstance().getCborFactoryOrThrow();
+
+    @Test
+    public void writtenHeadersCanBeRead() throws IOException {
+        final DittoHeaders dittoHeaders = DittoHeaders.newBuilder()
+                .correlationId("my-correlation-id")
+                .schemaVersion(JsonSchemaVersion.V_2)
+                .responseRequired(true)
+                .contentType("application/json")
+                .authorizationContext(AuthorizationModelFactory.newAuthContext(DittoAuthorizationContextType.UNSPECIFIED,
+                        AuthorizationModelFactory.newAuthSubject("integration:my-connection")))
+                .acknowledgementRequest(AcknowledgementRequest.of(DittoAcknowledgementLabel.TWIN_PERSISTED),
+                        AcknowledgementRequest.of(AcknowledgementLabel.of("custom-ack")))
+                .putHeader("my-custom-header", "foo")
+                .build();
+
+        for (int version = CompactDittoHeaders.MIN_VERSION; version <= CompactDittoHeaders.LATEST_VERSION; version++) {
+            final JsonArray encoded = encode(dittoHeaders, version);
+
+            assertThat(encoded.get(0)).contains(JsonValue.of(version));
+            assertThat(CompactDittoHeaders.read(encoded)).isEqualTo(dittoHeaders);
+        }
+    }
+
+    @Test
+    public void caseOfHeaderNamesIsRetained() throws IOException {
+        final DittoHeaders dittoHeaders = DittoHeaders.newBuilder()
+                .putHeader("Correlation-Id", "my-correlation-id")
+                .putHeader("X-My-Custom-Header", "foo")
+                .putHeader("Read-Subjects", "[\"integration:connection-1\",\"integration:connection-2\"]")
+                .putHeader("lower-case-header", "bar")
+                .build();
+
+        for (int version = CompactDittoHeaders.MIN_VERSION; version <= CompactDittoHeaders.LATEST_VERSION; version++) {
+            final DittoHeaders read = CompactDittoHeaders.read(encode(dittoHeaders, version));
+
+            assertThat(read).isEqualTo(dittoHeaders);
+            assertThat(read.asCaseSensitiveMap()).containsExactlyEntriesOf(dittoHeaders.asCaseSensitiveMap());
+        }
+    }
+
+    @Test
+    public void wellKnownNamesAndValuesAreWrittenAsNumbers() throws IOException {
+        final DittoHeaders dittoHeaders = DittoHeaders.newBuilder().responseRequired(false).build();
+
+        final JsonArray encoded = encode(dittoHeaders, CompactDittoHeaders.MIN_VERSION);
+
+        assertThat(encoded.getSize()).isEqualTo(3);
+        assertThat(encoded.get(1).filter(JsonValue::isInt)).isPresent();
+        assertThat(encoded.get(2).filter(JsonValue::isInt)).isPresent();
+    }
+
+    @Test
+    public void readSubjectsAreWrittenAsStringInVersion1() throws IOException {
+        final DittoHeaders dittoHeaders = DittoHeaders.newBuilder()
+                .readGrantedSubjects(Arrays.asList(AuthorizationSubject.newInstance("integration:connection-1"),
+                        AuthorizationSubject.newInstance("integration:connection-2")))
+                .build();
+
+        final JsonArray encoded = encode(dittoHeaders, 1);
+
+        assertThat(encoded.get(2))
+                .contains(JsonValue.of(dittoHeaders.get(DittoHeaderDefinition.READ_SUBJECTS.getKey())));
+        assertThat(CompactDittoHeaders.read(encoded)).isEqualTo(dittoHeaders);
+    }
+
+    @Test
+    public void readSubjectsAreWrittenWithIssuerReferences() throws IOException {
+        final DittoHeaders dittoHeaders = DittoHeaders.newBuilder()
+                .readGrantedSubjects(Arrays.asList(AuthorizationSubject.newInstance("integration:connection-1"),
+                        AuthorizationSubject.newInstance("google:user"),
+                        AuthorizationSubject.newInstance("integration:connection-2"),
+                        AuthorizationSubject.newInstance("without-issuer"),
+                        AuthorizationSubject.newInstance("integration:connection-3")))
+                .build();
+
+        final JsonArray encoded = encode(dittoHeaders, 2);
+
+        assertThat(encoded.get(2)).contains(JsonArray.newBuilder()
+                .add("integration:connection-1", "google:user")
+                .add(0).add("connection-2")
+                .add("without-issuer")
+                .add(0).add("connection-3")
+                .build());
+        assertThat(CompactDittoHeaders.read(encoded)).isEqualTo(dittoHeaders);
+    }
+
+    @Test
+    public void nonCanonicalReadSubjectsAreWrittenAsString() throws IOException {
+        final String readSubjects = "[ \"integration:connection-1\" ]";
+        final DittoHeaders dittoHeaders = DittoHeaders.newBuilder()
+                .putHeader(DittoHeaderDefinition.READ_SUBJECTS.getKey(), readSubjects)
+                .build();
+
+        final JsonArray encoded = encode(dittoHeaders, 2);
+
+        assertThat(encoded.get(2)).contains(JsonValue.of(readSubjects));
+        assertThat(CompactDittoHeaders.read(encoded)).isEqualTo(dittoHeaders);
+    }
+
+    @Test
+    public void readingPreviousVersionSucceeds() {
+        final JsonArray encoded = JsonArray.newBuilder()
+                .add(JsonValue.of(1), JsonValue.of("my-custom-header"), JsonValue.of("foo"))
+                .build();
+
+        assertThat(CompactDittoHeaders.read(encoded))
+                .isEqualTo(DittoHeaders.newBuilder().putHeader("my-custom-header", "foo").build());
+    }
+
+    @Test
+    public void readingUnknownSubjectReferenceFails() {
+        final JsonArray encoded = JsonArray.newBuilder()
+                .add(CompactDittoHeaders.LATEST_VERSION)
+                .add(DittoHeaderDefinition.READ_SUBJECTS.getKey())
+                .add(JsonArray.newBuilder().add(0).add("connection-1").build())
+                .build();
+
+        assertThatExceptionOfType(JsonParseException.class).isThrownBy(() -> CompactDittoHeaders.read(encoded));
+    }
+
+    @Test
+    public void readingUnknownVersionFails() {
+        final JsonArray encoded = JsonArray.newBuilder().add(CompactDittoHeaders.LATEST_VERSION + 1).build();
+
+        assertThatExceptionOfType(JsonParseException.class).isThrownBy(() -> CompactDittoHeaders.read(encoded));
+    }
+
+    @Test
+    public void readingUnknownDictionaryEntryFails() {
+        final JsonArray encoded = JsonArray.newBuilder().add(CompactDittoHeaders.LATEST_VERSION, 1000, 0).build();
+
+        assertThatExceptionOfType(JsonParseException.class).isThrownBy(() -> CompactDittoHeaders.read(encoded));
+    }
+
+    @Test
+    public void writingUnsupportedVersionIsRejected() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> CompactDittoHeaders.checkVersion(CompactDittoHeaders.LATEST_VERSION + 1));
+    }
+
+    private static JsonArray encode(final DittoHeaders dittoHeaders, final int version) throws IOException {
+        final ByteBuffer byteBuffer = ByteBuffer.allocate(1024);
+        try (final JsonWriter jsonWriter = CBOR_FACTORY.createWriter(byteBuffer)) {
+            CompactDittoHeaders.write(dittoHeaders, version, jsonWriter);
+        }
+        byteBuffer.flip();
+        return CBOR_FACTORY.readFrom(byteBuffer).asArray();
+    }
+
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.cluster;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import org.eclipse.ditto.base.model.acks.AcknowledgementRequest;
+import org.eclipse.ditto.base.model.acks.DittoAcknowledgementLabel;
+import org.eclipse.ditto.base.model.auth.AuthorizationSubject;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.base.model.json.JsonSchemaVersion;
+import org.eclipse.ditto.json.CborFactory;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.json.JsonWritable;
+import org.eclipse.ditto.json.JsonWriter;
+import org.junit.Test;
+
+/**
+ * Tests that DittoHeaders write the same JSON into a {@link JsonWriter} as their {@code toJson} method returns.
+ */
+public final class JsonWritableDittoHeadersTest {
+
+    private static final CborFactory CBOR_FACTORY = CborFactoryLoader.getInstance().getCborFactoryOrThrow();
+
+    private static final DittoHeaders DITTO_HEADERS = DittoHeaders.newBuilder()
+            .correlationId("my-correlation-id")
+            .schemaVersion(JsonSchemaVersion.V_2)
+            .responseRequired(false)
+            .readGrantedSubjects(Arrays.asList(AuthorizationSubject.newInstance("integration:connection"),
+                    AuthorizationSubject.newInstance("google:user")))
+            .acknowledgementRequest(AcknowledgementRequest.of(DittoAcknowledgementLabel.TWIN_PERSISTED))
+            .putHeader("ditto-reply-target", "0")
+            .putHeader("my-custom-header", "[\"not\", \"an\", \"array\"]")
+            .build();
+
+    @Test
+    public void writtenDittoHeadersEqualTheirJson() throws IOException {
+        final JsonValue written = write(jsonWriter -> ((JsonWritable) DITTO_HEADERS).writeJson(jsonWriter));
+
+        assertThat(written).isEqualTo(DITTO_HEADERS.toJson());
+    }
+
+    private static JsonValue write(final WriteFunction writeFunction) throws IOException {
+        final ByteBuffer byteBuffer = ByteBuffer.allocate(4096);
+        try (final JsonWriter jsonWriter = CBOR_FACTORY.createWriter(byteBuffer)) {
+            writeFunction.write(jsonWriter);
+        }
+        byteBuffer.flip();
+        return CBOR_FACTORY.readFrom(byteBuffer);
+    }
+
+    @FunctionalInterface
+    private interface WriteFunction {
+
+        void write(JsonWriter jsonWriter) throws IOException;
+
+    }
+
+}
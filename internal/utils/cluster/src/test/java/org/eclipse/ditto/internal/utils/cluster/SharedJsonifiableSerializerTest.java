@@ -21,6 +21,7 @@ import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.base.model.auth.AuthorizationContext;
 import org.eclipse.ditto.base.model.auth.AuthorizationSubject;
 import org.eclipse.ditto.base.model.auth.DittoAuthorizationContextType;
+import org.eclipse.ditto.base.model.headers.DittoHeaderDefinition;
 import org.eclipse.ditto.base.model.headers.DittoHeaders;
 import org.eclipse.ditto.base.model.json.FieldType;
 import org.eclipse.ditto.base.model.json.JsonSchemaVersion;
@@ -139,6 +140,25 @@ public final class SharedJsonifiableSerializerTest {
             assertThat(deserialized).isEqualTo(createThingResponse);
         }
 
+        @Test
+        public void forwardedThingCommandWithChangedTraceHeadersIsSerializedWithChangedHeaders() {
+            final CreateThing createThing = CreateThing.of(thing, null, DITTO_HEADERS.toBuilder()
+                    .putHeader(DittoHeaderDefinition.W3C_TRACEPARENT.getKey(),
+                            "00-0af7651916cd43dd8448eb211c80319c-b7ad6b7169203331-01")
+                    .build());
+            final CreateThing received = (CreateThing) underTest.fromBinary(underTest.toBinary(createThing),
+                    underTest.manifest(createThing));
+            final CreateThing forwarded = received.setDittoHeaders(received.getDittoHeaders().toBuilder()
+                    .putHeader(DittoHeaderDefinition.W3C_TRACEPARENT.getKey(),
+                            "00-0af7651916cd43dd8448eb211c80319c-00f067aa0ba902b7-01")
+                    .build());
+
+            final Object deserialized = underTest.fromBinary(underTest.toBinary(forwarded),
+                    underTest.manifest(forwarded));
+
+            assertThat(deserialized).isEqualTo(forwarded);
+        }
+
         @Test
         public void shardedMessageEnvelopeSerializationWorksAsExpected() {
             final ThingId thingId = ThingId.generateRandom();
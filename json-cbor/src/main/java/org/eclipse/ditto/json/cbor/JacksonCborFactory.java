@@ -32,6 +32,7 @@ import org.eclipse.ditto.json.JsonNumber;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonParseException;
 import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.json.JsonWriter;
 
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonToken;
@@ -98,6 +99,17 @@ public final class JacksonCborFactory implements CborFactory {
         }
     }
 
+    @Override
+    public JsonValue readFrom(final ByteBuffer byteBuffer, final int eagerDepth) {
+        final ByteBuffer slicedByteBuffer = byteBuffer.slice();
+        try {
+            final CBORParser parser = JACKSON_CBOR_FACTORY.createParser(ByteBufferInputStream.of(slicedByteBuffer));
+            return parseValue(parser, slicedByteBuffer, parser.nextToken(), 0, eagerDepth);
+        } catch (final IOException | IllegalArgumentException e) {
+            throw createJsonParseException(slicedByteBuffer, e);
+        }
+    }
+
     @Override
     public byte[] toByteArray(final JsonValue jsonValue) throws IOException {
         final ByteArrayOutputStream baos = new ByteArrayOutputStream();
@@ -146,6 +158,11 @@ public final class JacksonCborFactory implements CborFactory {
         return baos.toByteArray();
     }
 
+    @Override
+    public JsonWriter createWriter(final ByteBuffer byteBuffer) throws IOException {
+        return new JacksonSerializationContext(JACKSON_CBOR_FACTORY, byteBuffer);
+    }
+
     private static void writeStartObjectWithLength(final JacksonSerializationContext serializationContext, int length)
             throws IOException {
             /*
@@ -180,20 +197,23 @@ public final class JacksonCborFactory implements CborFactory {
     }
 
     private static JsonValue parseValue(final CBORParser parser, final ByteBuffer byteBuffer) throws IOException {
-        return parseValue(parser, byteBuffer, parser.nextToken());
+        return parseValue(parser, byteBuffer, parser.nextToken(), 0, Integer.MAX_VALUE);
     }
 
     private static JsonValue parseValue(final CBORParser parser, final ByteBuffer byteBuffer,
-            @Nullable final JsonToken currentToken)
+            @Nullable final JsonToken currentToken, final int depth, final int eagerDepth)
             throws IOException {
         if (currentToken == null) {
             throw new IOException("Unexpected end of input while expecting value.");
         }
         switch (currentToken) {
             case START_OBJECT:
-                return parseObject(parser, byteBuffer);
+                if (depth > eagerDepth) {
+                    return skipObject(parser, byteBuffer);
+                }
+                return parseObject(parser, byteBuffer, depth, eagerDepth);
             case START_ARRAY:
-                return parseArray(parser, byteBuffer);
+                return parseArray(parser, byteBuffer, depth, eagerDepth);
             case VALUE_STRING:
                 return JsonValue.of(parser.getValueAsString());
             case VALUE_NUMBER_INT:
@@ -226,29 +246,47 @@ public final class JacksonCborFactory implements CborFactory {
         }
     }
 
-    private static JsonObject parseObject(final CBORParser parser, final ByteBuffer byteBuffer) throws IOException {
+    private static JsonObject parseObject(final CBORParser parser, final ByteBuffer byteBuffer, final int depth,
+            final int eagerDepth) throws IOException {
         final LinkedHashMap<String, JsonField> map = new LinkedHashMap<>();
         final long startOffset = parser.getTokenLocation().getByteOffset();
         while (parser.nextToken() == JsonToken.FIELD_NAME) {
             final String key = parser.currentName();
-            final JsonField jsonField = JsonField.newInstance(key, parseValue(parser, byteBuffer));
-            map.put(key, jsonField);
+            final JsonValue value = parseValue(parser, byteBuffer, parser.nextToken(), depth + 1, eagerDepth);
+            map.put(key, JsonField.newInstance(key, value));
         }
-        final long endOffset = parser.getTokenLocation().getByteOffset();
+        final long endOffset = getEndOffset(parser);
         return JsonFactory.createJsonObject(map, getBytesFromInputSource(startOffset, endOffset, byteBuffer));
     }
 
-    private static JsonArray parseArray(final CBORParser parser, final ByteBuffer byteBuffer) throws IOException {
+    private static JsonObject skipObject(final CBORParser parser, final ByteBuffer byteBuffer) throws IOException {
+        final long startOffset = parser.getTokenLocation().getByteOffset();
+        parser.skipChildren();
+        final long endOffset = getEndOffset(parser);
+        return JsonFactory.createLazyJsonObject(getBytesFromInputSource(startOffset, endOffset, byteBuffer));
+    }
+
+    private static JsonArray parseArray(final CBORParser parser, final ByteBuffer byteBuffer, final int depth,
+            final int eagerDepth) throws IOException {
         final LinkedList<JsonValue> list = new LinkedList<>();
         final long startOffset = parser.getTokenLocation().getByteOffset();
         while (parser.nextToken() != JsonToken.END_ARRAY) {
-            final JsonValue jsonValue = parseValue(parser, byteBuffer, parser.currentToken());
+            final JsonValue jsonValue = parseValue(parser, byteBuffer, parser.currentToken(), depth + 1, eagerDepth);
             list.add(jsonValue);
         }
-        final long endOffset = parser.getTokenLocation().getByteOffset();
+        final long endOffset = getEndOffset(parser);
         return JsonFactory.createJsonArray(list, getBytesFromInputSource(startOffset, endOffset, byteBuffer));
     }
 
+    /*
+     * Determines the offset after the current END_OBJECT or END_ARRAY token. Using the location after the token
+     * instead of its start includes the "break" byte of containers with indefinite length, e.g. as written by
+     * JsonWriter; for containers with definite length the end token occupies no bytes at all.
+     */
+    private static long getEndOffset(final CBORParser parser) {
+        return parser.getCurrentLocation().getByteOffset();
+    }
+
     private static byte[] getBytesFromInputSource(final long startOffset, final long endOffset,
             final ByteBuffer byteBuffer) {
         assert endOffset > startOffset;
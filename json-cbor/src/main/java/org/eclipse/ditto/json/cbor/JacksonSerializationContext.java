@@ -16,15 +16,16 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.nio.ByteBuffer;
 
+import org.eclipse.ditto.json.JsonWriter;
 import org.eclipse.ditto.json.SerializationContext;
 
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
 
 /**
- * Implementation of {@link SerializationContext} backed by Jackson's {@link JsonGenerator}.
+ * Implementation of {@link SerializationContext} and {@link JsonWriter} backed by Jackson's {@link JsonGenerator}.
  */
-final class JacksonSerializationContext implements SerializationContext {
+final class JacksonSerializationContext implements JsonWriter {
 
     private final JsonGenerator jacksonGenerator;
     private final ControllableOutputStream outputStream;
@@ -127,6 +128,26 @@ final class JacksonSerializationContext implements SerializationContext {
         jacksonGenerator.writeFieldName(name);
     }
 
+    @Override
+    public void writeStartObject() throws IOException {
+        jacksonGenerator.writeStartObject();
+    }
+
+    @Override
+    public void writeEndObject() throws IOException {
+        jacksonGenerator.writeEndObject();
+    }
+
+    @Override
+    public void writeStartArray() throws IOException {
+        jacksonGenerator.writeStartArray();
+    }
+
+    @Override
+    public void writeEndArray() throws IOException {
+        jacksonGenerator.writeEndArray();
+    }
+
     private void informJacksonThatOneElementWasWritten() throws IOException {
         // Deactivating the output stream to write a pseudo element and ensure that the internal counter keeping track
         // of array and object lengths is accurate.
@@ -100,6 +100,18 @@ public final class JacksonCborFactoryTest {
         assertThat(result).isEqualTo(testValue);
     }
 
+    @Test
+    public void readLazilyFromByteBuffer() {
+        final JsonValue result = cborFactory.readFrom(ByteBuffer.wrap(testBytes), 0);
+        assertThat(result).isEqualTo(testValue);
+    }
+
+    @Test
+    public void lazilyReadValueIsWrittenUnchanged() throws IOException {
+        final JsonValue result = cborFactory.readFrom(ByteBuffer.wrap(testBytes), 0);
+        assertThat(cborFactory.toByteArray(result)).isEqualTo(testBytes);
+    }
+
     @Test
     public void toBytebufferWorks() throws IOException {
         Assertions.assertThat(BinaryToHexConverter.toHexString(cborFactory.toByteBuffer(testValue)))
@@ -19,11 +19,14 @@ import java.io.OutputStream;
 import java.io.Writer;
 import java.nio.ByteBuffer;
 
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonValue;
 import org.junit.Test;
 
 import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.io.IOContext;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
 
 public final class JacksonSerializationContextIT {
 
@@ -84,6 +87,53 @@ public final class JacksonSerializationContextIT {
         assertThat(somethingWrittenDuringCreateWithOutputStreamWritesToStream).isTrue();
     }
 
+    @Test
+    public void writesObjectsAndArraysOfUnknownLength() throws IOException {
+        final org.eclipse.ditto.json.JsonObject nestedObject = org.eclipse.ditto.json.JsonObject.newBuilder()
+                .set("nested", true)
+                .build();
+        final ByteBuffer targetBuffer = ByteBuffer.allocate(128);
+        try (final JacksonSerializationContext jsonWriter = new JacksonSerializationContext(new CBORFactory(),
+                targetBuffer)) {
+            jsonWriter.writeStartObject();
+            jsonWriter.writeFieldName("array");
+            jsonWriter.writeStartArray();
+            jsonWriter.writeNumber(1);
+            jsonWriter.writeString("two");
+            jsonWriter.writeEndArray();
+            jsonWriter.writeField("object", nestedObject);
+            jsonWriter.writeEndObject();
+        }
+        targetBuffer.flip();
+
+        final JsonValue expected = org.eclipse.ditto.json.JsonObject.newBuilder()
+                .set("array", JsonArray.newBuilder().add(1).add("two").build())
+                .set("object", nestedObject)
+                .build();
+        assertThat(new JacksonCborFactory().readFrom(targetBuffer)).isEqualTo(expected);
+    }
+
+    @Test
+    public void objectsOfUnknownLengthAreWrittenUnchangedAfterReading() throws IOException {
+        final ByteBuffer targetBuffer = ByteBuffer.allocate(128);
+        try (final JacksonSerializationContext jsonWriter = new JacksonSerializationContext(new CBORFactory(),
+                targetBuffer)) {
+            jsonWriter.writeStartObject();
+            jsonWriter.writeFieldName("object");
+            jsonWriter.writeStartObject();
+            jsonWriter.writeField("nested", JsonValue.of(true));
+            jsonWriter.writeEndObject();
+            jsonWriter.writeEndObject();
+        }
+        targetBuffer.flip();
+        final byte[] written = new byte[targetBuffer.remaining()];
+        targetBuffer.duplicate().get(written);
+
+        final JacksonCborFactory cborFactory = new JacksonCborFactory();
+        assertThat(cborFactory.toByteArray(cborFactory.readFrom(targetBuffer))).isEqualTo(written);
+        assertThat(cborFactory.toByteArray(cborFactory.readFrom(targetBuffer, 0))).isEqualTo(written);
+    }
+
     private static void writeSomething(final JacksonSerializationContext serializationContext) throws IOException {
         serializationContext.getJacksonGenerator().writeStartObject();
         serializationContext.getJacksonGenerator().writeBooleanField("key", false);
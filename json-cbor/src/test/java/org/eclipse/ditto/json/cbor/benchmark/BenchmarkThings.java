@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json.cbor.benchmark;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonSerializationMode;
+
+/**
+ * Provides realistic Thing JSON payloads for benchmarks.
+ * The size of a Thing is determined by its number of features, each of them having a few properties.
+ */
+final class BenchmarkThings {
+
+    private BenchmarkThings() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Creates a Thing JSON object with the given number of features.
+     *
+     * @param featureCount the number of features of the Thing.
+     * @return the Thing JSON object.
+     */
+    static JsonObject createThing(final int featureCount) {
+        return createThing(featureCount, JsonSerializationMode.getDefault());
+    }
+
+    /**
+     * Creates a Thing JSON object with the given number of features and serialization mode.
+     * Thing JSON objects created by invoking this method twice with the same arguments are equal but do not share
+     * any JSON object instances.
+     *
+     * @param featureCount the number of features of the Thing.
+     * @param serializationMode the serialization mode of all JSON objects of the Thing.
+     * @return the Thing JSON object.
+     */
+    static JsonObject createThing(final int featureCount, final JsonSerializationMode serializationMode) {
+        final JsonObjectBuilder featuresBuilder = JsonObject.newBuilder();
+        for (int i = 0; i < featureCount; i++) {
+            featuresBuilder.set(getFeatureId(i), createFeature(i, serializationMode));
+        }
+
+        return JsonObject.newBuilder()
+                .set("thingId", "org.eclipse.ditto:benchmark-thing-" + featureCount)
+                .set("policyId", "org.eclipse.ditto:benchmark-policy")
+                .set("definition", "org.eclipse.ditto:benchmark-definition:1.0.0")
+                .set("attributes", JsonObject.newBuilder()
+                        .set("manufacturer", "ACME Corporation")
+                        .set("serialNumber", "SN-4711-0815")
+                        .set("location", JsonObject.newBuilder()
+                                .set("latitude", 47.682170)
+                                .set("longitude", 9.386372)
+                                .set("building", "B2")
+                                .build(serializationMode))
+                        .set("tags", JsonArray.newBuilder()
+                                .add("sensor", "outdoor", "benchmark")
+                                .build())
+                        .build(serializationMode))
+                .set("features", featuresBuilder.build(serializationMode))
+                .set("_revision", 4711L)
+                .set("_modified", "2022-04-01T12:00:00.000Z")
+                .set("_created", "2022-01-01T08:00:00.000Z")
+                .build(serializationMode);
+    }
+
+    private static JsonObject createFeature(final int index, final JsonSerializationMode serializationMode) {
+        return JsonObject.newBuilder()
+                .set("definition", JsonArray.newBuilder()
+                        .add("org.eclipse.ditto:temperature-sensor:1.0.0")
+                        .build())
+                .set("properties", JsonObject.newBuilder()
+                        .set("status", JsonObject.newBuilder()
+                                .set("value", 20.5 + index)
+                                .set("unit", "celsius")
+                                .set("lastUpdate", "2022-04-01T12:00:00.000Z")
+                                .build(serializationMode))
+                        .set("configuration", JsonObject.newBuilder()
+                                .set("samplingInterval", 1000 + index)
+                                .set("enabled", 0 == index % 2)
+                                .build(serializationMode))
+                        .set("errorCount", index)
+                        .build(serializationMode))
+                .set("desiredProperties", JsonObject.newBuilder()
+                        .set("configuration", JsonObject.newBuilder()
+                                .set("samplingInterval", 500)
+                                .build(serializationMode))
+                        .build(serializationMode))
+                .build(serializationMode);
+    }
+
+    /**
+     * Returns the ID of the feature with the given index.
+     *
+     * @param index the index of the feature.
+     * @return the feature ID.
+     */
+    static String getFeatureId(final int index) {
+        return "feature-" + index;
+    }
+
+}
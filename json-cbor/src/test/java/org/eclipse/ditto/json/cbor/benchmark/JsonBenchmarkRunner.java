@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json.cbor.benchmark;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs all JSON benchmarks of this package and writes the results in JSON format in order to allow comparing them
+ * between releases.
+ * The first argument is the path of the result file, it defaults to {@value #DEFAULT_RESULT_FILE}.
+ * <p>
+ * When using the benchmark assembly of profile {@code build-benchmark-assembly} the same result can be obtained by
+ * {@code java -jar <assembly>.jar "org.eclipse.ditto.json.cbor.benchmark.*" -rf json -rff <file>}.
+ * </p>
+ */
+public final class JsonBenchmarkRunner {
+
+    private static final String DEFAULT_RESULT_FILE = "jmh-result.json";
+
+    private JsonBenchmarkRunner() {
+        throw new AssertionError();
+    }
+
+    public static void main(final String... args) throws RunnerException {
+        final Options options = new OptionsBuilder()
+                .include(JsonBenchmarkRunner.class.getPackage().getName() + ".*")
+                .resultFormat(ResultFormatType.JSON)
+                .result(0 < args.length ? args[0] : DEFAULT_RESULT_FILE)
+                .build();
+        new Runner(options).run();
+    }
+
+}
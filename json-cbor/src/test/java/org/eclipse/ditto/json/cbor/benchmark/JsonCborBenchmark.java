@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json.cbor.benchmark;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.json.cbor.JacksonCborFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH Benchmark for serializing Thing JSON to CBOR and parsing it again via {@link JacksonCborFactory}.
+ */
+@State(Scope.Benchmark)
+public class JsonCborBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 10;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+    private static final int WARMUP_TIME = 1000;
+    private static final int MEASUREMENT_TIME = 1000;
+
+    private static final JacksonCborFactory CBOR_FACTORY = new JacksonCborFactory();
+
+    @Param({"1", "20", "200"})
+    public int featureCount;
+
+    private JsonObject thing;
+    private byte[] thingCbor;
+    private ByteBuffer byteBuffer;
+
+    @Setup
+    public void setup() throws IOException {
+        thing = BenchmarkThings.createThing(featureCount);
+        thingCbor = CBOR_FACTORY.toByteArray(thing);
+        byteBuffer = ByteBuffer.allocate(4 * thingCbor.length);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public ByteBuffer writeToCbor() throws IOException {
+        byteBuffer.clear();
+        CBOR_FACTORY.writeToByteBuffer(thing, byteBuffer);
+        return byteBuffer;
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public JsonValue readFromCbor() {
+        return CBOR_FACTORY.readFrom(thingCbor);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public JsonValue roundTripThroughCbor() throws IOException {
+        byteBuffer.clear();
+        CBOR_FACTORY.writeToByteBuffer(thing, byteBuffer);
+        byteBuffer.flip();
+        return CBOR_FACTORY.readFrom(byteBuffer);
+    }
+
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json.cbor.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.json.JsonMergePatch;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonSerializationMode;
+import org.eclipse.ditto.json.JsonValue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH Benchmark for the operations which are applied most frequently to Thing JSON objects: setting a value by
+ * pointer, applying merge patches, projecting by field selector and comparing.
+ */
+@State(Scope.Benchmark)
+public class JsonObjectOperationsBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 10;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+    private static final int WARMUP_TIME = 1000;
+    private static final int MEASUREMENT_TIME = 1000;
+    private static final int FRESH_THINGS_BATCH_SIZE = 1000;
+
+    @Param({"1", "20", "200"})
+    public int featureCount;
+
+    private JsonObject thing;
+    private JsonObject equalThing;
+    private JsonPointer propertyPointer;
+    private JsonObject mergePatch;
+    private JsonFieldSelector fieldSelector;
+
+    @Setup
+    public void setup() {
+        thing = BenchmarkThings.createThing(featureCount);
+        // lazily serialized objects have to be compared field by field
+        equalThing = BenchmarkThings.createThing(featureCount, JsonSerializationMode.LAZY);
+        final String featureId = BenchmarkThings.getFeatureId(featureCount / 2);
+        propertyPointer = JsonPointer.of("/features/" + featureId + "/properties/status/value");
+        mergePatch = JsonObject.newBuilder()
+                .set(JsonPointer.of("/attributes/location/building"), "B3")
+                .set(JsonPointer.of("/features/" + featureId + "/properties/status/value"), 42.0)
+                .set(JsonPointer.of("/features/" + featureId + "/properties/errorCount"), JsonValue.nullLiteral())
+                .build();
+        fieldSelector = JsonFactory.newFieldSelector("thingId,attributes/location,features/" + featureId +
+                "/properties/status", JsonFactory.newParseOptionsBuilder().withoutUrlDecoding().build());
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public JsonObject setValueByPointer() {
+        return thing.setValue(propertyPointer, 23.0);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public JsonValue applyMergePatch() {
+        return JsonMergePatch.of(mergePatch).applyOn(thing);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public JsonValue mergeJsonValues() {
+        return JsonFactory.mergeJsonValues(mergePatch, thing);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public JsonObject projectByFieldSelector() {
+        return thing.get(fieldSelector);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public boolean equalsOfDistinctInstances() {
+        return equalThing.equals(thing);
+    }
+
+    /**
+     * Each invocation has to use a Thing whose hash code was not yet calculated, thus this benchmark measures the
+     * time of a batch of invocations, each on its own Thing of the current iteration's {@link FreshThings}.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = WARMUP_ITERATIONS, batchSize = FRESH_THINGS_BATCH_SIZE)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, batchSize = FRESH_THINGS_BATCH_SIZE)
+    public int hashCodeOfFreshInstance(final FreshThings freshThings) {
+        return freshThings.next().hashCode();
+    }
+
+    /**
+     * Provides a batch of new Things per iteration as JSON objects cache their hash code.
+     */
+    @State(Scope.Thread)
+    public static class FreshThings {
+
+        private JsonObject[] things;
+        private int nextIndex;
+
+        @Setup(Level.Iteration)
+        public void setup(final JsonObjectOperationsBenchmark benchmark) {
+            things = new JsonObject[FRESH_THINGS_BATCH_SIZE];
+            for (int i = 0; i < things.length; i++) {
+                things[i] = BenchmarkThings.createThing(benchmark.featureCount, JsonSerializationMode.LAZY);
+            }
+            nextIndex = 0;
+        }
+
+        private JsonObject next() {
+            return things[nextIndex++];
+        }
+
+    }
+
+}
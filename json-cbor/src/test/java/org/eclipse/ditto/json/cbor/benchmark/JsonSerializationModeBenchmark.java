@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json.cbor.benchmark;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonSerializationMode;
+import org.eclipse.ditto.json.cbor.JacksonCborFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH Benchmark comparing {@link JsonSerializationMode#EAGER} with {@link JsonSerializationMode#LAZY} creation of the
+ * serialized representation of JSON objects while CBOR is available.
+ */
+@State(Scope.Benchmark)
+public class JsonSerializationModeBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 10;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+    private static final int WARMUP_TIME = 1000;
+    private static final int MEASUREMENT_TIME = 1000;
+
+    private static final JacksonCborFactory CBOR_FACTORY = new JacksonCborFactory();
+
+    @Param({"EAGER", "LAZY"})
+    public JsonSerializationMode serializationMode;
+
+    @Param({"10", "100"})
+    public int featureCount;
+
+    private ByteBuffer byteBuffer;
+
+    @Setup
+    public void setup() {
+        byteBuffer = ByteBuffer.allocate(1024 * 1024);
+    }
+
+    /**
+     * Builds a Thing like JSON object with all of its intermediate JSON objects which are discarded without ever
+     * being serialized.
+     */
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public JsonObject buildIntermediateObjects() {
+        return buildThing(serializationMode, featureCount);
+    }
+
+    /**
+     * Builds a Thing like JSON object and creates its JSON string representation.
+     */
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public String buildAndConvertToString() {
+        return buildThing(serializationMode, featureCount).toString();
+    }
+
+    /**
+     * Builds a Thing like JSON object and serializes it to CBOR.
+     */
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public ByteBuffer buildAndSerializeToCbor() throws IOException {
+        byteBuffer.clear();
+        CBOR_FACTORY.writeToByteBuffer(buildThing(serializationMode, featureCount), byteBuffer);
+        return byteBuffer;
+    }
+
+    /**
+     * Sets a single feature property of a Thing like JSON object which results in new JSON objects for each level of
+     * the property's pointer.
+     */
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public JsonObject buildAndSetFeatureProperty() {
+        return buildThing(serializationMode, featureCount)
+                .setValue("/features/feature-0/properties/status/value", 4711);
+    }
+
+    private static JsonObject buildThing(final JsonSerializationMode serializationMode, final int featureCount) {
+        final JsonObjectBuilder featuresBuilder = JsonObject.newBuilder();
+        for (int i = 0; i < featureCount; i++) {
+            final JsonObject status = JsonObject.newBuilder()
+                    .set("value", i)
+                    .set("unit", "celsius")
+                    .set("updated", "2022-04-01T12:00:00Z")
+                    .build(serializationMode);
+            final JsonObject properties = JsonObject.newBuilder()
+                    .set("status", status)
+                    .set("active", i % 2 == 0)
+                    .build(serializationMode);
+            final JsonObject feature = JsonObject.newBuilder()
+                    .set("properties", properties)
+                    .build(serializationMode);
+            featuresBuilder.set("feature-" + i, feature);
+        }
+        final JsonObject attributes = JsonObject.newBuilder()
+                .set("manufacturer", "ACME")
+                .set("location", JsonObject.newBuilder()
+                        .set("latitude", 47.68)
+                        .set("longitude", 9.38)
+                        .build(serializationMode))
+                .build(serializationMode);
+
+        return JsonObject.newBuilder()
+                .set("thingId", "org.eclipse.ditto:benchmark-thing")
+                .set("policyId", "org.eclipse.ditto:benchmark-policy")
+                .set("attributes", attributes)
+                .set("features", featuresBuilder.build(serializationMode))
+                .build(serializationMode);
+    }
+
+}
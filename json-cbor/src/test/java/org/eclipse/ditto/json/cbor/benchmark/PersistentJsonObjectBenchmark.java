@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json.cbor.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonSerializationMode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH Benchmark comparing point updates of large Thing like JSON objects which are backed by copied field maps with
+ * ones backed by persistent field maps sharing their unchanged parts.
+ * The field map implementation is selected per fork via the system property
+ * {@code ditto.json.persistent-object.min-size}.
+ */
+@State(Scope.Benchmark)
+public class PersistentJsonObjectBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 10;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+    private static final int WARMUP_TIME = 1000;
+    private static final int MEASUREMENT_TIME = 1000;
+
+    private static final String MAP_COPY = "-Dditto.json.persistent-object.min-size=0";
+    private static final String PERSISTENT = "-Dditto.json.persistent-object.min-size=32";
+
+    @Param({"EAGER", "LAZY"})
+    public JsonSerializationMode serializationMode;
+
+    @Param({"50", "500"})
+    public int featureCount;
+
+    private JsonObject thing;
+    private JsonPointer propertyPointer;
+    private int counter;
+
+    @Setup
+    public void setup() {
+        final JsonObjectBuilder featuresBuilder = JsonObject.newBuilder();
+        for (int i = 0; i < featureCount; i++) {
+            final JsonObject properties = JsonObject.newBuilder()
+                    .set("value", i)
+                    .set("unit", "celsius")
+                    .set("active", i % 2 == 0)
+                    .build(serializationMode);
+            featuresBuilder.set("feature-" + i, JsonObject.newBuilder()
+                    .set("properties", properties)
+                    .build(serializationMode));
+        }
+        thing = JsonObject.newBuilder()
+                .set("thingId", "org.eclipse.ditto:benchmark-thing")
+                .set("policyId", "org.eclipse.ditto:benchmark-policy")
+                .set("features", featuresBuilder.build(serializationMode))
+                .build(serializationMode);
+        propertyPointer = JsonPointer.of("/features/feature-" + (featureCount / 2) + "/properties/value");
+        counter = 0;
+    }
+
+    @Benchmark
+    @Fork(jvmArgsAppend = MAP_COPY)
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public JsonObject setFeaturePropertyWithMapCopy() {
+        return thing.setValue(propertyPointer, counter++);
+    }
+
+    @Benchmark
+    @Fork(jvmArgsAppend = PERSISTENT)
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public JsonObject setFeaturePropertyWithPersistentMap() {
+        return thing.setValue(propertyPointer, counter++);
+    }
+
+    @Benchmark
+    @Fork(jvmArgsAppend = MAP_COPY)
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public JsonObject removeFeaturePropertyWithMapCopy() {
+        return thing.remove(propertyPointer);
+    }
+
+    @Benchmark
+    @Fork(jvmArgsAppend = PERSISTENT)
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public JsonObject removeFeaturePropertyWithPersistentMap() {
+        return thing.remove(propertyPointer);
+    }
+
+}
@@ -70,6 +70,24 @@ public interface CborFactory {
      */
     JsonValue readFrom(ByteBuffer byteBuffer);
 
+    /**
+     * Deserializes a {@code JsonValue} by parsing the passed {@code byteBuffer} with CBOR.
+     * JSON objects which are nested deeper than {@code eagerDepth} are not decoded but only sliced from the buffer;
+     * their fields are decoded on first access and they are serialized as CBOR again by writing the sliced bytes
+     * unchanged.
+     * The default implementation decodes all JSON objects eagerly by delegating to {@link #readFrom(ByteBuffer)}.
+     *
+     * @param byteBuffer the ByteBuffer to parse with CBOR.
+     * @param eagerDepth the nesting depth up to which JSON objects are decoded eagerly, the root value having depth
+     * {@code 0}.
+     * @return the parsed JsonValue.
+     * @throws JsonParseException if the content of {@code byteBuffer} cannot be deserialized to a {@link JsonValue}.
+     * @since 2.5.0
+     */
+    default JsonValue readFrom(final ByteBuffer byteBuffer, final int eagerDepth) {
+        return readFrom(byteBuffer);
+    }
+
     /**
      * Serializes a CBOR byte array from the passed {@code jsonValue}.
      *
@@ -116,4 +134,20 @@ public interface CborFactory {
      * @throws IOException in case writing the value to the backing OutputStream causes an IOException.
      */
     byte[] createCborRepresentation(List<JsonValue> list, int guessedSerializedSize) throws IOException;
+
+    /**
+     * Creates a writer which streams CBOR directly into the passed {@code byteBuffer}.
+     * The writer has to be closed in order to ensure that all written data reached the buffer.
+     * The default implementation does not support streaming.
+     *
+     * @param byteBuffer the ByteBuffer to write into.
+     * @return the writer.
+     * @throws IOException in case the writer cannot be created.
+     * @throws UnsupportedOperationException if this factory does not support streaming CBOR, which is the case for
+     * the default implementation.
+     * @since 2.5.0
+     */
+    default JsonWriter createWriter(final ByteBuffer byteBuffer) throws IOException {
+        throw new UnsupportedOperationException("Streaming CBOR is not supported by " + getClass().getName());
+    }
 }
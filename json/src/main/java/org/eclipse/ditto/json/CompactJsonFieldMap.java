@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * An unmodifiable Map of JSON fields for JSON objects with only a few fields.
+ * Keys and fields are held in two parallel arrays which are searched linearly, thus this Map has far less memory
+ * overhead than a {@link java.util.LinkedHashMap} while keeping the insertion order of the fields.
+ * <p>
+ * The maximum number of fields of a JSON object which is represented by this Map is determined by the system property
+ * {@value #MAX_SIZE_SYSTEM_PROPERTY_NAME}.
+ * A value of {@code 0} disables the compact representation.
+ * If the property is not set or has an invalid value, {@value #DEFAULT_MAX_SIZE} is used.
+ * </p>
+ */
+@Immutable
+final class CompactJsonFieldMap extends AbstractMap<String, JsonField> {
+
+    /**
+     * Name of the system property which defines the maximum number of fields of a compact JSON object.
+     */
+    static final String MAX_SIZE_SYSTEM_PROPERTY_NAME = "ditto.json.compact-object.max-size";
+
+    /**
+     * The maximum number of fields of a compact JSON object if the system property is not set.
+     */
+    static final int DEFAULT_MAX_SIZE = 8;
+
+    /**
+     * The maximum number of fields of a compact JSON object.
+     */
+    static final int MAX_SIZE = SystemProperties.getNonNegativeInt(MAX_SIZE_SYSTEM_PROPERTY_NAME, DEFAULT_MAX_SIZE);
+
+    private final String[] keys;
+    private final JsonField[] fields;
+
+    private CompactJsonFieldMap(final String[] keys, final JsonField[] fields) {
+        this.keys = keys;
+        this.fields = fields;
+    }
+
+    /**
+     * Indicates whether a JSON object with the given number of fields should be represented by a
+     * {@code CompactJsonFieldMap}.
+     *
+     * @param size the number of fields.
+     * @return {@code true} if {@code size} does not exceed {@link #MAX_SIZE}.
+     */
+    static boolean isApplicable(final int size) {
+        return size <= MAX_SIZE;
+    }
+
+    /**
+     * Returns a new instance of {@code CompactJsonFieldMap} containing the entries of the given Map in iteration
+     * order.
+     *
+     * @param fieldMap the entries of the returned Map.
+     * @return the instance.
+     * @throws NullPointerException if {@code fieldMap} is {@code null}.
+     */
+    static CompactJsonFieldMap of(final Map<String, JsonField> fieldMap) {
+        final int size = fieldMap.size();
+        final String[] keys = new String[size];
+        final JsonField[] fields = new JsonField[size];
+        int i = 0;
+        for (final Entry<String, JsonField> entry : fieldMap.entrySet()) {
+            keys[i] = entry.getKey();
+            fields[i] = entry.getValue();
+            i++;
+        }
+        return new CompactJsonFieldMap(keys, fields);
+    }
+
+    @Override
+    public int size() {
+        return keys.length;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return 0 == keys.length;
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return 0 <= indexOf(key);
+    }
+
+    @Nullable
+    @Override
+    public JsonField get(final Object key) {
+        final int index = indexOf(key);
+        return 0 <= index ? fields[index] : null;
+    }
+
+    private int indexOf(final Object key) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i].equals(key)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public Collection<JsonField> values() {
+        return Collections.unmodifiableList(Arrays.asList(fields));
+    }
+
+    @Override
+    public Set<Entry<String, JsonField>> entrySet() {
+        return new EntrySet();
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        for (int i = 0; i < keys.length; i++) {
+            result += keys[i].hashCode() ^ fields[i].hashCode();
+        }
+        return result;
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<String, JsonField>> {
+
+        @Override
+        public Iterator<Entry<String, JsonField>> iterator() {
+            return new Iterator<Entry<String, JsonField>>() {
+
+                private int index = 0;
+
+                @Override
+                public boolean hasNext() {
+                    return index < keys.length;
+                }
+
+                @Override
+                public Entry<String, JsonField> next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    final Entry<String, JsonField> result = new SimpleImmutableEntry<>(keys[index], fields[index]);
+                    index++;
+                    return result;
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return keys.length;
+        }
+
+    }
+
+}
@@ -160,11 +160,16 @@ final class DefaultDittoJsonHandler extends DittoJsonHandler<List<JsonValue>, Li
 
     @Override
     public void endObjectValue(final List<JsonField> jsonFields, final String name) {
-        final JsonField jsonField = JsonField.newInstance(name, jsonValue);
+        endObjectValue(jsonFields, JsonKey.of(name));
+    }
+
+    @Override
+    public void endObjectValue(final List<JsonField> jsonFields, final JsonKey key) {
+        final JsonField jsonField = JsonField.newInstance(key, jsonValue);
         jsonFields.add(jsonField);
         final StringBuilder stringBuilder = stringBuilders.peek();
         if (null != stringBuilder) {
-            stringBuilder.append(getEscapedJsonString(name));
+            stringBuilder.append(getEscapedJsonString(key.toString()));
             stringBuilder.append(':');
             stringBuilder.append(valueString);
             stringBuilder.append(DELIMITER);
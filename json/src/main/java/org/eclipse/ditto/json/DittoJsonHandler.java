@@ -30,4 +30,18 @@ abstract class DittoJsonHandler<A, O, V> extends JsonHandler<A, O> {
      */
     protected abstract V getValue();
 
+    /**
+     * Indicates the end of an object member value which was read for the given key.
+     * Parsers which already resolved the member name to a {@link JsonKey} call this method instead of
+     * {@link #endObjectValue(Object, String)} so that handlers are able to re-use the key instance.
+     * The default implementation delegates to {@link #endObjectValue(Object, String)}.
+     *
+     * @param object the object handler returned from {@link #startObject()}.
+     * @param key the key of the member.
+     * @since 2.5.0
+     */
+    public void endObjectValue(final O object, final JsonKey key) {
+        endObjectValue(object, key.toString());
+    }
+
 }
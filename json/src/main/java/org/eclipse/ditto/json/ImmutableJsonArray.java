@@ -79,6 +79,23 @@ final class ImmutableJsonArray extends AbstractJsonValue implements JsonArray {
         return new ImmutableJsonArray(SoftReferencedValueList.of(values));
     }
 
+    /**
+     * Returns a new JSON array which contains the given values and which creates its serialized representation
+     * according to the given serialization mode.
+     *
+     * @param values the values to base the JSON array to be created on.
+     * @param serializationMode determines when the serialized representation of the returned array is created.
+     * @return a new JSON array.
+     * @throws NullPointerException if any argument is {@code null}.
+     * @since 2.5.0
+     */
+    public static ImmutableJsonArray of(final List<JsonValue> values,
+            final JsonSerializationMode serializationMode) {
+
+        requireNonNull(values, ASSERTION_VALUES_OF_JSON_ARRAY);
+        return new ImmutableJsonArray(SoftReferencedValueList.of(values, serializationMode));
+    }
+
     /**
      * Returns a new JSON array which is based on the given JSON array of the Minimal Json project library.
      *
@@ -286,6 +303,7 @@ final class ImmutableJsonArray extends AbstractJsonValue implements JsonArray {
     static final class SoftReferencedValueList {
 
         private static final long CBOR_MAX_COMPRESSION_RATIO = 5; // "false" compressed to one byte
+        private static final long NUM_ENCLOSING_BRACKETS = 2;
         private static final CborFactory CBOR_FACTORY;
 
         static {
@@ -295,19 +313,32 @@ final class ImmutableJsonArray extends AbstractJsonValue implements JsonArray {
                     .orElseGet(NoopCborFactory::new); // when no Service could be found -> CBOR not available
         }
 
+        private final JsonSerializationMode serializationMode;
         private String jsonArrayStringRepresentation;
         private byte[] cborArrayRepresentation;
         private int hashCode;
         private SoftReference<List<JsonValue>> valuesReference;
 
+        /*
+         * Keeps the values reachable for as long as no serialized representation exists to recover them from.
+         * Only set in lazy serialization mode.
+         */
+        @Nullable private volatile List<JsonValue> strongValuesReference;
+
         private SoftReferencedValueList(final List<JsonValue> jsonValueList,
                 @Nullable final String stringRepresentation,
-                @Nullable final byte[] cborArrayRepresentation) {
-            valuesReference = new SoftReference<>(Collections.unmodifiableList(new ArrayList<>(jsonValueList)));
+                @Nullable final byte[] cborArrayRepresentation,
+                final JsonSerializationMode serializationMode) {
+            this.serializationMode = requireNonNull(serializationMode, "The serialization mode must not be null!");
+            final List<JsonValue> values = Collections.unmodifiableList(new ArrayList<>(jsonValueList));
+            valuesReference = new SoftReference<>(values);
             jsonArrayStringRepresentation = stringRepresentation;
             this.cborArrayRepresentation = cborArrayRepresentation;
+            strongValuesReference = null;
             if (jsonArrayStringRepresentation == null && cborArrayRepresentation == null) {
-                if (CBOR_FACTORY.isCborAvailable()) {
+                if (JsonSerializationMode.LAZY == serializationMode) {
+                    strongValuesReference = values;
+                } else if (CBOR_FACTORY.isCborAvailable()) {
                     try {
                         this.cborArrayRepresentation = CBOR_FACTORY.createCborRepresentation(jsonValueList,
                                         guessSerializedSize());
@@ -327,23 +358,29 @@ final class ImmutableJsonArray extends AbstractJsonValue implements JsonArray {
         }
 
         static SoftReferencedValueList of(final List<JsonValue> values) {
-            return new SoftReferencedValueList(values, null, null);
+            return of(values, JsonSerializationMode.getDefault());
+        }
+
+        static SoftReferencedValueList of(final List<JsonValue> values,
+                final JsonSerializationMode serializationMode) {
+            return new SoftReferencedValueList(values, null, null, serializationMode);
         }
 
         static SoftReferencedValueList of(final List<JsonValue> jsonValueList,
                 @Nullable final String stringRepresentation) {
-            return new SoftReferencedValueList(jsonValueList, stringRepresentation, null);
+            return of(jsonValueList, stringRepresentation, null);
         }
 
         static SoftReferencedValueList of(final List<JsonValue> jsonValueList,
                 @Nullable final byte[] cborRepresentation) {
-            return new SoftReferencedValueList(jsonValueList, null, cborRepresentation);
+            return of(jsonValueList, null, cborRepresentation);
         }
 
         static SoftReferencedValueList of(final List<JsonValue> jsonValueList,
                 @Nullable final String stringRepresentation,
                 @Nullable final byte[] cborRepresentation) {
-            return new SoftReferencedValueList(jsonValueList, stringRepresentation, cborRepresentation);
+            return new SoftReferencedValueList(jsonValueList, stringRepresentation, cborRepresentation,
+                    JsonSerializationMode.getDefault());
         }
 
         private String createStringRepresentation(final Iterable<JsonValue> jsonValues) {
@@ -383,7 +420,7 @@ final class ImmutableJsonArray extends AbstractJsonValue implements JsonArray {
         SoftReferencedValueList add(final JsonValue jsonValue) {
             final List<JsonValue> valuesCopy = copyValues();
             valuesCopy.add(jsonValue);
-            return of(valuesCopy);
+            return of(valuesCopy, serializationMode);
         }
 
         private List<JsonValue> copyValues() {
@@ -391,6 +428,10 @@ final class ImmutableJsonArray extends AbstractJsonValue implements JsonArray {
         }
 
         private List<JsonValue> values() {
+            final List<JsonValue> strongValues = strongValuesReference;
+            if (null != strongValues) {
+                return strongValues;
+            }
             List<JsonValue> result = valuesReference.get();
             if (null == result) {
                 result = recoverValues();
@@ -469,6 +510,7 @@ final class ImmutableJsonArray extends AbstractJsonValue implements JsonArray {
         String asJsonArrayString() {
             if (jsonArrayStringRepresentation == null) {
                 jsonArrayStringRepresentation = createStringRepresentation(this.values());
+                releaseStrongValuesReference();
             }
             return jsonArrayStringRepresentation;
         }
@@ -476,10 +518,18 @@ final class ImmutableJsonArray extends AbstractJsonValue implements JsonArray {
         void writeValue(final SerializationContext serializationContext) throws IOException {
             if (CBOR_FACTORY.isCborAvailable() && cborArrayRepresentation == null) {
                 cborArrayRepresentation = CBOR_FACTORY.createCborRepresentation(this.values(), guessSerializedSize());
+                releaseStrongValuesReference();
             }
             serializationContext.writeCachedElement(cborArrayRepresentation);
         }
 
+        private void releaseStrongValuesReference() {
+            // the values can be recovered from the serialized representation from now on
+            if (null != strongValuesReference) {
+                strongValuesReference = null;
+            }
+        }
+
         private int guessSerializedSize() {
             // This function currently overestimates for CBOR and underestimates for JSON, but it should be better
             //  than a static guess
@@ -499,8 +549,13 @@ final class ImmutableJsonArray extends AbstractJsonValue implements JsonArray {
             if (cborArrayRepresentation != null) {
                 return cborArrayRepresentation.length * CBOR_MAX_COMPRESSION_RATIO;
             }
-            assert false; // this should never happen
-            return Long.MAX_VALUE;
+            // not serialized yet (lazy mode): sum up the bounds of the values instead of serializing them
+            final List<JsonValue> values = values();
+            long result = NUM_ENCLOSING_BRACKETS + Math.max(0, values.size() - 1); // delimiting commas
+            for (final JsonValue value : values) {
+                result += value.getUpperBoundForStringSize();
+            }
+            return result;
         }
     }
 
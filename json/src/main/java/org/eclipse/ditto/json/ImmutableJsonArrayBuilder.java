@@ -251,6 +251,11 @@ final class ImmutableJsonArrayBuilder implements JsonArrayBuilder {
         return ImmutableJsonArray.of(values);
     }
 
+    @Override
+    public JsonArray build(final JsonSerializationMode serializationMode) {
+        return ImmutableJsonArray.of(values, serializationMode);
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
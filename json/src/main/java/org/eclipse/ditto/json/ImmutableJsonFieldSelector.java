@@ -35,6 +35,7 @@ final class ImmutableJsonFieldSelector implements JsonFieldSelector {
 
     private final Set<JsonPointer> pointers;
     private final String jsonFieldSelectorString;
+    @Nullable private transient JsonFieldSelectorProjector projector;
 
     private ImmutableJsonFieldSelector(final Iterable<JsonPointer> thePointers,
             @Nullable final String theJsonFieldSelectorString) {
@@ -90,6 +91,21 @@ final class ImmutableJsonFieldSelector implements JsonFieldSelector {
         return new ImmutableJsonFieldSelector(pointers, fieldSelectorString);
     }
 
+    /**
+     * Returns the projector of this field selector which is compiled on first access.
+     *
+     * @return the projector.
+     */
+    JsonFieldSelectorProjector getProjector() {
+        // no need to synchronize as it is okay to compile the projector more than once
+        JsonFieldSelectorProjector result = projector;
+        if (null == result) {
+            result = JsonFieldSelectorProjector.compile(this);
+            projector = result;
+        }
+        return result;
+    }
+
     @Override
     public Set<JsonPointer> getPointers() {
         return pointers;
@@ -25,6 +25,8 @@ import javax.annotation.concurrent.Immutable;
 @Immutable
 final class ImmutableJsonKey implements JsonKey {
 
+    private static final InternPool<JsonKey> POOL = InternPool.newInstance("key");
+
     private final String keyValue;
 
     private ImmutableJsonKey(final String theKeyValue) {
@@ -32,7 +34,8 @@ final class ImmutableJsonKey implements JsonKey {
     }
 
     /**
-     * Returns a new JSON Key based on the provided string.
+     * Returns a JSON Key based on the provided string.
+     * Frequently used keys are interned, i. e. the same instance is returned for equal key strings.
      *
      * @param keyValue the character sequence forming the keyValue's value.
      * @return a new JSON Key.
@@ -48,7 +51,16 @@ final class ImmutableJsonKey implements JsonKey {
             throw new IllegalArgumentException("The key string must not be empty!");
         }
 
-        return new ImmutableJsonKey(keyValue.toString());
+        return POOL.intern(keyValue.toString(), ImmutableJsonKey::new);
+    }
+
+    /**
+     * Returns a snapshot of the statistics of the pool of interned keys.
+     *
+     * @return the statistics.
+     */
+    static JsonInternPoolStatistics getPoolStatistics() {
+        return POOL.getStatistics();
     }
 
     @Override
@@ -85,7 +97,8 @@ final class ImmutableJsonKey implements JsonKey {
 
     @Override
     public int hashCode() {
-        return Objects.hash(keyValue);
+        // String caches its hash code, thus this does not need to be cached
+        return 31 + keyValue.hashCode();
     }
 
     @Override
@@ -16,6 +16,7 @@ import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
 import java.lang.ref.SoftReference;
+import java.nio.ByteBuffer;
 import java.text.MessageFormat;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
@@ -83,6 +84,22 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
         return new ImmutableJsonObject(SoftReferencedFieldMap.of(fields));
     }
 
+    /**
+     * Returns a new {@code ImmutableJsonObject} instance which contains the given fields and which creates its
+     * serialized representation according to the given serialization mode.
+     *
+     * @param fields the fields of the new JSON object.
+     * @param serializationMode determines when the serialized representation of the returned object is created.
+     * @return a new JSON object containing the {@code fields}.
+     * @throws NullPointerException if any argument is {@code null}.
+     * @since 2.5.0
+     */
+    public static ImmutableJsonObject of(final Map<String, JsonField> fields,
+            final JsonSerializationMode serializationMode) {
+
+        return new ImmutableJsonObject(SoftReferencedFieldMap.of(fields, serializationMode));
+    }
+
     /**
      * Returns a new {@code ImmutableJsonObject} instance which contains the given fields.
      *
@@ -354,46 +371,7 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
     public JsonObject get(final JsonFieldSelector fieldSelector) {
         requireNonNull(fieldSelector, "The JSON field selector must not be null!");
 
-        if (isEmpty()) {
-            return this;
-        }
-
-        final List<JsonPointer> pointersContainedInThis = fieldSelector.getPointers()
-                .stream()
-                .filter(this::contains)
-                .collect(Collectors.toList());
-
-        if (pointersContainedInThis.isEmpty()) {
-            return empty();
-        } else {
-            return filterByTrie(this, JsonFieldSelectorTrie.of(pointersContainedInThis));
-        }
-    }
-
-    @SuppressWarnings({"rawtypes", "java:S3740"})
-    private static JsonObject filterByTrie(final JsonObject self, final JsonFieldSelectorTrie trie) {
-        if (trie.isEmpty()) {
-            return self;
-        }
-
-        final JsonObjectBuilder builder = JsonObject.newBuilder();
-
-        for (final JsonKey key : trie.getKeys()) {
-            self.getField(key).ifPresent(child -> {
-                final JsonValue childValue = child.getValue();
-                final JsonValue filteredChildValue = childValue.isObject()
-                        ? filterByTrie(childValue.asObject(), trie.descend(key))
-                        : childValue;
-                final Optional<JsonFieldDefinition> childFieldDefinition = child.getDefinition();
-                if (childFieldDefinition.isPresent()) {
-                    builder.set(childFieldDefinition.get(), filteredChildValue);
-                } else {
-                    builder.set(key, filteredChildValue);
-                }
-            });
-        }
-
-        return builder.build();
+        return JsonFieldSelectorProjector.of(fieldSelector).project(this);
     }
 
     @Override
@@ -543,6 +521,9 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
     static final class SoftReferencedFieldMap {
 
         private static final long CBOR_MAX_COMPRESSION_RATIO = 5; // "false" compressed to one byte
+        private static final long MAX_CHAR_ESCAPE_SEQUENCE_LENGTH = 6; // "\u1234"
+        private static final long NUM_ENCLOSING_QUOTES = 2;
+        private static final long NUM_ENCLOSING_BRACES = 2;
         private static final CborFactory CBOR_FACTORY;
 
         static {
@@ -552,20 +533,34 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
                     .orElseGet(NoopCborFactory::new); // when no Service could be found -> CBOR not available
         }
 
+        private final JsonSerializationMode serializationMode;
         private String jsonObjectStringRepresentation;
         private byte[] cborObjectRepresentation;
         private int hashCode;
-        private SoftReference<Map<String, JsonField>> fieldsReference;
+        @Nullable private SoftReference<Map<String, JsonField>> fieldsReference;
+
+        /*
+         * Keeps the fields reachable for as long as no serialized representation exists to recover them from.
+         * Only set in lazy serialization mode.
+         */
+        @Nullable private volatile Map<String, JsonField> strongFieldsReference;
 
         private SoftReferencedFieldMap(final Map<String, JsonField> jsonFieldMap,
-                @Nullable final String stringRepresentation, @Nullable final byte[] cborObjectRepresentation) {
+                @Nullable final String stringRepresentation,
+                @Nullable final byte[] cborObjectRepresentation,
+                final JsonSerializationMode serializationMode) {
 
             requireNonNull(jsonFieldMap, "The fields of JSON object must not be null!");
-            fieldsReference = new SoftReference<>(Collections.unmodifiableMap(new LinkedHashMap<>(jsonFieldMap)));
+            this.serializationMode = requireNonNull(serializationMode, "The serialization mode must not be null!");
+            final Map<String, JsonField> fields = copyToUnmodifiableMap(jsonFieldMap);
+            fieldsReference = new SoftReference<>(fields);
+            strongFieldsReference = null;
             jsonObjectStringRepresentation = stringRepresentation;
             this.cborObjectRepresentation = cborObjectRepresentation;
             if (jsonObjectStringRepresentation == null && cborObjectRepresentation == null) {
-                if (CBOR_FACTORY.isCborAvailable()) {
+                if (JsonSerializationMode.LAZY == serializationMode) {
+                    strongFieldsReference = fields;
+                } else if (CBOR_FACTORY.isCborAvailable()) {
                     try {
                         this.cborObjectRepresentation = CBOR_FACTORY.createCborRepresentation(jsonFieldMap,
                                         guessSerializedSize());
@@ -580,28 +575,60 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
             hashCode = 0;
         }
 
+        private SoftReferencedFieldMap(final byte[] cborObjectRepresentation) {
+            this.cborObjectRepresentation =
+                    requireNonNull(cborObjectRepresentation, "The CBOR representation must not be null!");
+            serializationMode = JsonSerializationMode.getDefault();
+            jsonObjectStringRepresentation = null;
+            fieldsReference = null;
+            strongFieldsReference = null;
+            hashCode = 0;
+        }
+
+        private static Map<String, JsonField> copyToUnmodifiableMap(final Map<String, JsonField> jsonFieldMap) {
+            if (CompactJsonFieldMap.isApplicable(jsonFieldMap.size())) {
+                return CompactJsonFieldMap.of(jsonFieldMap);
+            } else if (PersistentJsonFieldMap.isApplicable(jsonFieldMap.size())) {
+                return PersistentJsonFieldMap.of(jsonFieldMap);
+            }
+            return Collections.unmodifiableMap(new LinkedHashMap<>(jsonFieldMap));
+        }
+
         static SoftReferencedFieldMap empty() {
             return of(Collections.emptyMap(), "{}", new byte[]{(byte) 0xA0});
         }
 
         static SoftReferencedFieldMap of(final Map<String, JsonField> fieldMap) {
-            return new SoftReferencedFieldMap(fieldMap, null, null);
+            return of(fieldMap, JsonSerializationMode.getDefault());
+        }
+
+        static SoftReferencedFieldMap of(final Map<String, JsonField> fieldMap,
+                final JsonSerializationMode serializationMode) {
+            return new SoftReferencedFieldMap(fieldMap, null, null, serializationMode);
         }
 
         static SoftReferencedFieldMap of(final Map<String, JsonField> jsonFieldMap,
                 @Nullable final String stringRepresentation) {
-            return new SoftReferencedFieldMap(jsonFieldMap, stringRepresentation, null);
+            return of(jsonFieldMap, stringRepresentation, null);
         }
 
         static SoftReferencedFieldMap of(final Map<String, JsonField> jsonFieldMap,
                 @Nullable final byte[] cborObjectRepresentation) {
-            return new SoftReferencedFieldMap(jsonFieldMap, null, cborObjectRepresentation);
+            return of(jsonFieldMap, null, cborObjectRepresentation);
         }
 
         static SoftReferencedFieldMap of(final Map<String, JsonField> jsonFieldMap,
                 @Nullable final String stringRepresentation,
                 @Nullable final byte[] cborObjectRepresentation) {
-            return new SoftReferencedFieldMap(jsonFieldMap, stringRepresentation, cborObjectRepresentation);
+            return new SoftReferencedFieldMap(jsonFieldMap, stringRepresentation, cborObjectRepresentation,
+                    JsonSerializationMode.getDefault());
+        }
+
+        /*
+         * The fields are decoded from the CBOR representation on first access.
+         */
+        static SoftReferencedFieldMap ofCbor(final byte[] cborObjectRepresentation) {
+            return new SoftReferencedFieldMap(cborObjectRepresentation);
         }
 
         private String createStringRepresentation(final Map<String, JsonField> jsonFieldMap) {
@@ -636,25 +663,37 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
         }
 
         SoftReferencedFieldMap put(final String key, final JsonField value) {
-            final Map<String, JsonField> fieldsCopy = copyFields();
+            final Map<String, JsonField> fields = fields();
+            if (fields instanceof PersistentJsonFieldMap) {
+                return of(((PersistentJsonFieldMap) fields).plus(key, value), serializationMode);
+            }
+            final Map<String, JsonField> fieldsCopy = new LinkedHashMap<>(fields);
             fieldsCopy.put(key, value);
-            return of(fieldsCopy);
-        }
-
-        private Map<String, JsonField> copyFields() {
-            return new LinkedHashMap<>(fields());
+            return of(fieldsCopy, serializationMode);
         }
 
         SoftReferencedFieldMap putAll(final Iterable<JsonField> jsonFields) {
-            final Map<String, JsonField> fieldsCopy = copyFields();
+            final Map<String, JsonField> fields = fields();
+            if (fields instanceof PersistentJsonFieldMap) {
+                PersistentJsonFieldMap persistentFields = (PersistentJsonFieldMap) fields;
+                for (final JsonField jsonField : jsonFields) {
+                    persistentFields = persistentFields.plus(jsonField.getKeyName(), jsonField);
+                }
+                return of(persistentFields, serializationMode);
+            }
+            final Map<String, JsonField> fieldsCopy = new LinkedHashMap<>(fields);
             jsonFields.forEach(jsonField -> fieldsCopy.put(jsonField.getKeyName(), jsonField));
-            return of(fieldsCopy);
+            return of(fieldsCopy, serializationMode);
         }
 
         SoftReferencedFieldMap remove(final String key) {
-            final Map<String, JsonField> fieldsCopy = copyFields();
+            final Map<String, JsonField> fields = fields();
+            if (fields instanceof PersistentJsonFieldMap) {
+                return of(((PersistentJsonFieldMap) fields).minus(key), serializationMode);
+            }
+            final Map<String, JsonField> fieldsCopy = new LinkedHashMap<>(fields);
             fieldsCopy.remove(key);
-            return of(fieldsCopy);
+            return of(fieldsCopy, serializationMode);
         }
 
         Stream<JsonField> getStream() {
@@ -666,7 +705,11 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
         }
 
         private Map<String, JsonField> fields() {
-            Map<String, JsonField> result = fieldsReference.get();
+            final Map<String, JsonField> strongFields = strongFieldsReference;
+            if (null != strongFields) {
+                return strongFields;
+            }
+            Map<String, JsonField> result = null != fieldsReference ? fieldsReference.get() : null;
             if (null == result) {
                 result = recoverFields();
                 fieldsReference = new SoftReference<>(result);
@@ -675,13 +718,15 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
         }
 
         private Map<String, JsonField> recoverFields() {
+            final Map<String, JsonField> result;
             if (CBOR_FACTORY.isCborAvailable() && cborObjectRepresentation != null) {
-                return parseToMap(cborObjectRepresentation);
-            }
-            if (jsonObjectStringRepresentation != null) {
-                return parseToMap(jsonObjectStringRepresentation);
+                result = parseToMap(cborObjectRepresentation);
+            } else if (jsonObjectStringRepresentation != null) {
+                result = parseToMap(jsonObjectStringRepresentation);
+            } else {
+                throw new IllegalStateException("Fatal cache miss on JsonObject");
             }
-            throw new IllegalStateException("Fatal cache miss on JsonObject");
+            return copyToUnmodifiableMap(result);
         }
 
         private static Map<String, JsonField> parseToMap(final String jsonObjectString) {
@@ -691,7 +736,8 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
         }
 
         private static Map<String, JsonField> parseToMap(final byte[] cborObjectRepresentation) {
-            final JsonValue jsonObject = CBOR_FACTORY.readFrom(cborObjectRepresentation);
+            // nested objects are again only decoded when they are accessed
+            final JsonValue jsonObject = CBOR_FACTORY.readFrom(ByteBuffer.wrap(cborObjectRepresentation), 0);
             final Map<String, JsonField> map = new LinkedHashMap<>();
             for (final JsonField jsonValue : jsonObject.asObject()) {
                 map.put(jsonValue.getKey().toString(), jsonValue);
@@ -737,6 +783,7 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
         String asJsonObjectString() {
             if (jsonObjectStringRepresentation == null) {
                 jsonObjectStringRepresentation = createStringRepresentation(this.fields());
+                releaseStrongFieldsReference();
             }
             return jsonObjectStringRepresentation;
         }
@@ -744,10 +791,18 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
         void writeValue(final SerializationContext serializationContext) throws IOException {
             if (CBOR_FACTORY.isCborAvailable() && cborObjectRepresentation == null) {
                 cborObjectRepresentation = CBOR_FACTORY.createCborRepresentation(this.fields(), guessSerializedSize());
+                releaseStrongFieldsReference();
             }
             serializationContext.writeCachedElement(cborObjectRepresentation);
         }
 
+        private void releaseStrongFieldsReference() {
+            // the fields can be recovered from the serialized representation from now on
+            if (null != strongFieldsReference && null != fieldsReference) {
+                strongFieldsReference = null;
+            }
+        }
+
         private int guessSerializedSize() {
             // This function currently overestimates for CBOR and underestimates for JSON, but it should be better than a static guess.
             if (jsonObjectStringRepresentation != null) {
@@ -766,8 +821,14 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
             if (cborObjectRepresentation != null) {
                 return cborObjectRepresentation.length * CBOR_MAX_COMPRESSION_RATIO;
             }
-            assert false; // this should never happen
-            return Long.MAX_VALUE;
+            // not serialized yet (lazy mode): sum up the bounds of the fields instead of serializing them
+            final Map<String, JsonField> fields = fields();
+            long result = NUM_ENCLOSING_BRACES + Math.max(0, fields.size() - 1); // delimiting commas
+            for (final JsonField field : fields.values()) {
+                result += field.getKeyName().length() * MAX_CHAR_ESCAPE_SEQUENCE_LENGTH + NUM_ENCLOSING_QUOTES + 1;
+                result += field.getValue().getUpperBoundForStringSize();
+            }
+            return result;
         }
 
     }
@@ -243,6 +243,11 @@ final class ImmutableJsonObjectBuilder implements JsonObjectBuilder {
         return ImmutableJsonObject.of(fields);
     }
 
+    @Override
+    public JsonObject build(final JsonSerializationMode serializationMode) {
+        return ImmutableJsonObject.of(fields, serializationMode);
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
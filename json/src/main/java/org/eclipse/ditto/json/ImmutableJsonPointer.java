@@ -26,10 +26,12 @@ import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
 
 /**
  * This class represents a JSON pointer consisting of at least one {@link JsonKey}.
+ * Frequently parsed pointers are interned.
  */
 @Immutable
 final class ImmutableJsonPointer implements JsonPointer {
@@ -42,11 +44,16 @@ final class ImmutableJsonPointer implements JsonPointer {
     private static final Pattern DECODED_TILDE_PATTERN = Pattern.compile("~");
 
     private static final ImmutableJsonPointer EMPTY = new ImmutableJsonPointer(Collections.emptyList());
+    private static final InternPool<JsonPointer> POOL = InternPool.newInstance("pointer");
 
     private final List<JsonKey> jsonKeyHierarchy;
+    private final int hashCode;
+    @Nullable private String stringRepresentation;
 
     private ImmutableJsonPointer(final List<JsonKey> theJsonKeys) {
         jsonKeyHierarchy = Collections.unmodifiableList(new ArrayList<>(theJsonKeys));
+        hashCode = calculateHashCode();
+        stringRepresentation = null;
     }
 
     /**
@@ -80,22 +87,36 @@ final class ImmutableJsonPointer implements JsonPointer {
             result = newInstance(Collections.singletonList(((JsonKey) slashDelimitedCharSequence)));
         } else if (0 == slashDelimitedCharSequence.length()) {
             result = empty();
-        } else if (DOUBLE_SLASH_PATTERN.matcher(slashDelimitedCharSequence).find()) {
-            throw JsonPointerInvalidException.newBuilderForConsecutiveSlashes(slashDelimitedCharSequence)
-                    .build();
         } else {
-            final List<JsonKey> jsonKeys = Stream.of(SINGLE_SLASH_REGEX_PATTERN.split(slashDelimitedCharSequence))
-                    .filter(keyName -> !keyName.isEmpty()) // ignore empty segments
-                    .map(ImmutableJsonPointer::decodeTilde)
-                    .map(JsonFactory::newKey)
-                    .collect(toList());
-
-            result = newInstance(jsonKeys);
+            result = POOL.intern(slashDelimitedCharSequence.toString(), ImmutableJsonPointer::parse);
         }
 
         return result;
     }
 
+    private static JsonPointer parse(final String slashDelimitedString) {
+        if (DOUBLE_SLASH_PATTERN.matcher(slashDelimitedString).find()) {
+            throw JsonPointerInvalidException.newBuilderForConsecutiveSlashes(slashDelimitedString)
+                    .build();
+        }
+        final List<JsonKey> jsonKeys = Stream.of(SINGLE_SLASH_REGEX_PATTERN.split(slashDelimitedString))
+                .filter(keyName -> !keyName.isEmpty()) // ignore empty segments
+                .map(ImmutableJsonPointer::decodeTilde)
+                .map(JsonFactory::newKey)
+                .collect(toList());
+
+        return newInstance(jsonKeys);
+    }
+
+    /**
+     * Returns a snapshot of the statistics of the pool of interned pointers.
+     *
+     * @return the statistics.
+     */
+    static JsonInternPoolStatistics getPoolStatistics() {
+        return POOL.getStatistics();
+    }
+
     private static String decodeTilde(final CharSequence keyString) {
         final Matcher matcher = ESCAPED_TILDE_PATTERN.matcher(keyString);
         return matcher.replaceAll(DECODED_TILDE_PATTERN.toString());
@@ -105,6 +126,19 @@ final class ImmutableJsonPointer implements JsonPointer {
         return new ImmutableJsonPointer(jsonKeyHierarchy);
     }
 
+    /*
+     * Copies the key range instead of sharing it, so that a derived pointer does not keep the keys of this pointer
+     * reachable.
+     */
+    private ImmutableJsonPointer copyLevels(final int fromLevel, final int toLevel) {
+        if (0 == fromLevel && getLevelCount() == toLevel) {
+            return this;
+        } else if (fromLevel == toLevel) {
+            return EMPTY;
+        }
+        return newInstance(jsonKeyHierarchy.subList(fromLevel, toLevel));
+    }
+
     /**
      * Returns a new JSON pointer instance.
      *
@@ -230,43 +264,34 @@ final class ImmutableJsonPointer implements JsonPointer {
         return get(getLevelCount() - 1);
     }
 
-    @SuppressWarnings("squid:S1166")
     @Override
     public Optional<JsonPointer> getSubPointer(final int level) {
-        final List<JsonKey> jsonKeysCopy = new ArrayList<>(jsonKeyHierarchy);
-        try {
-            final List<JsonKey> subList = jsonKeysCopy.subList(level, jsonKeysCopy.size());
-            return Optional.of(newInstance(subList));
-        } catch (final IllegalArgumentException | IndexOutOfBoundsException e) {
+        if (0 > level || level > getLevelCount()) {
             return Optional.empty();
         }
+        return Optional.of(copyLevels(level, getLevelCount()));
     }
 
     @Override
     public Optional<JsonPointer> getPrefixPointer(final int level) {
-        final List<JsonKey> jsonKeysCopy = new ArrayList<>(jsonKeyHierarchy);
-
-        try {
-            final List<JsonKey> subList = jsonKeysCopy.subList(0, level);
-            return Optional.of(newInstance(subList));
-        } catch (final IllegalArgumentException | IndexOutOfBoundsException e) {
+        if (0 > level || level > getLevelCount()) {
             return Optional.empty();
         }
+        return Optional.of(copyLevels(0, level));
     }
 
     @Override
     public ImmutableJsonPointer cutLeaf() {
         ImmutableJsonPointer result = this;
         if (!isEmpty()) {
-            final List<JsonKey> subList = jsonKeyHierarchy.subList(0, getLevelCount() - 1);
-            result = newInstance(subList);
+            result = copyLevels(0, getLevelCount() - 1);
         }
         return result;
     }
 
     @Override
     public JsonPointer nextLevel() {
-        return getSubPointer(1).orElse(this);
+        return isEmpty() ? this : copyLevels(1, getLevelCount());
     }
 
     @Override
@@ -293,6 +318,10 @@ final class ImmutableJsonPointer implements JsonPointer {
 
     @Override
     public int hashCode() {
+        return hashCode;
+    }
+
+    private int calculateHashCode() {
         return Objects.hash(jsonKeyHierarchy);
     }
 
@@ -324,15 +353,24 @@ final class ImmutableJsonPointer implements JsonPointer {
      */
     @Override
     public String toString() {
-        final String stringRepresentation;
+        String result = stringRepresentation;
+        if (null == result) {
+            result = createStringRepresentation();
+            stringRepresentation = result;
+        }
+        return result;
+    }
+
+    private String createStringRepresentation() {
+        final String result;
         if (jsonKeyHierarchy.isEmpty()) {
-            stringRepresentation = SLASH;
+            result = SLASH;
         } else {
-            stringRepresentation = SLASH + jsonKeyHierarchy.stream()
+            result = SLASH + jsonKeyHierarchy.stream()
                     .map(ImmutableJsonPointer::escapeTilde)
                     .collect(Collectors.joining(SLASH));
         }
-        return stringRepresentation;
+        return result;
     }
 
     private static String escapeTilde(final JsonKey jsonKey) {
@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A bounded pool of immutable instances which are identified by their string representation.
+ * <p>
+ * The pool is a fixed number of slots; each string is mapped to exactly one slot by its hash code.
+ * A slot which holds an instance for another string is only taken over if its instance was not used since the last
+ * miss on that slot (second chance).
+ * Thus frequently used strings stay pooled while strings which are no longer used are evicted eventually, even if the
+ * pool was filled by strings which were only used during startup.
+ * Neither lookups nor evictions need locks.
+ * </p>
+ * <p>
+ * The maximum size of a pool is determined by the system property {@code ditto.json.intern-pool.<name>.max-size}.
+ * A value of {@code 0} disables the pool.
+ * If the property is not set or has an invalid value, {@value #DEFAULT_MAX_SIZE} is used.
+ * </p>
+ *
+ * @param <T> the type of the pooled instances.
+ */
+@ThreadSafe
+final class InternPool<T> {
+
+    /**
+     * The maximum size of a pool if the system property is not set.
+     */
+    static final int DEFAULT_MAX_SIZE = 4096;
+
+    /**
+     * Strings longer than this are never pooled as they are most likely unique.
+     */
+    static final int MAX_STRING_LENGTH = 128;
+
+    private final String name;
+    private final int maxSize;
+    private final AtomicReferenceArray<Entry<T>> slots;
+    private final AtomicInteger size;
+    private final LongAdder hitCount;
+    private final LongAdder missCount;
+
+    private InternPool(final String name, final int maxSize) {
+        this.name = name;
+        this.maxSize = maxSize;
+        slots = new AtomicReferenceArray<>(maxSize);
+        size = new AtomicInteger();
+        hitCount = new LongAdder();
+        missCount = new LongAdder();
+    }
+
+    /**
+     * Returns a new instance of {@code InternPool} whose maximum size is determined by the system property
+     * {@code ditto.json.intern-pool.<name>.max-size}.
+     *
+     * @param name the name of the pool.
+     * @param <T> the type of the pooled instances.
+     * @return the pool.
+     * @throws NullPointerException if {@code name} is {@code null}.
+     */
+    static <T> InternPool<T> newInstance(final String name) {
+        requireNonNull(name, "The name must not be null!");
+        return newInstance(name,
+                SystemProperties.getNonNegativeInt("ditto.json.intern-pool." + name + ".max-size", DEFAULT_MAX_SIZE));
+    }
+
+    static <T> InternPool<T> newInstance(final String name, final int maxSize) {
+        return new InternPool<>(name, maxSize);
+    }
+
+    /**
+     * Returns the pooled instance for the given string or creates a new one with the given factory.
+     * The new instance is added to the pool if its slot is free or if the instance of the slot was not used since the
+     * last miss on the slot.
+     *
+     * @param string the string representation of the requested instance.
+     * @param factory creates a new instance from {@code string}.
+     * @return the pooled or new instance.
+     */
+    T intern(final String string, final Function<String, T> factory) {
+        if (0 == maxSize || string.length() > MAX_STRING_LENGTH) {
+            return factory.apply(string);
+        }
+        final int slot = (string.hashCode() & Integer.MAX_VALUE) % maxSize;
+        @Nullable final Entry<T> entry = slots.get(slot);
+        if (null != entry && entry.key.equals(string)) {
+            hitCount.increment();
+            if (!entry.referenced) {
+                entry.referenced = true;
+            }
+            return entry.value;
+        }
+        missCount.increment();
+        final T result = factory.apply(string);
+        if (null == entry) {
+            if (slots.compareAndSet(slot, null, new Entry<>(string, result))) {
+                size.incrementAndGet();
+            }
+        } else if (entry.referenced) {
+            // give the pooled instance a second chance
+            entry.referenced = false;
+        } else {
+            slots.compareAndSet(slot, entry, new Entry<>(string, result));
+        }
+        return result;
+    }
+
+    /**
+     * Returns a snapshot of the statistics of this pool.
+     *
+     * @return the statistics.
+     */
+    JsonInternPoolStatistics getStatistics() {
+        return new Statistics(name, size.get(), maxSize, hitCount.sum(), missCount.sum());
+    }
+
+    private static final class Entry<T> {
+
+        private final String key;
+        private final T value;
+        private volatile boolean referenced;
+
+        private Entry(final String key, final T value) {
+            this.key = key;
+            this.value = value;
+            referenced = false;
+        }
+
+    }
+
+    @Immutable
+    private static final class Statistics implements JsonInternPoolStatistics {
+
+        private final String name;
+        private final int size;
+        private final int maxSize;
+        private final long hitCount;
+        private final long missCount;
+
+        private Statistics(final String name, final int size, final int maxSize, final long hitCount,
+                final long missCount) {
+
+            this.name = name;
+            this.size = size;
+            this.maxSize = maxSize;
+            this.hitCount = hitCount;
+            this.missCount = missCount;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public int getSize() {
+            return size;
+        }
+
+        @Override
+        public int getMaxSize() {
+            return maxSize;
+        }
+
+        @Override
+        public long getHitCount() {
+            return hitCount;
+        }
+
+        @Override
+        public long getMissCount() {
+            return missCount;
+        }
+
+        @Override
+        public String toString() {
+            return getClass().getSimpleName() + " [" +
+                    "name=" + name +
+                    ", size=" + size +
+                    ", maxSize=" + maxSize +
+                    ", hitCount=" + hitCount +
+                    ", missCount=" + missCount +
+                    "]";
+        }
+
+    }
+
+}
@@ -12,6 +12,8 @@
  */
 package org.eclipse.ditto.json;
 
+import static java.util.Objects.requireNonNull;
+
 import java.util.Optional;
 
 /**
@@ -238,4 +240,19 @@ public interface JsonArrayBuilder extends JsonValueContainer<JsonValue> {
      */
     JsonArray build();
 
+    /**
+     * Creates a new {@link JsonArray} containing all values which were added beforehand.
+     * The serialized representation of the returned JSON array is created according to the given serialization mode.
+     * The default implementation ignores the serialization mode and delegates to {@link #build()}.
+     *
+     * @param serializationMode determines when the serialized representation of the returned JSON array is created.
+     * @return a new JSON array.
+     * @throws NullPointerException if {@code serializationMode} is {@code null}.
+     * @since 2.5.0
+     */
+    default JsonArray build(final JsonSerializationMode serializationMode) {
+        requireNonNull(serializationMode, "The serialization mode must not be null!");
+        return build();
+    }
+
 }
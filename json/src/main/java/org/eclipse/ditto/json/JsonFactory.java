@@ -14,9 +14,8 @@ package org.eclipse.ditto.json;
 
 import static java.util.Objects.requireNonNull;
 
-import java.io.ByteArrayInputStream;
-import java.io.InputStreamReader;
 import java.io.Reader;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.text.MessageFormat;
 import java.util.Arrays;
@@ -201,6 +200,45 @@ public final class JsonFactory {
         return JsonValueParser.fromReader().apply(reader);
     }
 
+    /**
+     * Reads the given UTF-8 encoded bytes and creates a JSON value based on the read data.
+     * The bytes are parsed directly, i. e. without decoding them to a String first.
+     *
+     * @param jsonData the UTF-8 encoded JSON document to read.
+     * @return a JSON value representing the read document. This value can be a JSON literal, a JSON object and so on.
+     * @throws NullPointerException if {@code jsonData} is {@code null}.
+     * @throws JsonParseException if {@code jsonData} is empty or if it is no valid JSON.
+     * @since 2.5.0
+     */
+    public static JsonValue readFrom(final byte[] jsonData) {
+        requireNonNull(jsonData, "The JSON data to read from must not be null!");
+        if (0 == jsonData.length) {
+            throw new JsonParseException("The JSON data to read from must not be empty!");
+        }
+
+        return JsonValueParser.fromByteArray().apply(jsonData);
+    }
+
+    /**
+     * Reads the remaining UTF-8 encoded bytes of the given ByteBuffer and creates a JSON value based on the read data.
+     * The bytes are parsed directly, i. e. without decoding them to a String first.
+     * The position of {@code jsonData} is not changed.
+     *
+     * @param jsonData the ByteBuffer containing the UTF-8 encoded JSON document to read.
+     * @return a JSON value representing the read document. This value can be a JSON literal, a JSON object and so on.
+     * @throws NullPointerException if {@code jsonData} is {@code null}.
+     * @throws JsonParseException if {@code jsonData} has no remaining bytes or if it is no valid JSON.
+     * @since 2.5.0
+     */
+    public static JsonValue readFrom(final ByteBuffer jsonData) {
+        requireNonNull(jsonData, "The JSON data to read from must not be null!");
+        if (!jsonData.hasRemaining()) {
+            throw new JsonParseException("The JSON data to read from must not be empty!");
+        }
+
+        return JsonValueParser.fromByteBuffer().apply(jsonData);
+    }
+
     /**
      * Returns a new mutable builder for a {@code JsonObject}.
      *
@@ -269,7 +307,7 @@ public final class JsonFactory {
 
 
     /**
-     * Creates a JSON object from the given byte array.
+     * Creates a JSON object from the given UTF-8 encoded byte array.
      *
      * @param jsonData the byte array that represents the JSON object.
      * @return the JSON object that has been created from the data.
@@ -287,8 +325,7 @@ public final class JsonFactory {
         if (isJsonNullLiteralData(jsonData)) {
             return nullObject();
         } else {
-            final Reader reader = new InputStreamReader(new ByteArrayInputStream(jsonData));
-            final JsonValue jsonValue = JsonValueParser.fromReader().apply(reader);
+            final JsonValue jsonValue = JsonValueParser.fromByteArray().apply(jsonData);
             if (!jsonValue.isObject()) {
                 final String msgPattern = "<{0}> is not a valid JSON object!";
                 throw JsonParseException.newBuilder()
@@ -319,6 +356,25 @@ public final class JsonFactory {
         return ImmutableJsonObject.of(jsonFields);
     }
 
+    /**
+     * Creates a JSON object from the given key-value pairs aka fields.
+     * The serialized representation of the returned JSON object is created according to the given serialization
+     * mode.
+     *
+     * @param fields the fields of the JSON object to be created.
+     * @param serializationMode determines when the serialized representation of the returned JSON object is created.
+     * @return a new JSON object based on the provided fields.
+     * @throws NullPointerException if any argument is {@code null}.
+     * @since 2.5.0
+     */
+    public static JsonObject newObject(final Map<JsonKey, JsonValue> fields,
+            final JsonSerializationMode serializationMode) {
+
+        final Map<String, JsonField> jsonFields = new LinkedHashMap<>(fields.size());
+        fields.forEach((jsonKey, jsonValue) -> jsonFields.put(jsonKey.toString(), newField(jsonKey, jsonValue)));
+        return ImmutableJsonObject.of(jsonFields, serializationMode);
+    }
+
     /**
      * Creates a JSON object from the given {@code path} and {@code value}.
      *
@@ -554,6 +610,17 @@ public final class JsonFactory {
         return ImmutableJsonPointer.ofParsed(slashDelimitedCharSequence);
     }
 
+    /**
+     * Returns snapshots of the statistics of the pools which intern frequently used JSON keys and JSON pointers.
+     *
+     * @return the statistics of the key pool and of the pointer pool.
+     * @since 2.5.0
+     */
+    public static List<JsonInternPoolStatistics> getInternPoolStatistics() {
+        return Collections.unmodifiableList(
+                Arrays.asList(ImmutableJsonKey.getPoolStatistics(), ImmutableJsonPointer.getPoolStatistics()));
+    }
+
     /**
      * Returns a new mutable builder for {@code JsonParseOptions}.
      *
@@ -901,6 +968,24 @@ public final class JsonFactory {
                 ImmutableJsonObject.SoftReferencedFieldMap.of(jsonFieldMap, null, cborObjectRepresentation));
     }
 
+    /**
+     * Creates a {@link JsonObject} which is only backed by the passed CBOR representation.
+     * The fields of the object are decoded from the CBOR representation on first access; serializing the object as
+     * CBOR again writes the passed bytes unchanged.
+     * <p>
+     * <b>This is a Ditto internal API is not intended for re-use.</b>
+     * It therefore is not treated as API which is held binary compatible to previous versions.
+     * </p>
+     *
+     * @param cborObjectRepresentation the CBOR serialized representation of the JsonObject.
+     * @return the created JsonObject.
+     * @throws NullPointerException if {@code cborObjectRepresentation} is {@code null}.
+     * @since 2.5.0
+     */
+    public static JsonObject createLazyJsonObject(final byte[] cborObjectRepresentation) {
+        return new ImmutableJsonObject(ImmutableJsonObject.SoftReferencedFieldMap.ofCbor(cborObjectRepresentation));
+    }
+
     /**
      * Converts the specified char sequence to a {@link JsonPointer} which is guaranteed to be not empty.
      *
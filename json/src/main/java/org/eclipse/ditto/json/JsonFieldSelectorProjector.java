@@ -0,0 +1,272 @@
+/*
+ * Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * A {@link JsonFieldSelector} compiled for applying it to many JSON objects.
+ * <p>
+ * The pointers of the field selector are compiled once into a trie which is traversed together with the JSON object
+ * to be projected. Projecting a JSON object thus visits each selected field only once and neither walks each pointer
+ * separately nor builds a trie for each projected object. The result is the same as the one of
+ * {@link JsonObject#get(JsonFieldSelector)}.
+ *
+ * @since 2.5.0
+ */
+@Immutable
+public final class JsonFieldSelectorProjector {
+
+    private final JsonFieldSelector fieldSelector;
+    private final Node root;
+
+    private JsonFieldSelectorProjector(final JsonFieldSelector fieldSelector, final Node root) {
+        this.fieldSelector = fieldSelector;
+        this.root = root;
+    }
+
+    /**
+     * Returns the projector of the given field selector. The projector of a field selector which was created by
+     * {@link JsonFactory} is compiled only once and reused afterwards.
+     *
+     * @param fieldSelector the field selector to get the projector for.
+     * @return the projector.
+     * @throws NullPointerException if {@code fieldSelector} is {@code null}.
+     */
+    public static JsonFieldSelectorProjector of(final JsonFieldSelector fieldSelector) {
+        requireNonNull(fieldSelector, "The JSON field selector must not be null!");
+
+        final JsonFieldSelectorProjector result;
+        if (fieldSelector instanceof ImmutableJsonFieldSelector) {
+            result = ((ImmutableJsonFieldSelector) fieldSelector).getProjector();
+        } else {
+            result = compile(fieldSelector);
+        }
+        return result;
+    }
+
+    static JsonFieldSelectorProjector compile(final JsonFieldSelector fieldSelector) {
+        final Set<JsonPointer> pointers = fieldSelector.getPointers();
+        final Node root = Node.of(JsonFieldSelectorTrie.of(pointers));
+        int pointerIndex = 0;
+        for (final JsonPointer pointer : pointers) {
+            root.markEndOfPointer(pointer.iterator(), pointerIndex);
+            pointerIndex++;
+        }
+        return new JsonFieldSelectorProjector(fieldSelector, root);
+    }
+
+    /**
+     * Returns the field selector this projector was compiled from.
+     *
+     * @return the field selector.
+     */
+    public JsonFieldSelector getFieldSelector() {
+        return fieldSelector;
+    }
+
+    /**
+     * Projects the given JSON object to the fields selected by the field selector of this projector.
+     *
+     * @param jsonObject the JSON object to be projected.
+     * @return a JSON object containing only the selected fields of {@code jsonObject}, {@code jsonObject} itself if
+     * it is empty or an empty JSON object if {@code jsonObject} contains none of the selected fields.
+     * @throws NullPointerException if {@code jsonObject} is {@code null}.
+     * @see JsonObject#get(JsonFieldSelector)
+     */
+    public JsonObject project(final JsonObject jsonObject) {
+        requireNonNull(jsonObject, "The JSON object to be projected must not be null!");
+
+        if (jsonObject.isEmpty()) {
+            return jsonObject;
+        }
+        final Selection selection = root.select(jsonObject);
+        return null != selection ? selection.jsonObject : ImmutableJsonObject.empty();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "fieldSelector=" + fieldSelector +
+                "]";
+    }
+
+    /**
+     * Immutable node of the compiled trie. For each child key the index of the pointer which ends at the child is
+     * remembered as the selected fields are ordered by the first pointer which exists in the projected object.
+     */
+    @Immutable
+    private static final class Node {
+
+        private static final int NO_POINTER = -1;
+
+        private final JsonKey[] keys;
+        private final Node[] children;
+        private final int[] endingPointerIndices;
+
+        private Node(final JsonKey[] keys, final Node[] children) {
+            this.keys = keys;
+            this.children = children;
+            endingPointerIndices = new int[keys.length];
+            Arrays.fill(endingPointerIndices, NO_POINTER);
+        }
+
+        private static Node of(final JsonFieldSelectorTrie trie) {
+            final Set<JsonKey> trieKeys = trie.getKeys();
+            final JsonKey[] keys = trieKeys.toArray(new JsonKey[0]);
+            final Node[] children = new Node[keys.length];
+            for (int i = 0; i < keys.length; i++) {
+                children[i] = of(trie.descend(keys[i]));
+            }
+            return new Node(keys, children);
+        }
+
+        private void markEndOfPointer(final Iterator<JsonKey> pointerKeys, final int pointerIndex) {
+            if (pointerKeys.hasNext()) {
+                final int i = indexOf(pointerKeys.next());
+                if (pointerKeys.hasNext()) {
+                    children[i].markEndOfPointer(pointerKeys, pointerIndex);
+                } else if (NO_POINTER == endingPointerIndices[i]) {
+                    endingPointerIndices[i] = pointerIndex;
+                }
+            }
+        }
+
+        private int indexOf(final JsonKey key) {
+            int i = 0;
+            while (!keys[i].equals(key)) {
+                i++;
+            }
+            return i;
+        }
+
+        private boolean isLeaf() {
+            return 0 == keys.length;
+        }
+
+        /*
+         * Selects the fields of the given object which are addressed by at least one pointer that exists in the
+         * object. A field whose value is selected as a whole is selected because a pointer ends at it while no
+         * longer existing pointer continues through it. Returns null if no pointer exists in the object.
+         */
+        @Nullable
+        @SuppressWarnings({"rawtypes", "java:S3740"})
+        private Selection select(final JsonObject jsonObject) {
+            JsonField[] selectedFields = null;
+            JsonValue[] selectedValues = null;
+            int[] firstPointerIndices = null;
+            int selectedCount = 0;
+            boolean inPointerOrder = true;
+
+            for (int i = 0; i < keys.length; i++) {
+                final Optional<JsonField> fieldOptional = jsonObject.getField(keys[i]);
+                if (!fieldOptional.isPresent()) {
+                    continue;
+                }
+                final JsonField field = fieldOptional.get();
+                final JsonValue value = field.getValue();
+                final int endingPointerIndex = endingPointerIndices[i];
+
+                @Nullable final Selection childSelection = value.isObject() && !children[i].isLeaf()
+                        ? children[i].select(value.asObject())
+                        : null;
+
+                final JsonValue selectedValue;
+                final int firstPointerIndex;
+                if (null != childSelection) {
+                    selectedValue = childSelection.jsonObject;
+                    firstPointerIndex = NO_POINTER == endingPointerIndex
+                            ? childSelection.firstPointerIndex
+                            : Math.min(endingPointerIndex, childSelection.firstPointerIndex);
+                } else if (NO_POINTER != endingPointerIndex) {
+                    selectedValue = value;
+                    firstPointerIndex = endingPointerIndex;
+                } else {
+                    continue;
+                }
+
+                if (null == selectedFields) {
+                    selectedFields = new JsonField[keys.length - i];
+                    selectedValues = new JsonValue[selectedFields.length];
+                    firstPointerIndices = new int[selectedFields.length];
+                } else if (firstPointerIndex < firstPointerIndices[selectedCount - 1]) {
+                    inPointerOrder = false;
+                }
+                selectedFields[selectedCount] = field;
+                selectedValues[selectedCount] = selectedValue;
+                firstPointerIndices[selectedCount] = firstPointerIndex;
+                selectedCount++;
+            }
+
+            if (null == selectedFields) {
+                return null;
+            }
+            if (!inPointerOrder) {
+                sortByPointerIndex(selectedFields, selectedValues, firstPointerIndices, selectedCount);
+            }
+
+            final JsonObjectBuilder builder = JsonObject.newBuilder();
+            for (int i = 0; i < selectedCount; i++) {
+                final Optional<JsonFieldDefinition> fieldDefinition = selectedFields[i].getDefinition();
+                if (fieldDefinition.isPresent()) {
+                    builder.set(fieldDefinition.get(), selectedValues[i]);
+                } else {
+                    builder.set(selectedFields[i].getKey(), selectedValues[i]);
+                }
+            }
+            return new Selection(builder.build(), firstPointerIndices[0]);
+        }
+
+        private static void sortByPointerIndex(final JsonField[] fields, final JsonValue[] values,
+                final int[] pointerIndices, final int count) {
+
+            for (int i = 1; i < count; i++) {
+                final JsonField field = fields[i];
+                final JsonValue value = values[i];
+                final int pointerIndex = pointerIndices[i];
+                int j = i - 1;
+                while (j >= 0 && pointerIndices[j] > pointerIndex) {
+                    fields[j + 1] = fields[j];
+                    values[j + 1] = values[j];
+                    pointerIndices[j + 1] = pointerIndices[j];
+                    j--;
+                }
+                fields[j + 1] = field;
+                values[j + 1] = value;
+                pointerIndices[j + 1] = pointerIndex;
+            }
+        }
+
+    }
+
+    private static final class Selection {
+
+        private final JsonObject jsonObject;
+        private final int firstPointerIndex;
+
+        private Selection(final JsonObject jsonObject, final int firstPointerIndex) {
+            this.jsonObject = jsonObject;
+            this.firstPointerIndex = firstPointerIndex;
+        }
+
+    }
+
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+/**
+ * A snapshot of the statistics of a pool which interns frequently used instances like {@link JsonKey}s or
+ * {@link JsonPointer}s.
+ *
+ * @since 2.5.0
+ */
+public interface JsonInternPoolStatistics {
+
+    /**
+     * Returns the name of the pool, e. g. {@code "key"} or {@code "pointer"}.
+     *
+     * @return the name.
+     */
+    String getName();
+
+    /**
+     * Returns the number of instances in the pool.
+     *
+     * @return the size.
+     */
+    int getSize();
+
+    /**
+     * Returns the maximum number of instances in the pool.
+     *
+     * @return the maximum size.
+     */
+    int getMaxSize();
+
+    /**
+     * Returns the number of lookups which were answered with an interned instance.
+     *
+     * @return the hit count.
+     */
+    long getHitCount();
+
+    /**
+     * Returns the number of lookups which resulted in a new instance.
+     *
+     * @return the miss count.
+     */
+    long getMissCount();
+
+    /**
+     * Returns the ratio of hits to all lookups or {@code 1.0} if there was no lookup yet.
+     *
+     * @return the hit rate.
+     */
+    default double getHitRate() {
+        final long lookupCount = getHitCount() + getMissCount();
+        return 0 == lookupCount ? 1.0 : (double) getHitCount() / lookupCount;
+    }
+
+}
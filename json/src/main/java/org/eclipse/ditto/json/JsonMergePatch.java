@@ -12,9 +12,14 @@
  */
 package org.eclipse.ditto.json;
 
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import javax.annotation.Nullable;
@@ -23,6 +28,18 @@ import javax.annotation.concurrent.Immutable;
 /**
  * This class is responsible to compute or apply a JSON merge patch according to
  * <a href="https://datatracker.ietf.org/doc/html/rfc7386">RFC 7386</a> for {@link JsonValue json values}.
+ * <p>
+ * Since 2.5.0, applying a patch has the following semantics:
+ * </p>
+ * <ul>
+ *     <li>Only the paths contained in the patch are walked. All values which are not touched by the patch are reused
+ *     as they are; if the patch changes nothing, the patched value itself is returned.</li>
+ *     <li>Patched objects keep the order of their existing fields. Fields which are added by the patch are appended in
+ *     the order of the patch. Before, the fields of the patch came first.</li>
+ *     <li>Existing fields which are replaced keep their {@link JsonFieldDefinition}.</li>
+ *     <li>{@code null} values are removed recursively from all objects which the patch adds, as required by the RFC.
+ *     Before, only the {@code null} values on the first level of an added object were removed.</li>
+ * </ul>
  *
  * @since 2.4.0
  */
@@ -117,72 +134,123 @@ public final class JsonMergePatch {
     }
 
     /**
-     * Merge 2 JSON values recursively into one. In case of conflict, the first value is more important.
+     * Applies the given merge patch on the given JSON value.
+     * Only the paths contained in the patch are walked; all untouched values of {@code jsonValue} are reused as they
+     * are.
+     * If applying the patch does not change a value, the very same instance of that value is returned.
      *
-     * @param value1 the first json value to merge, overrides conflicting fields.
-     * @param value2 the second json value to merge.
-     * @return the merged json value.
+     * @param patch the merge patch to be applied.
+     * @param jsonValue the JSON value to be patched.
+     * @param path the path of {@code jsonValue} relative to the root of the patched value.
+     * @param changedPointers collects the pointers of the changed values.
+     * @return the patched JSON value.
      */
-    private static JsonValue mergeJsonValues(final JsonValue value1, final JsonValue value2) {
+    private static JsonValue mergeIntoValue(final JsonValue patch,
+            final JsonValue jsonValue,
+            final JsonPointer path,
+            final Set<JsonPointer> changedPointers) {
+
         final JsonValue result;
-        if (value1.isObject() && value2.isObject()) {
-            result = mergeJsonObjects(value1.asObject(), value2.asObject());
-        } else {
-            if (value1.isObject()) {
-                result = value1.asObject().filter(field -> !field.getValue().isNull());
+        if (isNonNullObject(patch)) {
+            if (isNonNullObject(jsonValue)) {
+                result = mergeIntoObject(patch.asObject(), jsonValue.asObject(), path, changedPointers);
             } else {
-                result = value1;
+                result = removeNullFields(patch.asObject());
+                changedPointers.add(path);
             }
+        } else if (patch.equals(jsonValue)) {
+            result = jsonValue;
+        } else {
+            result = patch;
+            changedPointers.add(path);
         }
-
         return result;
     }
 
-    private static JsonObject mergeJsonObjects(final JsonObject jsonObject1, final JsonObject jsonObject2) {
+    private static JsonValue mergeIntoObject(final JsonObject patch,
+            final JsonObject jsonObject,
+            final JsonPointer path,
+            final Set<JsonPointer> changedPointers) {
 
-        if (jsonObject1.isNull()) {
-            return JsonFactory.nullObject();
+        final List<JsonField> fieldsToSet = new ArrayList<>(patch.getSize());
+        JsonObject result = jsonObject;
+        for (final JsonField patchField : patch) {
+            final JsonKey key = patchField.getKey();
+            final JsonValue patchValue = patchField.getValue();
+            final Optional<JsonField> existingField = jsonObject.getField(key);
+            if (patchValue.isNull()) {
+                if (existingField.isPresent()) {
+                    result = result.remove(key);
+                    changedPointers.add(path.addLeaf(key));
+                }
+            } else if (existingField.isPresent()) {
+                final JsonField field = existingField.get();
+                final JsonValue existingValue = field.getValue();
+                final JsonValue mergedValue =
+                        mergeIntoValue(patchValue, existingValue, path.addLeaf(key), changedPointers);
+                if (mergedValue != existingValue) {
+                    fieldsToSet.add(JsonField.newInstance(key, mergedValue, field.getDefinition().orElse(null)));
+                }
+            } else {
+                final JsonValue addedValue =
+                        isNonNullObject(patchValue) ? removeNullFields(patchValue.asObject()) : patchValue;
+                fieldsToSet.add(JsonField.newInstance(key, addedValue));
+                changedPointers.add(path.addLeaf(key));
+            }
         }
+        return result.setAll(fieldsToSet);
+    }
 
+    private static JsonObject removeNullFields(final JsonObject jsonObject) {
         final JsonObjectBuilder builder = JsonFactory.newObjectBuilder();
-        // add fields of jsonObject1
-        jsonObject1.forEach(jsonField -> {
-            final JsonKey key = jsonField.getKey();
-            final JsonValue value1 = jsonField.getValue();
-            final Optional<JsonValue> maybeValue2 = jsonObject2.getValue(key);
-
-            if (value1.isNull()) {
-                return;
-            }
-            if (maybeValue2.isPresent()) {
-                builder.set(key, mergeJsonValues(value1, maybeValue2.get()));
+        boolean modified = false;
+        for (final JsonField field : jsonObject) {
+            final JsonValue value = field.getValue();
+            if (value.isNull()) {
+                modified = true;
+            } else if (value.isObject()) {
+                final JsonObject withoutNullFields = removeNullFields(value.asObject());
+                modified |= withoutNullFields != value;
+                builder.set(field.getKey(), withoutNullFields);
             } else {
-                if (value1.isObject()) {
-                    builder.set(key, value1.asObject().filter(field -> !field.getValue().isNull()));
-                } else {
-                    builder.set(jsonField);
-                }
+                builder.set(field);
             }
-        });
-
-        // add fields of jsonObject2 not present in jsonObject1
-        jsonObject2.forEach(jsonField -> {
-            if (!jsonObject1.contains(jsonField.getKey())) {
-                builder.set(jsonField);
-            }
-        });
+        }
+        return modified ? builder.build() : jsonObject;
+    }
 
-        return builder.build();
+    private static boolean isNonNullObject(final JsonValue jsonValue) {
+        return jsonValue.isObject() && !jsonValue.isNull();
     }
 
     /**
      * Applies this merge patch on the given json value.
+     * See the class documentation for the order of the fields of patched objects and for the reuse of unchanged
+     * values.
      *
      * @param jsonValue the json value that should be patched.
-     * @return the patched json value.
+     * @return the patched json value or {@code jsonValue} itself if the patch does not change it.
      */
     public JsonValue applyOn(final JsonValue jsonValue) {
-        return mergeJsonValues(mergePatch, jsonValue);
+        return applyOnTrackingChanges(jsonValue).getMergedValue();
+    }
+
+    /**
+     * Applies this merge patch on the given json value and determines the pointers of all values which were changed
+     * by the patch.
+     * The costs of applying the patch are proportional to the size of the patch and not to the size of the patched
+     * value as only the patched paths are walked and all untouched values are reused.
+     *
+     * @param jsonValue the json value that should be patched.
+     * @return the result containing the patched json value and the pointers of the changed values.
+     * @throws NullPointerException if {@code jsonValue} is {@code null}.
+     * @since 2.5.0
+     */
+    public JsonMergePatchResult applyOnTrackingChanges(final JsonValue jsonValue) {
+        requireNonNull(jsonValue, "The JSON value to apply the merge patch on must not be null!");
+        final Set<JsonPointer> changedPointers = new LinkedHashSet<>();
+        final JsonValue mergedValue = mergeIntoValue(mergePatch, jsonValue, JsonPointer.empty(), changedPointers);
+        return JsonMergePatchResult.of(mergedValue, changedPointers);
     }
 
     /**
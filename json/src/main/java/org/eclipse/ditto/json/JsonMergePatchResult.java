@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Set;
+
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * The result of applying a {@link JsonMergePatch} on a JSON value.
+ * Besides the patched value it provides the pointers of all values which were added, replaced or removed by the
+ * patch.
+ * The pointers are relative to the root of the patched value; the empty pointer denotes that the root value itself
+ * was replaced.
+ *
+ * @since 2.5.0
+ */
+@Immutable
+public final class JsonMergePatchResult {
+
+    private final JsonValue mergedValue;
+    private final Set<JsonPointer> changedPointers;
+
+    private JsonMergePatchResult(final JsonValue mergedValue, final Set<JsonPointer> changedPointers) {
+        this.mergedValue = mergedValue;
+        this.changedPointers = changedPointers;
+    }
+
+    /**
+     * Returns a new instance of {@code JsonMergePatchResult}.
+     *
+     * @param mergedValue the patched JSON value.
+     * @param changedPointers the pointers of the changed values in the order they were changed.
+     * @return the instance.
+     */
+    static JsonMergePatchResult of(final JsonValue mergedValue, final Set<JsonPointer> changedPointers) {
+        return new JsonMergePatchResult(mergedValue,
+                Collections.unmodifiableSet(new LinkedHashSet<>(changedPointers)));
+    }
+
+    /**
+     * Returns the patched JSON value.
+     * If the patch did not change anything, this is the same instance as the value the patch was applied on.
+     *
+     * @return the patched JSON value.
+     */
+    public JsonValue getMergedValue() {
+        return mergedValue;
+    }
+
+    /**
+     * Returns the pointers of all values which were added, replaced or removed by the patch.
+     * Values which were only walked because they contain changed values are not included.
+     *
+     * @return the unmodifiable set of changed pointers in the order in which the values were changed.
+     */
+    public Set<JsonPointer> getChangedPointers() {
+        return changedPointers;
+    }
+
+    /**
+     * Indicates whether applying the patch changed anything.
+     *
+     * @return {@code true} if at least one value was changed, {@code false} else.
+     */
+    public boolean hasChanges() {
+        return !changedPointers.isEmpty();
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final JsonMergePatchResult that = (JsonMergePatchResult) o;
+        return Objects.equals(mergedValue, that.mergedValue) &&
+                Objects.equals(changedPointers, that.changedPointers);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(mergedValue, changedPointers);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "mergedValue=" + mergedValue +
+                ", changedPointers=" + changedPointers +
+                "]";
+    }
+
+}
@@ -12,6 +12,8 @@
  */
 package org.eclipse.ditto.json;
 
+import static java.util.Objects.requireNonNull;
+
 import java.util.function.Predicate;
 
 import javax.annotation.Nullable;
@@ -307,4 +309,20 @@ public interface JsonObjectBuilder extends JsonValueContainer<JsonField> {
      */
     JsonObject build();
 
+    /**
+     * Creates a new {@link JsonObject} containing all values which were added beforehand.
+     * The serialized representation of the returned JSON object is created according to the given serialization
+     * mode.
+     * The default implementation ignores the serialization mode and delegates to {@link #build()}.
+     *
+     * @param serializationMode determines when the serialized representation of the returned JSON object is created.
+     * @return a new JSON object.
+     * @throws NullPointerException if {@code serializationMode} is {@code null}.
+     * @since 2.5.0
+     */
+    default JsonObject build(final JsonSerializationMode serializationMode) {
+        requireNonNull(serializationMode, "The serialization mode must not be null!");
+        return build();
+    }
+
 }
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import java.util.Locale;
+
+import javax.annotation.Nullable;
+
+/**
+ * Defines when JSON objects and JSON arrays create their serialized (CBOR or JSON string) representation.
+ * The serialized representation is used for {@code toString()}, for CBOR serialization and for re-materializing the
+ * values of a JSON object or JSON array once they were garbage collected.
+ * <p>
+ * The default mode is determined by the system property {@value #SYSTEM_PROPERTY_NAME} which may be either
+ * {@code "eager"} or {@code "lazy"}.
+ * If the property is not set or has an unknown value, {@link #EAGER} is used.
+ * </p>
+ *
+ * @since 2.5.0
+ */
+public enum JsonSerializationMode {
+
+    /**
+     * The serialized representation is created as soon as a JSON object or JSON array is created.
+     * The values of the JSON object or JSON array are only softly referenced and thus may be garbage collected under
+     * memory pressure.
+     */
+    EAGER,
+
+    /**
+     * The serialized representation is created only when it is actually required, i. e. for {@code toString()} or for
+     * CBOR serialization.
+     * Until then the values of the JSON object or JSON array are strongly referenced.
+     * This mode is suited for intermediate JSON objects and arrays which are discarded without ever being serialized.
+     */
+    LAZY;
+
+    /**
+     * Name of the system property which defines the default serialization mode.
+     */
+    public static final String SYSTEM_PROPERTY_NAME = "ditto.json.serialization-mode";
+
+    private static final JsonSerializationMode DEFAULT = resolveDefault(System.getProperty(SYSTEM_PROPERTY_NAME));
+
+    /**
+     * Returns the default serialization mode which is determined by the system property
+     * {@value #SYSTEM_PROPERTY_NAME}.
+     *
+     * @return the default serialization mode.
+     */
+    public static JsonSerializationMode getDefault() {
+        return DEFAULT;
+    }
+
+    static JsonSerializationMode resolveDefault(@Nullable final String propertyValue) {
+        JsonSerializationMode result = EAGER;
+        if (null != propertyValue) {
+            final String normalizedPropertyValue = propertyValue.trim().toUpperCase(Locale.ENGLISH);
+            for (final JsonSerializationMode serializationMode : values()) {
+                if (serializationMode.name().equals(normalizedPropertyValue)) {
+                    result = serializationMode;
+                }
+            }
+        }
+        return result;
+    }
+
+}
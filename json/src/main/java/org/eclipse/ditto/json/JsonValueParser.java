@@ -16,6 +16,7 @@ import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
 import java.io.Reader;
+import java.nio.ByteBuffer;
 import java.text.MessageFormat;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -78,6 +79,51 @@ final class JsonValueParser {
         return JsonValueParser::tryToReadJsonValueFrom;
     }
 
+    /**
+     * Returns a Function for parsing UTF-8 encoded bytes to an instance of {@link JsonValue} without decoding them
+     * to a String first.
+     *
+     * @return the function.
+     * @since 2.5.0
+     */
+    public static Function<byte[], JsonValue> fromByteArray() {
+        return bytes -> tryToParseJsonValue(parser -> {
+            requireNonNull(bytes, "The bytes to be parsed must not be null!");
+            parser.parse(bytes, 0, bytes.length);
+        });
+    }
+
+    /**
+     * Returns a Function for parsing the remaining UTF-8 encoded bytes of a ByteBuffer to an instance of
+     * {@link JsonValue} without decoding them to a String first.
+     * The position of the ByteBuffer is not changed.
+     *
+     * @return the function.
+     * @since 2.5.0
+     */
+    public static Function<ByteBuffer, JsonValue> fromByteBuffer() {
+        return byteBuffer -> tryToParseJsonValue(parser -> parser.parse(byteBuffer));
+    }
+
+    private static JsonValue tryToParseJsonValue(
+            final Consumer<Utf8JsonParser<?, ?>> parseInvocation) {
+
+        final DefaultDittoJsonHandler dittoJsonHandler = DefaultDittoJsonHandler.newInstance();
+        try {
+            parseInvocation.accept(Utf8JsonParser.newInstance(dittoJsonHandler));
+            return dittoJsonHandler.getValue();
+        } catch (final JsonParseException | StackOverflowError | IllegalArgumentException | NullPointerException e) {
+            // "ditto-json" library also throws IllegalArgumentException when for example strings which may not be empty
+            // (e.g. keys) are empty
+            // "ditto-json" library also throws NullPointerException when for example non-nullable objects are null
+            final String description = null != e.getMessage() ? e.getMessage() : e.getClass().getSimpleName();
+            throw JsonParseException.newBuilder()
+                    .message(MessageFormat.format("Failed to parse JSON value from bytes: {0}", description))
+                    .cause(e)
+                    .build();
+        }
+    }
+
     private static <T> T tryToParseJsonValue(final String jsonString,
             final DittoJsonHandler<?, ?, T> dittoJsonHandler) {
 
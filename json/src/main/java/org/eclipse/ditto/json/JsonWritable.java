@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import java.io.IOException;
+
+/**
+ * Implementations of this interface are able to write their JSON representation directly into a {@link JsonWriter}
+ * without creating a {@link JsonValue} tree first.
+ * <p>
+ * <b>This is a Ditto internal class which is not intended for re-use.</b>
+ * It therefore is not treated as API which is held binary compatible to previous versions.
+ * </p>
+ *
+ * @since 2.5.0
+ */
+public interface JsonWritable {
+
+    /**
+     * Writes the JSON representation of this object into the given writer.
+     * The written JSON is the same as the JSON which is returned by the object's {@code toJson()} method.
+     *
+     * @param jsonWriter the writer to write into.
+     * @throws IOException if writing failed.
+     */
+    void writeJson(JsonWriter jsonWriter) throws IOException;
+
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import java.io.IOException;
+
+/**
+ * A sink for streaming JSON values to a serialization target without building a {@link JsonValue} tree first.
+ * In addition to the scalar values of a {@link SerializationContext} a JsonWriter supports writing objects and
+ * arrays of unknown length.
+ * <p>
+ * <b>This is a Ditto internal class which is not intended for re-use.</b>
+ * It therefore is not treated as API which is held binary compatible to previous versions.
+ * </p>
+ *
+ * @since 2.5.0
+ */
+public interface JsonWriter extends SerializationContext {
+
+    /**
+     * Starts writing a JSON object.
+     * Fields are written by {@link #writeFieldName(String)} followed by the field's value.
+     */
+    void writeStartObject() throws IOException;
+
+    /**
+     * Finishes writing the JSON object which was started last.
+     */
+    void writeEndObject() throws IOException;
+
+    /**
+     * Starts writing a JSON array.
+     */
+    void writeStartArray() throws IOException;
+
+    /**
+     * Finishes writing the JSON array which was started last.
+     */
+    void writeEndArray() throws IOException;
+
+    /**
+     * Writes the passed JSON {@code value}.
+     */
+    default void writeValue(final JsonValue value) throws IOException {
+        value.writeValue(this);
+    }
+
+    /**
+     * Writes a field with the passed {@code name} and JSON {@code value}.
+     */
+    default void writeField(final String name, final JsonValue value) throws IOException {
+        writeFieldName(name);
+        writeValue(value);
+    }
+
+}
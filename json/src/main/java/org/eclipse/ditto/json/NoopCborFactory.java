@@ -46,6 +46,11 @@ final class NoopCborFactory implements CborFactory {
         throw UNSUPPORTED_OPERATION_EXCEPTION;
     }
 
+    @Override
+    public JsonValue readFrom(final ByteBuffer byteBuffer, final int eagerDepth) {
+        throw UNSUPPORTED_OPERATION_EXCEPTION;
+    }
+
     @Override
     public byte[] toByteArray(final JsonValue jsonValue) {
         throw UNSUPPORTED_OPERATION_EXCEPTION;
@@ -70,4 +75,9 @@ final class NoopCborFactory implements CborFactory {
     public byte[] createCborRepresentation(final List<JsonValue> list, final int guessedSerializedSize) {
         throw UNSUPPORTED_OPERATION_EXCEPTION;
     }
+
+    @Override
+    public JsonWriter createWriter(final ByteBuffer byteBuffer) {
+        throw UNSUPPORTED_OPERATION_EXCEPTION;
+    }
 }
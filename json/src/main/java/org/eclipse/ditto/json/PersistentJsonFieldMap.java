@@ -0,0 +1,572 @@
+/*
+ * Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.Function;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * An unmodifiable Map of JSON fields which is implemented as hash array mapped trie (HAMT).
+ * {@link #plus(String, JsonField)} and {@link #minus(String)} return new instances which share all unchanged nodes of
+ * the trie with this instance; updating the trie costs {@code O(log32 n)} whereas a {@link java.util.LinkedHashMap}
+ * would have to be rehashed completely.
+ * The insertion order of the fields is kept by assigning a sequence number to each newly added field.
+ * The fields sorted by insertion order are determined once on first iteration. Maps derived from a Map which already
+ * did so copy and adjust the sorted fields instead of sorting them again, so such modifications still cost
+ * {@code O(n)}, albeit only for copying an array of references.
+ * <p>
+ * JSON objects with at least {@value #DEFAULT_MIN_SIZE} fields are represented by this Map. The threshold can be
+ * changed by the system property {@value #MIN_SIZE_SYSTEM_PROPERTY_NAME}; a value of {@code 0} disables persistent
+ * field maps.
+ * Like all other JSON objects, JSON objects represented by this Map are serialized completely on creation in
+ * {@link JsonSerializationMode#EAGER} mode, i.e. each modification costs {@code O(n)} for serializing the whole
+ * object. Only in {@link JsonSerializationMode#LAZY} mode modifications avoid this cost.
+ * </p>
+ */
+@Immutable
+final class PersistentJsonFieldMap extends AbstractMap<String, JsonField> {
+
+    /**
+     * Name of the system property which defines the minimum number of fields of a JSON object to be represented by a
+     * persistent field map.
+     */
+    static final String MIN_SIZE_SYSTEM_PROPERTY_NAME = "ditto.json.persistent-object.min-size";
+
+    /**
+     * The minimum number of fields of a JSON object to be represented by a persistent field map if the system
+     * property is not set.
+     */
+    static final int DEFAULT_MIN_SIZE = 64;
+
+    /**
+     * The minimum number of fields of a JSON object to be represented by a persistent field map or {@code 0} if
+     * persistent field maps are disabled.
+     */
+    static final int MIN_SIZE = SystemProperties.getNonNegativeInt(MIN_SIZE_SYSTEM_PROPERTY_NAME, DEFAULT_MIN_SIZE);
+
+    private static final int BITS_PER_LEVEL = 5;
+    private static final int LEVEL_MASK = (1 << BITS_PER_LEVEL) - 1;
+    private static final PersistentJsonFieldMap EMPTY = new PersistentJsonFieldMap(BitmapNode.EMPTY, 0, 0L, null);
+
+    private final Node root;
+    private final int size;
+    private final long nextSequence;
+    @Nullable private volatile Leaf[] orderedLeaves;
+
+    private PersistentJsonFieldMap(final Node root, final int size, final long nextSequence,
+            @Nullable final Leaf[] orderedLeaves) {
+
+        this.root = root;
+        this.size = size;
+        this.nextSequence = nextSequence;
+        this.orderedLeaves = orderedLeaves;
+    }
+
+    /**
+     * Indicates whether a JSON object with the given number of fields should be represented by a
+     * {@code PersistentJsonFieldMap}.
+     *
+     * @param size the number of fields.
+     * @return {@code true} if persistent field maps are enabled and {@code size} is at least {@link #MIN_SIZE}.
+     */
+    static boolean isApplicable(final int size) {
+        return 0 != MIN_SIZE && size >= MIN_SIZE;
+    }
+
+    /**
+     * Returns an empty {@code PersistentJsonFieldMap}.
+     *
+     * @return the instance.
+     */
+    static PersistentJsonFieldMap empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns a {@code PersistentJsonFieldMap} containing the entries of the given Map in iteration order.
+     *
+     * @param fieldMap the entries of the returned Map.
+     * @return the instance.
+     * @throws NullPointerException if {@code fieldMap} is {@code null}.
+     */
+    static PersistentJsonFieldMap of(final Map<String, JsonField> fieldMap) {
+        if (fieldMap instanceof PersistentJsonFieldMap) {
+            return (PersistentJsonFieldMap) fieldMap;
+        }
+        PersistentJsonFieldMap result = EMPTY;
+        for (final Entry<String, JsonField> entry : fieldMap.entrySet()) {
+            result = result.plus(entry.getKey(), entry.getValue());
+        }
+        return result;
+    }
+
+    /**
+     * Returns a Map which contains all entries of this Map and the specified one.
+     * If this Map already contains the key, the field is replaced but keeps its position.
+     * If the field is equal to the contained one and has the same definition, this Map is returned.
+     *
+     * @param key the key of the field.
+     * @param field the field to be associated with {@code key}.
+     * @return the new Map which shares all unchanged nodes with this Map.
+     */
+    PersistentJsonFieldMap plus(final String key, final JsonField field) {
+        final int hash = key.hashCode();
+        final Leaf existingLeaf = root.find(key, hash, 0);
+        final PersistentJsonFieldMap result;
+        if (null == existingLeaf) {
+            final Leaf newLeaf = new Leaf(key, hash, field, nextSequence);
+            result = new PersistentJsonFieldMap(root.put(newLeaf, 0), size + 1, nextSequence + 1,
+                    withAppendedLeaf(newLeaf));
+        } else if (existingLeaf.field.equals(field) &&
+                existingLeaf.field.getDefinition().equals(field.getDefinition())) {
+            result = this;
+        } else {
+            final Leaf newLeaf = new Leaf(key, hash, field, existingLeaf.sequence);
+            result = new PersistentJsonFieldMap(root.put(newLeaf, 0), size, nextSequence, withReplacedLeaf(newLeaf));
+        }
+        return result;
+    }
+
+    /**
+     * Returns a Map which contains all entries of this Map except the one for the specified key.
+     *
+     * @param key the key of the field to be removed.
+     * @return the new Map which shares all unchanged nodes with this Map.
+     */
+    PersistentJsonFieldMap minus(final String key) {
+        final int hash = key.hashCode();
+        final Leaf existingLeaf = root.find(key, hash, 0);
+        if (null == existingLeaf) {
+            return this;
+        }
+        final Node newRoot = root.remove(key, hash, 0);
+        return new PersistentJsonFieldMap(null != newRoot ? newRoot : BitmapNode.EMPTY, size - 1, nextSequence,
+                withoutLeaf(existingLeaf));
+    }
+
+    /*
+     * The following methods derive the sorted leaves of a modified Map from the sorted leaves of this Map if these
+     * were already determined. New leaves have the highest sequence number, thus they are appended.
+     */
+
+    @Nullable
+    private Leaf[] withAppendedLeaf(final Leaf leaf) {
+        final Leaf[] leaves = orderedLeaves;
+        if (null == leaves) {
+            return null;
+        }
+        final Leaf[] result = Arrays.copyOf(leaves, leaves.length + 1);
+        result[leaves.length] = leaf;
+        return result;
+    }
+
+    @Nullable
+    private Leaf[] withReplacedLeaf(final Leaf leaf) {
+        final Leaf[] leaves = orderedLeaves;
+        if (null == leaves) {
+            return null;
+        }
+        final Leaf[] result = leaves.clone();
+        result[indexOf(leaves, leaf.sequence)] = leaf;
+        return result;
+    }
+
+    @Nullable
+    private Leaf[] withoutLeaf(final Leaf leaf) {
+        final Leaf[] leaves = orderedLeaves;
+        if (null == leaves) {
+            return null;
+        }
+        final int index = indexOf(leaves, leaf.sequence);
+        final Leaf[] result = new Leaf[leaves.length - 1];
+        System.arraycopy(leaves, 0, result, 0, index);
+        System.arraycopy(leaves, index + 1, result, index, leaves.length - index - 1);
+        return result;
+    }
+
+    private static int indexOf(final Leaf[] orderedLeaves, final long sequence) {
+        int low = 0;
+        int high = orderedLeaves.length - 1;
+        while (low <= high) {
+            final int middle = (low + high) >>> 1;
+            final long middleSequence = orderedLeaves[middle].sequence;
+            if (middleSequence < sequence) {
+                low = middle + 1;
+            } else if (middleSequence > sequence) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        throw new IllegalStateException("The leaf with sequence <" + sequence + "> is not contained.");
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return 0 == size;
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return key instanceof String && null != root.find((String) key, key.hashCode(), 0);
+    }
+
+    @Nullable
+    @Override
+    public JsonField get(final Object key) {
+        if (key instanceof String) {
+            final Leaf leaf = root.find((String) key, key.hashCode(), 0);
+            if (null != leaf) {
+                return leaf.field;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public Collection<JsonField> values() {
+        return new OrderedView<>(leaf -> leaf.field);
+    }
+
+    @Override
+    public Set<Entry<String, JsonField>> entrySet() {
+        return new EntrySet();
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        for (final Leaf leaf : getOrderedLeaves()) {
+            result += leaf.key.hashCode() ^ leaf.field.hashCode();
+        }
+        return result;
+    }
+
+    private Leaf[] getOrderedLeaves() {
+        Leaf[] result = orderedLeaves;
+        if (null == result) {
+            result = new Leaf[size];
+            root.collect(result, 0);
+            Arrays.sort(result, Comparator.comparingLong(leaf -> leaf.sequence));
+            orderedLeaves = result;
+        }
+        return result;
+    }
+
+    private final class OrderedView<T> extends AbstractCollection<T> {
+
+        private final Function<Leaf, T> mapper;
+
+        private OrderedView(final Function<Leaf, T> mapper) {
+            this.mapper = mapper;
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            final Leaf[] leaves = getOrderedLeaves();
+            return new Iterator<T>() {
+
+                private int index = 0;
+
+                @Override
+                public boolean hasNext() {
+                    return index < leaves.length;
+                }
+
+                @Override
+                public T next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    return mapper.apply(leaves[index++]);
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<String, JsonField>> {
+
+        @Override
+        public Iterator<Entry<String, JsonField>> iterator() {
+            return new OrderedView<Entry<String, JsonField>>(
+                    leaf -> new SimpleImmutableEntry<>(leaf.key, leaf.field)).iterator();
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+    }
+
+    @Immutable
+    private static final class Leaf {
+
+        private final String key;
+        private final int hash;
+        private final JsonField field;
+        private final long sequence;
+
+        private Leaf(final String key, final int hash, final JsonField field, final long sequence) {
+            this.key = key;
+            this.hash = hash;
+            this.field = field;
+            this.sequence = sequence;
+        }
+
+    }
+
+    /**
+     * A node of the trie.
+     * Children of nodes are either {@link Leaf}s or other {@code Node}s.
+     */
+    private abstract static class Node {
+
+        @Nullable
+        abstract Leaf find(String key, int hash, int shift);
+
+        abstract Node put(Leaf leaf, int shift);
+
+        /**
+         * @return the node without the leaf or {@code null} if the node became empty.
+         */
+        @Nullable
+        abstract Node remove(String key, int hash, int shift);
+
+        /**
+         * @return the next free index of {@code target}.
+         */
+        abstract int collect(Leaf[] target, int index);
+
+    }
+
+    @Immutable
+    private static final class BitmapNode extends Node {
+
+        private static final BitmapNode EMPTY = new BitmapNode(0, new Object[0]);
+
+        private final int bitmap;
+        private final Object[] children;
+
+        private BitmapNode(final int bitmap, final Object[] children) {
+            this.bitmap = bitmap;
+            this.children = children;
+        }
+
+        private static int bit(final int hash, final int shift) {
+            return 1 << ((hash >>> shift) & LEVEL_MASK);
+        }
+
+        private int index(final int bit) {
+            return Integer.bitCount(bitmap & (bit - 1));
+        }
+
+        @Nullable
+        @Override
+        Leaf find(final String key, final int hash, final int shift) {
+            final int bit = bit(hash, shift);
+            if (0 == (bitmap & bit)) {
+                return null;
+            }
+            final Object child = children[index(bit)];
+            if (child instanceof Leaf) {
+                final Leaf leaf = (Leaf) child;
+                return leaf.key.equals(key) ? leaf : null;
+            }
+            return ((Node) child).find(key, hash, shift + BITS_PER_LEVEL);
+        }
+
+        @Override
+        Node put(final Leaf leaf, final int shift) {
+            final int bit = bit(leaf.hash, shift);
+            final int index = index(bit);
+            final Object[] newChildren;
+            if (0 == (bitmap & bit)) {
+                newChildren = new Object[children.length + 1];
+                System.arraycopy(children, 0, newChildren, 0, index);
+                newChildren[index] = leaf;
+                System.arraycopy(children, index, newChildren, index + 1, children.length - index);
+                return new BitmapNode(bitmap | bit, newChildren);
+            }
+            final Object child = children[index];
+            final Object newChild;
+            if (child instanceof Leaf) {
+                final Leaf existingLeaf = (Leaf) child;
+                if (existingLeaf.key.equals(leaf.key)) {
+                    newChild = leaf;
+                } else {
+                    newChild = merge(existingLeaf, leaf, shift + BITS_PER_LEVEL);
+                }
+            } else {
+                newChild = ((Node) child).put(leaf, shift + BITS_PER_LEVEL);
+            }
+            newChildren = children.clone();
+            newChildren[index] = newChild;
+            return new BitmapNode(bitmap, newChildren);
+        }
+
+        private static Node merge(final Leaf first, final Leaf second, final int shift) {
+            if (shift >= Integer.SIZE) {
+                return new CollisionNode(new Leaf[]{first, second});
+            }
+            final int firstBit = bit(first.hash, shift);
+            final int secondBit = bit(second.hash, shift);
+            if (firstBit == secondBit) {
+                return new BitmapNode(firstBit, new Object[]{merge(first, second, shift + BITS_PER_LEVEL)});
+            }
+            final Object[] children = Integer.compareUnsigned(firstBit, secondBit) < 0
+                    ? new Object[]{first, second}
+                    : new Object[]{second, first};
+            return new BitmapNode(firstBit | secondBit, children);
+        }
+
+        @Nullable
+        @Override
+        Node remove(final String key, final int hash, final int shift) {
+            final int bit = bit(hash, shift);
+            if (0 == (bitmap & bit)) {
+                return this;
+            }
+            final int index = index(bit);
+            final Object child = children[index];
+            if (child instanceof Leaf) {
+                if (!((Leaf) child).key.equals(key)) {
+                    return this;
+                }
+                return removeChild(bit, index);
+            }
+            final Node newChild = ((Node) child).remove(key, hash, shift + BITS_PER_LEVEL);
+            if (null == newChild) {
+                return removeChild(bit, index);
+            }
+            final Object[] newChildren = children.clone();
+            newChildren[index] = newChild;
+            return new BitmapNode(bitmap, newChildren);
+        }
+
+        @Nullable
+        private Node removeChild(final int bit, final int index) {
+            if (1 == children.length) {
+                return null;
+            }
+            final Object[] newChildren = new Object[children.length - 1];
+            System.arraycopy(children, 0, newChildren, 0, index);
+            System.arraycopy(children, index + 1, newChildren, index, children.length - index - 1);
+            return new BitmapNode(bitmap & ~bit, newChildren);
+        }
+
+        @Override
+        int collect(final Leaf[] target, final int index) {
+            int result = index;
+            for (final Object child : children) {
+                if (child instanceof Leaf) {
+                    target[result++] = (Leaf) child;
+                } else {
+                    result = ((Node) child).collect(target, result);
+                }
+            }
+            return result;
+        }
+
+    }
+
+    /**
+     * Holds the leaves whose keys have the same hash code.
+     */
+    @Immutable
+    private static final class CollisionNode extends Node {
+
+        private final Leaf[] leaves;
+
+        private CollisionNode(final Leaf[] leaves) {
+            this.leaves = leaves;
+        }
+
+        private int indexOf(final String key) {
+            for (int i = 0; i < leaves.length; i++) {
+                if (leaves[i].key.equals(key)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Nullable
+        @Override
+        Leaf find(final String key, final int hash, final int shift) {
+            final int index = indexOf(key);
+            return 0 <= index ? leaves[index] : null;
+        }
+
+        @Override
+        Node put(final Leaf leaf, final int shift) {
+            final int index = indexOf(leaf.key);
+            final Leaf[] newLeaves;
+            if (0 <= index) {
+                newLeaves = leaves.clone();
+                newLeaves[index] = leaf;
+            } else {
+                newLeaves = Arrays.copyOf(leaves, leaves.length + 1);
+                newLeaves[leaves.length] = leaf;
+            }
+            return new CollisionNode(newLeaves);
+        }
+
+        @Nullable
+        @Override
+        Node remove(final String key, final int hash, final int shift) {
+            final int index = indexOf(key);
+            if (0 > index) {
+                return this;
+            }
+            if (1 == leaves.length) {
+                return null;
+            }
+            final Leaf[] newLeaves = new Leaf[leaves.length - 1];
+            System.arraycopy(leaves, 0, newLeaves, 0, index);
+            System.arraycopy(leaves, index + 1, newLeaves, index, leaves.length - index - 1);
+            return new CollisionNode(newLeaves);
+        }
+
+        @Override
+        int collect(final Leaf[] target, final int index) {
+            System.arraycopy(leaves, 0, target, index, leaves.length);
+            return index + leaves.length;
+        }
+
+    }
+
+}
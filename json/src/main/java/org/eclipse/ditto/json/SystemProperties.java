@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import static java.util.Objects.requireNonNull;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Reads the system properties which tune the sizes of caches and of the representations of JSON values, e.g.
+ * {@code ditto.json.compact-object.max-size}.
+ * As these properties are only read once when the respective class is initialized, an invalid value does not fail
+ * but falls back to the default value.
+ */
+@Immutable
+final class SystemProperties {
+
+    private SystemProperties() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Returns the value of the specified system property as non-negative {@code int}.
+     * Negative values are treated as {@code 0}.
+     *
+     * @param propertyName the name of the system property.
+     * @param defaultValue the value to be returned if the property is not set or not an integer.
+     * @return the value of the property or {@code defaultValue}.
+     * @throws NullPointerException if {@code propertyName} is {@code null}.
+     */
+    static int getNonNegativeInt(final String propertyName, final int defaultValue) {
+        requireNonNull(propertyName, "The propertyName must not be null!");
+        return parseNonNegativeInt(System.getProperty(propertyName), defaultValue);
+    }
+
+    static int parseNonNegativeInt(@Nullable final String propertyValue, final int defaultValue) {
+        int result = defaultValue;
+        if (null != propertyValue) {
+            try {
+                result = Math.max(0, Integer.parseInt(propertyValue.trim()));
+            } catch (final NumberFormatException e) {
+                result = defaultValue;
+            }
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,485 @@
+/*
+ * Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.text.MessageFormat;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * A parser for UTF-8 encoded JSON which reads directly from bytes without decoding the whole input to a Java String
+ * first.
+ * It emits the same events to a {@link DittoJsonHandler} as the minimal-json {@code JsonParser} does, thus the
+ * resulting JSON values are equal to the ones parsed from the decoded string.
+ * Field names are resolved to {@link JsonKey}s via {@link JsonKey#of(CharSequence)}, so frequent field names share
+ * the interned key instances.
+ * Malformed UTF-8 sequences are rejected instead of being replaced.
+ * <p>
+ * <em>Instances of this class are not safe to be re-used.</em>
+ * </p>
+ *
+ * @param <A> the type to be used for parsing JSON arrays.
+ * @param <O> the type to be used for parsing JSON objects.
+ */
+@NotThreadSafe
+final class Utf8JsonParser<A, O> {
+
+    private static final int MAX_NESTING_LEVEL = 1000;
+
+    private final DittoJsonHandler<A, O, ?> handler;
+    private final Utf8Decoder utf8Decoder;
+    private byte[] buffer;
+    private int index;
+    private int limit;
+    private int startOffset;
+    private int nestingLevel;
+    @Nullable private StringBuilder stringBuilder;
+
+    private Utf8JsonParser(final DittoJsonHandler<A, O, ?> handler) {
+        this.handler = requireNonNull(handler, "The handler must not be null!");
+        utf8Decoder = Utf8Decoder.getInstance();
+        buffer = new byte[0];
+        index = 0;
+        limit = 0;
+        startOffset = 0;
+        nestingLevel = 0;
+        stringBuilder = null;
+    }
+
+    /**
+     * Returns a new instance of {@code Utf8JsonParser} which emits its events to the given handler.
+     *
+     * @param handler the handler which receives the parser events.
+     * @param <A> the type to be used for parsing JSON arrays.
+     * @param <O> the type to be used for parsing JSON objects.
+     * @return the parser.
+     * @throws NullPointerException if {@code handler} is {@code null}.
+     */
+    static <A, O> Utf8JsonParser<A, O> newInstance(final DittoJsonHandler<A, O, ?> handler) {
+        return new Utf8JsonParser<>(handler);
+    }
+
+    /**
+     * Parses the given range of UTF-8 encoded bytes.
+     *
+     * @param bytes the bytes to be parsed.
+     * @param offset the index of the first byte to be parsed.
+     * @param length the number of bytes to be parsed.
+     * @throws JsonParseException if the bytes do not contain valid JSON.
+     * @throws IndexOutOfBoundsException if {@code offset} or {@code length} do not denote a valid range of
+     * {@code bytes}.
+     */
+    void parse(final byte[] bytes, final int offset, final int length) {
+        requireNonNull(bytes, "The bytes to be parsed must not be null!");
+        if (offset < 0 || length < 0 || offset > bytes.length - length) {
+            throw new IndexOutOfBoundsException(
+                    MessageFormat.format("Invalid range <{0}, {1}> for <{2}> bytes!", offset, length, bytes.length));
+        }
+        buffer = bytes;
+        index = offset;
+        limit = offset + length;
+        startOffset = offset;
+        skipWhitespace();
+        readValue();
+        skipWhitespace();
+        if (index < limit) {
+            throw error("Unexpected character");
+        }
+    }
+
+    /**
+     * Parses the remaining UTF-8 encoded bytes of the given ByteBuffer.
+     * The position of the ByteBuffer is not changed.
+     * ByteBuffers which are not backed by an accessible array (e. g. direct or read-only ByteBuffers) are copied
+     * once.
+     *
+     * @param byteBuffer the ByteBuffer to be parsed.
+     * @throws JsonParseException if the ByteBuffer does not contain valid JSON.
+     */
+    void parse(final ByteBuffer byteBuffer) {
+        requireNonNull(byteBuffer, "The ByteBuffer to be parsed must not be null!");
+        if (byteBuffer.hasArray()) {
+            parse(byteBuffer.array(), byteBuffer.arrayOffset() + byteBuffer.position(), byteBuffer.remaining());
+        } else {
+            final byte[] bytes = new byte[byteBuffer.remaining()];
+            byteBuffer.duplicate().get(bytes);
+            parse(bytes, 0, bytes.length);
+        }
+    }
+
+    private void readValue() {
+        if (index >= limit) {
+            throw error("Unexpected end of input");
+        }
+        switch (buffer[index]) {
+            case 'n':
+                handler.startNull();
+                readLiteral("null");
+                handler.endNull();
+                break;
+            case 't':
+                handler.startBoolean();
+                readLiteral("true");
+                handler.endBoolean(true);
+                break;
+            case 'f':
+                handler.startBoolean();
+                readLiteral("false");
+                handler.endBoolean(false);
+                break;
+            case '"':
+                handler.startString();
+                handler.endString(readString());
+                break;
+            case '[':
+                readArray();
+                break;
+            case '{':
+                readObject();
+                break;
+            case '-':
+            case '0':
+            case '1':
+            case '2':
+            case '3':
+            case '4':
+            case '5':
+            case '6':
+            case '7':
+            case '8':
+            case '9':
+                readNumber();
+                break;
+            default:
+                throw error("Expected value");
+        }
+    }
+
+    private void readArray() {
+        final A array = handler.startArray();
+        index++; // '['
+        if (++nestingLevel > MAX_NESTING_LEVEL) {
+            throw error("Nesting too deep");
+        }
+        skipWhitespace();
+        if (!readByte(']')) {
+            do {
+                skipWhitespace();
+                handler.startArrayValue(array);
+                readValue();
+                handler.endArrayValue(array);
+                skipWhitespace();
+            } while (readByte(','));
+            if (!readByte(']')) {
+                throw error("Expected ',' or ']'");
+            }
+        }
+        nestingLevel--;
+        handler.endArray(array);
+    }
+
+    private void readObject() {
+        final O object = handler.startObject();
+        index++; // '{'
+        if (++nestingLevel > MAX_NESTING_LEVEL) {
+            throw error("Nesting too deep");
+        }
+        skipWhitespace();
+        if (!readByte('}')) {
+            do {
+                skipWhitespace();
+                handler.startObjectName(object);
+                final JsonKey key = readName();
+                final String name = key.toString();
+                handler.endObjectName(object, name);
+                skipWhitespace();
+                if (!readByte(':')) {
+                    throw error("Expected ':'");
+                }
+                skipWhitespace();
+                handler.startObjectValue(object, name);
+                readValue();
+                handler.endObjectValue(object, key);
+                skipWhitespace();
+            } while (readByte(','));
+            if (!readByte('}')) {
+                throw error("Expected ',' or '}'");
+            }
+        }
+        nestingLevel--;
+        handler.endObject(object);
+    }
+
+    private JsonKey readName() {
+        if (index >= limit || '"' != buffer[index]) {
+            throw error("Expected name");
+        }
+        final int start = index + 1;
+        boolean ascii = true;
+        int i = start;
+        while (i < limit) {
+            final byte b = buffer[i];
+            if ('"' == b) {
+                if (i == start) {
+                    // let JsonKey report the empty name
+                    index = i + 1;
+                    return JsonKey.of("");
+                }
+                final JsonKey result = JsonKey.of(newString(start, i, ascii));
+                index = i + 1;
+                return result;
+            } else if ('\\' == b || (b >= 0 && b < 0x20)) {
+                // escaped names are decoded by the general string reading
+                break;
+            }
+            ascii &= b >= 0;
+            i++;
+        }
+        return JsonKey.of(readString());
+    }
+
+    private String readString() {
+        final int start = ++index; // skip '"'
+        boolean ascii = true;
+        while (index < limit) {
+            final byte b = buffer[index];
+            if ('"' == b) {
+                final String result = newString(start, index, ascii);
+                index++;
+                return result;
+            } else if ('\\' == b) {
+                return readEscapedString(start);
+            } else if (b >= 0 && b < 0x20) {
+                throw error("Expected valid string character");
+            }
+            ascii &= b >= 0;
+            index++;
+        }
+        throw error("Unexpected end of input");
+    }
+
+    private String readEscapedString(final int start) {
+        final StringBuilder result = getStringBuilder();
+        int segmentStart = start;
+        boolean ascii = true;
+        while (index < limit) {
+            final byte b = buffer[index];
+            if ('"' == b) {
+                result.append(newString(segmentStart, index, ascii));
+                index++;
+                return result.toString();
+            } else if ('\\' == b) {
+                result.append(newString(segmentStart, index, ascii));
+                index++;
+                readEscape(result);
+                segmentStart = index;
+                ascii = true;
+            } else if (b >= 0 && b < 0x20) {
+                throw error("Expected valid string character");
+            } else {
+                ascii &= b >= 0;
+                index++;
+            }
+        }
+        throw error("Unexpected end of input");
+    }
+
+    private void readEscape(final StringBuilder target) {
+        if (index >= limit) {
+            throw error("Unexpected end of input");
+        }
+        final byte b = buffer[index++];
+        switch (b) {
+            case '"':
+            case '/':
+            case '\\':
+                target.append((char) b);
+                break;
+            case 'b':
+                target.append('\b');
+                break;
+            case 'f':
+                target.append('\f');
+                break;
+            case 'n':
+                target.append('\n');
+                break;
+            case 'r':
+                target.append('\r');
+                break;
+            case 't':
+                target.append('\t');
+                break;
+            case 'u':
+                if (index + 4 > limit) {
+                    throw error("Unexpected end of input");
+                }
+                int codeUnit = 0;
+                for (int i = 0; i < 4; i++) {
+                    final int digit = Character.digit(buffer[index++], 16);
+                    if (digit < 0) {
+                        index--;
+                        throw error("Expected hexadecimal digit");
+                    }
+                    codeUnit = (codeUnit << 4) | digit;
+                }
+                target.append((char) codeUnit);
+                break;
+            default:
+                index--;
+                throw error("Expected valid escape sequence");
+        }
+    }
+
+    private StringBuilder getStringBuilder() {
+        StringBuilder result = stringBuilder;
+        if (null == result) {
+            result = new StringBuilder();
+            stringBuilder = result;
+        } else {
+            result.setLength(0);
+        }
+        return result;
+    }
+
+    private String newString(final int start, final int end, final boolean ascii) {
+        try {
+            return utf8Decoder.decode(buffer, start, end - start, ascii);
+        } catch (final CharacterCodingException e) {
+            throw error("Malformed UTF-8", start);
+        }
+    }
+
+    private void readNumber() {
+        handler.startNumber();
+        final int start = index;
+        readByte('-');
+        if (index >= limit || !isDigit(buffer[index])) {
+            throw error("Expected digit");
+        }
+        final byte firstDigit = buffer[index++];
+        if ('0' != firstDigit) {
+            skipDigits();
+        }
+        if (readByte('.')) {
+            readDigits();
+        }
+        if (readByte('e') || readByte('E')) {
+            if (!readByte('+')) {
+                readByte('-');
+            }
+            readDigits();
+        }
+        handler.endNumber(newString(start, index, true));
+    }
+
+    private void readDigits() {
+        if (index >= limit || !isDigit(buffer[index])) {
+            throw error("Expected digit");
+        }
+        skipDigits();
+    }
+
+    private void skipDigits() {
+        while (index < limit && isDigit(buffer[index])) {
+            index++;
+        }
+    }
+
+    private static boolean isDigit(final byte b) {
+        return b >= '0' && b <= '9';
+    }
+
+    private void readLiteral(final String literal) {
+        final int length = literal.length();
+        if (index + length > limit) {
+            throw error("Unexpected end of input");
+        }
+        for (int i = 0; i < length; i++) {
+            if (buffer[index] != literal.charAt(i)) {
+                throw error(MessageFormat.format("Expected ''{0}''", literal));
+            }
+            index++;
+        }
+    }
+
+    private boolean readByte(final char expected) {
+        if (index < limit && buffer[index] == expected) {
+            index++;
+            return true;
+        }
+        return false;
+    }
+
+    private void skipWhitespace() {
+        while (index < limit) {
+            final byte b = buffer[index];
+            if (' ' != b && '\t' != b && '\n' != b && '\r' != b) {
+                return;
+            }
+            index++;
+        }
+    }
+
+    private JsonParseException error(final String message) {
+        return error(message, index);
+    }
+
+    private JsonParseException error(final String message, final int position) {
+        final String description = position < limit ? "at offset " : "at end of input, offset ";
+        return JsonParseException.newBuilder()
+                .message(message + " " + description + (position - startOffset))
+                .build();
+    }
+
+    /**
+     * Holds the strict UTF-8 decoder of a thread.
+     */
+    @NotThreadSafe
+    static final class Utf8Decoder {
+
+        private static final ThreadLocal<Utf8Decoder> INSTANCES = ThreadLocal.withInitial(Utf8Decoder::new);
+
+        private final CharsetDecoder utf8Decoder;
+
+        private Utf8Decoder() {
+            utf8Decoder = StandardCharsets.UTF_8.newDecoder()
+                    .onMalformedInput(CodingErrorAction.REPORT)
+                    .onUnmappableCharacter(CodingErrorAction.REPORT);
+        }
+
+        static Utf8Decoder getInstance() {
+            return INSTANCES.get();
+        }
+
+        String decode(final byte[] bytes, final int start, final int length, final boolean ascii)
+                throws CharacterCodingException {
+
+            if (ascii) {
+                // ISO-8859-1 decoding of pure ASCII is a plain copy into a compact string
+                return new String(bytes, start, length, StandardCharsets.ISO_8859_1);
+            }
+            return utf8Decoder.decode(ByteBuffer.wrap(bytes, start, length)).toString();
+        }
+
+    }
+
+}
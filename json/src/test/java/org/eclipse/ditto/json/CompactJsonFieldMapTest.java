@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link CompactJsonFieldMap}.
+ */
+public final class CompactJsonFieldMapTest {
+
+    private static final Map<String, JsonField> KNOWN_FIELDS = new LinkedHashMap<>();
+
+    static {
+        KNOWN_FIELDS.put("value", JsonField.newInstance("value", JsonValue.of(42)));
+        KNOWN_FIELDS.put("unit", JsonField.newInstance("unit", JsonValue.of("celsius")));
+        KNOWN_FIELDS.put("active", JsonField.newInstance("active", JsonValue.of(true)));
+    }
+
+    @Test
+    public void containsFieldsInInsertionOrder() {
+        final CompactJsonFieldMap underTest = CompactJsonFieldMap.of(KNOWN_FIELDS);
+
+        assertThat(underTest.keySet()).containsExactly("value", "unit", "active");
+        assertThat(underTest.values()).containsExactlyElementsOf(KNOWN_FIELDS.values());
+        assertThat(underTest).hasSize(3);
+    }
+
+    @Test
+    public void getReturnsExpected() {
+        final CompactJsonFieldMap underTest = CompactJsonFieldMap.of(KNOWN_FIELDS);
+
+        assertThat(underTest.get("unit")).isEqualTo(KNOWN_FIELDS.get("unit"));
+        assertThat(underTest.containsKey("active")).isTrue();
+        assertThat(underTest.get("unknown")).isNull();
+        assertThat(underTest.containsKey("unknown")).isFalse();
+    }
+
+    @Test
+    public void isEqualToLinkedHashMapWithSameEntries() {
+        final CompactJsonFieldMap underTest = CompactJsonFieldMap.of(KNOWN_FIELDS);
+
+        assertThat(underTest).isEqualTo(KNOWN_FIELDS);
+        assertThat(KNOWN_FIELDS).isEqualTo(underTest);
+        assertThat(underTest.hashCode()).isEqualTo(KNOWN_FIELDS.hashCode());
+    }
+
+    @Test
+    public void emptyMap() {
+        final CompactJsonFieldMap underTest = CompactJsonFieldMap.of(new LinkedHashMap<>());
+
+        assertThat(underTest).isEmpty();
+        assertThat(underTest.hashCode()).isZero();
+    }
+
+    @Test
+    public void valuesCannotBeModified() {
+        final CompactJsonFieldMap underTest = CompactJsonFieldMap.of(KNOWN_FIELDS);
+        final Iterator<JsonField> iterator = underTest.values().iterator();
+        iterator.next();
+
+        assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(iterator::remove);
+        assertThatExceptionOfType(UnsupportedOperationException.class)
+                .isThrownBy(() -> underTest.put("foo", KNOWN_FIELDS.get("value")));
+    }
+
+}
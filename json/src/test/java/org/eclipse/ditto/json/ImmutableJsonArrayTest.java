@@ -435,6 +435,26 @@ public final class ImmutableJsonArrayTest {
         assertThat(jsonArray.get(0).isPresent()).isTrue();
     }
 
+    @Test
+    public void lazySerializationModeCreatesStringRepresentationOnDemand() {
+        final ImmutableJsonArray jsonArray = ImmutableJsonArray.of(KNOWN_INT_VALUE_LIST, JsonSerializationMode.LAZY);
+        assertInternalCachesAreAsExpected(jsonArray, false);
+
+        assertThat(jsonArray.toString()).isEqualTo(ImmutableJsonArray.of(KNOWN_INT_VALUE_LIST).toString());
+        assertInternalCachesAreAsExpected(jsonArray, true);
+    }
+
+    @Test
+    public void lazySerializationModeEstimatesUpperBoundForStringSizeWithoutSerializing() {
+        final ImmutableJsonArray jsonArray = ImmutableJsonArray.of(KNOWN_INT_VALUE_LIST, JsonSerializationMode.LAZY);
+
+        final long upperBoundForStringSize = jsonArray.getUpperBoundForStringSize();
+
+        assertInternalCachesAreAsExpected(jsonArray, false);
+        assertThat(upperBoundForStringSize)
+                .isGreaterThanOrEqualTo(ImmutableJsonArray.of(KNOWN_INT_VALUE_LIST).toString().length());
+    }
+
     private void assertInternalCachesAreAsExpected(final JsonArray jsonArray, final boolean jsonExpected) {
         try {
             final Field valueListField = jsonArray.getClass().getDeclaredField("valueList");
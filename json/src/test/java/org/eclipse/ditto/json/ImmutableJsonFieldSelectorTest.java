@@ -41,12 +41,17 @@ public final class ImmutableJsonFieldSelectorTest {
         assertInstancesOf(ImmutableJsonFieldSelector.class,
                 areImmutable(),
                 assumingFields("pointers").areSafelyCopiedUnmodifiableCollectionsWithImmutableElements(),
-                provided(JsonPointer.class).isAlsoImmutable());
+                assumingFields("projector").areModifiedAsPartOfAnUnobservableCachingStrategy(),
+                provided(JsonPointer.class, JsonFieldSelectorProjector.class).areAlsoImmutable());
     }
 
     @Test
     public void testHashCodeAndEquals() {
-        EqualsVerifier.forClass(ImmutableJsonFieldSelector.class).verify();
+        EqualsVerifier.forClass(ImmutableJsonFieldSelector.class)
+                .withPrefabValues(JsonFieldSelectorProjector.class,
+                        JsonFieldSelectorProjector.compile(JsonFactory.newFieldSelector("/foo")),
+                        JsonFieldSelectorProjector.compile(JsonFactory.newFieldSelector("/bar")))
+                .verify();
     }
 
     @Test(expected = NullPointerException.class)
@@ -37,6 +37,15 @@ public final class ImmutableJsonKeyTest {
         EqualsVerifier.forClass(ImmutableJsonKey.class).suppress(Warning.NULL_FIELDS).verify();
     }
 
+    @Test
+    public void equalKeyStringsReturnInternedInstance() {
+        final JsonKey key = ImmutableJsonKey.of("internedKey");
+
+        assertThat(ImmutableJsonKey.of(new StringBuilder("internedKey"))).isSameAs(key);
+        assertThat(ImmutableJsonKey.getPoolStatistics().getHitCount()).isPositive();
+        assertThat(ImmutableJsonKey.getPoolStatistics().getSize()).isPositive();
+    }
+
     @Test(expected = NullPointerException.class)
     public void tryToCreateInstanceWithNullKeyValue() {
         ImmutableJsonKey.of(null);
@@ -1411,6 +1411,108 @@ public final class ImmutableJsonObjectTest {
         assertThat(jsonObject.getValue(KNOWN_KEY_FOO).isPresent()).isTrue();
     }
 
+    @Test
+    public void lazySerializationModeCreatesStringRepresentationOnDemand() {
+        final ImmutableJsonObject jsonObject = ImmutableJsonObject.of(KNOWN_FIELDS, JsonSerializationMode.LAZY);
+        assertInternalCachesAreAsExpected(jsonObject, false);
+
+        assertThat(jsonObject.toString()).isEqualTo(KNOWN_JSON_STRING);
+        assertInternalCachesAreAsExpected(jsonObject, true);
+    }
+
+    @Test
+    public void lazySerializationModeEstimatesUpperBoundForStringSizeWithoutSerializing() {
+        final ImmutableJsonObject jsonObject = ImmutableJsonObject.of(KNOWN_FIELDS, JsonSerializationMode.LAZY);
+
+        final long upperBoundForStringSize = jsonObject.getUpperBoundForStringSize();
+
+        assertInternalCachesAreAsExpected(jsonObject, false);
+        assertThat(upperBoundForStringSize).isGreaterThanOrEqualTo(KNOWN_JSON_STRING.length());
+    }
+
+    @Test
+    public void lazySerializationModeSurvivesClearedSoftReference() throws IllegalAccessException,
+            NoSuchFieldException {
+
+        final Map<String, JsonField> nonCompactFields = createNonCompactFields();
+        final ImmutableJsonObject jsonObject = ImmutableJsonObject.of(nonCompactFields, JsonSerializationMode.LAZY);
+
+        final Field fieldMapField = jsonObject.getClass().getDeclaredField("fieldMap");
+        fieldMapField.setAccessible(true);
+        final ImmutableJsonObject.SoftReferencedFieldMap
+                fieldMap = (ImmutableJsonObject.SoftReferencedFieldMap) fieldMapField.get(jsonObject);
+
+        final Field softReferenceField = fieldMap.getClass().getDeclaredField("fieldsReference");
+        softReferenceField.setAccessible(true);
+        final SoftReference softReference = (SoftReference) softReferenceField.get(fieldMap);
+
+        softReference.clear();
+
+        assertThat(jsonObject.getValue(KNOWN_KEY_FOO)).contains(KNOWN_VALUE_FOO);
+        assertThat(jsonObject).isEqualTo(ImmutableJsonObject.of(nonCompactFields, JsonSerializationMode.EAGER));
+    }
+
+    @Test
+    public void smallObjectIsRepresentedBySoftlyReferencedCompactFieldMap() throws IllegalAccessException,
+            NoSuchFieldException {
+
+        final ImmutableJsonObject jsonObject = ImmutableJsonObject.of(KNOWN_FIELDS, JsonSerializationMode.EAGER);
+
+        final Field fieldMapField = jsonObject.getClass().getDeclaredField("fieldMap");
+        fieldMapField.setAccessible(true);
+        final ImmutableJsonObject.SoftReferencedFieldMap
+                fieldMap = (ImmutableJsonObject.SoftReferencedFieldMap) fieldMapField.get(jsonObject);
+
+        final Field softReferenceField = fieldMap.getClass().getDeclaredField("fieldsReference");
+        softReferenceField.setAccessible(true);
+        final Field strongReferenceField = fieldMap.getClass().getDeclaredField("strongFieldsReference");
+        strongReferenceField.setAccessible(true);
+
+        final SoftReference<?> softReference = (SoftReference<?>) softReferenceField.get(fieldMap);
+        assertThat(softReference.get()).isInstanceOf(CompactJsonFieldMap.class);
+        assertThat(strongReferenceField.get(fieldMap)).isNull();
+        assertThat(jsonObject.toString()).isEqualTo(KNOWN_JSON_STRING);
+    }
+
+    @Test
+    public void compactAndNonCompactObjectsAreEqual() {
+        final Map<String, JsonField> nonCompactFields = createNonCompactFields();
+        JsonObject shrunkJsonObject = ImmutableJsonObject.of(nonCompactFields);
+        for (final String key : nonCompactFields.keySet()) {
+            if (!KNOWN_FIELDS.containsKey(key)) {
+                shrunkJsonObject = shrunkJsonObject.remove(key);
+            }
+        }
+        final ImmutableJsonObject compactJsonObject = ImmutableJsonObject.of(KNOWN_FIELDS);
+
+        assertThat(shrunkJsonObject).isEqualTo(compactJsonObject);
+        assertThat(compactJsonObject).isEqualTo(shrunkJsonObject);
+        assertThat(shrunkJsonObject.hashCode()).isEqualTo(compactJsonObject.hashCode());
+        assertThat(compactJsonObject.getKeys()).containsExactly(KNOWN_KEY_FOO, KNOWN_KEY_BAR, KNOWN_KEY_BAZ);
+        assertThat(compactJsonObject.setAll(nonCompactFields.values()))
+                .isEqualTo(ImmutableJsonObject.of(nonCompactFields));
+    }
+
+    @Test
+    public void lazilyAndEagerlySerializedObjectsAreEqual() {
+        final ImmutableJsonObject lazyJsonObject = ImmutableJsonObject.of(KNOWN_FIELDS, JsonSerializationMode.LAZY);
+        final ImmutableJsonObject eagerJsonObject = ImmutableJsonObject.of(KNOWN_FIELDS, JsonSerializationMode.EAGER);
+
+        assertThat(lazyJsonObject).isEqualTo(eagerJsonObject);
+        assertThat(eagerJsonObject).isEqualTo(lazyJsonObject);
+        assertThat(lazyJsonObject.hashCode()).isEqualTo(eagerJsonObject.hashCode());
+    }
+
+    @Test
+    public void modifiedObjectKeepsLazySerializationMode() {
+        final ImmutableJsonObject jsonObject = ImmutableJsonObject.of(KNOWN_FIELDS, JsonSerializationMode.LAZY);
+
+        final JsonObject modified = jsonObject.setValue(KNOWN_KEY_FOO, KNOWN_VALUE_BAR);
+
+        assertInternalCachesAreAsExpected(modified, false);
+        assertThat(modified.getValue(KNOWN_KEY_FOO)).contains(KNOWN_VALUE_BAR);
+    }
+
     private void assertInternalCachesAreAsExpected(final JsonObject jsonObject, final boolean jsonExpected) {
         try {
             final Field valueListField = jsonObject.getClass().getDeclaredField("fieldMap");
@@ -1431,4 +1533,14 @@ public final class ImmutableJsonObjectTest {
             e.printStackTrace();
         }
     }
+
+    private static Map<String, JsonField> createNonCompactFields() {
+        final Map<String, JsonField> result = new LinkedHashMap<>(KNOWN_FIELDS);
+        for (int i = 0; result.size() <= CompactJsonFieldMap.MAX_SIZE; i++) {
+            final JsonKey key = JsonKey.of("additional" + i);
+            result.put(key.toString(), toField(key, JsonValue.of(i)));
+        }
+        return result;
+    }
+
 }
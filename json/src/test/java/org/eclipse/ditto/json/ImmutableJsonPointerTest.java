@@ -42,16 +42,41 @@ public final class ImmutableJsonPointerTest {
     public void assertImmutability() {
         assertInstancesOf(ImmutableJsonPointer.class,
                 areImmutable(),
-                provided(JsonKey.class).isAlsoImmutable(), assumingFields("jsonFields").areNotModifiedAndDoNotEscape());
+                provided(JsonKey.class).isAlsoImmutable(), assumingFields("jsonFields").areNotModifiedAndDoNotEscape(),
+                assumingFields("stringRepresentation").areModifiedAsPartOfAnUnobservableCachingStrategy());
     }
 
     @Test
     public void testHashCodeAndEquals() {
         EqualsVerifier.forClass(ImmutableJsonPointer.class)
                 .suppress(Warning.NULL_FIELDS)
+                .withIgnoredFields("stringRepresentation")
+                .withCachedHashCode("hashCode", "calculateHashCode", ImmutableJsonPointer.of(KNOWN_KEY_NAME))
                 .verify();
     }
 
+    @Test
+    public void parsingEqualStringsReturnsInternedInstance() {
+        final JsonPointer pointer = ImmutableJsonPointer.ofParsed("/features/interned/properties");
+
+        assertThat(ImmutableJsonPointer.ofParsed("/features/interned/properties")).isSameAs(pointer);
+        assertThat(ImmutableJsonPointer.getPoolStatistics().getHitCount()).isPositive();
+    }
+
+    @Test
+    public void derivedPointersAreEqualToParsedPointers() {
+        final JsonPointer underTest = ImmutableJsonPointer.ofParsed("/foo/bar/baz");
+
+        assertThat(underTest.cutLeaf()).isEqualTo(ImmutableJsonPointer.ofParsed("/foo/bar"));
+        assertThat(underTest.nextLevel()).isEqualTo(ImmutableJsonPointer.ofParsed("/bar/baz"));
+        assertThat(underTest.nextLevel().nextLevel().nextLevel()).isEqualTo(ImmutableJsonPointer.empty());
+        assertThat(underTest.nextLevel().cutLeaf().hashCode())
+                .isEqualTo(ImmutableJsonPointer.ofParsed("/bar").hashCode());
+        assertThat(underTest.getPrefixPointer(2)).contains(ImmutableJsonPointer.ofParsed("/foo/bar"));
+        assertThat(underTest.getSubPointer(3)).contains(ImmutableJsonPointer.empty());
+        assertThat(underTest.getSubPointer(4)).isEmpty();
+    }
+
     @Test
     public void createInstanceFromStringWithLeadingSlash() {
         final JsonPointer underTest = ImmutableJsonPointer.ofParsed("/foo/bar/baz");
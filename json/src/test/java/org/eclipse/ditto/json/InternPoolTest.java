@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link InternPool}.
+ */
+public final class InternPoolTest {
+
+    @Test
+    public void returnsPooledInstanceForEqualString() {
+        final InternPool<StringBuilder> underTest = InternPool.newInstance("test", 10);
+
+        final StringBuilder first = underTest.intern("foo", StringBuilder::new);
+        final StringBuilder second = underTest.intern("foo", StringBuilder::new);
+
+        assertThat(second).isSameAs(first);
+        final JsonInternPoolStatistics statistics = underTest.getStatistics();
+        assertThat(statistics.getName()).isEqualTo("test");
+        assertThat(statistics.getSize()).isOne();
+        assertThat(statistics.getHitCount()).isOne();
+        assertThat(statistics.getMissCount()).isOne();
+        assertThat(statistics.getHitRate()).isEqualTo(0.5);
+    }
+
+    @Test
+    public void doesNotGrowBeyondMaxSize() {
+        final InternPool<StringBuilder> underTest = InternPool.newInstance("test", 2);
+
+        for (int i = 0; i < 100; i++) {
+            underTest.intern(String.valueOf(i), StringBuilder::new);
+        }
+
+        assertThat(underTest.getStatistics().getSize()).isLessThanOrEqualTo(2);
+        assertThat(underTest.getStatistics().getMaxSize()).isEqualTo(2);
+    }
+
+    @Test
+    public void usedInstanceGetsSecondChanceBeforeEviction() {
+        final InternPool<StringBuilder> underTest = InternPool.newInstance("test", 1);
+        final StringBuilder a = underTest.intern("a", StringBuilder::new);
+        underTest.intern("a", StringBuilder::new);
+
+        underTest.intern("b", StringBuilder::new);
+
+        assertThat(underTest.intern("a", StringBuilder::new)).isSameAs(a);
+    }
+
+    @Test
+    public void unusedInstanceIsEvicted() {
+        final InternPool<StringBuilder> underTest = InternPool.newInstance("test", 1);
+        final StringBuilder a = underTest.intern("a", StringBuilder::new);
+        underTest.intern("a", StringBuilder::new);
+        underTest.intern("b", StringBuilder::new);
+
+        final StringBuilder b = underTest.intern("b", StringBuilder::new);
+
+        assertThat(underTest.intern("b", StringBuilder::new)).isSameAs(b);
+        assertThat(underTest.intern("a", StringBuilder::new)).isNotSameAs(a);
+        assertThat(underTest.getStatistics().getSize()).isOne();
+    }
+
+    @Test
+    public void disabledPoolAlwaysCreatesNewInstances() {
+        final InternPool<StringBuilder> underTest = InternPool.newInstance("test", 0);
+
+        final StringBuilder first = underTest.intern("a", StringBuilder::new);
+
+        assertThat(underTest.intern("a", StringBuilder::new)).isNotSameAs(first);
+        assertThat(underTest.getStatistics().getSize()).isZero();
+        assertThat(underTest.getStatistics().getHitRate()).isEqualTo(1.0);
+    }
+
+}
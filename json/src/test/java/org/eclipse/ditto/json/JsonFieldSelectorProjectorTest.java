@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+import java.util.Iterator;
+import java.util.Set;
+
+import org.assertj.core.api.JUnitSoftAssertions;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link JsonFieldSelectorProjector}.
+ */
+public final class JsonFieldSelectorProjectorTest {
+
+    private static final JsonParseOptions PARSE_OPTIONS =
+            JsonFactory.newParseOptionsBuilder().withoutUrlDecoding().build();
+
+    private static final JsonObject JSON_OBJECT = JsonFactory.newObject(
+            "{\"the\":1,\"quick\":2,\"brown\":3,\"fox\":{\"jumps\":5,\"over\":{\"the\":6,\"lazy\":7}},\"dog\":8}");
+
+    @Rule
+    public final JUnitSoftAssertions softly = new JUnitSoftAssertions();
+
+    @Test
+    public void tryToCreateInstanceWithNullFieldSelector() {
+        assertThatNullPointerException()
+                .isThrownBy(() -> JsonFieldSelectorProjector.of(null))
+                .withMessage("The JSON field selector must not be null!")
+                .withNoCause();
+    }
+
+    @Test
+    public void tryToProjectNullObject() {
+        final JsonFieldSelectorProjector underTest = JsonFieldSelectorProjector.of(selector("the"));
+
+        assertThatNullPointerException()
+                .isThrownBy(() -> underTest.project(null))
+                .withMessage("The JSON object to be projected must not be null!")
+                .withNoCause();
+    }
+
+    @Test
+    public void projectorOfFieldSelectorCreatedByFactoryIsCompiledOnce() {
+        final JsonFieldSelector fieldSelector = selector("fox/jumps,dog");
+
+        assertThat(JsonFieldSelectorProjector.of(fieldSelector))
+                .isSameAs(JsonFieldSelectorProjector.of(fieldSelector));
+    }
+
+    @Test
+    public void projectsLikeGetOfJsonObject() {
+        final String[] fieldSelectorStrings = {
+                "the,quick,dog",
+                "dog,fox/over/lazy,quick,fox/jumps,brown,fox/over/the,the",
+                "fox,fox/over/lazy",
+                "fox/over/lazy/deeper,dog",
+                "cat,fox/under",
+                "the/deeper"
+        };
+        for (final String fieldSelectorString : fieldSelectorStrings) {
+            final JsonFieldSelector fieldSelector = selector(fieldSelectorString);
+            final JsonFieldSelectorProjector underTest =
+                    JsonFieldSelectorProjector.of(new DelegatingFieldSelector(fieldSelector));
+
+            softly.assertThat(underTest.project(JSON_OBJECT).toString())
+                    .as(fieldSelectorString)
+                    .isEqualTo(JSON_OBJECT.get(fieldSelector).toString());
+        }
+    }
+
+    @Test
+    public void selectsWholeValueIfNoLongerPointerExists() {
+        final JsonFieldSelectorProjector underTest =
+                JsonFieldSelectorProjector.of(selector("fox/over/lazy/deeper,fox/over,fox/under"));
+
+        assertThat(underTest.project(JSON_OBJECT).toString())
+                .isEqualTo("{\"fox\":{\"over\":{\"the\":6,\"lazy\":7}}}");
+    }
+
+    @Test
+    public void ordersFieldsByFirstExistingPointer() {
+        final JsonFieldSelectorProjector underTest =
+                JsonFieldSelectorProjector.of(selector("fox/under,dog,fox/jumps"));
+
+        assertThat(underTest.project(JSON_OBJECT).toString()).isEqualTo("{\"dog\":8,\"fox\":{\"jumps\":5}}");
+    }
+
+    @Test
+    public void projectingObjectWithoutSelectedFieldsReturnsEmptyObject() {
+        final JsonFieldSelectorProjector underTest = JsonFieldSelectorProjector.of(selector("cat,the/deeper"));
+
+        assertThat(underTest.project(JSON_OBJECT)).isEmpty();
+    }
+
+    @Test
+    public void projectingEmptyObjectReturnsSameObject() {
+        final JsonObject empty = JsonFactory.newObject();
+        final JsonFieldSelectorProjector underTest = JsonFieldSelectorProjector.of(selector("the"));
+
+        assertThat(underTest.project(empty)).isSameAs(empty);
+    }
+
+    @Test
+    public void keepsFieldDefinitions() {
+        final JsonFieldDefinition<JsonObject> foxDefinition = JsonFactory.newJsonObjectFieldDefinition("fox");
+        final JsonObject jsonObject = JsonObject.newBuilder()
+                .set("the", 1)
+                .set(foxDefinition, JsonObject.newBuilder().set("jumps", 5).set("over", 6).build())
+                .build();
+        final JsonFieldSelectorProjector underTest = JsonFieldSelectorProjector.of(selector("fox/jumps"));
+
+        final JsonObject projected = underTest.project(jsonObject);
+
+        assertThat(projected.getField("fox").flatMap(JsonField::getDefinition)).contains(foxDefinition);
+        assertThat(projected.toString()).isEqualTo("{\"fox\":{\"jumps\":5}}");
+    }
+
+    private static JsonFieldSelector selector(final String fieldSelectorString) {
+        return JsonFactory.newFieldSelector(fieldSelectorString, PARSE_OPTIONS);
+    }
+
+    /**
+     * Field selector which is not created by {@link JsonFactory} and thus has no cached projector.
+     */
+    private static final class DelegatingFieldSelector implements JsonFieldSelector {
+
+        private final JsonFieldSelector delegate;
+
+        private DelegatingFieldSelector(final JsonFieldSelector delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Set<JsonPointer> getPointers() {
+            return delegate.getPointers();
+        }
+
+        @Override
+        public int getSize() {
+            return delegate.getSize();
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return delegate.isEmpty();
+        }
+
+        @Override
+        public Iterator<JsonPointer> iterator() {
+            return delegate.iterator();
+        }
+
+    }
+
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mutabilitydetector.unittesting.AllowedReason.assumingFields;
+import static org.mutabilitydetector.unittesting.AllowedReason.provided;
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.junit.Test;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Unit test for {@link JsonMergePatchResult}.
+ */
+public final class JsonMergePatchResultTest {
+
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(JsonMergePatchResult.class,
+                areImmutable(),
+                provided(JsonValue.class, JsonPointer.class).areAlsoImmutable(),
+                assumingFields("changedPointers").areSafelyCopiedUnmodifiableCollectionsWithImmutableElements());
+    }
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(JsonMergePatchResult.class)
+                .usingGetClass()
+                .verify();
+    }
+
+    @Test
+    public void changedPointersAreCopiedAndCannotBeModified() {
+        final Set<JsonPointer> changedPointers = new LinkedHashSet<>();
+        changedPointers.add(JsonPointer.of("/a"));
+
+        final JsonMergePatchResult underTest = JsonMergePatchResult.of(JsonObject.empty(), changedPointers);
+        changedPointers.add(JsonPointer.of("/b"));
+
+        assertThat(underTest.getChangedPointers()).containsExactly(JsonPointer.of("/a"));
+        assertThatExceptionOfType(UnsupportedOperationException.class)
+                .isThrownBy(() -> underTest.getChangedPointers().clear());
+    }
+
+    @Test
+    public void hasNoChangesIfNoPointerWasChanged() {
+        final JsonMergePatchResult underTest = JsonMergePatchResult.of(JsonObject.empty(), Collections.emptySet());
+
+        assertThat(underTest.hasChanges()).isFalse();
+    }
+
+}
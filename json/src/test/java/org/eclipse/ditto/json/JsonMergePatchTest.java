@@ -447,4 +447,109 @@ public final class JsonMergePatchTest {
         Assertions.assertThat(mergedObject).isEqualTo(expectedObject);
     }
 
+    @Test
+    public void applyOnTrackingChangesReportsChangedPointers() {
+        final JsonObject originalObject = JsonFactory.newObjectBuilder()
+                .set("attributes", JsonFactory.newObjectBuilder()
+                        .set("location", "kitchen")
+                        .set("manufacturer", "ACME")
+                        .build())
+                .set("features", JsonFactory.newObjectBuilder()
+                        .set("lamp", JsonFactory.newObjectBuilder()
+                                .set("properties", JsonFactory.newObjectBuilder()
+                                        .set("on", false)
+                                        .set("color", "red")
+                                        .build())
+                                .build())
+                        .build())
+                .build();
+
+        final JsonObject objectToPatch = JsonFactory.newObjectBuilder()
+                .set("attributes", JsonFactory.newObjectBuilder()
+                        .set("location", "kitchen")
+                        .set("manufacturer", JsonValue.nullLiteral())
+                        .build())
+                .set("features", JsonFactory.newObjectBuilder()
+                        .set("lamp", JsonFactory.newObjectBuilder()
+                                .set("properties", JsonFactory.newObjectBuilder()
+                                        .set("on", true)
+                                        .set("brightness", 80)
+                                        .build())
+                                .build())
+                        .build())
+                .build();
+
+        final JsonMergePatchResult result = JsonMergePatch.of(objectToPatch).applyOnTrackingChanges(originalObject);
+
+        assertThat(result.getMergedValue()).isEqualTo(JsonFactory.newObjectBuilder()
+                .set("attributes", JsonFactory.newObjectBuilder()
+                        .set("location", "kitchen")
+                        .build())
+                .set("features", JsonFactory.newObjectBuilder()
+                        .set("lamp", JsonFactory.newObjectBuilder()
+                                .set("properties", JsonFactory.newObjectBuilder()
+                                        .set("on", true)
+                                        .set("color", "red")
+                                        .set("brightness", 80)
+                                        .build())
+                                .build())
+                        .build())
+                .build());
+        assertThat(result.getChangedPointers()).containsExactly(
+                JsonPointer.of("/attributes/manufacturer"),
+                JsonPointer.of("/features/lamp/properties/on"),
+                JsonPointer.of("/features/lamp/properties/brightness"));
+        assertThat(result.hasChanges()).isTrue();
+    }
+
+    @Test
+    public void applyOnTrackingChangesReusesUntouchedValues() {
+        final JsonObject untouchedFeature = JsonFactory.newObjectBuilder()
+                .set("properties", JsonFactory.newObjectBuilder().set("value", 1).build())
+                .build();
+        final JsonObject originalObject = JsonFactory.newObjectBuilder()
+                .set("thingId", "org.eclipse.ditto:thing")
+                .set("features", JsonFactory.newObjectBuilder()
+                        .set("untouched", untouchedFeature)
+                        .set("touched", JsonFactory.newObjectBuilder().set("properties", JsonObject.empty()).build())
+                        .build())
+                .build();
+
+        final JsonMergePatch underTest = JsonMergePatch.of(JsonPointer.of("/features/touched/properties/value"),
+                JsonValue.of(2));
+        final JsonValue mergedValue = underTest.applyOnTrackingChanges(originalObject).getMergedValue();
+
+        assertThat(mergedValue.asObject().getValue("/features/untouched")).containsSame(untouchedFeature);
+        assertThat(mergedValue.asObject().getValue("/features/touched/properties/value")).contains(JsonValue.of(2));
+    }
+
+    @Test
+    public void applyOnTrackingChangesReturnsSameInstanceIfNothingChanged() {
+        final JsonObject originalObject = JsonFactory.newObjectBuilder()
+                .set("a", JsonFactory.newObjectBuilder().set("b", "c").build())
+                .build();
+
+        final JsonObject objectToPatch = JsonFactory.newObjectBuilder()
+                .set("a", JsonFactory.newObjectBuilder()
+                        .set("b", "c")
+                        .set("d", JsonValue.nullLiteral())
+                        .build())
+                .build();
+
+        final JsonMergePatchResult result = JsonMergePatch.of(objectToPatch).applyOnTrackingChanges(originalObject);
+
+        assertThat(result.getMergedValue()).isSameAs(originalObject);
+        assertThat(result.getChangedPointers()).isEmpty();
+        assertThat(result.hasChanges()).isFalse();
+    }
+
+    @Test
+    public void applyOnTrackingChangesReportsRootIfValueIsReplaced() {
+        final JsonMergePatchResult result =
+                JsonMergePatch.of(JsonValue.of("bumlux")).applyOnTrackingChanges(JsonObject.empty());
+
+        assertThat(result.getMergedValue()).isEqualTo(JsonValue.of("bumlux"));
+        assertThat(result.getChangedPointers()).containsExactly(JsonPointer.empty());
+    }
+
 }
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link PersistentJsonFieldMap}.
+ */
+public final class PersistentJsonFieldMapTest {
+
+    @Test
+    public void behavesLikeLinkedHashMapForRandomModifications() {
+        final Random random = new Random(4711L);
+        final Map<String, JsonField> expected = new LinkedHashMap<>();
+        PersistentJsonFieldMap underTest = PersistentJsonFieldMap.empty();
+
+        for (int i = 0; i < 10_000; i++) {
+            final String key = "key" + random.nextInt(500);
+            if (random.nextInt(4) == 0) {
+                expected.remove(key);
+                underTest = underTest.minus(key);
+            } else {
+                final JsonField field = field(key, i);
+                expected.put(key, field);
+                underTest = underTest.plus(key, field);
+            }
+        }
+
+        assertThat(underTest).hasSize(expected.size());
+        assertThat(underTest.keySet()).containsExactlyElementsOf(expected.keySet());
+        assertThat(underTest.values()).containsExactlyElementsOf(expected.values());
+        assertThat(underTest).isEqualTo(expected);
+        assertThat(expected).isEqualTo(underTest);
+        assertThat(underTest.hashCode()).isEqualTo(expected.hashCode());
+    }
+
+    @Test
+    public void modificationsDoNotAffectOriginal() {
+        final Map<String, JsonField> fields = new LinkedHashMap<>();
+        for (int i = 0; i < 100; i++) {
+            fields.put("key" + i, field("key" + i, i));
+        }
+        final PersistentJsonFieldMap original = PersistentJsonFieldMap.of(fields);
+
+        final PersistentJsonFieldMap modified = original.plus("key42", field("key42", -1))
+                .minus("key0")
+                .plus("additional", field("additional", 0));
+
+        assertThat(original).isEqualTo(fields);
+        assertThat(modified.get("key42")).isEqualTo(field("key42", -1));
+        assertThat(modified.containsKey("key0")).isFalse();
+        assertThat(modified.keySet()).startsWith("key1", "key2").endsWith("key99", "additional");
+    }
+
+    @Test
+    public void replacingFieldKeepsPosition() {
+        final PersistentJsonFieldMap underTest = PersistentJsonFieldMap.empty()
+                .plus("a", field("a", 1))
+                .plus("b", field("b", 2))
+                .plus("a", field("a", 3));
+
+        assertThat(underTest.keySet()).containsExactly("a", "b");
+        assertThat(underTest.get("a")).isEqualTo(field("a", 3));
+    }
+
+    @Test
+    public void keysWithCollidingHashCodesAreDistinguished() {
+        // "Aa" and "BB" have the same hash code
+        final PersistentJsonFieldMap underTest = PersistentJsonFieldMap.empty()
+                .plus("Aa", field("Aa", 1))
+                .plus("BB", field("BB", 2));
+
+        assertThat(underTest.get("Aa")).isEqualTo(field("Aa", 1));
+        assertThat(underTest.get("BB")).isEqualTo(field("BB", 2));
+        assertThat(underTest.minus("Aa").keySet()).containsExactly("BB");
+        assertThat(underTest.minus("Aa").minus("BB")).isEmpty();
+    }
+
+    @Test
+    public void settingEqualFieldReturnsSameInstance() {
+        final PersistentJsonFieldMap underTest = PersistentJsonFieldMap.empty().plus("a", field("a", 1));
+
+        assertThat(underTest.plus("a", field("a", 1))).isSameAs(underTest);
+        assertThat(underTest.minus("unknown")).isSameAs(underTest);
+    }
+
+    @Test
+    public void settingEqualFieldWithOtherDefinitionReplacesField() {
+        final JsonFieldDefinition<Integer> definition = JsonFactory.newIntFieldDefinition("a");
+        final PersistentJsonFieldMap underTest = PersistentJsonFieldMap.empty().plus("a", field("a", 1));
+
+        final PersistentJsonFieldMap withDefinition =
+                underTest.plus("a", JsonField.newInstance("a", JsonValue.of(1), definition));
+
+        assertThat(withDefinition).isNotSameAs(underTest);
+        assertThat(withDefinition.get("a").getDefinition()).contains(definition);
+    }
+
+    @Test
+    public void mapsDerivedFromIteratedMapKeepInsertionOrder() {
+        PersistentJsonFieldMap underTest = PersistentJsonFieldMap.empty();
+        for (int i = 0; i < 100; i++) {
+            underTest = underTest.plus("key" + i, field("key" + i, i));
+        }
+        assertThat(underTest.keySet()).startsWith("key0", "key1");
+
+        final PersistentJsonFieldMap modified = underTest.minus("key1")
+                .plus("key2", field("key2", -2))
+                .plus("additional", field("additional", 0));
+
+        assertThat(modified.keySet()).startsWith("key0", "key2", "key3").endsWith("key99", "additional");
+        assertThat(modified.values()).contains(field("key2", -2)).hasSize(100);
+    }
+
+    private static JsonField field(final String key, final int value) {
+        return JsonField.newInstance(key, JsonValue.of(value));
+    }
+
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link SystemProperties}.
+ */
+public final class SystemPropertiesTest {
+
+    private static final int DEFAULT_VALUE = 42;
+
+    @Test
+    public void parseNonNegativeInt() {
+        assertThat(SystemProperties.parseNonNegativeInt(null, DEFAULT_VALUE)).isEqualTo(DEFAULT_VALUE);
+        assertThat(SystemProperties.parseNonNegativeInt(" 16 ", DEFAULT_VALUE)).isEqualTo(16);
+        assertThat(SystemProperties.parseNonNegativeInt("0", DEFAULT_VALUE)).isZero();
+        assertThat(SystemProperties.parseNonNegativeInt("-1", DEFAULT_VALUE)).isZero();
+        assertThat(SystemProperties.parseNonNegativeInt("many", DEFAULT_VALUE)).isEqualTo(DEFAULT_VALUE);
+    }
+
+    @Test
+    public void getNonNegativeIntOfUnsetPropertyReturnsDefaultValue() {
+        assertThat(SystemProperties.getNonNegativeInt("ditto.json.test.unset", DEFAULT_VALUE))
+                .isEqualTo(DEFAULT_VALUE);
+    }
+
+    @Test
+    public void getNonNegativeIntWithNullPropertyNameThrowsException() {
+        assertThatNullPointerException()
+                .isThrownBy(() -> SystemProperties.getNonNegativeInt(null, DEFAULT_VALUE))
+                .withMessageContaining("propertyName");
+    }
+
+}
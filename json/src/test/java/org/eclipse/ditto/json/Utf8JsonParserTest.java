@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link Utf8JsonParser}.
+ */
+public final class Utf8JsonParserTest {
+
+    private static final JsonObject KNOWN_JSON_OBJECT = JsonObject.newBuilder()
+            .set("thingId", "org.eclipse.ditto:my-thing")
+            .set("attributes", JsonObject.newBuilder()
+                    .set("location", "K\u00f6nigsberg \u2603 \uD83D\uDE00")
+                    .set("escaped", "line\nbreak \"quoted\" back\\slash\ttab")
+                    .set("nothing", JsonValue.nullLiteral())
+                    .set("active", true)
+                    .set("inactive", false)
+                    .build())
+            .set("numbers", JsonArray.newBuilder()
+                    .add(0)
+                    .add(-42)
+                    .add(Long.MAX_VALUE)
+                    .add(23.5)
+                    .add(-1.5E-7)
+                    .build())
+            .set("empty", JsonObject.empty())
+            .set("emptyArray", JsonArray.empty())
+            .build();
+
+    @Test
+    public void parseKnownJsonObject() {
+        final JsonValue actual = parse(KNOWN_JSON_OBJECT.toString());
+
+        assertThat(actual).isEqualTo(KNOWN_JSON_OBJECT);
+        assertThat(actual.toString()).isEqualTo(KNOWN_JSON_OBJECT.toString());
+    }
+
+    @Test
+    public void parseWithWhitespace() {
+        final JsonValue actual = parse(" \r\n\t{ \"foo\" : [ 1 , 2 ] , \"bar\" : { } }\n");
+
+        assertThat(actual).isEqualTo(JsonObject.newBuilder()
+                .set("foo", JsonArray.newBuilder().add(1, 2).build())
+                .set("bar", JsonObject.empty())
+                .build());
+    }
+
+    @Test
+    public void parseLiterals() {
+        assertThat(parse("null")).isEqualTo(JsonValue.nullLiteral());
+        assertThat(parse("true")).isEqualTo(JsonValue.of(true));
+        assertThat(parse("false")).isEqualTo(JsonValue.of(false));
+        assertThat(parse("\"\\u0041\\/\"")).isEqualTo(JsonValue.of("A/"));
+        assertThat(parse("2147483648")).isEqualTo(JsonValue.of(2147483648L));
+    }
+
+    @Test
+    public void parseEscapedFieldName() {
+        final JsonValue actual = parse("{\"f\\u00f6\\\"o\":1}");
+
+        assertThat(actual).isEqualTo(JsonObject.newBuilder().set("f\u00f6\"o", 1).build());
+    }
+
+    @Test
+    public void parseReusesKeyInstancesForRepeatedFieldNames() {
+        final JsonObject actual = parse("[{\"value\":1},{\"value\":2}]").asArray()
+                .get(0)
+                .map(JsonValue::asObject)
+                .orElseThrow(IllegalStateException::new);
+        final JsonObject other = parse("{\"value\":3}").asObject();
+
+        final JsonKey actualKey = actual.getKeys().get(0);
+        final JsonKey otherKey = other.getKeys().get(0);
+
+        assertThat(actualKey).isSameAs(otherKey);
+    }
+
+    @Test
+    public void parseRemainingBytesOfByteBuffer() {
+        final byte[] jsonBytes = ("xx" + KNOWN_JSON_OBJECT + "yy").getBytes(StandardCharsets.UTF_8);
+        final ByteBuffer byteBuffer = ByteBuffer.wrap(jsonBytes, 2, jsonBytes.length - 4).slice();
+
+        final JsonValue actual = JsonValueParser.fromByteBuffer().apply(byteBuffer);
+
+        assertThat(actual).isEqualTo(KNOWN_JSON_OBJECT);
+        assertThat(byteBuffer.position()).isZero();
+    }
+
+    @Test
+    public void parseDirectByteBuffer() {
+        final byte[] jsonBytes = KNOWN_JSON_OBJECT.toString().getBytes(StandardCharsets.UTF_8);
+        final ByteBuffer byteBuffer = ByteBuffer.allocateDirect(jsonBytes.length);
+        byteBuffer.put(jsonBytes);
+        byteBuffer.flip();
+
+        final JsonValue actual = JsonValueParser.fromByteBuffer().apply(byteBuffer);
+
+        assertThat(actual).isEqualTo(KNOWN_JSON_OBJECT);
+    }
+
+    @Test
+    public void parseInvalidJsonThrowsJsonParseException() {
+        assertInvalid("{\"foo\":123");
+        assertInvalid("{\"foo\" 123}");
+        assertInvalid("[1,]");
+        assertInvalid("01");
+        assertInvalid("1.");
+        assertInvalid("nul");
+        assertInvalid("\"unterminated");
+        assertInvalid("\"control\u0001character\"");
+        assertInvalid("\"\\x\"");
+        assertInvalid("{} {}");
+        assertInvalid("");
+    }
+
+    @Test
+    public void parseTooDeeplyNestedJsonThrowsJsonParseException() {
+        final StringBuilder stringBuilder = new StringBuilder();
+        for (int i = 0; i < 1001; i++) {
+            stringBuilder.append('[');
+        }
+        for (int i = 0; i < 1001; i++) {
+            stringBuilder.append(']');
+        }
+
+        assertInvalid(stringBuilder.toString());
+    }
+
+    @Test
+    public void parseErrorMessageContainsDescriptionAndOffset() {
+        assertThatExceptionOfType(JsonParseException.class)
+                .isThrownBy(() -> parse("[1,]"))
+                .withMessageContaining("Expected value at offset 3");
+    }
+
+    @Test
+    public void parseMalformedUtf8ThrowsJsonParseException() {
+        final byte[] malformedString = {'"', 'a', (byte) 0xC3, '"'};
+        final byte[] malformedName = {'{', '"', (byte) 0xFF, '"', ':', '1', '}'};
+
+        assertThatExceptionOfType(JsonParseException.class)
+                .isThrownBy(() -> JsonValueParser.fromByteArray().apply(malformedString))
+                .withMessageContaining("Malformed UTF-8 at offset 1");
+        assertThatExceptionOfType(JsonParseException.class)
+                .isThrownBy(() -> JsonValueParser.fromByteArray().apply(malformedName))
+                .withMessageContaining("Malformed UTF-8 at offset 2");
+    }
+
+    private static JsonValue parse(final String jsonString) {
+        return JsonValueParser.fromByteArray().apply(jsonString.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void assertInvalid(final String jsonString) {
+        assertThatExceptionOfType(JsonParseException.class)
+                .isThrownBy(() -> parse(jsonString))
+                .withCauseInstanceOf(JsonParseException.class);
+    }
+
+}
@@ -0,0 +1,285 @@
+/*
+ * Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.placeholders;
+
+import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.regex.Matcher;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.base.model.common.Placeholders;
+import org.eclipse.ditto.base.model.exceptions.DittoRuntimeException;
+
+/**
+ * A template like {@code {{ thing:id }}/{{ header:device | fn:lower() }}} which was parsed once into its literal
+ * segments and its pipeline expressions. The pipeline expressions are bound to the placeholder and the
+ * {@link PipelineFunction}s they reference, so resolving the template repeatedly neither has to match the template
+ * against the placeholder patterns nor has to look up the functions again.
+ * <p>
+ * Resolving a compiled template with an {@link ExpressionResolver} yields the same result as
+ * {@link ExpressionResolver#resolve(String)} for its template. Pipeline expressions which cannot be compiled, e.g.
+ * because they reference unknown functions, are resolved by the expression resolver on each resolution and thus fail
+ * in the same way.
+ * </p>
+ *
+ * @since 2.5.0
+ */
+@Immutable
+public final class CompiledTemplate {
+
+    private final String template;
+    private final List<String> literals;
+    private final List<CompiledExpression> expressions;
+
+    private CompiledTemplate(final String template, final List<String> literals,
+            final List<CompiledExpression> expressions) {
+
+        this.template = template;
+        this.literals = literals;
+        this.expressions = expressions;
+    }
+
+    /**
+     * Compiles the passed template.
+     *
+     * @param template the template potentially containing placeholders and pipeline functions.
+     * @return the compiled template.
+     * @throws NullPointerException if {@code template} is {@code null}.
+     */
+    public static CompiledTemplate of(final String template) {
+        checkNotNull(template, "template");
+        final List<String> literals = new ArrayList<>();
+        final List<CompiledExpression> expressions = new ArrayList<>();
+        final Matcher matcher = Placeholders.pattern().matcher(template);
+        int literalStart = 0;
+        while (matcher.find()) {
+            literals.add(template.substring(literalStart, matcher.start()));
+            expressions.add(CompiledExpression.of(getPlaceholderExpression(matcher)));
+            literalStart = matcher.end();
+        }
+        literals.add(template.substring(literalStart));
+        return new CompiledTemplate(template, Collections.unmodifiableList(literals),
+                Collections.unmodifiableList(expressions));
+    }
+
+    private static String getPlaceholderExpression(final Matcher matcher) {
+        for (final String groupName : Placeholders.groupNames()) {
+            @Nullable final String group = matcher.group(groupName);
+            if (null != group) {
+                return group;
+            }
+        }
+        return "";
+    }
+
+    /**
+     * Returns the template this compiled template was created from.
+     *
+     * @return the template.
+     */
+    public String getTemplate() {
+        return template;
+    }
+
+    /**
+     * Indicates whether the template contains any placeholders.
+     *
+     * @return {@code true} if the template contains placeholders, {@code false} if it is resolved to itself.
+     */
+    public boolean containsPlaceholders() {
+        return !expressions.isEmpty();
+    }
+
+    /**
+     * Resolves this template with the passed expression resolver.
+     *
+     * @param expressionResolver the resolver of the placeholders and pipeline functions.
+     * @return the resolved String, a signifier for resolution failure, or one for deletion.
+     * @throws NullPointerException if {@code expressionResolver} is {@code null}.
+     * @throws UnresolvedPlaceholderException if not all placeholders were resolved.
+     * @throws PlaceholderFunctionTooComplexException if the template contains a placeholder function chain which is
+     * too complex.
+     */
+    public PipelineElement resolve(final ExpressionResolver expressionResolver) {
+        checkNotNull(expressionResolver, "expressionResolver");
+        if (expressions.isEmpty()) {
+            return PipelineElement.resolved(template);
+        }
+        if (expressions.size() == 1 && literals.get(0).isEmpty() && literals.get(1).isEmpty()) {
+            return expressions.get(0).resolve(expressionResolver);
+        }
+
+        final StringBuilder resultBuilder = new StringBuilder(template.length());
+        for (int i = 0; i < expressions.size(); i++) {
+            final PipelineElement element = expressions.get(i).resolve(expressionResolver);
+            if (element.getType() != PipelineElement.Type.RESOLVED) {
+                // abort pipeline execution: resolution failed or the string has been deleted.
+                return element;
+            }
+            resultBuilder.append(literals.get(i));
+            element.toOptional().ifPresent(resultBuilder::append);
+        }
+        resultBuilder.append(literals.get(expressions.size()));
+        return PipelineElement.resolved(resultBuilder.toString());
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final CompiledTemplate that = (CompiledTemplate) o;
+        return Objects.equals(template, that.template);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(template);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "template=" + template +
+                ", expressions=" + expressions +
+                "]";
+    }
+
+    /**
+     * A single pipeline expression of a template, e.g. {@code header:device | fn:lower()}.
+     */
+    @Immutable
+    private static final class CompiledExpression {
+
+        private final String expression;
+        @Nullable private final String placeholderPrefix;
+        @Nullable private final String placeholderName;
+        @Nullable private final List<BoundFunction> functions;
+
+        private CompiledExpression(final String expression,
+                @Nullable final String placeholderPrefix,
+                @Nullable final String placeholderName,
+                @Nullable final List<BoundFunction> functions) {
+
+            this.expression = expression;
+            this.placeholderPrefix = placeholderPrefix;
+            this.placeholderName = placeholderName;
+            this.functions = functions;
+        }
+
+        private static CompiledExpression of(final String expression) {
+            final List<String> stageExpressions;
+            try {
+                stageExpressions = ImmutableExpressionResolver.getPipelineStagesExpressions(expression);
+            } catch (final DittoRuntimeException e) {
+                return notCompiled(expression);
+            }
+            if (stageExpressions.isEmpty()) {
+                return notCompiled(expression);
+            }
+
+            final String firstStageExpression = stageExpressions.get(0);
+            final int firstFunctionStage;
+            @Nullable final String prefix;
+            @Nullable final String name;
+            if (ImmutableExpressionResolver.isFirstPlaceholderFunction(firstStageExpression)) {
+                firstFunctionStage = 0;
+                prefix = null;
+                name = null;
+            } else {
+                final Optional<String> placeholderPrefix =
+                        ImmutableExpressionResolver.getPlaceholderPrefix(firstStageExpression);
+                if (!placeholderPrefix.isPresent() ||
+                        firstStageExpression.indexOf(Expression.SEPARATOR) != placeholderPrefix.get().length()) {
+                    return notCompiled(expression);
+                }
+                firstFunctionStage = 1;
+                prefix = placeholderPrefix.get();
+                name = firstStageExpression.substring(prefix.length() + 1);
+            }
+
+            final List<BoundFunction> functions = new ArrayList<>(stageExpressions.size() - firstFunctionStage);
+            for (final String stageExpression : stageExpressions.subList(firstFunctionStage,
+                    stageExpressions.size())) {
+                final Optional<PipelineFunction> function =
+                        ImmutableFunctionExpression.INSTANCE.getFunction(stageExpression);
+                if (!function.isPresent()) {
+                    return notCompiled(expression);
+                }
+                functions.add(new BoundFunction(function.get(),
+                        ImmutableFunctionExpression.INSTANCE.getParameters(stageExpression, function.get())));
+            }
+            return new CompiledExpression(expression, prefix, name, Collections.unmodifiableList(functions));
+        }
+
+        private static CompiledExpression notCompiled(final String expression) {
+            return new CompiledExpression(expression, null, null, null);
+        }
+
+        private PipelineElement resolve(final ExpressionResolver expressionResolver) {
+            if (null == functions) {
+                return expressionResolver.resolveAsPipelineElement(expression);
+            }
+            PipelineElement element;
+            if (null != placeholderPrefix && null != placeholderName) {
+                element = expressionResolver.resolvePlaceholder(placeholderPrefix, placeholderName);
+            } else {
+                element = PipelineElement.unresolved();
+            }
+            for (final BoundFunction function : functions) {
+                element = function.apply(element, expressionResolver);
+            }
+            return element;
+        }
+
+        @Override
+        public String toString() {
+            return getClass().getSimpleName() + " [" +
+                    "expression=" + expression +
+                    ", compiled=" + (null != functions) +
+                    "]";
+        }
+
+    }
+
+    /**
+     * A {@link PipelineFunction} together with the parameters it is invoked with.
+     */
+    @Immutable
+    private static final class BoundFunction {
+
+        private final PipelineFunction function;
+        private final String paramsIncludingParentheses;
+
+        private BoundFunction(final PipelineFunction function, final String paramsIncludingParentheses) {
+            this.function = function;
+            this.paramsIncludingParentheses = paramsIncludingParentheses;
+        }
+
+        private PipelineElement apply(final PipelineElement element, final ExpressionResolver expressionResolver) {
+            return function.apply(element, paramsIncludingParentheses, expressionResolver);
+        }
+
+    }
+
+}
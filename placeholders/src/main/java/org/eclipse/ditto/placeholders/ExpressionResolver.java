@@ -52,6 +52,32 @@ public interface ExpressionResolver {
      */
     PipelineElement resolveAsPipelineElement(String pipelineExpression);
 
+    /**
+     * Resolve a single placeholder which is already split into its prefix and its name.
+     *
+     * @param prefix the prefix of the placeholder, e.g.: {@code thing}.
+     * @param name the name of the placeholder, e.g.: {@code id}.
+     * @return the pipeline element after resolving the placeholder.
+     * @throws UnresolvedPlaceholderException if the placeholder is not supported.
+     * @since 2.5.0
+     */
+    default PipelineElement resolvePlaceholder(final String prefix, final String name) {
+        return resolveAsPipelineElement(prefix + Expression.SEPARATOR + name);
+    }
+
+    /**
+     * Resolves a template which was compiled beforehand.
+     * The result is the same as the one of {@link #resolve(String)} for the template of the compiled template.
+     *
+     * @param compiledTemplate the compiled template to resolve.
+     * @return the resolved String, a signifier for resolution failure, or one for deletion.
+     * @throws UnresolvedPlaceholderException if not all placeholders were resolved
+     * @since 2.5.0
+     */
+    default PipelineElement resolve(final CompiledTemplate compiledTemplate) {
+        return compiledTemplate.resolve(this);
+    }
+
     /**
      * Resolves a complete expression template starting with a {@link Placeholder} followed by optional pipeline stages
      * (e.g. functions).
@@ -14,7 +14,6 @@ package org.eclipse.ditto.placeholders;
 
 import static org.eclipse.ditto.placeholders.Expression.SEPARATOR;
 
-import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -103,25 +102,29 @@ final class ImmutableExpressionResolver implements ExpressionResolver {
         }
     }
 
-    private Optional<Map.Entry<PlaceholderResolver<?>, String>> findPlaceholderResolver(
-            final String placeholderInPipeline) {
-        return getPlaceholderPrefix(placeholderInPipeline)
-                .flatMap(prefix -> {
-                    final String name = placeholderInPipeline.substring(prefix.length() + 1);
-                    return Optional.ofNullable(placeholderResolvers.get(prefix))
-                            .filter(resolver -> resolver.supports(name))
-                            .map(resolver -> new AbstractMap.SimpleImmutableEntry<>(resolver, name));
-                });
+    @Override
+    public PipelineElement resolvePlaceholder(final String prefix, final String name) {
+        return resolvePlaceholder(prefix, name, prefix + SEPARATOR + name);
     }
 
     private PipelineElement resolveSinglePlaceholder(final String placeholderInPipeline) {
-        final Map.Entry<PlaceholderResolver<?>, String> resolverPair = findPlaceholderResolver(placeholderInPipeline)
+        final String prefix = getPlaceholderPrefix(placeholderInPipeline)
                 .orElseThrow(() -> UnresolvedPlaceholderException.newBuilder(placeholderInPipeline).build());
+        final String name = placeholderInPipeline.substring(prefix.length() + 1);
+        return resolvePlaceholder(prefix, name, placeholderInPipeline);
+    }
+
+    private PipelineElement resolvePlaceholder(final String prefix, final String name,
+            final String placeholderInPipeline) {
+
+        @Nullable final PlaceholderResolver<?> placeholderResolver = placeholderResolvers.get(prefix);
+        if (null == placeholderResolver || !placeholderResolver.supports(name)) {
+            throw UnresolvedPlaceholderException.newBuilder(placeholderInPipeline).build();
+        }
 
         if (placeholderReplacementInValidation == null) {
             // normal mode
-            return resolverPair.getKey()
-                    .resolve(resolverPair.getValue())
+            return placeholderResolver.resolve(name)
                     .map(PipelineElement::resolved)
                     .orElseGet(PipelineElement::unresolved);
         } else {
@@ -130,7 +133,15 @@ final class ImmutableExpressionResolver implements ExpressionResolver {
         }
     }
 
-    private List<String> getPipelineStagesExpressions(final String template) {
+    /**
+     * Splits the passed pipeline expression into the expressions of its stages.
+     *
+     * @param template the pipeline expression, e.g.: {@code thing:name | fn:lower()}.
+     * @return the trimmed expressions of the stages.
+     * @throws UnresolvedPlaceholderException if the passed expression is no valid pipeline.
+     * @throws PlaceholderFunctionTooComplexException if the pipeline contains too many stages.
+     */
+    static List<String> getPipelineStagesExpressions(final String template) {
 
         if (!PIPE_PATTERN.matcher(template).matches()) {
             throw UNRESOLVED_INPUT_HANDLER.apply(template);
@@ -151,7 +162,7 @@ final class ImmutableExpressionResolver implements ExpressionResolver {
     }
 
     // the first expression can be a placeholder or a function expression
-    private String getFirstExpressionInPipe(final List<String> pipelineStagesExpressions) {
+    private static String getFirstExpressionInPipe(final List<String> pipelineStagesExpressions) {
         if (pipelineStagesExpressions.isEmpty()) {
             return "";
         }
@@ -173,7 +184,7 @@ final class ImmutableExpressionResolver implements ExpressionResolver {
         return new ImmutableArrayPipeline(ImmutableArrayFunctionExpression.INSTANCE, pipelineStages);
     }
 
-    private Optional<String> getPlaceholderPrefix(final String placeholder) {
+    static Optional<String> getPlaceholderPrefix(final String placeholder) {
         final int separatorIndex = placeholder.indexOf(SEPARATOR);
         if (separatorIndex == -1) {
             return Optional.empty();
@@ -207,7 +218,7 @@ final class ImmutableExpressionResolver implements ExpressionResolver {
                 "]";
     }
 
-    private static boolean isFirstPlaceholderFunction(final String firstPlaceholderInPipeline) {
+    static boolean isFirstPlaceholderFunction(final String firstPlaceholderInPipeline) {
         return firstPlaceholderInPipeline.startsWith(FunctionExpression.PREFIX + SEPARATOR);
     }
 }
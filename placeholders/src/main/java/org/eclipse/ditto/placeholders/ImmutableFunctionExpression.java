@@ -15,6 +15,7 @@ package org.eclipse.ditto.placeholders;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import javax.annotation.concurrent.Immutable;
@@ -72,14 +73,33 @@ final class ImmutableFunctionExpression implements FunctionExpression {
             throw PlaceholderFunctionUnknownException.newBuilder(expression).build();
         }
 
+        return getFunction(expression)
+                .map(pf -> pf.apply(resolvedInputValue, getParameters(expression, pf), expressionResolver))
+                .orElse(PipelineElement.unresolved());
+    }
+
+    /**
+     * Finds the {@link PipelineFunction} which is invoked by the passed function expression.
+     *
+     * @param expression the expression string of a stage including prefix, e.g.: {@code fn:substring-before(':')}.
+     * @return the invoked function or an empty Optional if the expression does not invoke a supported function.
+     */
+    Optional<PipelineFunction> getFunction(final String expression) {
         return SUPPORTED.stream()
                 .filter(pf -> expression.startsWith(getPrefix() + ":" + pf.getName() + "("))
-                .map(pf -> pf.apply(resolvedInputValue,
-                        expression.replaceFirst(getPrefix() + ":" + pf.getName(), "").trim(),
-                        expressionResolver)
-                )
-                .findFirst()
-                .orElse(PipelineElement.unresolved());
+                .findFirst();
+    }
+
+    /**
+     * Returns the parameters including parentheses which the passed function expression passes to the passed
+     * function.
+     *
+     * @param expression the expression string of a stage including prefix, e.g.: {@code fn:substring-before(':')}.
+     * @param function the function invoked by the expression.
+     * @return the parameters including parentheses, e.g.: {@code (':')}.
+     */
+    String getParameters(final String expression, final PipelineFunction function) {
+        return expression.replaceFirst(getPrefix() + ":" + function.getName(), "").trim();
     }
 
 }
@@ -86,6 +86,21 @@ public final class PlaceholderFilter {
         return doApply(template, expressionResolver);
     }
 
+    /**
+     * Replaces all placeholders of the given compiled {@code template} by applying the given
+     * {@code expressionResolver}.
+     *
+     * @param template the compiled template.
+     * @param expressionResolver the expressionResolver used to resolve placeholders and optionally pipeline stages
+     * (functions).
+     * @return the template string with the resolved values
+     * @throws UnresolvedPlaceholderException if not all placeholders could be resolved
+     * @since 2.5.0
+     */
+    public static String apply(final CompiledTemplate template, final ExpressionResolver expressionResolver) {
+        return getResolvedOrThrow(template.getTemplate(), expressionResolver.resolve(template));
+    }
+
     /**
      * Finds all placeholders ({@code {{ ... }}}) defined in the given {@code template} and tries to replace them
      * by applying the given {@code expressionResolver}. If a pipeline function deletes the element or the pipeline
@@ -104,6 +119,25 @@ public final class PlaceholderFilter {
         return resolver.resolve(template).toOptional();
     }
 
+    /**
+     * Replaces all placeholders of the given compiled {@code template} by applying the given {@code resolver}.
+     * If a pipeline function deletes the element or the pipeline leads to an unresolved element, then return an
+     * empty optional.
+     *
+     * @param template the compiled template.
+     * @param resolver the expression-resolver used to resolve placeholders and optionally pipeline stages
+     * (functions).
+     * @return a template string if resolution succeeds with a result,
+     * or an empty optional if the template string fails to resolve or is deleted.
+     * @throws UnresolvedPlaceholderException in case the template's placeholders could not completely be resolved
+     * @since 2.5.0
+     */
+    public static Optional<String> applyOrElseDelete(final CompiledTemplate template,
+            final ExpressionResolver resolver) {
+
+        return resolver.resolve(template).toOptional();
+    }
+
     /**
      * Finds all placeholders ({@code {{ ... }}}) defined in the given {@code template} and tries to replace them
      * by applying the given {@code expressionResolver}. If a pipeline function deletes the element or if a placeholder
@@ -157,10 +191,14 @@ public final class PlaceholderFilter {
     }
 
     private static String doApply(final String template, final ExpressionResolver expressionResolver) {
+        return getResolvedOrThrow(template, expressionResolver.resolve(template));
+    }
+
+    private static String getResolvedOrThrow(final String template, final PipelineElement pipelineElement) {
         final Supplier<String> throwUnresolvedPlaceholderException = () -> {
             throw UnresolvedPlaceholderException.newBuilder(template).build();
         };
-        return expressionResolver.resolve(template)
+        return pipelineElement
                 .accept(PipelineElement.<String>newVisitorBuilder()
                         .resolved(Function.identity())
                         .unresolved(throwUnresolvedPlaceholderException)
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.placeholders;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link CompiledTemplate}.
+ */
+public final class CompiledTemplateTest {
+
+    private static final Map<String, String> KNOWN_HEADERS = DittoHeaders.newBuilder()
+            .putHeader("device", "DeV-1")
+            .putHeader("id", "org.eclipse.ditto:thing")
+            .build();
+
+    private static final ExpressionResolver RESOLVER =
+            PlaceholderFactory.newExpressionResolver(PlaceholderFactory.newHeadersPlaceholder(), KNOWN_HEADERS);
+
+    private static final List<String> TEMPLATES = Arrays.asList(
+            "plain",
+            "",
+            "{{ header:device }}",
+            "prefix/{{header:device}}/suffix",
+            "{{ header:id | fn:substring-before(':') }}/{{ header:device | fn:lower() }}",
+            "{{ header:missing }}",
+            "{{ header:missing | fn:default('fallback') }}",
+            "{{ header:missing | fn:default(header:device) | fn:upper() }}",
+            "{{ fn:default('constant') }}",
+            "a{{ header:device | fn:delete() }}b",
+            "{{ header:device | fn:replace('D', 'd') }}",
+            "{{ header:device | lower() }}"
+    );
+
+    @Test
+    public void resolvesLikeExpressionResolver() {
+        for (final String template : TEMPLATES) {
+            final PipelineElement expected = RESOLVER.resolve(template);
+
+            final PipelineElement actual = CompiledTemplate.of(template).resolve(RESOLVER);
+
+            assertThat(actual).as("Resolving '%s'", template).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    public void compiledTemplateIsReusable() {
+        final CompiledTemplate underTest = CompiledTemplate.of("{{ header:device | fn:lower() }}");
+        final ExpressionResolver otherResolver = PlaceholderFactory.newExpressionResolver(
+                PlaceholderFactory.newHeadersPlaceholder(), DittoHeaders.newBuilder().putHeader("device", "X").build());
+
+        assertThat(underTest.resolve(RESOLVER)).contains("dev-1");
+        assertThat(underTest.resolve(otherResolver)).contains("x");
+    }
+
+    @Test
+    public void templateWithoutPlaceholdersResolvesToItself() {
+        final CompiledTemplate underTest = CompiledTemplate.of("plain/address");
+
+        assertThat(underTest.containsPlaceholders()).isFalse();
+        assertThat(underTest.resolve(RESOLVER)).contains("plain/address");
+    }
+
+    @Test
+    public void unknownPlaceholderFailsOnResolution() {
+        final CompiledTemplate underTest = CompiledTemplate.of("{{ thing:id }}");
+
+        assertThat(underTest.containsPlaceholders()).isTrue();
+        assertThatExceptionOfType(UnresolvedPlaceholderException.class)
+                .isThrownBy(() -> underTest.resolve(RESOLVER));
+    }
+
+    @Test
+    public void unknownFunctionFailsOnResolution() {
+        final CompiledTemplate underTest = CompiledTemplate.of("{{ header:device | fn:unknown() }}");
+
+        assertThatExceptionOfType(PlaceholderFunctionUnknownException.class)
+                .isThrownBy(() -> underTest.resolve(RESOLVER));
+    }
+
+    @Test
+    public void tooComplexPipelineFailsOnResolution() {
+        final CompiledTemplate underTest = CompiledTemplate.of("{{ header:device | fn:lower() | fn:lower() | " +
+                "fn:lower() | fn:lower() | fn:lower() | fn:lower() | fn:lower() | fn:lower() | fn:lower() | " +
+                "fn:lower() | fn:lower() }}");
+
+        assertThatExceptionOfType(PlaceholderFunctionTooComplexException.class)
+                .isThrownBy(() -> underTest.resolve(RESOLVER));
+    }
+
+    @Test
+    public void placeholdersResolveToDummyValueInValidation() {
+        final ExpressionResolver validationResolver = PlaceholderFactory.newExpressionResolverForValidation("x",
+                PlaceholderFactory.newHeadersPlaceholder());
+
+        assertThat(CompiledTemplate.of("{{ header:foo | fn:upper() }}/{{ header:bar }}").resolve(validationResolver))
+                .contains("X/x");
+    }
+
+}
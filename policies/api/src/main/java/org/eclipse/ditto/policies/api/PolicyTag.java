@@ -37,6 +37,15 @@ public final class PolicyTag extends AbstractEntityIdWithRevision<PolicyId> {
      */
     public static final String PUB_SUB_TOPIC_INVALIDATE_ENFORCERS = "policy-invalidate-enforcers";
 
+    /**
+     * Defines a Publish/Subscribe topic on which the PolicyEvents are published whose revisions are also published as
+     * PolicyTag on {@link #PUB_SUB_TOPIC_INVALIDATE_ENFORCERS}, so that the policy enforcer caches of the policyId of
+     * the published PolicyEvent can be updated instead of invalidated.
+     *
+     * @since 2.5.0
+     */
+    public static final String PUB_SUB_TOPIC_UPDATE_ENFORCERS = "policy-update-enforcers";
+
     private PolicyTag(final PolicyId policyId, final long revision) {
         super(policyId, revision);
     }
@@ -0,0 +1,238 @@
+/*
+ * Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.policies.model.enforcers.trie;
+
+import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.base.model.auth.AuthorizationContext;
+import org.eclipse.ditto.base.model.auth.AuthorizationSubject;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonKey;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.policies.model.EffectedPermissions;
+import org.eclipse.ditto.policies.model.Permissions;
+import org.eclipse.ditto.policies.model.Policy;
+import org.eclipse.ditto.policies.model.PolicyEntry;
+import org.eclipse.ditto.policies.model.Resource;
+import org.eclipse.ditto.policies.model.ResourceKey;
+import org.eclipse.ditto.policies.model.Subject;
+import org.eclipse.ditto.policies.model.enforcers.DefaultEffectedSubjects;
+import org.eclipse.ditto.policies.model.enforcers.EffectedSubjects;
+import org.eclipse.ditto.policies.model.enforcers.Enforcer;
+
+/**
+ * Policy enforcer which compiles the tries of {@link TrieBasedPolicyEnforcer} into one immutable trie of bit sets.
+ * <p>
+ * All subject IDs and all permissions mentioned in the policy are interned to small integers. Each node of the
+ * compiled trie holds, for each interned permission, the granted and the revoked subjects as {@link java.util.BitSet}s
+ * partitioned by their weights. An authorization context is thereby translated once per check into a bit set of
+ * subject indices and the checks of {@link #hasUnrestrictedPermissions(ResourceKey, AuthorizationContext, Permissions)}
+ * and {@link #hasPartialPermissions(ResourceKey, AuthorizationContext, Permissions)} become intersections of bit sets
+ * instead of lookups in maps of subject IDs. Subjects of the authorization context which are not mentioned in the
+ * policy are ignored, permissions which are not mentioned in the policy are never granted.
+ * </p>
+ * <p>
+ * The results of all methods are the same as those of {@link TrieBasedPolicyEnforcer}.
+ * </p>
+ *
+ * @since 2.5.0
+ */
+public final class BitSetBasedPolicyEnforcer implements Enforcer {
+
+    private final Map<String, Integer> subjectIndices;
+    private final AuthorizationSubject[] subjects;
+    private final Map<String, Integer> permissionIndices;
+    private final BitSetPolicyTrie policyTrie;
+
+    private BitSetBasedPolicyEnforcer(final Iterable<PolicyEntry> policy) {
+        subjectIndices = new HashMap<>();
+        permissionIndices = new HashMap<>();
+        for (final PolicyEntry policyEntry : policy) {
+            for (final Subject subject : policyEntry.getSubjects()) {
+                subjectIndices.putIfAbsent(subject.getId().toString(), subjectIndices.size());
+            }
+            for (final Resource resource : policyEntry.getResources()) {
+                final EffectedPermissions effectedPermissions = resource.getEffectedPermissions();
+                effectedPermissions.getGrantedPermissions()
+                        .forEach(permission -> permissionIndices.putIfAbsent(permission, permissionIndices.size()));
+                effectedPermissions.getRevokedPermissions()
+                        .forEach(permission -> permissionIndices.putIfAbsent(permission, permissionIndices.size()));
+            }
+        }
+        subjects = new AuthorizationSubject[subjectIndices.size()];
+        subjectIndices.forEach((subjectId, index) -> subjects[index] = AuthorizationSubject.newInstance(subjectId));
+
+        final PolicyTrie inheritedTrie = PolicyTrie.fromPolicy(policy).getTransitiveClosure();
+        policyTrie = BitSetPolicyTrie.compile(inheritedTrie,
+                inheritedTrie.getBottomUpGrantTrie(),
+                inheritedTrie.getBottomUpRevokeTrie(),
+                subjectIndices,
+                permissionIndices);
+    }
+
+    /**
+     * Constructs a bit set based policy enforcer from a policy.
+     *
+     * @param policy The policy to interpret.
+     * @return The policy enforcer.
+     * @throws NullPointerException if {@code policy} is {@code null}.
+     */
+    public static BitSetBasedPolicyEnforcer newInstance(final Policy policy) {
+        return new BitSetBasedPolicyEnforcer(checkNotNull(policy, "policy to interpret"));
+    }
+
+    @Override
+    public boolean hasUnrestrictedPermissions(final ResourceKey resourceKey,
+            final AuthorizationContext authorizationContext, final Permissions permissions) {
+
+        checkResourceKey(resourceKey);
+        checkPermissions(permissions);
+        return seekWithFallback(resourceKey, BitSetPolicyTrie::getBottomUpRevokeIndex)
+                .hasPermissions(getSubjectIndices(authorizationContext), getPermissionIndices(permissions));
+    }
+
+    @Override
+    public boolean hasPartialPermissions(final ResourceKey resourceKey, final AuthorizationContext authorizationContext,
+            final Permissions permissions) {
+
+        checkResourceKey(resourceKey);
+        checkPermissions(permissions);
+        return seekWithFallback(resourceKey, BitSetPolicyTrie::getBottomUpGrantIndex)
+                .hasPermissions(getSubjectIndices(authorizationContext), getPermissionIndices(permissions));
+    }
+
+    @Override
+    public EffectedSubjects getSubjectsWithPermission(final ResourceKey resourceKey, final Permissions permissions) {
+        checkResourceKey(resourceKey);
+        checkPermissions(permissions);
+        final BitSetGrantRevokeIndex grantRevokeIndex =
+                policyTrie.seekToLeastAncestor(PolicyTrie.getJsonKeyIterator(resourceKey)).getInheritedIndex();
+        final int[] permissionsToCheck = getPermissionIndices(permissions);
+        return DefaultEffectedSubjects.of(
+                getAuthorizationSubjects(grantRevokeIndex.getGrantedSubjects(permissionsToCheck)),
+                getAuthorizationSubjects(grantRevokeIndex.getRevokedSubjects(permissionsToCheck)));
+    }
+
+    @Override
+    public Set<AuthorizationSubject> getSubjectsWithPartialPermission(final ResourceKey resourceKey,
+            final Permissions permissions) {
+
+        checkResourceKey(resourceKey);
+        checkPermissions(permissions);
+        final BitSetGrantRevokeIndex grantRevokeIndex =
+                seekWithFallback(resourceKey, BitSetPolicyTrie::getBottomUpGrantIndex);
+        return getAuthorizationSubjects(grantRevokeIndex.getGrantedSubjects(getPermissionIndices(permissions)));
+    }
+
+    @Override
+    public Set<AuthorizationSubject> getSubjectsWithUnrestrictedPermission(final ResourceKey resourceKey,
+            final Permissions permissions) {
+
+        checkResourceKey(resourceKey);
+        checkPermissions(permissions);
+        final BitSetGrantRevokeIndex grantRevokeIndex =
+                seekWithFallback(resourceKey, BitSetPolicyTrie::getBottomUpRevokeIndex);
+        final int[] permissionsToCheck = getPermissionIndices(permissions);
+        final BitSet grantedSubjects = grantRevokeIndex.getGrantedSubjects(permissionsToCheck);
+        grantedSubjects.andNot(grantRevokeIndex.getRevokedSubjects(permissionsToCheck));
+        return getAuthorizationSubjects(grantedSubjects);
+    }
+
+    @Override
+    public JsonObject buildJsonView(final ResourceKey resourceKey,
+            final Iterable<JsonField> jsonFields,
+            final AuthorizationContext authorizationContext,
+            final Permissions permissions) {
+
+        checkResourceKey(resourceKey);
+        checkNotNull(jsonFields, "JSON fields");
+        checkPermissions(permissions);
+
+        final JsonKey typeKey = JsonKey.of(resourceKey.getResourceType());
+
+        if (policyTrie.hasChild(typeKey)) {
+            final BitSetPolicyTrie start = policyTrie.seekToLeastAncestor(PolicyTrie.getJsonKeyIterator(resourceKey));
+            return start.buildJsonView(jsonFields, getSubjectIndices(authorizationContext),
+                    getPermissionIndices(permissions));
+        } else {
+            return JsonFactory.newObject();
+        }
+    }
+
+    private static void checkResourceKey(final ResourceKey resourceKey) {
+        checkNotNull(resourceKey, "resource key");
+    }
+
+    private static void checkPermissions(final Permissions permissions) {
+        checkNotNull(permissions, "permissions to check");
+    }
+
+    /**
+     * Returns the grant-revoke-index selected by {@code exactMatchIndex} of the node whose path from root matches the
+     * given resource key exactly if it exists, otherwise the inherited grant-revoke-index of the node whose path from
+     * root matches the resource key the best.
+     *
+     * @param resourceKey Pointer to a resource.
+     * @param exactMatchIndex selects the grant-revoke-index of an exactly matched node.
+     * @return The grant-revoke-index.
+     */
+    private BitSetGrantRevokeIndex seekWithFallback(final ResourceKey resourceKey,
+            final Function<BitSetPolicyTrie, BitSetGrantRevokeIndex> exactMatchIndex) {
+
+        @Nullable final BitSetPolicyTrie exactNode =
+                policyTrie.seekToExactNode(PolicyTrie.getJsonKeyIterator(resourceKey));
+        if (null != exactNode) {
+            return exactMatchIndex.apply(exactNode);
+        }
+        return policyTrie.seekToLeastAncestor(PolicyTrie.getJsonKeyIterator(resourceKey)).getInheritedIndex();
+    }
+
+    private BitSet getSubjectIndices(final AuthorizationContext authorizationContext) {
+        final BitSet result = new BitSet(subjects.length);
+        for (final AuthorizationSubject authorizationSubject : authorizationContext.getAuthorizationSubjects()) {
+            @Nullable final Integer subjectIndex = subjectIndices.get(authorizationSubject.getId());
+            if (null != subjectIndex) {
+                result.set(subjectIndex);
+            }
+        }
+        return result;
+    }
+
+    private int[] getPermissionIndices(final Permissions permissions) {
+        final int[] result = new int[permissions.size()];
+        int i = 0;
+        for (final String permission : permissions) {
+            result[i++] = permissionIndices.getOrDefault(permission, BitSetGrantRevokeIndex.UNKNOWN_PERMISSION);
+        }
+        return result;
+    }
+
+    private Set<AuthorizationSubject> getAuthorizationSubjects(final BitSet subjectBits) {
+        final Set<AuthorizationSubject> result = new HashSet<>();
+        for (int i = subjectBits.nextSetBit(0); i >= 0; i = subjectBits.nextSetBit(i + 1)) {
+            result.add(subjects[i]);
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.policies.model.enforcers.trie;
+
+import java.util.BitSet;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+
+/**
+ * Immutable counterpart of a {@link GrantRevokeIndex} with interned permissions and subjects. For each permission
+ * index the granted and the revoked subjects are kept as {@link WeightedSubjectSet}s. A permission without subjects
+ * is distinguished from a permission which is not contained at all like it is in {@link PermissionSubjectsMap}.
+ */
+final class BitSetGrantRevokeIndex {
+
+    /**
+     * Index of permissions which are not mentioned in the policy.
+     */
+    static final int UNKNOWN_PERMISSION = -1;
+
+    // the elements are null for permissions which are not contained in the compiled index
+    private final WeightedSubjectSet[] granted;
+    private final WeightedSubjectSet[] revoked;
+
+    private BitSetGrantRevokeIndex(final WeightedSubjectSet[] granted, final WeightedSubjectSet[] revoked) {
+        this.granted = granted;
+        this.revoked = revoked;
+    }
+
+    /**
+     * Compiles the given grant-revoke-index.
+     *
+     * @param grantRevokeIndex the index to compile.
+     * @param subjectIndices the interned indices of all subject IDs of the policy.
+     * @param permissionIndices the interned indices of all permissions of the policy.
+     * @return the compiled index.
+     */
+    static BitSetGrantRevokeIndex of(final GrantRevokeIndex grantRevokeIndex,
+            final Map<String, Integer> subjectIndices,
+            final Map<String, Integer> permissionIndices) {
+
+        return new BitSetGrantRevokeIndex(
+                compile(grantRevokeIndex.getGranted(), subjectIndices, permissionIndices),
+                compile(grantRevokeIndex.getRevoked(), subjectIndices, permissionIndices));
+    }
+
+    private static WeightedSubjectSet[] compile(final PermissionSubjectsMap permissionSubjectsMap,
+            final Map<String, Integer> subjectIndices,
+            final Map<String, Integer> permissionIndices) {
+
+        final WeightedSubjectSet[] result = new WeightedSubjectSet[permissionIndices.size()];
+        permissionSubjectsMap.forEach((permission, subjectWeights) ->
+                result[permissionIndices.get(permission)] = WeightedSubjectSet.of(subjectWeights, subjectIndices));
+        return result;
+    }
+
+    /**
+     * Check whether each of the given permissions is granted to some of the given subjects such that none of the
+     * permissions is revoked from any of the subjects with the same or a greater weight. This is the same check as
+     * {@link GrantRevokeIndex#hasPermissions(java.util.Collection, java.util.Collection)}.
+     *
+     * @param subjects the indices of the subjects to check.
+     * @param permissions the indices of the permissions to check.
+     * @return the result of the check.
+     */
+    boolean hasPermissions(final BitSet subjects, final int[] permissions) {
+        if (0 == permissions.length) {
+            return false;
+        }
+
+        // the weights are only needed if some of the subjects has a revoked permission
+        boolean isAnyPermissionRevoked = false;
+        for (final int permission : permissions) {
+            @Nullable final WeightedSubjectSet grantedSubjects = get(granted, permission);
+            if (null == grantedSubjects || !grantedSubjects.intersects(subjects)) {
+                return false;
+            }
+            @Nullable final WeightedSubjectSet revokedSubjects = get(revoked, permission);
+            isAnyPermissionRevoked |= null != revokedSubjects && revokedSubjects.intersects(subjects);
+        }
+        return !isAnyPermissionRevoked || getMaxRevokeWeight(subjects, permissions) <
+                getMaxGrantWeight(subjects, permissions);
+    }
+
+    private int getMaxGrantWeight(final BitSet subjects, final int[] permissions) {
+        int result = WeightedSubjectSet.NO_WEIGHT;
+        for (final int permission : permissions) {
+            result = Math.max(result, granted[permission].getMaxWeight(subjects));
+        }
+        return result;
+    }
+
+    private int getMaxRevokeWeight(final BitSet subjects, final int[] permissions) {
+        int result = WeightedSubjectSet.NO_WEIGHT;
+        for (final int permission : permissions) {
+            @Nullable final WeightedSubjectSet revokedSubjects = get(revoked, permission);
+            if (null != revokedSubjects) {
+                result = Math.max(result, revokedSubjects.getMaxWeight(subjects));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the subjects each of which is granted <em>all</em> of the given permissions which are contained in this
+     * index.
+     *
+     * @param permissions the indices of the permissions.
+     * @return a new bit set of the subject indices.
+     */
+    BitSet getGrantedSubjects(final int[] permissions) {
+        @Nullable BitSet result = null;
+        for (final int permission : permissions) {
+            @Nullable final WeightedSubjectSet grantedSubjects = get(granted, permission);
+            if (null != grantedSubjects) {
+                if (null == result) {
+                    result = (BitSet) grantedSubjects.getSubjects().clone();
+                } else {
+                    result.and(grantedSubjects.getSubjects());
+                }
+            }
+        }
+        return null != result ? result : new BitSet();
+    }
+
+    /**
+     * Returns the subjects each of which is revoked <em>any</em> of the given permissions.
+     *
+     * @param permissions the indices of the permissions.
+     * @return a new bit set of the subject indices.
+     */
+    BitSet getRevokedSubjects(final int[] permissions) {
+        final BitSet result = new BitSet();
+        for (final int permission : permissions) {
+            @Nullable final WeightedSubjectSet revokedSubjects = get(revoked, permission);
+            if (null != revokedSubjects) {
+                result.or(revokedSubjects.getSubjects());
+            }
+        }
+        return result;
+    }
+
+    @Nullable
+    private static WeightedSubjectSet get(final WeightedSubjectSet[] subjectsByPermission, final int permission) {
+        return UNKNOWN_PERMISSION == permission ? null : subjectsByPermission[permission];
+    }
+
+}
@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.policies.model.enforcers.trie;
+
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonCollectors;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonKey;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.json.JsonValueContainer;
+
+/**
+ * Immutable node of a policy trie compiled by {@link BitSetBasedPolicyEnforcer}. The inherited trie, the bottom up
+ * grant trie and the bottom up revoke trie of {@link TrieBasedPolicyEnforcer} have the same shape, thus each node
+ * holds the compiled grant-revoke-indices of all three of them.
+ */
+final class BitSetPolicyTrie {
+
+    private final BitSetGrantRevokeIndex inheritedIndex;
+    private final BitSetGrantRevokeIndex bottomUpGrantIndex;
+    private final BitSetGrantRevokeIndex bottomUpRevokeIndex;
+    private final Map<JsonKey, BitSetPolicyTrie> children;
+
+    private BitSetPolicyTrie(final BitSetGrantRevokeIndex inheritedIndex,
+            final BitSetGrantRevokeIndex bottomUpGrantIndex,
+            final BitSetGrantRevokeIndex bottomUpRevokeIndex,
+            final Map<JsonKey, BitSetPolicyTrie> children) {
+
+        this.inheritedIndex = inheritedIndex;
+        this.bottomUpGrantIndex = bottomUpGrantIndex;
+        this.bottomUpRevokeIndex = bottomUpRevokeIndex;
+        this.children = children;
+    }
+
+    /**
+     * Compiles the nodes of the given tries which have the same shape.
+     *
+     * @param inheritedTrie the trie with grants and revokes pushed down from ancestors to descendants.
+     * @param bottomUpGrantTrie the inherited trie with grants pushed up from descendants to ancestors.
+     * @param bottomUpRevokeTrie the inherited trie with revokes pushed up from descendants to ancestors.
+     * @param subjectIndices the interned indices of all subject IDs of the policy.
+     * @param permissionIndices the interned indices of all permissions of the policy.
+     * @return the compiled trie.
+     */
+    static BitSetPolicyTrie compile(final PolicyTrie inheritedTrie,
+            final PolicyTrie bottomUpGrantTrie,
+            final PolicyTrie bottomUpRevokeTrie,
+            final Map<String, Integer> subjectIndices,
+            final Map<String, Integer> permissionIndices) {
+
+        final Map<JsonKey, PolicyTrie> inheritedChildren = inheritedTrie.getChildren();
+        final Map<JsonKey, BitSetPolicyTrie> children;
+        if (inheritedChildren.isEmpty()) {
+            children = Collections.emptyMap();
+        } else {
+            children = new HashMap<>(inheritedChildren.size() * 4 / 3 + 1);
+            inheritedChildren.forEach((key, inheritedChild) -> children.put(key, compile(inheritedChild,
+                    bottomUpGrantTrie.getChildren().get(key),
+                    bottomUpRevokeTrie.getChildren().get(key),
+                    subjectIndices,
+                    permissionIndices)));
+        }
+
+        return new BitSetPolicyTrie(
+                BitSetGrantRevokeIndex.of(inheritedTrie.getGrantRevokeIndex(), subjectIndices, permissionIndices),
+                BitSetGrantRevokeIndex.of(bottomUpGrantTrie.getGrantRevokeIndex(), subjectIndices,
+                        permissionIndices),
+                BitSetGrantRevokeIndex.of(bottomUpRevokeTrie.getGrantRevokeIndex(), subjectIndices,
+                        permissionIndices),
+                children);
+    }
+
+    BitSetGrantRevokeIndex getInheritedIndex() {
+        return inheritedIndex;
+    }
+
+    BitSetGrantRevokeIndex getBottomUpGrantIndex() {
+        return bottomUpGrantIndex;
+    }
+
+    BitSetGrantRevokeIndex getBottomUpRevokeIndex() {
+        return bottomUpRevokeIndex;
+    }
+
+    boolean hasChild(final JsonKey childKey) {
+        return children.containsKey(childKey);
+    }
+
+    /**
+     * Seek to the node whose path from root matches {@code path} as much as possible.
+     *
+     * @param path the path to match.
+     * @return the best matched node.
+     */
+    BitSetPolicyTrie seekToLeastAncestor(final Iterator<JsonKey> path) {
+        BitSetPolicyTrie result = this;
+        while (path.hasNext()) {
+            @Nullable final BitSetPolicyTrie child = result.children.get(path.next());
+            if (null == child) {
+                break;
+            }
+            result = child;
+        }
+        return result;
+    }
+
+    /**
+     * Seek to the node whose path from root matches {@code path} exactly.
+     *
+     * @param path the path to match.
+     * @return the exactly matched node or {@code null} if no node matches {@code path} exactly.
+     */
+    @Nullable
+    BitSetPolicyTrie seekToExactNode(final Iterator<JsonKey> path) {
+        BitSetPolicyTrie result = this;
+        while (null != result && path.hasNext()) {
+            result = result.children.get(path.next());
+        }
+        return result;
+    }
+
+    /**
+     * Builds the view of the given JSON fields the same way as {@link PolicyTrie} does based on the inherited
+     * grant-revoke-indices.
+     *
+     * @param jsonFields the JSON fields to build the view of.
+     * @param subjects the indices of the subjects.
+     * @param permissions the indices of the permissions.
+     * @return the view.
+     */
+    JsonObject buildJsonView(final Iterable<JsonField> jsonFields, final BitSet subjects, final int[] permissions) {
+        return buildJsonView(jsonFields, children, subjects, permissions);
+    }
+
+    /*
+     * Fields without a child node are viewed with the grant-revoke-index of this node and without children.
+     */
+    private JsonObject buildJsonView(final Iterable<JsonField> jsonFields,
+            final Map<JsonKey, BitSetPolicyTrie> relevantChildren,
+            final BitSet subjects,
+            final int[] permissions) {
+
+        if (jsonFields instanceof JsonObject && ((JsonObject) jsonFields).isNull()) {
+            return (JsonObject) jsonFields;
+        }
+
+        final JsonObjectBuilder outputObjectBuilder = JsonFactory.newObjectBuilder();
+        for (final JsonField field : jsonFields) {
+            @Nullable final BitSetPolicyTrie child = relevantChildren.get(field.getKey());
+            @Nullable final JsonValue jsonView = null != child
+                    ? child.getViewForJsonValueOrNull(field.getValue(), child.children, subjects, permissions)
+                    : getViewForJsonValueOrNull(field.getValue(), Collections.emptyMap(), subjects, permissions);
+            if (null != jsonView) {
+                outputObjectBuilder.set(field.getKey(), jsonView);
+            }
+        }
+
+        return outputObjectBuilder.build();
+    }
+
+    @Nullable
+    private JsonValue getViewForJsonValueOrNull(final JsonValue jsonValue,
+            final Map<JsonKey, BitSetPolicyTrie> relevantChildren,
+            final BitSet subjects,
+            final int[] permissions) {
+
+        final JsonValue result;
+        if (jsonValue.isObject()) {
+            result = filterCandidate(buildJsonView(jsonValue.asObject(), relevantChildren, subjects, permissions),
+                    subjects, permissions);
+        } else if (jsonValue.isArray()) {
+            final JsonArray candidate = jsonValue.asArray()
+                    .stream()
+                    .map(value -> getViewForJsonValueOrNull(value, relevantChildren, subjects, permissions))
+                    .filter(Objects::nonNull)
+                    .collect(JsonCollectors.valuesToArray());
+            result = filterCandidate(candidate, subjects, permissions);
+        } else if (inheritedIndex.hasPermissions(subjects, permissions)) {
+            result = jsonValue;
+        } else {
+            result = null;
+        }
+
+        return result;
+    }
+
+    @Nullable
+    private <T extends JsonValue & JsonValueContainer<?>> T filterCandidate(final T candidate,
+            final BitSet subjects, final int[] permissions) {
+
+        if (!candidate.isEmpty() || inheritedIndex.hasPermissions(subjects, permissions)) {
+            return candidate;
+        }
+        return null;
+    }
+
+}
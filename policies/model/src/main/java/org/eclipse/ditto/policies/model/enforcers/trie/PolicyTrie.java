@@ -228,6 +228,15 @@ final class PolicyTrie {
         return children.containsKey(childKey);
     }
 
+    /**
+     * Returns the children of this node by their keys.
+     *
+     * @return an unmodifiable view of the children.
+     */
+    Map<JsonKey, PolicyTrie> getChildren() {
+        return Collections.unmodifiableMap(children);
+    }
+
     JsonObject buildJsonView(final Iterable<JsonField> jsonFields, final Collection<String> subjectIds,
             final Permissions permissions) {
 
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.policies.model.enforcers.trie;
+
+import java.util.BitSet;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Immutable set of interned subject indices each of which is related to one permission with a weight. The subjects
+ * are partitioned into one bit set per distinct weight, in descending order of weights. As the weights are the
+ * distances between policy trie nodes, there are only few of them.
+ * <p>
+ * The bit sets must not be modified after construction.
+ * </p>
+ */
+final class WeightedSubjectSet {
+
+    /**
+     * Result of {@link #getMaxWeight(BitSet)} if none of the given subjects is contained.
+     */
+    static final int NO_WEIGHT = Integer.MIN_VALUE;
+
+    private static final WeightedSubjectSet EMPTY = new WeightedSubjectSet(new BitSet(), new int[0], new BitSet[0]);
+
+    private final BitSet allSubjects;
+    private final int[] weights;
+    private final BitSet[] subjectsByWeight;
+
+    private WeightedSubjectSet(final BitSet allSubjects, final int[] weights, final BitSet[] subjectsByWeight) {
+        this.allSubjects = allSubjects;
+        this.weights = weights;
+        this.subjectsByWeight = subjectsByWeight;
+    }
+
+    /**
+     * Creates the set of the subjects of the given weighted relation of one permission.
+     *
+     * @param subjectWeights the weights by subject IDs.
+     * @param subjectIndices the interned indices of all subject IDs of the policy.
+     * @return the set.
+     */
+    static WeightedSubjectSet of(final Map<String, Integer> subjectWeights,
+            final Map<String, Integer> subjectIndices) {
+
+        if (subjectWeights.isEmpty()) {
+            return EMPTY;
+        }
+        final BitSet allSubjects = new BitSet(subjectIndices.size());
+        final TreeMap<Integer, BitSet> subjectsByDescendingWeight = new TreeMap<>((w1, w2) -> Integer.compare(w2, w1));
+        subjectWeights.forEach((subjectId, weight) -> {
+            final int subjectIndex = subjectIndices.get(subjectId);
+            allSubjects.set(subjectIndex);
+            subjectsByDescendingWeight.computeIfAbsent(weight, w -> new BitSet(subjectIndices.size()))
+                    .set(subjectIndex);
+        });
+
+        final int[] weights = new int[subjectsByDescendingWeight.size()];
+        final BitSet[] subjectsByWeight = new BitSet[weights.length];
+        int i = 0;
+        for (final Map.Entry<Integer, BitSet> entry : subjectsByDescendingWeight.entrySet()) {
+            weights[i] = entry.getKey();
+            // a single weight needs no separate bit set
+            subjectsByWeight[i] = 1 == weights.length ? allSubjects : entry.getValue();
+            i++;
+        }
+        return new WeightedSubjectSet(allSubjects, weights, subjectsByWeight);
+    }
+
+    /**
+     * Returns the maximum weight of the given subjects in this set.
+     *
+     * @param subjects the subject indices.
+     * @return the maximum weight or {@link #NO_WEIGHT} if this set contains none of {@code subjects}.
+     */
+    int getMaxWeight(final BitSet subjects) {
+        if (allSubjects.intersects(subjects)) {
+            for (int i = 0; i < weights.length; i++) {
+                if (subjectsByWeight[i].intersects(subjects)) {
+                    return weights[i];
+                }
+            }
+        }
+        return NO_WEIGHT;
+    }
+
+    /**
+     * Returns whether this set contains any of the given subjects.
+     *
+     * @param subjects the subject indices.
+     * @return {@code true} if this set and {@code subjects} intersect.
+     */
+    boolean intersects(final BitSet subjects) {
+        return allSubjects.intersects(subjects);
+    }
+
+    /**
+     * Returns the indices of all subjects of this set.
+     *
+     * @return the subject indices which must not be modified.
+     */
+    BitSet getSubjects() {
+        return allSubjects;
+    }
+
+}
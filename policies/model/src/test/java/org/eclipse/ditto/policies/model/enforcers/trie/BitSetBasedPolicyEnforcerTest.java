@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.policies.model.enforcers.trie;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import org.assertj.core.api.JUnitSoftAssertions;
+import org.eclipse.ditto.base.model.auth.AuthorizationContext;
+import org.eclipse.ditto.base.model.auth.AuthorizationSubject;
+import org.eclipse.ditto.base.model.auth.DittoAuthorizationContextType;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.policies.model.Permissions;
+import org.eclipse.ditto.policies.model.PoliciesResourceType;
+import org.eclipse.ditto.policies.model.Policy;
+import org.eclipse.ditto.policies.model.PolicyId;
+import org.eclipse.ditto.policies.model.ResourceKey;
+import org.eclipse.ditto.policies.model.SubjectType;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link BitSetBasedPolicyEnforcer}.
+ */
+public final class BitSetBasedPolicyEnforcerTest {
+
+    private static final AuthorizationSubject OWNER = AuthorizationSubject.newInstance("dummy:owner");
+    private static final AuthorizationSubject READER = AuthorizationSubject.newInstance("dummy:reader");
+    private static final AuthorizationSubject RESTRICTED = AuthorizationSubject.newInstance("dummy:restricted");
+    private static final AuthorizationSubject UNKNOWN = AuthorizationSubject.newInstance("dummy:unknown");
+
+    private static final List<ResourceKey> RESOURCE_KEYS = Arrays.asList(
+            PoliciesResourceType.thingResource("/"),
+            PoliciesResourceType.thingResource("/attributes"),
+            PoliciesResourceType.thingResource("/attributes/public"),
+            PoliciesResourceType.thingResource("/attributes/public/nested"),
+            PoliciesResourceType.thingResource("/attributes/secret"),
+            PoliciesResourceType.thingResource("/features"),
+            PoliciesResourceType.thingResource("/features/lamp/properties/on"),
+            PoliciesResourceType.thingResource("/features/lamp/properties/color"),
+            PoliciesResourceType.policyResource("/"),
+            PoliciesResourceType.messageResource("/inbox"));
+
+    private static final List<Permissions> PERMISSIONS = Arrays.asList(
+            Permissions.none(),
+            Permissions.newInstance("READ"),
+            Permissions.newInstance("WRITE"),
+            Permissions.newInstance("READ", "WRITE"),
+            Permissions.newInstance("READ", "EXECUTE"),
+            Permissions.newInstance("UNKNOWN"));
+
+    private static final List<AuthorizationContext> AUTHORIZATION_CONTEXTS = Arrays.asList(
+            authorizationContext(OWNER),
+            authorizationContext(READER),
+            authorizationContext(RESTRICTED),
+            authorizationContext(UNKNOWN),
+            authorizationContext(READER, RESTRICTED),
+            authorizationContext(OWNER, RESTRICTED, UNKNOWN));
+
+    private static final JsonObject THING_JSON = JsonFactory.newObject("{\"thingId\":\"namespace:id\"," +
+            "\"attributes\":{\"public\":{\"nested\":1,\"other\":[1,{\"a\":2}]},\"secret\":\"psst\",\"empty\":{}}," +
+            "\"features\":{\"lamp\":{\"properties\":{\"on\":true,\"color\":\"red\"}}}}");
+
+    @Rule
+    public final JUnitSoftAssertions softly = new JUnitSoftAssertions();
+
+    @Test
+    public void buildJsonViewOfUnknownResourceTypeIsEmpty() {
+        final BitSetBasedPolicyEnforcer underTest = BitSetBasedPolicyEnforcer.newInstance(getPolicy());
+
+        final JsonObject createdJsonView = underTest.buildJsonView(
+                ResourceKey.newInstance("foo", "bar"),
+                JsonFactory.nullObject(),
+                authorizationContext(AuthorizationSubject.newInstance("itsMe")),
+                Permissions.none());
+
+        assertThat(createdJsonView).isEqualTo(JsonFactory.newObject());
+    }
+
+    @Test
+    public void getSubjectsWithUnrestrictedPermissionDoesNotIncludeRevoked() {
+        final BitSetBasedPolicyEnforcer underTest = BitSetBasedPolicyEnforcer.newInstance(getPolicy());
+
+        final Set<AuthorizationSubject> subjects =
+                underTest.getSubjectsWithUnrestrictedPermission(PoliciesResourceType.thingResource("/"), "READ");
+
+        assertThat(subjects).containsOnly(OWNER);
+    }
+
+    @Test
+    public void resultsAreTheSameAsOfTrieBasedPolicyEnforcer() {
+        final Policy policy = getPolicy();
+        final BitSetBasedPolicyEnforcer underTest = BitSetBasedPolicyEnforcer.newInstance(policy);
+        final TrieBasedPolicyEnforcer trieBasedPolicyEnforcer = TrieBasedPolicyEnforcer.newInstance(policy);
+
+        for (final ResourceKey resourceKey : RESOURCE_KEYS) {
+            for (final Permissions permissions : PERMISSIONS) {
+                final String description = resourceKey + " " + permissions;
+                softly.assertThat(underTest.getSubjectsWithPermission(resourceKey, permissions))
+                        .as("getSubjectsWithPermission %s", description)
+                        .isEqualTo(trieBasedPolicyEnforcer.getSubjectsWithPermission(resourceKey, permissions));
+                softly.assertThat(underTest.getSubjectsWithPartialPermission(resourceKey, permissions))
+                        .as("getSubjectsWithPartialPermission %s", description)
+                        .isEqualTo(trieBasedPolicyEnforcer.getSubjectsWithPartialPermission(resourceKey,
+                                permissions));
+                softly.assertThat(underTest.getSubjectsWithUnrestrictedPermission(resourceKey, permissions))
+                        .as("getSubjectsWithUnrestrictedPermission %s", description)
+                        .isEqualTo(trieBasedPolicyEnforcer.getSubjectsWithUnrestrictedPermission(resourceKey,
+                                permissions));
+
+                for (final AuthorizationContext authorizationContext : AUTHORIZATION_CONTEXTS) {
+                    final String contextDescription = description + " " + authorizationContext;
+                    softly.assertThat(
+                                    underTest.hasUnrestrictedPermissions(resourceKey, authorizationContext, permissions))
+                            .as("hasUnrestrictedPermissions %s", contextDescription)
+                            .isEqualTo(trieBasedPolicyEnforcer.hasUnrestrictedPermissions(resourceKey,
+                                    authorizationContext, permissions));
+                    softly.assertThat(underTest.hasPartialPermissions(resourceKey, authorizationContext, permissions))
+                            .as("hasPartialPermissions %s", contextDescription)
+                            .isEqualTo(trieBasedPolicyEnforcer.hasPartialPermissions(resourceKey,
+                                    authorizationContext, permissions));
+                    softly.assertThat(underTest.buildJsonView(resourceKey, THING_JSON, authorizationContext,
+                                    permissions))
+                            .as("buildJsonView %s", contextDescription)
+                            .isEqualTo(trieBasedPolicyEnforcer.buildJsonView(resourceKey, THING_JSON,
+                                    authorizationContext, permissions));
+                }
+            }
+        }
+    }
+
+    private static Policy getPolicy() {
+        final Permissions readWrite = Permissions.newInstance("READ", "WRITE");
+        return Policy.newBuilder(PolicyId.of("namespace", "id"))
+                .forLabel("owner")
+                .setSubject(OWNER.getId(), SubjectType.GENERATED)
+                .setGrantedPermissions(PoliciesResourceType.thingResource("/"), readWrite)
+                .setGrantedPermissions(PoliciesResourceType.policyResource("/"), readWrite)
+                .setGrantedPermissions(PoliciesResourceType.messageResource("/"), readWrite)
+                .forLabel("reader")
+                .setSubject(READER.getId(), SubjectType.GENERATED)
+                .setSubject(RESTRICTED.getId(), SubjectType.GENERATED)
+                .setGrantedPermissions(PoliciesResourceType.thingResource("/"), "READ")
+                .setRevokedPermissions(PoliciesResourceType.thingResource("/attributes/secret"), "READ")
+                .setGrantedPermissions(PoliciesResourceType.thingResource("/features/lamp"), "WRITE")
+                .forLabel("restricted")
+                .setSubject(RESTRICTED.getId(), SubjectType.GENERATED)
+                .setRevokedPermissions(PoliciesResourceType.thingResource("/attributes"), "READ")
+                .setGrantedPermissions(PoliciesResourceType.thingResource("/attributes/public"), "READ")
+                .setRevokedPermissions(PoliciesResourceType.thingResource("/features/lamp/properties/color"),
+                        readWrite)
+                .build();
+    }
+
+    private static AuthorizationContext authorizationContext(final AuthorizationSubject... authorizationSubjects) {
+        return AuthorizationContext.newInstance(DittoAuthorizationContextType.UNSPECIFIED,
+                Arrays.asList(authorizationSubjects));
+    }
+
+}
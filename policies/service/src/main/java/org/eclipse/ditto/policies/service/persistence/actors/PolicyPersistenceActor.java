@@ -201,6 +201,9 @@ public final class PolicyPersistenceActor
                 .getOrDefault(DittoHeaderDefinition.POLICY_ENFORCER_INVALIDATED_PREEMPTIVELY.getKey(),
                         Boolean.FALSE.toString()));
         if (!policyEnforcerInvalidatedPreemptively) {
+            // the event is published before the tag so that updated caches may skip the invalidation by the tag
+            pubSubMediator.tell(DistPubSubAccess.publish(PolicyTag.PUB_SUB_TOPIC_UPDATE_ENFORCERS, event),
+                    getSender());
             pubSubMediator.tell(DistPubSubAccess.publish(PolicyTag.PUB_SUB_TOPIC_INVALIDATE_ENFORCERS, policyTag),
                     getSender());
         }
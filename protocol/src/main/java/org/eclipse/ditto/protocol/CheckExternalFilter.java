@@ -14,7 +14,6 @@ package org.eclipse.ditto.protocol;
 
 import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
 
-import java.util.Collections;
 import java.util.Map;
 import java.util.Objects;
 import java.util.function.Predicate;
@@ -31,13 +30,13 @@ import org.eclipse.ditto.base.model.headers.HeaderDefinition;
 @Immutable
 final class CheckExternalFilter extends AbstractHeaderEntryFilter {
 
-    private final Map<String, HeaderDefinition> headerDefinitions;
+    private final HeaderDefinitionLookup headerDefinitionLookup;
     private final Predicate<HeaderDefinition> headerDefinitionPredicate;
 
     private CheckExternalFilter(final Map<String, HeaderDefinition> headerDefinitions,
             final Predicate<HeaderDefinition> headerDefinitionPredicate) {
 
-        this.headerDefinitions = Collections.unmodifiableMap(checkNotNull(headerDefinitions, "headerDefinitions"));
+        headerDefinitionLookup = HeaderDefinitionLookup.of(checkNotNull(headerDefinitions, "headerDefinitions"));
         this.headerDefinitionPredicate = headerDefinitionPredicate;
     }
 
@@ -95,7 +94,7 @@ final class CheckExternalFilter extends AbstractHeaderEntryFilter {
     @Nullable
     @Override
     protected String filterValue(final String key, final String value) {
-        @Nullable final HeaderDefinition headerDefinition = headerDefinitions.get(key.toLowerCase());
+        @Nullable final HeaderDefinition headerDefinition = headerDefinitionLookup.get(key);
         if (headerDefinitionPredicate.test(headerDefinition)) {
             return value;
         }
@@ -12,8 +12,6 @@
  */
 package org.eclipse.ditto.protocol;
 
-import java.util.Objects;
-
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
 
@@ -81,7 +79,8 @@ final class DittoAckRequestsFilter extends AbstractHeaderEntryFilter {
     }
 
     private static boolean isRequestedAcks(final String key) {
-        return Objects.equals(DittoHeaderDefinition.REQUESTED_ACKS.getKey(), key);
+        // the key is not converted to lower case by the HeaderTranslator
+        return DittoHeaderDefinition.REQUESTED_ACKS.getKey().equalsIgnoreCase(key);
     }
 
     @Nullable
@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.protocol;
+
+import java.time.Instant;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.json.JsonFieldDefinition;
+import org.eclipse.ditto.json.JsonKey;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+
+/**
+ * Writes the JSON string of a Ditto Protocol message field by field into a {@link StringBuilder}.
+ * The result is the same as the string representation of {@link JsonifiableAdaptable#toJson()} if the fields are
+ * written in the order of the {@code JsonFields} of {@link JsonifiableAdaptable} and {@link Payload}, but neither a
+ * {@link org.eclipse.ditto.json.JsonObject} of the message nor one of the payload is created.
+ */
+@NotThreadSafe
+final class EnvelopeJsonWriter {
+
+    private static final String TOPIC = keyOf(JsonifiableAdaptable.JsonFields.TOPIC);
+    private static final String HEADERS = keyOf(JsonifiableAdaptable.JsonFields.HEADERS);
+    private static final String PATH = keyOf(Payload.JsonFields.PATH);
+    private static final String VALUE = keyOf(Payload.JsonFields.VALUE);
+    private static final String EXTRA = keyOf(Payload.JsonFields.EXTRA);
+    private static final String STATUS = keyOf(Payload.JsonFields.STATUS);
+    private static final String REVISION = keyOf(Payload.JsonFields.REVISION);
+    private static final String TIMESTAMP = keyOf(Payload.JsonFields.TIMESTAMP);
+    private static final String METADATA = keyOf(Payload.JsonFields.METADATA);
+    private static final String FIELDS = keyOf(Payload.JsonFields.FIELDS);
+
+    private final StringBuilder sink;
+    private char delimiter;
+
+    private EnvelopeJsonWriter(final StringBuilder sink) {
+        this.sink = sink;
+        delimiter = '{';
+    }
+
+    /**
+     * Starts a Ditto Protocol message with its topic and headers.
+     *
+     * @param sink the builder to append the JSON to.
+     * @param topicPath the path of the topic.
+     * @param headers the headers of the message.
+     * @return the writer for the payload fields.
+     */
+    static EnvelopeJsonWriter start(final StringBuilder sink, final String topicPath, final DittoHeaders headers) {
+        final EnvelopeJsonWriter result = new EnvelopeJsonWriter(sink);
+        result.appendKey(TOPIC).append(JsonValue.of(topicPath));
+        result.appendKey(HEADERS).append(headers.toJson());
+        return result;
+    }
+
+    /**
+     * Writes the passed adaptable like {@link JsonifiableAdaptable#toJson()} does.
+     *
+     * @param adaptable the adaptable to write.
+     * @param sink the builder to append the JSON to.
+     */
+    static void write(final Adaptable adaptable, final StringBuilder sink) {
+        final Payload payload = adaptable.getPayload();
+        final EnvelopeJsonWriter writer = start(sink, adaptable.getTopicPath().getPath(), adaptable.getDittoHeaders())
+                .path(payload.getPath());
+        payload.getValue().ifPresent(writer::value);
+        payload.getExtra().ifPresent(writer::extra);
+        payload.getHttpStatus().ifPresent(httpStatus -> writer.status(httpStatus.getCode()));
+        payload.getRevision().ifPresent(writer::revision);
+        payload.getTimestamp().ifPresent(writer::timestamp);
+        payload.getMetadata().ifPresent(metadata -> writer.metadata(metadata.toJson()));
+        payload.getFields().ifPresent(fields -> writer.fields(fields.toString()));
+        writer.end();
+    }
+
+    EnvelopeJsonWriter path(final JsonPointer path) {
+        appendKey(PATH).append(JsonValue.of(path.toString()));
+        return this;
+    }
+
+    EnvelopeJsonWriter value(final JsonValue value) {
+        appendKey(VALUE).append(value);
+        return this;
+    }
+
+    EnvelopeJsonWriter extra(final JsonValue extra) {
+        appendKey(EXTRA).append(extra);
+        return this;
+    }
+
+    EnvelopeJsonWriter status(final int statusCode) {
+        appendKey(STATUS).append(statusCode);
+        return this;
+    }
+
+    EnvelopeJsonWriter revision(final long revision) {
+        appendKey(REVISION).append(revision);
+        return this;
+    }
+
+    EnvelopeJsonWriter timestamp(final Instant timestamp) {
+        appendKey(TIMESTAMP).append(JsonValue.of(timestamp.toString()));
+        return this;
+    }
+
+    EnvelopeJsonWriter metadata(final JsonValue metadata) {
+        appendKey(METADATA).append(metadata);
+        return this;
+    }
+
+    EnvelopeJsonWriter fields(final String fields) {
+        appendKey(FIELDS).append(JsonValue.of(fields));
+        return this;
+    }
+
+    /**
+     * Ends the message.
+     */
+    void end() {
+        sink.append('}');
+    }
+
+    private static String keyOf(final JsonFieldDefinition<?> fieldDefinition) {
+        // the keys of the Ditto Protocol fields do not contain any characters which would have to be escaped
+        return "\"" + fieldDefinition.getPointer().getRoot().map(JsonKey::toString).orElse("") + "\":";
+    }
+
+    private StringBuilder appendKey(final String key) {
+        sink.append(delimiter).append(key);
+        delimiter = ',';
+        return sink;
+    }
+
+}
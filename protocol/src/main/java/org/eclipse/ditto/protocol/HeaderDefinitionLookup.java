@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.protocol;
+
+import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.base.model.headers.HeaderDefinition;
+
+/**
+ * Finds the {@link HeaderDefinition} of a header key case-insensitively, i.e. like
+ * {@code headerDefinitions.get(key.toLowerCase())}, but without creating a lower case copy of the key.
+ * <p>
+ * Keys which are already lower case are looked up directly.
+ * Keys with upper case ASCII characters are looked up in an open addressing table of the definition keys which is
+ * probed with the hash code of the lower case key, computed char by char.
+ * Keys with non-ASCII characters are rare and converted with {@link String#toLowerCase()} like before.
+ * </p>
+ */
+@Immutable
+final class HeaderDefinitionLookup {
+
+    private static final int ASCII_CASE_OFFSET = 'a' - 'A';
+
+    private final Map<String, HeaderDefinition> headerDefinitions;
+    private final String[] tableKeys;
+    private final HeaderDefinition[] tableValues;
+    private final int tableMask;
+
+    private HeaderDefinitionLookup(final Map<String, HeaderDefinition> headerDefinitions) {
+        final int tableSize = Math.max(2, Integer.highestOneBit(Math.max(1, headerDefinitions.size())) << 2);
+        final Map<String, HeaderDefinition> lowerCaseHeaderDefinitions = new HashMap<>(headerDefinitions.size());
+        tableKeys = new String[tableSize];
+        tableValues = new HeaderDefinition[tableSize];
+        tableMask = tableSize - 1;
+        headerDefinitions.forEach((key, headerDefinition) -> {
+
+            // definitions with upper case keys could never be found by a lower case key
+            if (key.equals(key.toLowerCase())) {
+                lowerCaseHeaderDefinitions.put(key, headerDefinition);
+                int index = key.hashCode() & tableMask;
+                while (null != tableKeys[index]) {
+                    index = (index + 1) & tableMask;
+                }
+                tableKeys[index] = key;
+                tableValues[index] = headerDefinition;
+            }
+        });
+        this.headerDefinitions = Collections.unmodifiableMap(lowerCaseHeaderDefinitions);
+    }
+
+    /**
+     * Returns a new instance of {@code HeaderDefinitionLookup} for the passed header definitions.
+     *
+     * @param headerDefinitions the header definitions by their keys.
+     * @return the instance.
+     * @throws NullPointerException if {@code headerDefinitions} is {@code null}.
+     */
+    static HeaderDefinitionLookup of(final Map<String, HeaderDefinition> headerDefinitions) {
+        return new HeaderDefinitionLookup(checkNotNull(headerDefinitions, "headerDefinitions"));
+    }
+
+    /**
+     * Returns the header definition for the passed key ignoring its case.
+     *
+     * @param key the header key.
+     * @return the header definition or {@code null} if there is none for the key.
+     */
+    @Nullable
+    HeaderDefinition get(final String key) {
+        @Nullable HeaderDefinition result = headerDefinitions.get(key);
+        if (null == result && !headerDefinitions.isEmpty()) {
+            result = getIgnoringCase(key);
+        }
+        return result;
+    }
+
+    /**
+     * Indicates whether there are no header definitions.
+     *
+     * @return {@code true} if there are no header definitions.
+     */
+    boolean isEmpty() {
+        return headerDefinitions.isEmpty();
+    }
+
+    @Nullable
+    private HeaderDefinition getIgnoringCase(final String key) {
+        int lowerCaseHashCode = 0;
+        boolean hasUpperCase = false;
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+            if (c >= 'A' && c <= 'Z') {
+                c += ASCII_CASE_OFFSET;
+                hasUpperCase = true;
+            } else if (c > 127) {
+                return headerDefinitions.get(key.toLowerCase());
+            }
+            lowerCaseHashCode = 31 * lowerCaseHashCode + c;
+        }
+        if (!hasUpperCase) {
+            // the key already is lower case and was not found
+            return null;
+        }
+        int index = lowerCaseHashCode & tableMask;
+        @Nullable String tableKey = tableKeys[index];
+        while (null != tableKey) {
+            if (tableKey.length() == key.length() && tableKey.regionMatches(true, 0, key, 0, key.length())) {
+                return tableValues[index];
+            }
+            index = (index + 1) & tableMask;
+            tableKey = tableKeys[index];
+        }
+        return null;
+    }
+
+}
@@ -39,9 +39,20 @@ import org.eclipse.ditto.base.model.headers.HeaderDefinition;
 public final class HeaderTranslator {
 
     private final Map<String, HeaderDefinition> headerDefinitions;
+    private final HeaderEntryFilter fromExternalHeadersFilter;
+    private final HeaderEntryFilter toExternalHeadersFilter;
+    private final HeaderEntryFilter existsAsHeaderDefinitionFilter;
+    private final HeaderEntryFilter existsAsHeaderDefinitionAndExternalFilter;
 
     private HeaderTranslator(final Map<String, HeaderDefinition> headerDefinitionMap) {
         headerDefinitions = Collections.unmodifiableMap(headerDefinitionMap);
+
+        // the filters look up the header definitions of each header, thus they are created only once
+        fromExternalHeadersFilter = HeaderEntryFilters.fromExternalHeadersFilter(headerDefinitions);
+        toExternalHeadersFilter = HeaderEntryFilters.toExternalHeadersFilter(headerDefinitions);
+        existsAsHeaderDefinitionFilter = HeaderEntryFilters.existsAsHeaderDefinition(headerDefinitions);
+        existsAsHeaderDefinitionAndExternalFilter =
+                HeaderEntryFilters.existsAsHeaderDefinitionAndExternal(headerDefinitions);
     }
 
     /**
@@ -85,8 +96,7 @@ public final class HeaderTranslator {
      */
     public Map<String, String> fromExternalHeaders(final Map<String, String> externalHeaders) {
         checkNotNull(externalHeaders, "externalHeaders");
-        final HeaderEntryFilter headerEntryFilter = HeaderEntryFilters.fromExternalHeadersFilter(headerDefinitions);
-        return filterHeaders(externalHeaders, headerEntryFilter);
+        return filterHeaders(externalHeaders, fromExternalHeadersFilter);
     }
 
     /**
@@ -98,8 +108,7 @@ public final class HeaderTranslator {
      */
     public Map<String, String> toExternalHeaders(final DittoHeaders dittoHeaders) {
         checkNotNull(dittoHeaders, "dittoHeaders");
-        final HeaderEntryFilter headerEntryFilter = HeaderEntryFilters.toExternalHeadersFilter(headerDefinitions);
-        return filterHeadersMap(dittoHeaders.asCaseSensitiveMap(), headerEntryFilter);
+        return filterHeadersMap(dittoHeaders.asCaseSensitiveMap(), toExternalHeadersFilter);
     }
 
     /**
@@ -113,8 +122,7 @@ public final class HeaderTranslator {
      */
     public Map<String, String> retainKnownHeaders(final Map<String, String> externalHeaders) {
         checkNotNull(externalHeaders, "externalHeaders");
-        final HeaderEntryFilter headerEntryFilter = HeaderEntryFilters.existsAsHeaderDefinition(headerDefinitions);
-        return filterHeaders(externalHeaders, headerEntryFilter);
+        return filterHeaders(externalHeaders, existsAsHeaderDefinitionFilter);
     }
 
     /**
@@ -131,9 +139,7 @@ public final class HeaderTranslator {
         if (headerDefinitions.isEmpty()) {
             return dittoHeaders;
         }
-        final HeaderEntryFilter headerEntryFilter = HeaderEntryFilters
-                .existsAsHeaderDefinitionAndExternal(headerDefinitions);
-        return filterHeaders(dittoHeaders, headerEntryFilter);
+        return filterHeaders(dittoHeaders, existsAsHeaderDefinitionAndExternalFilter);
     }
 
     private static Map<String, String> filterHeaders(final Map<String, String> headersToFilter,
@@ -158,8 +164,9 @@ public final class HeaderTranslator {
         for (final Map.Entry<String, String> entry : headersToFilter.asCaseSensitiveMap().entrySet()) {
             final String originalKey = entry.getKey();
             final String originalValue = entry.getValue();
-            final String key = originalKey.toLowerCase();
-            final String filteredValue = headerEntryFilter.apply(key, originalValue);
+
+            // the filters ignore the case of the key
+            final String filteredValue = headerEntryFilter.apply(originalKey, originalValue);
             if (null == filteredValue) {
                 dittoHeadersBuilder.removeHeader(originalKey);
             } else if (!filteredValue.equals(originalValue)) {
@@ -172,10 +179,11 @@ public final class HeaderTranslator {
     private static Map<String, String> filterHeadersMap(final Map<String, String> headersToFilter,
             final HeaderEntryFilter headerEntryFilter) {
 
-        final Map<String, String> result = new LinkedHashMap<>(headersToFilter.size());
+        final Map<String, String> result = new LinkedHashMap<>(getInitialCapacity(headersToFilter.size()));
         headersToFilter.forEach((originalKey, value) -> {
-            final String lowercaseKey = originalKey.toLowerCase();
-            final String filteredValue = headerEntryFilter.apply(lowercaseKey, value);
+
+            // the filters ignore the case of the key
+            final String filteredValue = headerEntryFilter.apply(originalKey, value);
             if (null != filteredValue) {
                 result.put(originalKey, filteredValue);
             }
@@ -183,6 +191,11 @@ public final class HeaderTranslator {
         return result;
     }
 
+    private static int getInitialCapacity(final int expectedSize) {
+        // avoids rehashing for the default load factor of 0.75
+        return expectedSize + expectedSize / 3 + 1;
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + " [" +
@@ -106,6 +106,13 @@ final class ImmutableJsonifiableAdaptable implements JsonifiableAdaptable {
                 .build();
     }
 
+    @Override
+    public String toJsonString() {
+        final StringBuilder stringBuilder = new StringBuilder();
+        EnvelopeJsonWriter.write(this, stringBuilder);
+        return stringBuilder.toString();
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
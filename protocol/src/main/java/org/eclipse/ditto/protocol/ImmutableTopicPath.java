@@ -16,20 +16,18 @@ import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
 
 import java.text.MessageFormat;
 import java.util.ArrayList;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.function.Supplier;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
-import java.util.stream.StreamSupport;
 
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
 import javax.annotation.concurrent.NotThreadSafe;
 
+import org.eclipse.ditto.base.model.common.GenerationalCache;
 import org.eclipse.ditto.json.JsonFactory;
 import org.eclipse.ditto.json.JsonKey;
 import org.eclipse.ditto.json.JsonPointer;
@@ -41,6 +39,20 @@ import org.eclipse.ditto.protocol.adapter.UnknownTopicPathException;
 @Immutable
 final class ImmutableTopicPath implements TopicPath {
 
+    /**
+     * The system property which determines the maximum size of the caches of parsed and of built topic paths.
+     * Devices usually send and receive many messages with the same topic, thus parsing the topic string and formatting
+     * the path of a topic is mostly done for the same few topics again and again.
+     * A value of {@code 0} disables the caches.
+     */
+    static final String CACHE_MAX_SIZE_PROPERTY = "ditto.protocol.topic-path-cache.max-size";
+
+    private static final int CACHE_MAX_SIZE = GenerationalCache.getMaxSize(CACHE_MAX_SIZE_PROPERTY, 512);
+    private static final GenerationalCache<String, ImmutableTopicPath> PARSED_TOPIC_PATHS =
+            GenerationalCache.newInstance(CACHE_MAX_SIZE);
+    private static final GenerationalCache<ImmutableTopicPath, ImmutableTopicPath> BUILT_TOPIC_PATHS =
+            GenerationalCache.newInstance(CACHE_MAX_SIZE);
+
     private final String namespace;
     private final String name;
     private final Group group;
@@ -49,6 +61,7 @@ final class ImmutableTopicPath implements TopicPath {
     @Nullable private final Action action;
     @Nullable private final SearchAction searchAction;
     @Nullable private final String subject;
+    @Nullable private String path;
 
     private ImmutableTopicPath(final Builder builder) {
         namespace = builder.namespace;
@@ -59,6 +72,7 @@ final class ImmutableTopicPath implements TopicPath {
         action = builder.action;
         searchAction = builder.searchAction;
         subject = builder.subject;
+        path = null;
     }
 
     /**
@@ -84,8 +98,8 @@ final class ImmutableTopicPath implements TopicPath {
      * @throws UnknownTopicPathException if the string does not contain a parsable ImmutableTopicPath.
      */
     static ImmutableTopicPath parseTopicPath(final String topicPathString) {
-        final TopicPathParser topicPathParser = new TopicPathParser(checkNotNull(topicPathString, "topicPathString"));
-        return topicPathParser.get();
+        checkNotNull(topicPathString, "topicPathString");
+        return PARSED_TOPIC_PATHS.get(topicPathString, string -> new TopicPathParser(string).get());
     }
 
     static JsonPointer newTopicOrPathPointer(final String path) {
@@ -151,28 +165,32 @@ final class ImmutableTopicPath implements TopicPath {
 
     @Override
     public String getPath() {
-        final Stream<String> pathPartStream = Stream.<String>builder()
-                .add(namespace)
-                .add(name)
-                .add(group.getName())
-                .add(Channel.NONE != channel ? channel.getName() : null)
-                .add(criterion.getName())
-                .add(getStringOrNull(action))
-                .add(getStringOrNull(searchAction))
-                .add(getStringOrNull(subject))
-                .build();
-        return pathPartStream.filter(Objects::nonNull).collect(Collectors.joining(PATH_DELIMITER));
+        String result = path;
+        if (null == result) {
+            result = createPath();
+            path = result;
+        }
+        return result;
+    }
+
+    private String createPath() {
+        final StringBuilder stringBuilder = new StringBuilder(namespace)
+                .append(PATH_DELIMITER).append(name)
+                .append(PATH_DELIMITER).append(group.getName());
+        if (Channel.NONE != channel) {
+            stringBuilder.append(PATH_DELIMITER).append(channel.getName());
+        }
+        stringBuilder.append(PATH_DELIMITER).append(criterion.getName());
+        appendIfNotNull(stringBuilder, action);
+        appendIfNotNull(stringBuilder, searchAction);
+        appendIfNotNull(stringBuilder, subject);
+        return stringBuilder.toString();
     }
 
-    @Nullable
-    private static String getStringOrNull(@Nullable final Object pathPart) {
-        @Nullable final String result;
-        if (null == pathPart) {
-            result = null;
-        } else {
-            result = pathPart.toString();
+    private static void appendIfNotNull(final StringBuilder stringBuilder, @Nullable final Object pathPart) {
+        if (null != pathPart) {
+            stringBuilder.append(PATH_DELIMITER).append(pathPart);
         }
-        return result;
     }
 
     @Override
@@ -471,7 +489,9 @@ final class ImmutableTopicPath implements TopicPath {
         @Override
         public ImmutableTopicPath build() {
             validateChannel();
-            return new ImmutableTopicPath(this);
+
+            // equal topic paths share one instance and thus its path string
+            return BUILT_TOPIC_PATHS.get(new ImmutableTopicPath(this), Function.identity());
         }
 
         private void validateChannel() {
@@ -486,27 +506,51 @@ final class ImmutableTopicPath implements TopicPath {
     @NotThreadSafe
     private static final class TopicPathParser implements Supplier<ImmutableTopicPath> {
 
+        private static final char PATH_DELIMITER_CHAR = '/';
+
         private final String topicPathString;
-        private final LinkedList<String> topicPathParts;
+        private int position;
+        private boolean leadingEmptyPart;
 
         private TopicPathParser(final String topicPathString) {
             this.topicPathString = topicPathString;
-            topicPathParts = splitByPathDelimiter(topicPathString);
-        }
+            position = 0;
 
-        private static LinkedList<String> splitByPathDelimiter(final String topicPathString) {
-            final LinkedList<String> result =
-                    StreamSupport.stream(newTopicOrPathPointer(topicPathString).spliterator(), false)
-                            .map(JsonKey::toString)
-                            .collect(Collectors.toCollection(LinkedList::new));
+            // topic path starts with an empty segment
+            leadingEmptyPart = topicPathString.startsWith(TopicPath.PATH_DELIMITER);
+        }
 
-            if (topicPathString.startsWith(TopicPath.PATH_DELIMITER)) {
-                // topic path starts with an empty segment
-                result.addFirst("");
+        /*
+         * Returns the next part of the topic path string without splitting the whole string first. The parts are the
+         * same as the keys of newTopicOrPathPointer(topicPathString): parts are separated by single slashes and
+         * everything from the first empty part on is the last part.
+         */
+        private String nextPart() {
+            final String result;
+            final int length = topicPathString.length();
+            if (leadingEmptyPart) {
+                leadingEmptyPart = false;
+                position = 1;
+                result = "";
+            } else if (position >= length) {
+                throw new NoSuchElementException();
+            } else {
+                final int delimiterIndex = topicPathString.indexOf(PATH_DELIMITER_CHAR, position);
+                if (delimiterIndex > position) {
+                    result = topicPathString.substring(position, delimiterIndex);
+                    position = delimiterIndex + 1;
+                } else {
+                    result = topicPathString.substring(position);
+                    position = length;
+                }
             }
             return result;
         }
 
+        private boolean hasNextPart() {
+            return leadingEmptyPart || position < topicPathString.length();
+        }
+
         @Override
         public ImmutableTopicPath get() {
             final Builder topicPathBuilder = new Builder(tryToGetNamespace(), tryToGetEntityName());
@@ -539,7 +583,7 @@ final class ImmutableTopicPath implements TopicPath {
 
         private String tryToGetNamespace() {
             try {
-                return topicPathParts.pop(); // parts[0]
+                return nextPart(); // parts[0]
             } catch (final NoSuchElementException e) {
                 throw UnknownTopicPathException.newBuilder(topicPathString)
                         .description("The topic path has no namespace part.")
@@ -550,7 +594,7 @@ final class ImmutableTopicPath implements TopicPath {
 
         private String tryToGetEntityName() {
             try {
-                return topicPathParts.pop(); // parts[1]
+                return nextPart(); // parts[1]
             } catch (final NoSuchElementException e) {
                 throw UnknownTopicPathException.newBuilder(topicPathString)
                         .description("The topic path has no entity name part.")
@@ -561,7 +605,7 @@ final class ImmutableTopicPath implements TopicPath {
 
         private String tryToGetGroupName() {
             try {
-                return topicPathParts.pop(); // parts[2]
+                return nextPart(); // parts[2]
             } catch (final NoSuchElementException e) {
                 throw UnknownTopicPathException.newBuilder(topicPathString)
                         .description("The topic path has no group part.")
@@ -588,7 +632,7 @@ final class ImmutableTopicPath implements TopicPath {
 
         private String tryToGetChannelName() {
             try {
-                return topicPathParts.pop(); // parts[3]
+                return nextPart(); // parts[3]
             } catch (final NoSuchElementException e) {
                 throw UnknownTopicPathException.newBuilder(topicPathString)
                         .description("The topic path has no channel part.")
@@ -605,7 +649,7 @@ final class ImmutableTopicPath implements TopicPath {
 
         private String tryToGetCriterionName() {
             try {
-                return topicPathParts.pop(); // parts[4]
+                return nextPart(); // parts[4]
             } catch (final NoSuchElementException e) {
                 throw UnknownTopicPathException.newBuilder(topicPathString)
                         .description("The topic path has no criterion part.")
@@ -623,7 +667,7 @@ final class ImmutableTopicPath implements TopicPath {
 
         private String tryToGetActionName() {
             try {
-                return topicPathParts.pop(); // parts[5]
+                return nextPart(); // parts[5]
             } catch (final NoSuchElementException e) {
                 throw UnknownTopicPathException.newBuilder(topicPathString)
                         .description("The topic path has no action part.")
@@ -640,7 +684,7 @@ final class ImmutableTopicPath implements TopicPath {
 
         private String tryToGetSearchActionName() {
             try {
-                return topicPathParts.pop(); // parts[5]
+                return nextPart(); // parts[5]
             } catch (final NoSuchElementException e) {
                 throw UnknownTopicPathException.newBuilder(topicPathString)
                         .description("The topic path has no search action part.")
@@ -658,12 +702,16 @@ final class ImmutableTopicPath implements TopicPath {
 
         @Nullable
         private String getSubjectOrNull() {
-            final String subject = String.join(TopicPath.PATH_DELIMITER, topicPathParts);
-            final String result;
-            if (subject.isEmpty()) {
-                result = null;
-            } else {
-                result = subject;
+            @Nullable String result = null;
+            if (hasNextPart()) {
+                result = nextPart();
+                if (hasNextPart()) {
+                    final StringBuilder stringBuilder = new StringBuilder(result);
+                    while (hasNextPart()) {
+                        stringBuilder.append(TopicPath.PATH_DELIMITER).append(nextPart());
+                    }
+                    result = stringBuilder.toString();
+                }
             }
             return result;
         }
@@ -15,8 +15,6 @@ package org.eclipse.ditto.protocol;
 import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
 
 import java.util.Arrays;
-import java.util.Collections;
-import java.util.HashMap;
 import java.util.Map;
 
 import javax.annotation.Nullable;
@@ -40,10 +38,10 @@ final class ReadJsonArrayHeadersFilter extends AbstractHeaderEntryFilter {
 
     private static final String COMMA_SPLIT_REGEX = ",";
 
-    private final Map<String, HeaderDefinition> headerDefinitions;
+    private final HeaderDefinitionLookup headerDefinitionLookup;
 
     private ReadJsonArrayHeadersFilter(final Map<String, HeaderDefinition> headerDefinitions) {
-        this.headerDefinitions = Collections.unmodifiableMap(new HashMap<>(headerDefinitions));
+        headerDefinitionLookup = HeaderDefinitionLookup.of(headerDefinitions);
     }
 
     /**
@@ -71,7 +69,7 @@ final class ReadJsonArrayHeadersFilter extends AbstractHeaderEntryFilter {
     }
 
     private boolean isJsonArrayDefinition(final String headerKey) {
-        @Nullable final HeaderDefinition headerDefinition = headerDefinitions.get(headerKey.toLowerCase());
+        @Nullable final HeaderDefinition headerDefinition = headerDefinitionLookup.get(headerKey);
         boolean result = false;
         if (null != headerDefinition) {
             result = JsonArray.class.equals(headerDefinition.getSerializationType());
@@ -0,0 +1,242 @@
+/*
+ * Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.protocol;
+
+import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
+
+import java.util.Locale;
+import java.util.Optional;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.base.model.json.JsonSchemaVersion;
+import org.eclipse.ditto.base.model.signals.Signal;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.protocol.adapter.DittoProtocolAdapter;
+import org.eclipse.ditto.protocol.adapter.ProtocolAdapter;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.things.model.signals.events.ThingEvent;
+import org.eclipse.ditto.things.model.signals.events.ThingMerged;
+import org.eclipse.ditto.things.model.signals.commands.modify.MergeThingResponse;
+import org.eclipse.ditto.things.model.signals.commands.modify.ThingModifyCommandResponse;
+import org.eclipse.ditto.things.model.signals.commands.query.RetrieveThingsResponse;
+import org.eclipse.ditto.things.model.signals.commands.query.ThingQueryCommandResponse;
+
+/**
+ * Creates the Ditto Protocol JSON string of signals.
+ * <p>
+ * The most frequently sent signals, i.e. thing events except {@code ThingMerged} as well as the responses to thing
+ * modify and query commands except {@code MergeThingResponse} and {@code RetrieveThingsResponse}, are written
+ * directly into the JSON string without creating an {@link Adaptable} and a {@link org.eclipse.ditto.json.JsonObject}
+ * of the message first.
+ * All other signals are converted to an {@code Adaptable} by the protocol adapter.
+ * Both ways result in the same JSON string as
+ * {@code ProtocolFactory.wrapAsJsonifiableAdaptable(protocolAdapter.toAdaptable(signal)).toJsonString()}.
+ * </p>
+ *
+ * @since 2.5.0
+ */
+@Immutable
+public final class SignalJsonEncoder {
+
+    private static final TopicPath.Action[] EVENT_ACTIONS =
+            {TopicPath.Action.CREATED, TopicPath.Action.MODIFIED, TopicPath.Action.DELETED};
+    private static final TopicPath.Action[] MODIFY_RESPONSE_ACTIONS =
+            {TopicPath.Action.CREATE, TopicPath.Action.MODIFY, TopicPath.Action.DELETE};
+    private static final TopicPath.Action[] QUERY_RESPONSE_ACTIONS = {TopicPath.Action.RETRIEVE};
+
+    private final ProtocolAdapter protocolAdapter;
+    @Nullable private final HeaderTranslator headerTranslator;
+
+    private SignalJsonEncoder(final ProtocolAdapter protocolAdapter) {
+        this.protocolAdapter = protocolAdapter;
+
+        // only the signal mapping of the Ditto protocol adapter is known
+        if (protocolAdapter instanceof DittoProtocolAdapter) {
+            headerTranslator = protocolAdapter.headerTranslator();
+        } else {
+            headerTranslator = null;
+        }
+    }
+
+    /**
+     * Returns an instance of {@code SignalJsonEncoder} which encodes signals like the passed protocol adapter.
+     *
+     * @param protocolAdapter the protocol adapter to convert signals with which are not written directly.
+     * @return the encoder.
+     * @throws NullPointerException if {@code protocolAdapter} is {@code null}.
+     */
+    public static SignalJsonEncoder of(final ProtocolAdapter protocolAdapter) {
+        return new SignalJsonEncoder(checkNotNull(protocolAdapter, "protocolAdapter"));
+    }
+
+    /**
+     * Indicates whether the passed signal is written directly without converting it to an {@link Adaptable}.
+     *
+     * @param signal the signal.
+     * @return {@code true} if the signal is written directly.
+     * @throws NullPointerException if {@code signal} is {@code null}.
+     */
+    public boolean isWrittenDirectly(final Signal<?> signal) {
+        checkNotNull(signal, "signal");
+        return null != headerTranslator && null != getAction(signal);
+    }
+
+    /**
+     * Returns the Ditto Protocol JSON string of the passed signal with the channel determined by the signal.
+     *
+     * @param signal the signal to encode.
+     * @return the JSON string.
+     * @throws NullPointerException if {@code signal} is {@code null}.
+     * @throws org.eclipse.ditto.base.model.exceptions.DittoRuntimeException if the protocol adapter cannot convert
+     * the signal.
+     */
+    public String toJsonString(final Signal<?> signal) {
+        final StringBuilder stringBuilder = new StringBuilder();
+        appendJsonString(signal, stringBuilder);
+        return stringBuilder.toString();
+    }
+
+    /**
+     * Appends the Ditto Protocol JSON string of the passed signal with the channel determined by the signal to the
+     * passed string builder.
+     *
+     * @param signal the signal to encode.
+     * @param sink the string builder to append the JSON string to.
+     * @throws NullPointerException if any argument is {@code null}.
+     * @throws org.eclipse.ditto.base.model.exceptions.DittoRuntimeException if the protocol adapter cannot convert
+     * the signal.
+     */
+    public void appendJsonString(final Signal<?> signal, final StringBuilder sink) {
+        checkNotNull(signal, "signal");
+        checkNotNull(sink, "sink");
+        @Nullable final TopicPath.Action action = null != headerTranslator ? getAction(signal) : null;
+        if (null == action) {
+            EnvelopeJsonWriter.write(protocolAdapter.toAdaptable(signal), sink);
+        } else if (signal instanceof ThingEvent) {
+            appendThingEvent((ThingEvent<?>) signal, action, sink);
+        } else if (signal instanceof ThingModifyCommandResponse) {
+            appendThingModifyCommandResponse((ThingModifyCommandResponse<?>) signal, action, sink);
+        } else {
+            appendThingQueryCommandResponse((ThingQueryCommandResponse<?>) signal, action, sink);
+        }
+    }
+
+    /*
+     * Determines the action of the topic like the ThingEventSignalMapper, ThingModifyResponseSignalMapper and
+     * ThingQueryResponseSignalMapper do. Returns null for all signals which are not written directly.
+     */
+    @Nullable
+    private static TopicPath.Action getAction(final Signal<?> signal) {
+        @Nullable final TopicPath.Action result;
+        if (signal instanceof ThingEvent && !(signal instanceof ThingMerged)) {
+            result = getEventAction(getLowerCaseClassName(signal));
+        } else if (signal instanceof ThingModifyCommandResponse && !(signal instanceof MergeThingResponse)) {
+            result = getCommandResponseAction(getLowerCaseClassName(signal), MODIFY_RESPONSE_ACTIONS);
+        } else if (signal instanceof ThingQueryCommandResponse && !(signal instanceof RetrieveThingsResponse)) {
+            result = getCommandResponseAction(getLowerCaseClassName(signal), QUERY_RESPONSE_ACTIONS);
+        } else {
+            result = null;
+        }
+        return result;
+    }
+
+    private static String getLowerCaseClassName(final Signal<?> signal) {
+        return signal.getClass().getSimpleName().toLowerCase(Locale.ENGLISH);
+    }
+
+    @Nullable
+    private static TopicPath.Action getEventAction(final String eventName) {
+        for (final TopicPath.Action action : EVENT_ACTIONS) {
+            if (eventName.contains(action.getName())) {
+                return action;
+            }
+        }
+        return null;
+    }
+
+    @Nullable
+    private static TopicPath.Action getCommandResponseAction(final String responseName,
+            final TopicPath.Action[] supportedActions) {
+
+        if (responseName.endsWith("response")) {
+            for (final TopicPath.Action action : supportedActions) {
+                if (responseName.startsWith(action.toString())) {
+                    return action;
+                }
+            }
+        }
+        return null;
+    }
+
+    private void appendThingEvent(final ThingEvent<?> event, final TopicPath.Action action,
+            final StringBuilder sink) {
+
+        final JsonSchemaVersion schemaVersion =
+                event.getDittoHeaders().getSchemaVersion().orElse(event.getLatestSchemaVersion());
+        final Optional<JsonValue> value = event.getEntity(schemaVersion);
+        final DittoHeaders headers = value.isPresent()
+                ? ProtocolFactory.newHeadersWithJsonContentType(event.getDittoHeaders())
+                : event.getDittoHeaders();
+        final EnvelopeJsonWriter writer =
+                start(sink, event.getEntityId(), event, TopicPath.Criterion.EVENTS, action, headers)
+                        .path(event.getResourcePath());
+        value.ifPresent(writer::value);
+        writer.revision(event.getRevision());
+        event.getTimestamp().ifPresent(writer::timestamp);
+        writer.end();
+    }
+
+    private void appendThingModifyCommandResponse(final ThingModifyCommandResponse<?> response,
+            final TopicPath.Action action, final StringBuilder sink) {
+
+        final DittoHeaders headers = ProtocolFactory.newHeadersWithJsonContentType(response.getDittoHeaders());
+        final EnvelopeJsonWriter writer =
+                start(sink, response.getEntityId(), response, TopicPath.Criterion.COMMANDS, action, headers)
+                        .path(response.getResourcePath());
+        response.getEntity(response.getImplementedSchemaVersion()).ifPresent(writer::value);
+        writer.status(response.getHttpStatus().getCode());
+        writer.end();
+    }
+
+    private void appendThingQueryCommandResponse(final ThingQueryCommandResponse<?> response,
+            final TopicPath.Action action, final StringBuilder sink) {
+
+        final DittoHeaders headers = ProtocolFactory.newHeadersWithJsonContentType(response.getDittoHeaders());
+        start(sink, response.getEntityId(), response, TopicPath.Criterion.COMMANDS, action, headers)
+                .path(response.getResourcePath())
+                .value(response.getEntity(response.getImplementedSchemaVersion()))
+                .status(response.getHttpStatus().getCode())
+                .end();
+    }
+
+    private EnvelopeJsonWriter start(final StringBuilder sink,
+            final ThingId thingId,
+            final Signal<?> signal,
+            final TopicPath.Criterion criterion,
+            final TopicPath.Action action,
+            final DittoHeaders headers) {
+
+        final String topicPath = thingId.getNamespace() + TopicPath.PATH_DELIMITER +
+                thingId.getName() + TopicPath.PATH_DELIMITER +
+                TopicPath.Group.THINGS.getName() + TopicPath.PATH_DELIMITER +
+                ProtocolAdapter.determineChannel(signal).getName() + TopicPath.PATH_DELIMITER +
+                criterion.getName() + TopicPath.PATH_DELIMITER +
+                action;
+        final DittoHeaders externalHeaders = DittoHeaders.of(headerTranslator.toExternalHeaders(headers));
+        return EnvelopeJsonWriter.start(sink, topicPath, externalHeaders);
+    }
+
+}
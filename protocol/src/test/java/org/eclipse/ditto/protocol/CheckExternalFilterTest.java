@@ -14,7 +14,6 @@ package org.eclipse.ditto.protocol;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatNullPointerException;
-import static org.mutabilitydetector.unittesting.AllowedReason.assumingFields;
 import static org.mutabilitydetector.unittesting.AllowedReason.provided;
 import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
 import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
@@ -39,8 +38,7 @@ public final class CheckExternalFilterTest {
     public void assertImmutability() {
         assertInstancesOf(CheckExternalFilter.class,
                 areImmutable(),
-                provided(Predicate.class).isAlsoImmutable(),
-                assumingFields("headerDefinitions").areSafelyCopiedUnmodifiableCollectionsWithImmutableElements());
+                provided(Predicate.class, HeaderDefinitionLookup.class).areAlsoImmutable());
     }
 
     @Test
@@ -55,6 +53,7 @@ public final class CheckExternalFilterTest {
     public void filterNullValueShouldReadFromExternal() {
         final Map<String, HeaderDefinition> headerDefinitions = Mockito.mock(Map.class);
         final CheckExternalFilter underTest = CheckExternalFilter.shouldReadFromExternal(headerDefinitions);
+        Mockito.clearInvocations(headerDefinitions); // the header definitions are copied on creation
 
         assertThat(underTest.apply("foo", null)).isNull();
         Mockito.verifyNoInteractions(headerDefinitions);
@@ -102,6 +101,7 @@ public final class CheckExternalFilterTest {
     public void filterNullValueShouldWriteToExternal() {
         final Map<String, HeaderDefinition> headerDefinitions = Mockito.mock(Map.class);
         final CheckExternalFilter underTest = CheckExternalFilter.shouldWriteToExternal(headerDefinitions);
+        Mockito.clearInvocations(headerDefinitions); // the header definitions are copied on creation
 
         assertThat(underTest.apply("foo", null)).isNull();
         Mockito.verifyNoInteractions(headerDefinitions);
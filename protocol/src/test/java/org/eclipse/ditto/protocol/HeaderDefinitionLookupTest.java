@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.protocol;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.mutabilitydetector.unittesting.AllowedReason.assumingFields;
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import org.assertj.core.api.JUnitSoftAssertions;
+import org.eclipse.ditto.base.model.headers.DittoHeaderDefinition;
+import org.eclipse.ditto.base.model.headers.HeaderDefinition;
+import org.eclipse.ditto.messages.model.MessageHeaderDefinition;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link HeaderDefinitionLookup}.
+ */
+public final class HeaderDefinitionLookupTest {
+
+    @Rule
+    public final JUnitSoftAssertions softly = new JUnitSoftAssertions();
+
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(HeaderDefinitionLookup.class,
+                areImmutable(),
+                assumingFields("headerDefinitions").areSafelyCopiedUnmodifiableCollectionsWithImmutableElements(),
+                assumingFields("tableKeys", "tableValues").areNotModifiedAndDoNotEscape());
+    }
+
+    @Test
+    public void tryToCreateInstanceWithNullHeaderDefinitions() {
+        assertThatNullPointerException()
+                .isThrownBy(() -> HeaderDefinitionLookup.of(null))
+                .withMessage("The headerDefinitions must not be null!")
+                .withNoCause();
+    }
+
+    @Test
+    public void findsAllDefinitionsIgnoringTheCaseOfTheKey() {
+        final Map<String, HeaderDefinition> headerDefinitions = new HashMap<>();
+        Arrays.stream(DittoHeaderDefinition.values()).forEach(d -> headerDefinitions.put(d.getKey(), d));
+        Arrays.stream(MessageHeaderDefinition.values()).forEach(d -> headerDefinitions.putIfAbsent(d.getKey(), d));
+        final HeaderDefinitionLookup underTest = HeaderDefinitionLookup.of(headerDefinitions);
+
+        headerDefinitions.forEach((key, headerDefinition) -> {
+            softly.assertThat(underTest.get(key)).as(key).isSameAs(headerDefinition);
+            softly.assertThat(underTest.get(key.toUpperCase(Locale.ENGLISH))).as(key).isSameAs(headerDefinition);
+            softly.assertThat(underTest.get(capitalize(key))).as(key).isSameAs(headerDefinition);
+        });
+    }
+
+    @Test
+    public void returnsNullForUnknownKeys() {
+        final HeaderDefinitionLookup underTest = HeaderDefinitionLookup.of(
+                Collections.singletonMap(DittoHeaderDefinition.CORRELATION_ID.getKey(),
+                        DittoHeaderDefinition.CORRELATION_ID));
+
+        softly.assertThat(underTest.get("foo")).isNull();
+        softly.assertThat(underTest.get("Foo")).isNull();
+        softly.assertThat(underTest.get("correlation-id-")).isNull();
+        softly.assertThat(underTest.get("Correlation-I")).isNull();
+        softly.assertThat(underTest.get("")).isNull();
+        softly.assertThat(underTest.get("Correlation-Íd")).isNull();
+    }
+
+    @Test
+    public void emptyLookupFindsNothing() {
+        final HeaderDefinitionLookup underTest = HeaderDefinitionLookup.of(Collections.emptyMap());
+
+        assertThat(underTest.isEmpty()).isTrue();
+        assertThat(underTest.get("Correlation-Id")).isNull();
+    }
+
+    private static String capitalize(final String key) {
+        final StringBuilder stringBuilder = new StringBuilder(key.length());
+        boolean upperCase = true;
+        for (final char c : key.toCharArray()) {
+            stringBuilder.append(upperCase ? Character.toUpperCase(c) : c);
+            upperCase = '-' == c;
+        }
+        return stringBuilder.toString();
+    }
+
+}
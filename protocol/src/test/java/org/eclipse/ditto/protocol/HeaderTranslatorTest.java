@@ -69,6 +69,22 @@ public final class HeaderTranslatorTest {
                 .containsOnlyKeys(DittoHeaderDefinition.RESPONSE_REQUIRED.getKey());
     }
 
+    @Test
+    public void mixedCaseHeadersAreFilteredLikeLowerCaseHeaders() {
+        final HeaderTranslator underTest = HeaderTranslator.of(DittoHeaderDefinition.values());
+
+        final Map<String, String> externalHeaders = new HashMap<>();
+        externalHeaders.put("ETag", "\"-12124212\"");
+        externalHeaders.put("Correlation-Id", "correlation-id");
+        externalHeaders.put("Requested-Acks", "custom-ack, other-ack");
+
+        final Map<String, String> expectedHeaders = new HashMap<>();
+        expectedHeaders.put("Correlation-Id", "correlation-id");
+        expectedHeaders.put("Requested-Acks", "[\"custom-ack\",\"other-ack\"]");
+
+        assertThat(underTest.fromExternalHeaders(externalHeaders)).isEqualTo(expectedHeaders);
+    }
+
     @Test
     public void tryToTranslateNullExternalHeadersToDittoHeaders() {
         final HeaderTranslator underTest = HeaderTranslator.of(DittoHeaderDefinition.values());
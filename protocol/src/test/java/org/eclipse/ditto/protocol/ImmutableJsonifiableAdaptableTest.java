@@ -129,6 +129,15 @@ public final class ImmutableJsonifiableAdaptableTest {
         assertThat(actual).isEqualTo(expected);
     }
 
+    @Test
+    public void toJsonStringIsEqualToStringOfJson() {
+        final Adaptable adaptable =
+                ImmutableAdaptable.of(ProtocolFactory.newTopicPath(KNOWN_TOPIC), knownPayload, KNOWN_HEADERS);
+        final JsonifiableAdaptable underTest = ImmutableJsonifiableAdaptable.of(adaptable);
+
+        assertThat(underTest.toJsonString()).isEqualTo(underTest.toJson().toString());
+    }
+
     @Test
     public void jsonDeserializationWorksAsExpected() {
         final Adaptable adaptable =
@@ -16,6 +16,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.mutabilitydetector.unittesting.AllowedReason.assumingFields;
 import static org.mutabilitydetector.unittesting.AllowedReason.provided;
 import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
 import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
@@ -46,12 +47,16 @@ public final class ImmutableTopicPathTest {
     public void testHashCodeAndEquals() {
         EqualsVerifier.forClass(ImmutableTopicPath.class)
                 .usingGetClass()
+                .withIgnoredFields("path")
                 .verify();
     }
 
     @Test
     public void assertImmutability() {
-        assertInstancesOf(ImmutableTopicPath.class, areImmutable(), provided(TopicPath.Group.class).isAlsoImmutable());
+        assertInstancesOf(ImmutableTopicPath.class,
+                areImmutable(),
+                provided(TopicPath.Group.class).isAlsoImmutable(),
+                assumingFields("path").areModifiedAsPartOfAnUnobservableCachingStrategy());
     }
 
     @Test
@@ -347,6 +352,48 @@ public final class ImmutableTopicPathTest {
         softly.assertThat(underTestWithoutAction.isAction(null)).as("null action").isTrue();
     }
 
+    @Test
+    public void equalTopicPathsAreBuiltAsSameInstance() {
+        final TopicPath first =
+                ImmutableTopicPath.newBuilder(NAMESPACE, ENTITY_NAME).things().live().events().created().build();
+        final TopicPath second =
+                ImmutableTopicPath.newBuilder(NAMESPACE, ENTITY_NAME).things().live().events().created().build();
+
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    public void parsingTheSameStringTwiceReturnsSameInstance() {
+        final String topicPathString = NAMESPACE + "/" + ENTITY_NAME + "/things/twin/commands/retrieve";
+
+        final ImmutableTopicPath first = ImmutableTopicPath.parseTopicPath(topicPathString);
+        final ImmutableTopicPath second = ImmutableTopicPath.parseTopicPath(topicPathString);
+
+        assertThat(second).isSameAs(first);
+        assertThat(first.getPath()).isEqualTo(topicPathString);
+    }
+
+    @Test
+    public void parseMessageTopicPathsWithSlashesInSubject() {
+        final String prefix = NAMESPACE + "/" + ENTITY_NAME + "/things/live/messages/";
+
+        softly.assertThat(ImmutableTopicPath.parseTopicPath(prefix + "a/b/c").getSubject()).hasValue("a/b/c");
+        softly.assertThat(ImmutableTopicPath.parseTopicPath(prefix + "a//b").getSubject()).hasValue("a//b");
+        softly.assertThat(ImmutableTopicPath.parseTopicPath(prefix + "a/").getSubject()).hasValue("a");
+        softly.assertThat(ImmutableTopicPath.parseTopicPath(prefix + "a//").getSubject()).hasValue("a//");
+        softly.assertThat(ImmutableTopicPath.parseTopicPath(prefix).getSubject()).isEmpty();
+    }
+
+    @Test
+    public void parseTopicPathWithLeadingSlashHasEmptyNamespace() {
+        final ImmutableTopicPath underTest =
+                ImmutableTopicPath.parseTopicPath("/" + ENTITY_NAME + "/things/twin/commands/modify");
+
+        softly.assertThat(underTest.getNamespace()).isEmpty();
+        softly.assertThat(underTest.getEntityName()).isEqualTo(ENTITY_NAME);
+        softly.assertThat(underTest.getAction()).hasValue(TopicPath.Action.MODIFY);
+    }
+
     @Test
     public void parseNullStringThrowsNullPointerException() {
         assertThatNullPointerException()
@@ -13,7 +13,7 @@
 package org.eclipse.ditto.protocol;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mutabilitydetector.unittesting.AllowedReason.assumingFields;
+import static org.mutabilitydetector.unittesting.AllowedReason.provided;
 import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
 import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
 
@@ -51,7 +51,7 @@ public final class ReadJsonArrayHeadersFilterTest {
     public void assertImmutability() {
         assertInstancesOf(ReadJsonArrayHeadersFilter.class,
                 areImmutable(),
-                assumingFields("headerDefinitions").areSafelyCopiedUnmodifiableCollectionsWithImmutableElements());
+                provided(HeaderDefinitionLookup.class).isAlsoImmutable());
     }
 
     @Test
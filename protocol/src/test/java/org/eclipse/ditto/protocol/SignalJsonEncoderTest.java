@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.protocol;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mutabilitydetector.unittesting.AllowedReason.provided;
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+
+import org.assertj.core.api.JUnitSoftAssertions;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.base.model.signals.Signal;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.protocol.adapter.DittoProtocolAdapter;
+import org.eclipse.ditto.protocol.adapter.ProtocolAdapter;
+import org.eclipse.ditto.things.model.Thing;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.things.model.signals.commands.modify.CreateThingResponse;
+import org.eclipse.ditto.things.model.signals.commands.modify.DeleteThingResponse;
+import org.eclipse.ditto.things.model.signals.commands.modify.MergeThingResponse;
+import org.eclipse.ditto.things.model.signals.commands.modify.ModifyAttributeResponse;
+import org.eclipse.ditto.things.model.signals.commands.query.RetrieveAttributeResponse;
+import org.eclipse.ditto.things.model.signals.commands.query.RetrieveThing;
+import org.eclipse.ditto.things.model.signals.commands.query.RetrieveThingResponse;
+import org.eclipse.ditto.things.model.signals.events.AttributeDeleted;
+import org.eclipse.ditto.things.model.signals.events.AttributeModified;
+import org.eclipse.ditto.things.model.signals.events.FeaturePropertyModified;
+import org.eclipse.ditto.things.model.signals.events.ThingCreated;
+import org.eclipse.ditto.things.model.signals.events.ThingDeleted;
+import org.eclipse.ditto.things.model.signals.events.ThingMerged;
+import org.eclipse.ditto.things.model.signals.events.ThingModified;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link SignalJsonEncoder}.
+ */
+public final class SignalJsonEncoderTest {
+
+    private static final DittoProtocolAdapter PROTOCOL_ADAPTER = DittoProtocolAdapter.newInstance();
+
+    private static final ThingId THING_ID = ThingId.of("org.eclipse.ditto", "encoder-test");
+    private static final Thing THING = Thing.newBuilder()
+            .setId(THING_ID)
+            .setAttribute(JsonPointer.of("location/name"), JsonValue.of("kitchen \"north\""))
+            .setFeatureProperty("temperature", JsonPointer.of("value"), JsonValue.of(21.5))
+            .build();
+    private static final JsonPointer ATTRIBUTE_POINTER = JsonPointer.of("location/name");
+    private static final Instant TIMESTAMP = Instant.parse("2022-03-01T10:00:00.123Z");
+    private static final DittoHeaders TWIN_HEADERS = DittoHeaders.newBuilder()
+            .correlationId("encoder-test")
+            .putHeader("custom", "value")
+            .build();
+    private static final DittoHeaders LIVE_HEADERS = TWIN_HEADERS.toBuilder().channel("live").build();
+
+    private static final List<Signal<?>> DIRECTLY_WRITTEN_SIGNALS = Arrays.asList(
+            ThingCreated.of(THING, 1L, TIMESTAMP, TWIN_HEADERS, null),
+            ThingModified.of(THING, 2L, null, LIVE_HEADERS, null),
+            ThingDeleted.of(THING_ID, 3L, TIMESTAMP, TWIN_HEADERS, null),
+            AttributeModified.of(THING_ID, ATTRIBUTE_POINTER, JsonValue.of(42), 4L, TIMESTAMP, TWIN_HEADERS, null),
+            AttributeDeleted.of(THING_ID, ATTRIBUTE_POINTER, 5L, null, TWIN_HEADERS, null),
+            FeaturePropertyModified.of(THING_ID, "temperature", JsonPointer.of("value"), JsonValue.of(1), 6L,
+                    TIMESTAMP, LIVE_HEADERS, null),
+            CreateThingResponse.of(THING, TWIN_HEADERS),
+            ModifyAttributeResponse.created(THING_ID, ATTRIBUTE_POINTER, JsonValue.of(1), TWIN_HEADERS),
+            ModifyAttributeResponse.modified(THING_ID, ATTRIBUTE_POINTER, TWIN_HEADERS),
+            DeleteThingResponse.of(THING_ID, LIVE_HEADERS),
+            RetrieveThingResponse.of(THING_ID, THING, null, null, TWIN_HEADERS),
+            RetrieveAttributeResponse.of(THING_ID, ATTRIBUTE_POINTER, JsonValue.of("kitchen"), LIVE_HEADERS)
+    );
+
+    private static final List<Signal<?>> CONVERTED_SIGNALS = Arrays.asList(
+            ThingMerged.of(THING_ID, JsonPointer.of("attributes"), JsonObject.newBuilder().set("k", 1).build(), 7L,
+                    TIMESTAMP, TWIN_HEADERS, null),
+            MergeThingResponse.of(THING_ID, JsonPointer.of("attributes"), TWIN_HEADERS),
+            RetrieveThing.of(THING_ID, TWIN_HEADERS)
+    );
+
+    @Rule
+    public final JUnitSoftAssertions softly = new JUnitSoftAssertions();
+
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(SignalJsonEncoder.class, areImmutable(),
+                provided(ProtocolAdapter.class, HeaderTranslator.class).areAlsoImmutable());
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void tryToCreateInstanceWithNullProtocolAdapter() {
+        SignalJsonEncoder.of(null);
+    }
+
+    @Test
+    public void directlyWrittenSignalsAreEqualToJsonOfAdaptable() {
+        final SignalJsonEncoder underTest = SignalJsonEncoder.of(PROTOCOL_ADAPTER);
+
+        for (final Signal<?> signal : DIRECTLY_WRITTEN_SIGNALS) {
+            softly.assertThat(underTest.isWrittenDirectly(signal)).as(signal.getType()).isTrue();
+            softly.assertThat(underTest.toJsonString(signal)).as(signal.getType()).isEqualTo(toJsonOfAdaptable(signal));
+        }
+    }
+
+    @Test
+    public void convertedSignalsAreEqualToJsonOfAdaptable() {
+        final SignalJsonEncoder underTest = SignalJsonEncoder.of(PROTOCOL_ADAPTER);
+
+        for (final Signal<?> signal : CONVERTED_SIGNALS) {
+            softly.assertThat(underTest.isWrittenDirectly(signal)).as(signal.getType()).isFalse();
+            softly.assertThat(underTest.toJsonString(signal)).as(signal.getType()).isEqualTo(toJsonOfAdaptable(signal));
+        }
+    }
+
+    @Test
+    public void encodedSignalsCanBeParsedAgain() {
+        final SignalJsonEncoder underTest = SignalJsonEncoder.of(PROTOCOL_ADAPTER);
+
+        for (final Signal<?> signal : DIRECTLY_WRITTEN_SIGNALS) {
+            final JsonifiableAdaptable jsonifiableAdaptable =
+                    ProtocolFactory.jsonifiableAdaptableFromJson(JsonObject.of(underTest.toJsonString(signal)));
+
+            softly.assertThat(PROTOCOL_ADAPTER.fromAdaptable(jsonifiableAdaptable))
+                    .as(signal.getType())
+                    .isEqualTo(PROTOCOL_ADAPTER.fromAdaptable(PROTOCOL_ADAPTER.toAdaptable(signal)));
+        }
+    }
+
+    @Test
+    public void appendJsonStringAppendsToExistingContent() {
+        final Signal<?> signal = DIRECTLY_WRITTEN_SIGNALS.get(0);
+        final StringBuilder stringBuilder = new StringBuilder("[");
+
+        SignalJsonEncoder.of(PROTOCOL_ADAPTER).appendJsonString(signal, stringBuilder);
+
+        assertThat(stringBuilder.toString()).isEqualTo("[" + toJsonOfAdaptable(signal));
+    }
+
+    @Test
+    public void signalsOfOtherProtocolAdaptersAreNotWrittenDirectly() {
+        final SignalJsonEncoder underTest = SignalJsonEncoder.of(mock(ProtocolAdapter.class));
+
+        assertThat(underTest.isWrittenDirectly(DIRECTLY_WRITTEN_SIGNALS.get(0))).isFalse();
+    }
+
+    private static String toJsonOfAdaptable(final Signal<?> signal) {
+        return ProtocolFactory.wrapAsJsonifiableAdaptable(PROTOCOL_ADAPTER.toAdaptable(signal)).toJson().toString();
+    }
+
+}
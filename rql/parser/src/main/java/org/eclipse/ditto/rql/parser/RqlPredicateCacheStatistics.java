@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.rql.parser;
+
+import java.util.Collections;
+import java.util.Map;
+
+import org.eclipse.ditto.base.model.common.CacheStatistics;
+
+/**
+ * A snapshot of the statistics of the cache of parsed RQL predicates of {@link RqlPredicateParser}.
+ * The hits are the predicates which were answered from the cache, the misses those which had to be parsed.
+ *
+ * @since 2.5.0
+ */
+public interface RqlPredicateCacheStatistics extends CacheStatistics {
+
+    /**
+     * The name of the cache of parsed RQL predicates.
+     */
+    String NAME = "rql_predicate";
+
+    /**
+     * The name of the additional count of {@link #getFallbackParseCount() fallback parses}.
+     */
+    String FALLBACK_PARSES = "fallback_parses";
+
+    @Override
+    default String getName() {
+        return NAME;
+    }
+
+    /**
+     * Returns the number of predicates which could not be parsed by the fast path and were parsed by the
+     * parboiled based parser instead, including all invalid predicates.
+     *
+     * @return the fallback parse count.
+     */
+    long getFallbackParseCount();
+
+    @Override
+    default Map<String, Long> getAdditionalCounts() {
+        return Collections.singletonMap(FALLBACK_PARSES, getFallbackParseCount());
+    }
+
+}
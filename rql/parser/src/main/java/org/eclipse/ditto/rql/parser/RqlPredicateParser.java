@@ -12,17 +12,30 @@
  */
 package org.eclipse.ditto.rql.parser;
 
+import org.eclipse.ditto.base.model.common.CacheStatisticsRegistry;
 import org.eclipse.ditto.rql.model.predicates.PredicateParser;
 import org.eclipse.ditto.rql.model.predicates.ast.RootNode;
+import org.eclipse.ditto.rql.parser.internal.CachingRqlPredicateParser;
 import org.eclipse.ditto.rql.parser.internal.RqlPredicateParser$;
 
 /**
  * RQL Parser parsing predicates in the RQL "standard" according to https://github.com/persvr/rql.
+ * <p>
+ * Valid predicates are parsed by a hand-written single-pass parser and the resulting ASTs are cached, see
+ * {@link #getCacheStatistics()}, which are also registered at the
+ * {@link org.eclipse.ditto.base.model.common.CacheStatisticsRegistry}. Each call returns its own copy of the cached
+ * AST, so callers may modify it.
+ * </p>
  */
 public class RqlPredicateParser implements PredicateParser {
 
     private static final RqlPredicateParser INSTANCE = new RqlPredicateParser();
-    private static final PredicateParser PARSER = RqlPredicateParser$.MODULE$;
+    private static final CachingRqlPredicateParser PARSER =
+            CachingRqlPredicateParser.newInstance(RqlPredicateParser$.MODULE$);
+
+    static {
+        CacheStatisticsRegistry.register(RqlPredicateParser::getCacheStatistics);
+    }
 
     private RqlPredicateParser() {
         // private
@@ -37,6 +50,16 @@ public class RqlPredicateParser implements PredicateParser {
         return INSTANCE;
     }
 
+    /**
+     * Returns a snapshot of the statistics of the cache of parsed predicates.
+     *
+     * @return the statistics.
+     * @since 2.5.0
+     */
+    public static RqlPredicateCacheStatistics getCacheStatistics() {
+        return PARSER.getStatistics();
+    }
+
     @Override
     public RootNode parse(final String input) {
         return PARSER.parse(input);
@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.rql.parser.internal;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.base.model.common.GenerationalCache;
+import org.eclipse.ditto.rql.model.predicates.PredicateParser;
+import org.eclipse.ditto.rql.model.predicates.ast.LogicalNode;
+import org.eclipse.ditto.rql.model.predicates.ast.MultiComparisonNode;
+import org.eclipse.ditto.rql.model.predicates.ast.Node;
+import org.eclipse.ditto.rql.model.predicates.ast.RootNode;
+import org.eclipse.ditto.rql.model.predicates.ast.SuperNode;
+import org.eclipse.ditto.rql.parser.RqlPredicateCacheStatistics;
+
+/**
+ * Parses RQL predicates with the {@link FastRqlPredicateParser} and falls back to a delegate parser for all predicates
+ * the fast parser gives up on. The parsed predicates are kept in a bounded cache as the same filters are usually
+ * parsed over and over again, e.g. for each signal of a streaming session or each command with a condition.
+ * <p>
+ * The predicates are cached in a {@link GenerationalCache}; invalid predicates are not cached.
+ * As the nodes of the AST are mutable, each call returns a copy of the cached AST; only the comparison nodes with a
+ * single value and the exists nodes, which cannot be modified, are shared.
+ * </p>
+ * <p>
+ * The maximum size of the cache is determined by the system property {@value #MAX_SIZE_PROPERTY}.
+ * A value of {@code 0} disables the cache.
+ * If the property is not set or has an invalid value, {@value #DEFAULT_MAX_SIZE} is used.
+ * </p>
+ */
+@ThreadSafe
+public final class CachingRqlPredicateParser implements PredicateParser {
+
+    /**
+     * The system property which determines the maximum size of the cache.
+     */
+    static final String MAX_SIZE_PROPERTY = "ditto.rql.predicate-cache.max-size";
+
+    /**
+     * The maximum size of the cache if the system property is not set.
+     */
+    static final int DEFAULT_MAX_SIZE = 1024;
+
+    /**
+     * Predicates longer than this are never cached as they are most likely unique.
+     */
+    static final int MAX_INPUT_LENGTH = 4096;
+
+    private final PredicateParser fallbackParser;
+    private final GenerationalCache<String, RootNode> rootNodes;
+    private final LongAdder fallbackParseCount;
+
+    private CachingRqlPredicateParser(final PredicateParser fallbackParser, final int maxSize) {
+        this.fallbackParser = fallbackParser;
+        rootNodes = GenerationalCache.newInstance(maxSize);
+        fallbackParseCount = new LongAdder();
+    }
+
+    /**
+     * Returns a new instance of {@code CachingRqlPredicateParser} whose maximum cache size is determined by the
+     * system property {@value #MAX_SIZE_PROPERTY}.
+     *
+     * @param fallbackParser parses the predicates the fast parser gives up on and reports errors.
+     * @return the parser.
+     * @throws NullPointerException if {@code fallbackParser} is {@code null}.
+     */
+    public static CachingRqlPredicateParser newInstance(final PredicateParser fallbackParser) {
+        return newInstance(fallbackParser, GenerationalCache.getMaxSize(MAX_SIZE_PROPERTY, DEFAULT_MAX_SIZE));
+    }
+
+    static CachingRqlPredicateParser newInstance(final PredicateParser fallbackParser, final int maxSize) {
+        requireNonNull(fallbackParser, "The fallbackParser must not be null!");
+        return new CachingRqlPredicateParser(fallbackParser, maxSize);
+    }
+
+    @Override
+    public RootNode parse(final String input) {
+        requireNonNull(input, "The input must not be null!");
+        if (input.length() > MAX_INPUT_LENGTH) {
+            return parseUncached(input);
+        }
+        return copy(rootNodes.get(input, this::parseUncached));
+    }
+
+    private static RootNode copy(final RootNode rootNode) {
+        final RootNode result = new RootNode();
+        copyChildren(rootNode, result);
+        return result;
+    }
+
+    private static void copyChildren(final SuperNode source, final SuperNode target) {
+        final List<Node> targetChildren = target.getChildren();
+        for (final Node child : source.getChildren()) {
+            targetChildren.add(copy(child));
+        }
+    }
+
+    private static Node copy(final Node node) {
+        final Node result;
+        if (node instanceof LogicalNode) {
+            final LogicalNode logicalNode = (LogicalNode) node;
+            final LogicalNode logicalNodeCopy = new LogicalNode(logicalNode.getName());
+            copyChildren(logicalNode, logicalNodeCopy);
+            result = logicalNodeCopy;
+        } else if (node instanceof MultiComparisonNode) {
+            final MultiComparisonNode multiComparisonNode = (MultiComparisonNode) node;
+            result = new MultiComparisonNode(multiComparisonNode.getComparisonType(),
+                    multiComparisonNode.getComparisonProperty(),
+                    new ArrayList<>(multiComparisonNode.getComparisonValue()));
+        } else {
+            // single comparison and exists nodes are immutable
+            result = node;
+        }
+        return result;
+    }
+
+    private RootNode parseUncached(final String input) {
+        @Nullable final RootNode result = FastRqlPredicateParser.tryToParse(input);
+        if (null != result) {
+            return result;
+        }
+        fallbackParseCount.increment();
+        return fallbackParser.parse(input);
+    }
+
+    /**
+     * Returns a snapshot of the statistics of the cache.
+     *
+     * @return the statistics.
+     */
+    public RqlPredicateCacheStatistics getStatistics() {
+        return new Statistics(rootNodes.size(), rootNodes.getMaxSize(), rootNodes.getHitCount(),
+                rootNodes.getMissCount(), fallbackParseCount.sum());
+    }
+
+    @Immutable
+    private static final class Statistics implements RqlPredicateCacheStatistics {
+
+        private final int size;
+        private final int maxSize;
+        private final long hitCount;
+        private final long missCount;
+        private final long fallbackParseCount;
+
+        private Statistics(final int size, final int maxSize, final long hitCount, final long missCount,
+                final long fallbackParseCount) {
+
+            this.size = size;
+            this.maxSize = maxSize;
+            this.hitCount = hitCount;
+            this.missCount = missCount;
+            this.fallbackParseCount = fallbackParseCount;
+        }
+
+        @Override
+        public int getSize() {
+            return size;
+        }
+
+        @Override
+        public int getMaxSize() {
+            return maxSize;
+        }
+
+        @Override
+        public long getHitCount() {
+            return hitCount;
+        }
+
+        @Override
+        public long getMissCount() {
+            return missCount;
+        }
+
+        @Override
+        public long getFallbackParseCount() {
+            return fallbackParseCount;
+        }
+
+        @Override
+        public String toString() {
+            return getClass().getSimpleName() + " [" +
+                    "size=" + size +
+                    ", maxSize=" + maxSize +
+                    ", hitCount=" + hitCount +
+                    ", missCount=" + missCount +
+                    ", fallbackParseCount=" + fallbackParseCount +
+                    "]";
+        }
+
+    }
+
+}
@@ -0,0 +1,493 @@
+/*
+ * Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.rql.parser.internal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+import org.eclipse.ditto.rql.model.ParsedPlaceholder;
+import org.eclipse.ditto.rql.model.predicates.ast.ExistsNode;
+import org.eclipse.ditto.rql.model.predicates.ast.LogicalNode;
+import org.eclipse.ditto.rql.model.predicates.ast.MultiComparisonNode;
+import org.eclipse.ditto.rql.model.predicates.ast.Node;
+import org.eclipse.ditto.rql.model.predicates.ast.RootNode;
+import org.eclipse.ditto.rql.model.predicates.ast.SingleComparisonNode;
+
+/**
+ * Hand-written single-pass parser for RQL predicates which accepts the same grammar as the parboiled based
+ * {@code RqlPredicateParser} and creates the same AST, but without the overhead of the parser combinators.
+ * <p>
+ * The parser only answers the question how a valid predicate is parsed: whenever it encounters something it does
+ * not expect, e.g. a syntax error, a number exceeding the range of {@code long} or an unusually deep nesting, it gives
+ * up and returns {@code null}. The input then has to be parsed by the parboiled based parser which reports the error
+ * in the usual format.
+ * </p>
+ */
+@NotThreadSafe
+public final class FastRqlPredicateParser {
+
+    /**
+     * Maximum nesting depth of logical operations this parser handles; deeper predicates are left to the parboiled
+     * based parser.
+     */
+    static final int MAX_DEPTH = 32;
+
+    private static final Object NO_LITERAL = new Object();
+
+    private static final String TIME_PLACEHOLDER_PREFIX = "time:";
+
+    private final String input;
+    private final int length;
+    private final StringBuilder sb;
+    private int pos;
+
+    private FastRqlPredicateParser(final String input) {
+        this.input = input;
+        length = input.length();
+        sb = new StringBuilder();
+        pos = 0;
+    }
+
+    /**
+     * Parses the passed RQL predicate.
+     *
+     * @param input the predicate to parse.
+     * @return the AST of the predicate or {@code null} if the input has to be parsed by the parboiled based parser.
+     * @throws NullPointerException if {@code input} is {@code null}.
+     */
+    @Nullable
+    public static RootNode tryToParse(final String input) {
+        final FastRqlPredicateParser parser = new FastRqlPredicateParser(input);
+        parser.skipWhiteSpace();
+        @Nullable final Node node = parser.query(0);
+        if (null == node || parser.pos != parser.length) {
+            return null;
+        }
+        final RootNode rootNode = new RootNode();
+        rootNode.getChildren().add(node);
+        return rootNode;
+    }
+
+    @Nullable
+    private Node query(final int depth) {
+        if (depth > MAX_DEPTH || pos >= length) {
+            return null;
+        }
+        switch (input.charAt(pos)) {
+            case 'e':
+                if (consumeOperator("eq")) {
+                    return singleComparison(SingleComparisonNode.Type.EQ);
+                } else if (consumeOperator("exists")) {
+                    return exists();
+                }
+                return null;
+            case 'n':
+                if (consumeOperator("ne")) {
+                    return singleComparison(SingleComparisonNode.Type.NE);
+                } else if (consumeOperator("not")) {
+                    return not(depth);
+                }
+                return null;
+            case 'g':
+                if (consumeOperator("gt")) {
+                    return singleComparison(SingleComparisonNode.Type.GT);
+                } else if (consumeOperator("ge")) {
+                    return singleComparison(SingleComparisonNode.Type.GE);
+                }
+                return null;
+            case 'l':
+                if (consumeOperator("lt")) {
+                    return singleComparison(SingleComparisonNode.Type.LT);
+                } else if (consumeOperator("le")) {
+                    return singleComparison(SingleComparisonNode.Type.LE);
+                } else if (consumeOperator("like")) {
+                    return singleComparison(SingleComparisonNode.Type.LIKE);
+                }
+                return null;
+            case 'i':
+                if (consumeOperator("in")) {
+                    return multiComparison(MultiComparisonNode.Type.IN);
+                }
+                return null;
+            case 'a':
+                if (consumeOperator("and")) {
+                    return multiLogical(LogicalNode.Type.AND, depth);
+                }
+                return null;
+            case 'o':
+                if (consumeOperator("or")) {
+                    return multiLogical(LogicalNode.Type.OR, depth);
+                }
+                return null;
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * SingleComparisonOp = SingleComparisonName, '(', ComparisonProperty, ',', ComparisonValue, ')'
+     */
+    @Nullable
+    private Node singleComparison(final SingleComparisonNode.Type type) {
+        @Nullable final String property = property();
+        if (null == property || !consume(',')) {
+            return null;
+        }
+        @Nullable final Object value = literal();
+        if (NO_LITERAL == value || !consume(')')) {
+            return null;
+        }
+        return new SingleComparisonNode(type, property, value);
+    }
+
+    /**
+     * MultiComparisonOp = MultiComparisonName, '(', ComparisonProperty, ',', ComparisonValue, { ',', ComparisonValue },
+     * ')'
+     */
+    @Nullable
+    private Node multiComparison(final MultiComparisonNode.Type type) {
+        @Nullable final String property = property();
+        if (null == property || !consume(',')) {
+            return null;
+        }
+        final List<Object> values = new ArrayList<>();
+        do {
+            @Nullable final Object value = literal();
+            if (NO_LITERAL == value) {
+                return null;
+            }
+            values.add(value);
+        } while (consume(','));
+        if (!consume(')')) {
+            return null;
+        }
+        return new MultiComparisonNode(type, property, Collections.unmodifiableList(values));
+    }
+
+    /**
+     * MultiLogicalOp = MultiLogicalName, '(', Query, { ',', Query }, ')'
+     */
+    @Nullable
+    private Node multiLogical(final LogicalNode.Type type, final int depth) {
+        final List<Node> subQueries = new ArrayList<>();
+        do {
+            @Nullable final Node subQuery = query(depth + 1);
+            if (null == subQuery) {
+                return null;
+            }
+            subQueries.add(subQuery);
+        } while (consumeWithWhiteSpace(','));
+        if (!consume(')')) {
+            return null;
+        }
+        return new LogicalNode(type, subQueries);
+    }
+
+    /**
+     * SingleLogicalOp = SingleLogicalName, '(', Query, ')'
+     */
+    @Nullable
+    private Node not(final int depth) {
+        @Nullable final Node subQuery = query(depth + 1);
+        if (null == subQuery || !consume(')')) {
+            return null;
+        }
+        return new LogicalNode(LogicalNode.Type.NOT, subQuery);
+    }
+
+    /**
+     * ExistsOp = "exists" '(', ComparisonProperty, ')'
+     */
+    @Nullable
+    private Node exists() {
+        @Nullable final String property = property();
+        if (null == property || !consume(')')) {
+            return null;
+        }
+        return new ExistsNode(property);
+    }
+
+    /**
+     * PropertyLiteral = ? printable characters ?
+     */
+    @Nullable
+    private String property() {
+        sb.setLength(0);
+        if (!characters()) {
+            return null;
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Literal = DoubleLiteral | LongLiteral | StringLiteral | PlaceholderLiteral | "true" | "false" | "null"
+     *
+     * @return the value of the literal, which is {@code null} for the literal {@code null}, or {@link #NO_LITERAL}.
+     */
+    @Nullable
+    private Object literal() {
+        if (pos >= length) {
+            return NO_LITERAL;
+        }
+        @Nullable final Object result;
+        final char c = input.charAt(pos);
+        if ('"' == c || '\'' == c) {
+            result = stringLiteral(c);
+        } else if ('+' == c || '-' == c || isDigit(c)) {
+            result = numberLiteral();
+        } else if (input.startsWith(TIME_PLACEHOLDER_PREFIX, pos)) {
+            result = placeholderLiteral();
+        } else if (consumeKeyword("true")) {
+            result = Boolean.TRUE;
+        } else if (consumeKeyword("false")) {
+            result = Boolean.FALSE;
+        } else if (consumeKeyword("null")) {
+            result = null;
+        } else {
+            result = NO_LITERAL;
+        }
+        if (NO_LITERAL != result) {
+            skipWhiteSpace();
+        }
+        return result;
+    }
+
+    /**
+     * DoubleLiteral = [ '+' | '-' ], "0.", Digit, { Digit } | [ '+' | '-' ], DigitWithoutZero, { Digit }, '.', Digit,
+     * { Digit }
+     * LongLiteral = '0' | [ '+' | '-' ], DigitWithoutZero, { Digit }
+     */
+    private Object numberLiteral() {
+        final int start = pos;
+        int i = pos;
+        final char first = input.charAt(i);
+        if ('+' == first || '-' == first) {
+            i++;
+        }
+        if (i >= length || !isDigit(input.charAt(i))) {
+            return NO_LITERAL;
+        }
+        if ('0' != input.charAt(i) && i + 1 < length && isDigit(input.charAt(i + 1))) {
+            i = skipDigits(i + 1);
+        } else {
+            i++;
+        }
+        final Object result;
+        if (i + 1 < length && '.' == input.charAt(i) && isDigit(input.charAt(i + 1))) {
+            final int end = skipDigits(i + 1);
+            result = Double.valueOf(input.substring(start, end));
+            pos = end;
+        } else if (input.startsWith("-0", start)) {
+            result = NO_LITERAL;
+        } else {
+            result = parseLong(input.substring(start, i));
+            if (NO_LITERAL != result) {
+                pos = i;
+            }
+        }
+        return result;
+    }
+
+    private static Object parseLong(final String number) {
+        try {
+            return Long.valueOf(number);
+        } catch (final NumberFormatException e) {
+            // out of range: the parboiled based parser reports the error
+            return NO_LITERAL;
+        }
+    }
+
+    private int skipDigits(final int start) {
+        int i = start;
+        while (i < length && isDigit(input.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * StringLiteral = '"', ? printable characters ?, '"' | "'", ? printable characters ?, "'"
+     */
+    private Object stringLiteral(final char quote) {
+        pos++;
+        sb.setLength(0);
+        while (pos < length) {
+            final char c = input.charAt(pos);
+            if (quote == c) {
+                pos++;
+                return sb.toString();
+            } else if ('\\' == c) {
+                if (!escapedChar(quote)) {
+                    return NO_LITERAL;
+                }
+            } else {
+                sb.append(c);
+                pos++;
+            }
+        }
+        return NO_LITERAL;
+    }
+
+    /**
+     * PlaceholderLiteral = "time:", ? printable characters ?
+     */
+    private Object placeholderLiteral() {
+        final int start = pos;
+        pos += TIME_PLACEHOLDER_PREFIX.length();
+        sb.setLength(0);
+        if (!characters()) {
+            return NO_LITERAL;
+        }
+        try {
+            return ParsedPlaceholder.of(input.substring(start, pos));
+        } catch (final IllegalArgumentException e) {
+            // e.g. an empty placeholder name: the parboiled based parser reports the error
+            return NO_LITERAL;
+        }
+    }
+
+    /**
+     * Appends unquoted characters to {@link #sb} up to the next comma, closing parenthesis or quote.
+     *
+     * @return {@code false} if the characters contain an invalid escape sequence.
+     */
+    private boolean characters() {
+        while (pos < length) {
+            final char c = input.charAt(pos);
+            if (',' == c || ')' == c || '"' == c) {
+                return true;
+            } else if ('\\' == c) {
+                if (!escapedChar('"')) {
+                    return false;
+                }
+            } else {
+                sb.append(c);
+                pos++;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Appends the escape sequence starting with the backslash at the current position to {@link #sb}.
+     *
+     * @param quote the quote which may be escaped.
+     * @return {@code false} if the escape sequence is invalid.
+     */
+    private boolean escapedChar(final char quote) {
+        if (pos + 1 >= length) {
+            return false;
+        }
+        final char c = input.charAt(pos + 1);
+        final char unescaped;
+        int escapeLength = 2;
+        switch (c) {
+            case '\\':
+            case '/':
+                unescaped = c;
+                break;
+            case 'b':
+                unescaped = '\b';
+                break;
+            case 'f':
+                unescaped = '\f';
+                break;
+            case 'n':
+                unescaped = '\n';
+                break;
+            case 'r':
+                unescaped = '\r';
+                break;
+            case 't':
+                unescaped = '\t';
+                break;
+            case 'u':
+                if (pos + 6 > length || !isHexDigits(pos + 2, pos + 6)) {
+                    return false;
+                }
+                unescaped = (char) Integer.parseInt(input.substring(pos + 2, pos + 6), 16);
+                escapeLength = 6;
+                break;
+            default:
+                if (quote != c) {
+                    return false;
+                }
+                unescaped = c;
+        }
+        sb.append(unescaped);
+        pos += escapeLength;
+        return true;
+    }
+
+    private boolean isHexDigits(final int start, final int end) {
+        for (int i = start; i < end; i++) {
+            final char c = input.charAt(i);
+            if (!isDigit(c) && !('A' <= c && c <= 'F') && !('a' <= c && c <= 'f')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean consumeOperator(final String name) {
+        final int parenthesisPos = pos + name.length();
+        if (parenthesisPos < length && '(' == input.charAt(parenthesisPos) && input.startsWith(name, pos)) {
+            pos = parenthesisPos + 1;
+            return true;
+        }
+        return false;
+    }
+
+    private boolean consumeKeyword(final String keyword) {
+        if (input.startsWith(keyword, pos)) {
+            pos += keyword.length();
+            return true;
+        }
+        return false;
+    }
+
+    private boolean consume(final char c) {
+        if (pos < length && c == input.charAt(pos)) {
+            pos++;
+            return true;
+        }
+        return false;
+    }
+
+    private boolean consumeWithWhiteSpace(final char c) {
+        if (consume(c)) {
+            skipWhiteSpace();
+            return true;
+        }
+        return false;
+    }
+
+    private void skipWhiteSpace() {
+        while (pos < length && isWhiteSpace(input.charAt(pos))) {
+            pos++;
+        }
+    }
+
+    private static boolean isWhiteSpace(final char c) {
+        return ' ' == c || '\n' == c || '\r' == c || '\t' == c || '\f' == c;
+    }
+
+    private static boolean isDigit(final char c) {
+        return '0' <= c && c <= '9';
+    }
+
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.rql.parser.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.rql.model.predicates.PredicateParser;
+import org.eclipse.ditto.rql.model.predicates.ast.RootNode;
+import org.eclipse.ditto.rql.parser.RqlPredicateParser;
+import org.eclipse.ditto.rql.parser.internal.FastRqlPredicateParser;
+import org.eclipse.ditto.rql.parser.internal.RqlPredicateParser$;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH Benchmark for parsing RQL predicates with the parboiled based parser, the hand-written fast parser and the
+ * caching {@link RqlPredicateParser}.
+ */
+@State(Scope.Benchmark)
+public class RqlPredicateParserBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 10;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+    private static final int WARMUP_TIME = 1000;
+    private static final int MEASUREMENT_TIME = 1000;
+
+    private static final PredicateParser PARBOILED_PARSER = RqlPredicateParser$.MODULE$;
+
+    @Param({
+            "eq(attributes/location,\"kitchen\")",
+            "and(eq(attributes/manufacturer,\"ACME\"),gt(features/temperature/properties/value,21.5)," +
+                    "or(exists(features/alarm),in(attributes/type,\"sensor\",\"actuator\",'gateway')))"
+    })
+    public String predicate;
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public RootNode parseWithParboiledParser() {
+        return PARBOILED_PARSER.parse(predicate);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public RootNode parseWithFastParser() {
+        return FastRqlPredicateParser.tryToParse(predicate);
+    }
+
+    /**
+     * Parses the same predicate again and again, i.e. all but the first invocation are answered from the cache.
+     */
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public RootNode parseWithCachingParser() {
+        return RqlPredicateParser.getInstance().parse(predicate);
+    }
+
+}
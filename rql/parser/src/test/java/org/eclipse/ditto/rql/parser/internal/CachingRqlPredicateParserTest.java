@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.rql.parser.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.entry;
+
+import org.eclipse.ditto.rql.model.ParserException;
+import org.eclipse.ditto.rql.model.predicates.PredicateParser;
+import org.eclipse.ditto.rql.model.predicates.ast.ExistsNode;
+import org.eclipse.ditto.rql.model.predicates.ast.LogicalNode;
+import org.eclipse.ditto.rql.model.predicates.ast.MultiComparisonNode;
+import org.eclipse.ditto.rql.model.predicates.ast.RootNode;
+import org.eclipse.ditto.rql.parser.RqlPredicateCacheStatistics;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link CachingRqlPredicateParser}.
+ */
+public final class CachingRqlPredicateParserTest {
+
+    private static final PredicateParser PARBOILED_PARSER = RqlPredicateParser$.MODULE$;
+
+    @Test
+    public void returnsCopyOfCachedRootNode() {
+        final CachingRqlPredicateParser underTest = CachingRqlPredicateParser.newInstance(PARBOILED_PARSER, 16);
+
+        final RootNode first = underTest.parse("eq(attributes/location,\"kitchen\")");
+        final RootNode second = underTest.parse("eq(attributes/location,\"kitchen\")");
+
+        assertThat(second).isEqualTo(first).isNotSameAs(first);
+        final RqlPredicateCacheStatistics statistics = underTest.getStatistics();
+        assertThat(statistics.getHitCount()).isEqualTo(1L);
+        assertThat(statistics.getMissCount()).isEqualTo(1L);
+        assertThat(statistics.getFallbackParseCount()).isZero();
+        assertThat(statistics.getSize()).isEqualTo(1);
+    }
+
+    @Test
+    public void modifyingReturnedRootNodeDoesNotAffectCache() {
+        final String predicate = "and(in(attributes/location,\"kitchen\",\"hall\"),exists(features/lamp))";
+        final CachingRqlPredicateParser underTest = CachingRqlPredicateParser.newInstance(PARBOILED_PARSER, 16);
+        final RootNode expected = PARBOILED_PARSER.parse(predicate);
+
+        final RootNode first = underTest.parse(predicate);
+        final LogicalNode and = (LogicalNode) first.getChildren().get(0);
+        ((MultiComparisonNode) and.getChildren().get(0)).addValue("cellar");
+        and.getChildren().remove(1);
+        first.getChildren().add(new ExistsNode("thingId"));
+
+        assertThat(underTest.parse(predicate)).isEqualTo(expected);
+        assertThat(underTest.getStatistics().getHitCount()).isEqualTo(1L);
+    }
+
+    @Test
+    public void invalidPredicatesAreReportedByFallbackParserAndNotCached() {
+        final CachingRqlPredicateParser underTest = CachingRqlPredicateParser.newInstance(PARBOILED_PARSER, 16);
+
+        assertThatExceptionOfType(ParserException.class).isThrownBy(() -> underTest.parse("eq(username,test)"));
+        assertThatExceptionOfType(ParserException.class).isThrownBy(() -> underTest.parse("eq(username,test)"));
+
+        final RqlPredicateCacheStatistics statistics = underTest.getStatistics();
+        assertThat(statistics.getMissCount()).isEqualTo(2L);
+        assertThat(statistics.getFallbackParseCount()).isEqualTo(2L);
+        assertThat(statistics.getAdditionalCounts())
+                .containsExactly(entry(RqlPredicateCacheStatistics.FALLBACK_PARSES, 2L));
+        assertThat(statistics.getSize()).isZero();
+    }
+
+    @Test
+    public void frequentlyUsedPredicatesSurviveRotation() {
+        final CachingRqlPredicateParser underTest = CachingRqlPredicateParser.newInstance(PARBOILED_PARSER, 4);
+        underTest.parse("exists(frequent)");
+
+        for (int i = 0; i < 10; i++) {
+            underTest.parse("eq(attributes/counter," + i + ")");
+            underTest.parse("exists(frequent)");
+        }
+        final RqlPredicateCacheStatistics statistics = underTest.getStatistics();
+        assertThat(statistics.getHitCount()).isEqualTo(10L);
+        assertThat(statistics.getSize()).isLessThanOrEqualTo(4);
+    }
+
+    @Test
+    public void disabledCacheParsesEachTime() {
+        final CachingRqlPredicateParser underTest = CachingRqlPredicateParser.newInstance(PARBOILED_PARSER, 0);
+
+        final RootNode first = underTest.parse("exists(a)");
+        final RootNode second = underTest.parse("exists(a)");
+
+        assertThat(second).isEqualTo(first).isNotSameAs(first);
+        assertThat(underTest.getStatistics().getHitCount()).isZero();
+    }
+
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.rql.parser.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.ditto.rql.model.ParserException;
+import org.eclipse.ditto.rql.model.predicates.PredicateParser;
+import org.eclipse.ditto.rql.model.predicates.ast.RootNode;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link FastRqlPredicateParser}.
+ */
+public final class FastRqlPredicateParserTest {
+
+    private static final PredicateParser PARBOILED_PARSER = RqlPredicateParser$.MODULE$;
+
+    private static final List<String> VALID_PREDICATES = Arrays.asList(
+            "eq(username,123)",
+            "  eq(username,123)",
+            "eq(username,123  )",
+            "ne(attributes/location,\"kitchen\")",
+            "gt(features/temperature/properties/value,-12.5)",
+            "ge(width,+7)",
+            "lt(width,0)",
+            "le(width,0.25)",
+            "like(thingId,\"org.eclipse.ditto:*\")",
+            "like(thingId,'org.eclipse.ditto:*')",
+            "eq(username,\"te\\\"st\")",
+            "eq(username,'te\\'st')",
+            "eq(username,\"a\\\\b\\/c\\b\\f\\n\\r\\t\\u00e4\")",
+            "eq(user\\/name,1)",
+            "eq(,1)",
+            "eq(username,\"\")",
+            "eq(username,true)",
+            "eq(username,false)",
+            "eq(username,null)",
+            "in(attributes/type,\"a\",1,2.5,true,null,'b')",
+            "exists(features/scanner)",
+            "exists(topic:action)",
+            "lt(_modified,time:now)",
+            "not(eq(username,123))",
+            "and(eq(username,123),eq(coolness,\"super\"),or(eq(username,854)))",
+            "or(eq(a,1), \n\tne(b,2),exists(c))"
+    );
+
+    private static final List<String> INVALID_PREDICATES = Arrays.asList(
+            "",
+            "eq(username,123) ",
+            "eq (username,123)",
+            "eq/(username,\"test\")",
+            "eq(username;\"test\")",
+            "like(width,123*)",
+            "not(eq(username,123),eq(coolness,\"super\"))",
+            "and(eq(username, 123), )",
+            "and( eq(username,123))",
+            "in(username, 1)",
+            "eq(username,-0)",
+            "eq(username,0123)",
+            "eq(username,1.)",
+            "eq(username,12356143287134097863590813406135981332472031847)",
+            "eq(username,\"test)",
+            "eq(username,\"\\x\")",
+            "eq(username,'\\u12')",
+            "eq(username,test)",
+            "eq(username,time:)",
+            "eaq(username,123)",
+            "exists(a,b)",
+            "eq(user\\,name,1)"
+    );
+
+    @Test
+    public void parsesValidPredicatesLikeParboiledParser() {
+        for (final String predicate : VALID_PREDICATES) {
+            final RootNode expected = PARBOILED_PARSER.parse(predicate);
+
+            final RootNode actual = FastRqlPredicateParser.tryToParse(predicate);
+
+            assertThat(actual).as("Parsing '%s'", predicate).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    public void parsesNumbersWithTheSameTypes() {
+        final RootNode actual = FastRqlPredicateParser.tryToParse("in(a,1,1.0,-9223372036854775808)");
+
+        assertThat(actual).isEqualTo(PARBOILED_PARSER.parse("in(a,1,1.0,-9223372036854775808)"));
+        assertThat(actual.toString()).contains("[1, 1.0, -9223372036854775808]");
+    }
+
+    @Test
+    public void givesUpOnInvalidPredicates() {
+        for (final String predicate : INVALID_PREDICATES) {
+            assertThatExceptionOfType(ParserException.class)
+                    .as("Parsing '%s' with the parboiled parser", predicate)
+                    .isThrownBy(() -> PARBOILED_PARSER.parse(predicate));
+
+            assertThat(FastRqlPredicateParser.tryToParse(predicate)).as("Parsing '%s'", predicate).isNull();
+        }
+    }
+
+    @Test
+    public void givesUpOnDeeplyNestedPredicates() {
+        final int depth = FastRqlPredicateParser.MAX_DEPTH + 1;
+        final String predicate = String.join("", Collections.nCopies(depth, "not(")) + "exists(a)" +
+                String.join("", Collections.nCopies(depth, ")"));
+
+        assertThat(FastRqlPredicateParser.tryToParse(predicate)).isNull();
+        assertThat(PARBOILED_PARSER.parse(predicate)).isNotNull();
+    }
+
+}
@@ -0,0 +1,587 @@
+/*
+ * Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.rql.query.things;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.placeholders.Expression;
+import org.eclipse.ditto.placeholders.Placeholder;
+import org.eclipse.ditto.rql.model.ParsedPlaceholder;
+import org.eclipse.ditto.rql.query.criteria.Criteria;
+import org.eclipse.ditto.rql.query.criteria.visitors.CriteriaVisitor;
+import org.eclipse.ditto.rql.query.criteria.visitors.PredicateVisitor;
+import org.eclipse.ditto.rql.query.expression.ExistsFieldExpression;
+import org.eclipse.ditto.rql.query.expression.FilterFieldExpression;
+import org.eclipse.ditto.rql.query.expression.visitors.ExistsFieldExpressionVisitor;
+import org.eclipse.ditto.things.model.Thing;
+
+/**
+ * RQL criteria compiled once into a reusable filter of {@link Thing}s.
+ * <p>
+ * In contrast to the predicates created by {@link ThingPredicateVisitor}, the placeholders are not bound to their
+ * sources when the criteria are compiled. Instead, the sources are passed to each evaluation in the order of the
+ * placeholders passed to {@link #compile(Criteria, List)}. This way the criteria of a long living filter, e.g. the one
+ * of a streaming session, only have to be compiled once instead of for each filtered signal.
+ * </p>
+ * <p>
+ * Evaluating the compiled criteria yields the same result as evaluating the predicate created by
+ * {@link ThingPredicateVisitor#apply(Criteria, org.eclipse.ditto.placeholders.PlaceholderResolver[])} with
+ * placeholder resolvers for the same placeholders and sources.
+ * </p>
+ *
+ * @since 2.5.0
+ */
+@Immutable
+public final class CompiledThingPredicate {
+
+    private final Node root;
+    private final List<Placeholder<?>> placeholders;
+    private final boolean[] usedPlaceholders;
+
+    private CompiledThingPredicate(final Node root, final List<Placeholder<?>> placeholders,
+            final boolean[] usedPlaceholders) {
+
+        this.root = root;
+        this.placeholders = placeholders;
+        this.usedPlaceholders = usedPlaceholders;
+    }
+
+    /**
+     * Compiles the passed {@code criteria}.
+     *
+     * @param criteria the RQL criteria to compile.
+     * @param placeholders the placeholders whose sources are passed to {@link #test(Thing, Object...)} in the same
+     * order.
+     * @return the compiled criteria.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public static CompiledThingPredicate compile(final Criteria criteria,
+            final List<? extends Placeholder<?>> placeholders) {
+
+        requireNonNull(criteria, "criteria");
+        final List<Placeholder<?>> placeholderList =
+                Collections.unmodifiableList(new ArrayList<>(requireNonNull(placeholders, "placeholders")));
+        final Compiler compiler = new Compiler(placeholderList);
+        final Node root = criteria.accept(compiler);
+        return new CompiledThingPredicate(root, placeholderList, compiler.usedPlaceholders);
+    }
+
+    /**
+     * Compiles the passed {@code criteria}.
+     *
+     * @param criteria the RQL criteria to compile.
+     * @param placeholders the placeholders whose sources are passed to {@link #test(Thing, Object...)} in the same
+     * order.
+     * @return the compiled criteria.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public static CompiledThingPredicate compile(final Criteria criteria, final Placeholder<?>... placeholders) {
+        return compile(criteria, Arrays.asList(requireNonNull(placeholders, "placeholders")));
+    }
+
+    /**
+     * Indicates whether the compiled criteria reference the passed placeholder, i.e. whether its source has to be
+     * provided for evaluating them.
+     * Sources of placeholders which are not used may be passed as {@code null}.
+     *
+     * @param placeholder the placeholder to check.
+     * @return {@code true} if the criteria reference the placeholder, {@code false} else.
+     */
+    public boolean usesPlaceholder(final Placeholder<?> placeholder) {
+        final int index = placeholders.indexOf(placeholder);
+        return 0 <= index && usedPlaceholders[index];
+    }
+
+    /**
+     * Evaluates the compiled criteria for the passed Thing.
+     *
+     * @param thing the Thing to test.
+     * @param placeholderSources the sources of the placeholders in the order they were passed when compiling the
+     * criteria; a {@code null} or missing source resolves to nothing.
+     * @return {@code true} if the Thing matches the criteria, {@code false} else.
+     * @throws NullPointerException if {@code thing} is {@code null}.
+     */
+    public boolean test(final Thing thing, final Object... placeholderSources) {
+        return root.test(new Evaluation(requireNonNull(thing, "thing"), placeholderSources));
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "placeholders=" + placeholders +
+                "]";
+    }
+
+    /**
+     * State of a single evaluation which is shared by all nodes of the compiled criteria.
+     */
+    @NotThreadSafe
+    private static final class Evaluation {
+
+        private final Thing thing;
+        private final Object[] placeholderSources;
+        @Nullable private JsonObject thingJson;
+
+        private Evaluation(final Thing thing, final Object[] placeholderSources) {
+            this.thing = thing;
+            this.placeholderSources = placeholderSources;
+            thingJson = null;
+        }
+
+        private JsonObject getThingJson() {
+            JsonObject result = thingJson;
+            if (null == result) {
+                result = thing.toJson(field -> true);
+                thingJson = result;
+            }
+            return result;
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private Optional<String> resolve(final PlaceholderReference placeholderReference) {
+            for (final int index : placeholderReference.placeholderIndices) {
+                @Nullable final Object source = index < placeholderSources.length ? placeholderSources[index] : null;
+                if (null != source) {
+                    final Placeholder placeholder = placeholderReference.placeholders[index];
+                    final Optional<String> resolved = placeholder.resolve(source, placeholderReference.name);
+                    if (resolved.isPresent()) {
+                        return resolved;
+                    }
+                }
+            }
+            return Optional.empty();
+        }
+
+    }
+
+    /**
+     * A node of the compiled criteria.
+     */
+    @FunctionalInterface
+    private interface Node {
+
+        boolean test(Evaluation evaluation);
+
+    }
+
+    /**
+     * A placeholder name with the indices of all placeholders which support it, in the order of precedence.
+     */
+    @Immutable
+    private static final class PlaceholderReference {
+
+        private final Placeholder<?>[] placeholders;
+        private final int[] placeholderIndices;
+        private final String name;
+
+        private PlaceholderReference(final Placeholder<?>[] placeholders, final int[] placeholderIndices,
+                final String name) {
+
+            this.placeholders = placeholders;
+            this.placeholderIndices = placeholderIndices;
+            this.name = name;
+        }
+
+    }
+
+    /**
+     * The value a field is compared with: either a constant or a placeholder which is resolved per evaluation.
+     */
+    @Immutable
+    private static final class ComparedValue {
+
+        @Nullable private final Object constant;
+        @Nullable private final PlaceholderReference placeholderReference;
+
+        private ComparedValue(@Nullable final Object constant,
+                @Nullable final PlaceholderReference placeholderReference) {
+
+            this.constant = constant;
+            this.placeholderReference = placeholderReference;
+        }
+
+        @Nullable
+        private Object resolve(final Evaluation evaluation) {
+            if (null != placeholderReference) {
+                return evaluation.resolve(placeholderReference).orElse(null);
+            }
+            return constant;
+        }
+
+    }
+
+    /**
+     * Accesses a field of the evaluated Thing, falling back to resolving the field name as placeholder.
+     */
+    @Immutable
+    private static final class FieldAccessor {
+
+        private final JsonPointer pointer;
+        @Nullable private final PlaceholderReference placeholderReference;
+
+        private FieldAccessor(final JsonPointer pointer, @Nullable final PlaceholderReference placeholderReference) {
+            this.pointer = pointer;
+            this.placeholderReference = placeholderReference;
+        }
+
+        @Nullable
+        private JsonValue get(final Evaluation evaluation) {
+            final Optional<JsonValue> thingValue = evaluation.getThingJson().getValue(pointer);
+            if (thingValue.isPresent()) {
+                return thingValue.get();
+            }
+            if (null != placeholderReference) {
+                return evaluation.resolve(placeholderReference).map(JsonValue::of).orElse(null);
+            }
+            return null;
+        }
+
+        @Nullable
+        private Object getAsJava(final Evaluation evaluation) {
+            @Nullable final JsonValue jsonValue = get(evaluation);
+            if (null == jsonValue) {
+                return null;
+            }
+            return ThingPredicatePredicateVisitor.mapJsonValueToJava(jsonValue).orElse(null);
+        }
+
+    }
+
+    @NotThreadSafe
+    private static final class Compiler implements CriteriaVisitor<Node> {
+
+        private static final Node[] EMPTY_NODES = new Node[0];
+
+        private final Placeholder<?>[] placeholders;
+        private final boolean[] usedPlaceholders;
+
+        private Compiler(final List<Placeholder<?>> placeholders) {
+            this.placeholders = placeholders.toArray(new Placeholder<?>[0]);
+            usedPlaceholders = new boolean[this.placeholders.length];
+        }
+
+        @Override
+        public Node visitAnd(final List<Node> conjuncts) {
+            final Node[] nodes = conjuncts.toArray(EMPTY_NODES);
+            return evaluation -> {
+                for (final Node node : nodes) {
+                    if (!node.test(evaluation)) {
+                        return false;
+                    }
+                }
+                return true;
+            };
+        }
+
+        @Override
+        public Node visitAny() {
+            return evaluation -> true;
+        }
+
+        @Override
+        public Node visitExists(final ExistsFieldExpression fieldExpression) {
+            return fieldExpression.acceptExistsVisitor(new ExistsCompiler(this));
+        }
+
+        @Override
+        public Node visitField(final FilterFieldExpression fieldExpression,
+                final org.eclipse.ditto.rql.query.criteria.Predicate predicate) {
+
+            final String fieldName = FilterThingPredicateVisitor.getFieldName(fieldExpression);
+            final FieldAccessor fieldAccessor =
+                    new FieldAccessor(JsonPointer.of(fieldName), getPlaceholderReference(fieldName));
+            return predicate.accept(new PredicateCompiler(this, fieldAccessor));
+        }
+
+        @Override
+        public Node visitNor(final List<Node> negativeDisjoints) {
+            final Node[] nodes = negativeDisjoints.toArray(EMPTY_NODES);
+            return evaluation -> {
+                for (final Node node : nodes) {
+                    if (node.test(evaluation)) {
+                        return false;
+                    }
+                }
+                return true;
+            };
+        }
+
+        @Override
+        public Node visitOr(final List<Node> disjoints) {
+            final Node[] nodes = disjoints.toArray(EMPTY_NODES);
+            return evaluation -> {
+                for (final Node node : nodes) {
+                    if (node.test(evaluation)) {
+                        return true;
+                    }
+                }
+                return false;
+            };
+        }
+
+        /*
+         * Returns the reference of a field name of the form "prefix:name" or null if no placeholder supports it.
+         */
+        @Nullable
+        private PlaceholderReference getPlaceholderReference(final String fieldName) {
+            final String[] fieldNameSplit = fieldName.split(Expression.SEPARATOR, 2);
+            if (fieldNameSplit.length > 1) {
+                return getPlaceholderReference(fieldNameSplit[0], fieldNameSplit[1]);
+            }
+            return null;
+        }
+
+        @Nullable
+        private PlaceholderReference getPlaceholderReference(final String prefix, final String name) {
+            final int[] indices = new int[placeholders.length];
+            int count = 0;
+            for (int i = 0; i < placeholders.length; i++) {
+                if (prefix.equals(placeholders[i].getPrefix()) && placeholders[i].supports(name)) {
+                    indices[count++] = i;
+                    usedPlaceholders[i] = true;
+                }
+            }
+            if (0 == count) {
+                return null;
+            }
+            return new PlaceholderReference(placeholders, Arrays.copyOf(indices, count), name);
+        }
+
+        private ComparedValue getComparedValue(@Nullable final Object value) {
+            if (value instanceof ParsedPlaceholder) {
+                final ParsedPlaceholder parsedPlaceholder = (ParsedPlaceholder) value;
+                @Nullable final PlaceholderReference placeholderReference =
+                        getPlaceholderReference(parsedPlaceholder.getPrefix(), parsedPlaceholder.getName());
+                // an unsupported placeholder resolves to null just like an unresolvable one
+                return new ComparedValue(null, null != placeholderReference ? placeholderReference :
+                        new PlaceholderReference(placeholders, new int[0], parsedPlaceholder.getName()));
+            }
+            return new ComparedValue(value, null);
+        }
+
+    }
+
+    /**
+     * Compiles the RQL predicates of a single field mirroring the semantics of {@link ThingPredicatePredicateVisitor}.
+     */
+    @NotThreadSafe
+    private static final class PredicateCompiler implements PredicateVisitor<Node> {
+
+        private final Compiler compiler;
+        private final FieldAccessor field;
+
+        private PredicateCompiler(final Compiler compiler, final FieldAccessor field) {
+            this.compiler = compiler;
+            this.field = field;
+        }
+
+        @Override
+        public Node visitEq(@Nullable final Object value) {
+            final ComparedValue comparedValue = compiler.getComparedValue(value);
+            return evaluation -> isEqual(field.getAsJava(evaluation), comparedValue.resolve(evaluation));
+        }
+
+        @Override
+        public Node visitNe(@Nullable final Object value) {
+            final ComparedValue comparedValue = compiler.getComparedValue(value);
+            return evaluation -> !isEqual(field.getAsJava(evaluation), comparedValue.resolve(evaluation));
+        }
+
+        @Override
+        public Node visitGe(@Nullable final Object value) {
+            final ComparedValue comparedValue = compiler.getComparedValue(value);
+            return evaluation -> {
+                final Integer comparison = compare(field.getAsJava(evaluation), comparedValue.resolve(evaluation));
+                return null != comparison && comparison >= 0;
+            };
+        }
+
+        @Override
+        public Node visitGt(@Nullable final Object value) {
+            final ComparedValue comparedValue = compiler.getComparedValue(value);
+            return evaluation -> {
+                final Integer comparison = compare(field.getAsJava(evaluation), comparedValue.resolve(evaluation));
+                return null != comparison && comparison > 0;
+            };
+        }
+
+        @Override
+        public Node visitLe(@Nullable final Object value) {
+            final ComparedValue comparedValue = compiler.getComparedValue(value);
+            return evaluation -> {
+                final Integer comparison = compare(field.getAsJava(evaluation), comparedValue.resolve(evaluation));
+                return null != comparison && comparison <= 0;
+            };
+        }
+
+        @Override
+        public Node visitLt(@Nullable final Object value) {
+            final ComparedValue comparedValue = compiler.getComparedValue(value);
+            return evaluation -> {
+                final Integer comparison = compare(field.getAsJava(evaluation), comparedValue.resolve(evaluation));
+                return null != comparison && comparison < 0;
+            };
+        }
+
+        @Override
+        public Node visitLike(@Nullable final String value) {
+            if (null == value) {
+                return evaluation -> false;
+            }
+            @Nullable final Pattern pattern = compilePattern(value);
+            return evaluation -> {
+                @Nullable final JsonValue jsonValue = field.get(evaluation);
+                if (null == jsonValue || !jsonValue.isString()) {
+                    return false;
+                }
+                // an invalid pattern fails on evaluation just like for ThingPredicatePredicateVisitor
+                final Pattern patternToMatch = null != pattern ? pattern : Pattern.compile(value);
+                return patternToMatch.matcher(jsonValue.asString()).matches();
+            };
+        }
+
+        @Override
+        public Node visitIn(final List<?> values) {
+            final ComparedValue[] comparedValues = new ComparedValue[values.size()];
+            for (int i = 0; i < comparedValues.length; i++) {
+                comparedValues[i] = compiler.getComparedValue(values.get(i));
+            }
+            return evaluation -> {
+                @Nullable final Object fieldValue = field.getAsJava(evaluation);
+                if (!(fieldValue instanceof Comparable)) {
+                    return false;
+                }
+                for (final ComparedValue comparedValue : comparedValues) {
+                    if (0 == ThingPredicatePredicateVisitor.compare((Comparable<?>) comparedValue.resolve(evaluation),
+                            (Comparable<?>) fieldValue)) {
+                        return true;
+                    }
+                }
+                return false;
+            };
+        }
+
+        private static boolean isEqual(@Nullable final Object fieldValue, @Nullable final Object value) {
+            if (null == fieldValue) {
+                return false;
+            }
+            // special NULL handling
+            if (ThingPredicatePredicateVisitor.NULL_LITERAL == fieldValue && null == value) {
+                return true;
+            }
+            final Integer comparison = compare(fieldValue, value);
+            return null != comparison && 0 == comparison;
+        }
+
+        @Nullable
+        private static Integer compare(@Nullable final Object fieldValue, @Nullable final Object value) {
+            if (fieldValue instanceof Comparable && value instanceof Comparable) {
+                return ThingPredicatePredicateVisitor.compare((Comparable<?>) value, (Comparable<?>) fieldValue);
+            }
+            return null;
+        }
+
+        @Nullable
+        private static Pattern compilePattern(final String value) {
+            try {
+                return Pattern.compile(value);
+            } catch (final PatternSyntaxException e) {
+                return null;
+            }
+        }
+
+    }
+
+    /**
+     * Compiles "exists" expressions mirroring the semantics of {@link ExistsThingPredicateVisitor}.
+     */
+    @NotThreadSafe
+    private static final class ExistsCompiler implements ExistsFieldExpressionVisitor<Node> {
+
+        private final Compiler compiler;
+        private final ExistsThingPredicateVisitor thingPredicateVisitor;
+
+        private ExistsCompiler(final Compiler compiler) {
+            this.compiler = compiler;
+            thingPredicateVisitor = new ExistsThingPredicateVisitor();
+        }
+
+        @Override
+        public Node visitAttribute(final String key) {
+            return ofThingPredicate(thingPredicateVisitor.visitAttribute(key));
+        }
+
+        @Override
+        public Node visitFeature(final String featureId) {
+            return ofThingPredicate(thingPredicateVisitor.visitFeature(featureId));
+        }
+
+        @Override
+        public Node visitFeatureProperties(final CharSequence featureId) {
+            return ofThingPredicate(thingPredicateVisitor.visitFeatureProperties(featureId));
+        }
+
+        @Override
+        public Node visitFeatureDesiredProperties(final CharSequence featureId) {
+            return ofThingPredicate(thingPredicateVisitor.visitFeatureDesiredProperties(featureId));
+        }
+
+        @Override
+        public Node visitFeatureIdProperty(final String featureId, final String property) {
+            return ofThingPredicate(thingPredicateVisitor.visitFeatureIdProperty(featureId, property));
+        }
+
+        @Override
+        public Node visitFeatureIdDesiredProperty(final CharSequence featureId, final CharSequence property) {
+            return ofThingPredicate(thingPredicateVisitor.visitFeatureIdDesiredProperty(featureId, property));
+        }
+
+        @Override
+        public Node visitSimple(final String fieldName) {
+            final Predicate<Thing> thingPredicate = thingPredicateVisitor.visitSimple(fieldName);
+            @Nullable final PlaceholderReference placeholderReference = compiler.getPlaceholderReference(fieldName);
+            if (null == placeholderReference) {
+                return ofThingPredicate(thingPredicate);
+            }
+            return evaluation -> thingPredicate.test(evaluation.thing) ||
+                    evaluation.resolve(placeholderReference).isPresent();
+        }
+
+        @Override
+        public Node visitMetadata(final String key) {
+            return ofThingPredicate(thingPredicateVisitor.visitMetadata(key));
+        }
+
+        private static Node ofThingPredicate(final Predicate<Thing> thingPredicate) {
+            return evaluation -> thingPredicate.test(evaluation.thing);
+        }
+
+    }
+
+}
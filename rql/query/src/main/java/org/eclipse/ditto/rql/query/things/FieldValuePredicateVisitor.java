@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.rql.query.things;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.placeholders.Expression;
+import org.eclipse.ditto.placeholders.PlaceholderResolver;
+import org.eclipse.ditto.rql.model.ParsedPlaceholder;
+import org.eclipse.ditto.rql.query.criteria.visitors.PredicateVisitor;
+
+/**
+ * A Java {@link Predicate} based PredicateVisitor for evaluating whether the field values of arbitrary sources or
+ * additionally added {@code PlaceholderResolver}s match a given filter.
+ * <p>
+ * The field values are obtained by a function of the source and the field name. This way a filter can be evaluated
+ * against any pointer-addressable representation of a Thing, e.g. a view of a thing event, with the same semantics
+ * as {@link ThingPredicatePredicateVisitor} has for {@code Thing}s.
+ * </p>
+ *
+ * @param <T> the type of the sources of the field values.
+ * @since 2.5.0
+ */
+public final class FieldValuePredicateVisitor<T> implements PredicateVisitor<Function<String, Predicate<T>>> {
+
+    private final BiFunction<? super T, String, Optional<JsonValue>> fieldValueGetter;
+    private final List<PlaceholderResolver<?>> additionalPlaceholderResolvers;
+
+    private FieldValuePredicateVisitor(final BiFunction<? super T, String, Optional<JsonValue>> fieldValueGetter,
+            final Collection<PlaceholderResolver<?>> additionalPlaceholderResolvers) {
+
+        this.fieldValueGetter = fieldValueGetter;
+        this.additionalPlaceholderResolvers = Collections.unmodifiableList(
+                new ArrayList<>(additionalPlaceholderResolvers));
+    }
+
+    /**
+     * Creates a new instance of {@code FieldValuePredicateVisitor}.
+     *
+     * @param fieldValueGetter returns the value of the field with the given name of the given source.
+     * @param additionalPlaceholderResolvers the additional {@code PlaceholderResolver} to use for resolving
+     * placeholders in RQL predicates and field names which are not found in the source.
+     * @param <T> the type of the sources of the field values.
+     * @return the created instance.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public static <T> FieldValuePredicateVisitor<T> of(
+            final BiFunction<? super T, String, Optional<JsonValue>> fieldValueGetter,
+            final Collection<PlaceholderResolver<?>> additionalPlaceholderResolvers) {
+
+        return new FieldValuePredicateVisitor<>(requireNonNull(fieldValueGetter, "fieldValueGetter"),
+                requireNonNull(additionalPlaceholderResolvers, "additionalPlaceholderResolvers"));
+    }
+
+    @Override
+    public Function<String, Predicate<T>> visitEq(@Nullable final Object value) {
+        @Nullable final Object resolvedValue = resolveValue(value);
+        return fieldName ->
+                source -> getField(fieldName, source)
+                        .flatMap(ThingPredicatePredicateVisitor::mapJsonValueToJava)
+                        .filter(obj -> isEqual(obj, resolvedValue))
+                        .isPresent();
+    }
+
+    @Override
+    public Function<String, Predicate<T>> visitNe(@Nullable final Object value) {
+        @Nullable final Object resolvedValue = resolveValue(value);
+        return fieldName ->
+                source -> !getField(fieldName, source)
+                        .flatMap(ThingPredicatePredicateVisitor::mapJsonValueToJava)
+                        .filter(obj -> isEqual(obj, resolvedValue))
+                        .isPresent();
+    }
+
+    @Override
+    public Function<String, Predicate<T>> visitGe(@Nullable final Object value) {
+        @Nullable final Object resolvedValue = resolveValue(value);
+        return fieldName ->
+                source -> getField(fieldName, source)
+                        .flatMap(ThingPredicatePredicateVisitor::mapJsonValueToJava)
+                        .filter(obj -> obj instanceof Comparable && resolvedValue instanceof Comparable)
+                        .map(Comparable.class::cast)
+                        .filter(obj -> ThingPredicatePredicateVisitor.compare((Comparable<?>) resolvedValue, obj) >= 0)
+                        .isPresent();
+    }
+
+    @Override
+    public Function<String, Predicate<T>> visitGt(@Nullable final Object value) {
+        @Nullable final Object resolvedValue = resolveValue(value);
+        return fieldName ->
+                source -> getField(fieldName, source)
+                        .flatMap(ThingPredicatePredicateVisitor::mapJsonValueToJava)
+                        .filter(obj -> obj instanceof Comparable && resolvedValue instanceof Comparable)
+                        .map(Comparable.class::cast)
+                        .filter(obj -> ThingPredicatePredicateVisitor.compare((Comparable<?>) resolvedValue, obj) > 0)
+                        .isPresent();
+    }
+
+    @Override
+    public Function<String, Predicate<T>> visitLe(@Nullable final Object value) {
+        @Nullable final Object resolvedValue = resolveValue(value);
+        return fieldName ->
+                source -> getField(fieldName, source)
+                        .flatMap(ThingPredicatePredicateVisitor::mapJsonValueToJava)
+                        .filter(obj -> obj instanceof Comparable && resolvedValue instanceof Comparable)
+                        .map(Comparable.class::cast)
+                        .filter(obj -> ThingPredicatePredicateVisitor.compare((Comparable<?>) resolvedValue, obj) <= 0)
+                        .isPresent();
+    }
+
+    @Override
+    public Function<String, Predicate<T>> visitLt(@Nullable final Object value) {
+        @Nullable final Object resolvedValue = resolveValue(value);
+        return fieldName ->
+                source -> getField(fieldName, source)
+                        .flatMap(ThingPredicatePredicateVisitor::mapJsonValueToJava)
+                        .filter(obj -> obj instanceof Comparable && resolvedValue instanceof Comparable)
+                        .map(Comparable.class::cast)
+                        .filter(obj -> ThingPredicatePredicateVisitor.compare((Comparable<?>) resolvedValue, obj) < 0)
+                        .isPresent();
+    }
+
+    @Override
+    public Function<String, Predicate<T>> visitIn(final List<?> values) {
+        return fieldName ->
+                source -> getField(fieldName, source)
+                        .flatMap(ThingPredicatePredicateVisitor::mapJsonValueToJava)
+                        .filter(Comparable.class::isInstance)
+                        .map(Comparable.class::cast)
+                        .filter(obj -> values.stream().map(this::resolveValue)
+                                .anyMatch(v -> ThingPredicatePredicateVisitor.compare((Comparable<?>) v, obj) == 0))
+                        .isPresent();
+    }
+
+    @Override
+    public Function<String, Predicate<T>> visitLike(@Nullable final String value) {
+        return fieldName ->
+                source -> getField(fieldName, source)
+                        .filter(JsonValue::isString)
+                        .map(JsonValue::asString)
+                        .filter(str -> null != value && Pattern.compile(value).matcher(str).matches())
+                        .isPresent();
+    }
+
+    private static boolean isEqual(final Object obj, @Nullable final Object resolvedValue) {
+        // special NULL handling
+        if (ThingPredicatePredicateVisitor.NULL_LITERAL == obj && null == resolvedValue) {
+            return true;
+        } else if (obj instanceof Comparable && resolvedValue instanceof Comparable) {
+            return ThingPredicatePredicateVisitor.compare((Comparable<?>) resolvedValue, (Comparable<?>) obj) == 0;
+        }
+        return false;
+    }
+
+    @Nullable
+    private Object resolveValue(@Nullable final Object value) {
+        if (value instanceof ParsedPlaceholder) {
+            final String prefix = ((ParsedPlaceholder) value).getPrefix();
+            final String name = ((ParsedPlaceholder) value).getName();
+            return additionalPlaceholderResolvers.stream()
+                    .filter(pr -> prefix.equals(pr.getPrefix()))
+                    .filter(pr -> pr.supports(name))
+                    .map(pr -> pr.resolve(name))
+                    .filter(Optional::isPresent)
+                    .map(Optional::get)
+                    .findFirst()
+                    .orElse(null);
+        }
+        return value;
+    }
+
+    private Optional<JsonValue> getField(final String fieldName, final T source) {
+        final Optional<JsonValue> sourceValue = fieldValueGetter.apply(source, fieldName); // first, try the source
+        if (sourceValue.isPresent()) {
+            return sourceValue;
+        }
+        // if that returns nothing, try resolving using the placeholder resolvers:
+        final String[] fieldNameSplit = fieldName.split(Expression.SEPARATOR, 2);
+        if (fieldNameSplit.length > 1) {
+            final String placeholderPrefix = fieldNameSplit[0];
+            final String placeholderName = fieldNameSplit[1];
+            return additionalPlaceholderResolvers.stream()
+                    .filter(pr -> placeholderPrefix.equals(pr.getPrefix()))
+                    .filter(pr -> pr.supports(placeholderName))
+                    .map(pr -> pr.resolve(placeholderName))
+                    .filter(Optional::isPresent)
+                    .map(Optional::get)
+                    .map(JsonValue::of)
+                    .findFirst();
+        }
+        return Optional.empty();
+    }
+
+}
@@ -24,6 +24,8 @@ import org.eclipse.ditto.things.model.Thing;
  */
 public final class FilterThingPredicateVisitor implements FilterFieldExpressionVisitor<Predicate<Thing>> {
 
+    private static final FieldNameVisitor FIELD_NAME_VISITOR = new FieldNameVisitor();
+
     private final Function<String, Predicate<Thing>> predicateFunction;
 
     private FilterThingPredicateVisitor(final Function<String, Predicate<Thing>> predicateFunction) {
@@ -36,31 +38,71 @@ public final class FilterThingPredicateVisitor implements FilterFieldExpressionV
         return expression.acceptFilterVisitor(new FilterThingPredicateVisitor(predicateFunction));
     }
 
+    /**
+     * Returns the name of the field whose value is passed to the predicate function for the given expression.
+     *
+     * @param expression the expression.
+     * @return the field name.
+     * @since 2.5.0
+     */
+    public static String getFieldName(final FilterFieldExpression expression) {
+        return expression.acceptFilterVisitor(FIELD_NAME_VISITOR);
+    }
+
     @Override
     public Predicate<Thing> visitAttribute(final String key) {
-        return predicateFunction.apply("/attributes/" + key);
+        return predicateFunction.apply(FIELD_NAME_VISITOR.visitAttribute(key));
     }
 
     @Override
     public Predicate<Thing> visitFeatureIdProperty(final String featureId, final String property) {
-        return predicateFunction.apply("/features/" + featureId + "/properties/" + property);
+        return predicateFunction.apply(FIELD_NAME_VISITOR.visitFeatureIdProperty(featureId, property));
     }
 
     @Override
     public Predicate<Thing> visitFeatureIdDesiredProperty(final CharSequence featureId,
             final CharSequence desiredProperty) {
 
-        return predicateFunction.apply("/features/" + featureId + "/desiredProperties/" + desiredProperty);
+        return predicateFunction.apply(FIELD_NAME_VISITOR.visitFeatureIdDesiredProperty(featureId, desiredProperty));
     }
 
     @Override
     public Predicate<Thing> visitSimple(final String fieldName) {
-        return predicateFunction.apply(fieldName);
+        return predicateFunction.apply(FIELD_NAME_VISITOR.visitSimple(fieldName));
     }
 
     @Override
     public Predicate<Thing> visitMetadata(final String key) {
-        return predicateFunction.apply("_metadata/" + key);
+        return predicateFunction.apply(FIELD_NAME_VISITOR.visitMetadata(key));
+    }
+
+    private static final class FieldNameVisitor implements FilterFieldExpressionVisitor<String> {
+
+        @Override
+        public String visitAttribute(final String key) {
+            return "/attributes/" + key;
+        }
+
+        @Override
+        public String visitFeatureIdProperty(final String featureId, final String property) {
+            return "/features/" + featureId + "/properties/" + property;
+        }
+
+        @Override
+        public String visitFeatureIdDesiredProperty(final CharSequence featureId, final CharSequence desiredProperty) {
+            return "/features/" + featureId + "/desiredProperties/" + desiredProperty;
+        }
+
+        @Override
+        public String visitSimple(final String fieldName) {
+            return fieldName;
+        }
+
+        @Override
+        public String visitMetadata(final String key) {
+            return "_metadata/" + key;
+        }
+
     }
 
 }
@@ -13,7 +13,6 @@
 package org.eclipse.ditto.rql.query.things;
 
 import java.math.BigDecimal;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -21,14 +20,11 @@ import java.util.List;
 import java.util.Optional;
 import java.util.function.Function;
 import java.util.function.Predicate;
-import java.util.regex.Pattern;
 
 import javax.annotation.Nullable;
 
 import org.eclipse.ditto.json.JsonValue;
-import org.eclipse.ditto.placeholders.Expression;
 import org.eclipse.ditto.placeholders.PlaceholderResolver;
-import org.eclipse.ditto.rql.model.ParsedPlaceholder;
 import org.eclipse.ditto.rql.query.criteria.visitors.PredicateVisitor;
 import org.eclipse.ditto.things.model.Thing;
 
@@ -38,15 +34,15 @@ import org.eclipse.ditto.things.model.Thing;
  */
 public final class ThingPredicatePredicateVisitor implements PredicateVisitor<Function<String, Predicate<Thing>>> {
 
-    private static final Object NULL_LITERAL = new Object();
+    static final Object NULL_LITERAL = new Object();
 
     private static ThingPredicatePredicateVisitor instance;
 
-    private final List<PlaceholderResolver<?>> additionalPlaceholderResolvers;
+    private final FieldValuePredicateVisitor<Thing> fieldValuePredicateVisitor;
 
     private ThingPredicatePredicateVisitor(final Collection<PlaceholderResolver<?>> additionalPlaceholderResolvers) {
-        this.additionalPlaceholderResolvers = Collections.unmodifiableList(
-                new ArrayList<>(additionalPlaceholderResolvers));
+        fieldValuePredicateVisitor = FieldValuePredicateVisitor.of(ThingPredicatePredicateVisitor::getThingField,
+                additionalPlaceholderResolvers);
     }
 
     /**
@@ -102,90 +98,36 @@ public final class ThingPredicatePredicateVisitor implements PredicateVisitor<Fu
 
     @Override
     public Function<String, Predicate<Thing>> visitEq(@Nullable final Object value) {
-        @Nullable final Object resolvedValue = resolveValue(value);
-        return fieldName ->
-                thing -> getThingField(fieldName, thing)
-                        .flatMap(ThingPredicatePredicateVisitor::mapJsonValueToJava)
-                        .filter(obj -> {
-                            // special NULL handling
-                            if (NULL_LITERAL == obj && null == resolvedValue) {
-                                return true;
-                            } else if (obj instanceof Comparable && resolvedValue instanceof Comparable) {
-                                return compare((Comparable<?>) resolvedValue, (Comparable<?>) obj) == 0;
-                            }
-                            return false;
-                        })
-                        .isPresent();
+        return fieldValuePredicateVisitor.visitEq(value);
     }
 
     @Override
     public Function<String, Predicate<Thing>> visitNe(@Nullable final Object value) {
-        @Nullable final Object resolvedValue = resolveValue(value);
-        return fieldName ->
-                thing -> !getThingField(fieldName, thing)
-                        .flatMap(ThingPredicatePredicateVisitor::mapJsonValueToJava)
-                        .filter(obj -> {
-                            // special NULL handling
-                            if (NULL_LITERAL == obj && null == resolvedValue) {
-                                return true;
-                            } else if (obj instanceof Comparable && resolvedValue instanceof Comparable) {
-                                return compare((Comparable<?>) resolvedValue, (Comparable<?>) obj) == 0;
-                            }
-                            return false;
-                        })
-                        .isPresent();
+        return fieldValuePredicateVisitor.visitNe(value);
     }
 
     @Override
     public Function<String, Predicate<Thing>> visitGe(@Nullable final Object value) {
-        @Nullable final Object resolvedValue = resolveValue(value);
-        return fieldName ->
-                thing -> getThingField(fieldName, thing)
-                        .flatMap(ThingPredicatePredicateVisitor::mapJsonValueToJava)
-                        .filter(obj -> obj instanceof Comparable && resolvedValue instanceof Comparable)
-                        .map(Comparable.class::cast)
-                        .filter(obj -> compare((Comparable<?>) resolvedValue, obj) >= 0)
-                        .isPresent();
+        return fieldValuePredicateVisitor.visitGe(value);
     }
 
     @Override
     public Function<String, Predicate<Thing>> visitGt(@Nullable final Object value) {
-        @Nullable final Object resolvedValue = resolveValue(value);
-        return fieldName ->
-                thing -> getThingField(fieldName, thing)
-                        .flatMap(ThingPredicatePredicateVisitor::mapJsonValueToJava)
-                        .filter(obj -> obj instanceof Comparable && resolvedValue instanceof Comparable)
-                        .map(Comparable.class::cast)
-                        .filter(obj -> compare((Comparable<?>) resolvedValue, obj) > 0)
-                        .isPresent();
+        return fieldValuePredicateVisitor.visitGt(value);
     }
 
     @Override
     public Function<String, Predicate<Thing>> visitLe(@Nullable final Object value) {
-        @Nullable final Object resolvedValue = resolveValue(value);
-        return fieldName ->
-                thing -> getThingField(fieldName, thing)
-                        .flatMap(ThingPredicatePredicateVisitor::mapJsonValueToJava)
-                        .filter(obj -> obj instanceof Comparable && resolvedValue instanceof Comparable)
-                        .map(Comparable.class::cast)
-                        .filter(obj -> compare((Comparable<?>) resolvedValue, obj) <= 0)
-                        .isPresent();
+        return fieldValuePredicateVisitor.visitLe(value);
     }
 
     @Override
     public Function<String, Predicate<Thing>> visitLt(@Nullable final Object value) {
-        @Nullable final Object resolvedValue = resolveValue(value);
-        return fieldName ->
-                thing -> getThingField(fieldName, thing)
-                        .flatMap(ThingPredicatePredicateVisitor::mapJsonValueToJava)
-                        .filter(obj -> obj instanceof Comparable && resolvedValue instanceof Comparable)
-                        .map(Comparable.class::cast)
-                        .filter(obj -> compare((Comparable<?>) resolvedValue, obj) < 0)
-                        .isPresent();
+        return fieldValuePredicateVisitor.visitLt(value);
     }
 
     @SuppressWarnings({"rawtypes", "java:S3740"})
-    private static int compare(final Comparable value, final Comparable obj) {
+    static int compare(final Comparable value, final Comparable obj) {
         final Comparable comparableObj = asNumber(obj);
         final Comparable comparableValue = asNumber(value);
         // best effort try to convert both values to a BigDecimal in order to compare them:
@@ -221,69 +163,19 @@ public final class ThingPredicatePredicateVisitor implements PredicateVisitor<Fu
 
     @Override
     public Function<String, Predicate<Thing>> visitIn(final List<?> values) {
-        return fieldName ->
-                thing -> getThingField(fieldName, thing)
-                        .flatMap(ThingPredicatePredicateVisitor::mapJsonValueToJava)
-                        .filter(Comparable.class::isInstance)
-                        .map(Comparable.class::cast)
-                        .filter(obj -> values.stream().map(this::resolveValue)
-                                .anyMatch(v -> compare((Comparable<?>) v, obj) == 0))
-                        .isPresent();
+        return fieldValuePredicateVisitor.visitIn(values);
     }
 
     @Override
     public Function<String, Predicate<Thing>> visitLike(@Nullable final String value) {
-        return fieldName ->
-                thing -> getThingField(fieldName, thing)
-                        .filter(JsonValue::isString)
-                        .map(JsonValue::asString)
-                        .filter(str -> null != value && Pattern.compile(value).matcher(str).matches())
-                        .isPresent();
+        return fieldValuePredicateVisitor.visitLike(value);
     }
 
-    @Nullable
-    private Object resolveValue(@Nullable final Object value) {
-        if (value instanceof ParsedPlaceholder) {
-            final String prefix = ((ParsedPlaceholder) value).getPrefix();
-            final String name = ((ParsedPlaceholder) value).getName();
-            return additionalPlaceholderResolvers.stream()
-                    .filter(pr -> prefix.equals(pr.getPrefix()))
-                    .filter(pr -> pr.supports(name))
-                    .map(pr -> pr.resolve(name))
-                    .filter(Optional::isPresent)
-                    .map(Optional::get)
-                    .findFirst()
-                    .orElse(null);
-        }
-        return value;
-    }
-
-    private Optional<JsonValue> getThingField(final CharSequence fieldName, final Thing thing) {
-        return Optional.ofNullable(
-                thing.toJson(p -> true)
-                        .getValue(fieldName) // first, try resolving via the thing
-                        .orElseGet(() -> {// if that returns nothing, try resolving using the placeholder resolvers:
-                            final String[] fieldNameSplit = fieldName.toString().split(Expression.SEPARATOR, 2);
-                            if (fieldNameSplit.length > 1) {
-                                final String placeholderPrefix = fieldNameSplit[0];
-                                final String placeholderName = fieldNameSplit[1];
-                                return additionalPlaceholderResolvers.stream()
-                                        .filter(pr -> placeholderPrefix.equals(pr.getPrefix()))
-                                        .filter(pr -> pr.supports(placeholderName))
-                                        .map(pr -> pr.resolve(placeholderName))
-                                        .filter(Optional::isPresent)
-                                        .map(Optional::get)
-                                        .map(JsonValue::of)
-                                        .findFirst()
-                                        .orElse(null);
-                            } else {
-                                return null;
-                            }
-                        })
-        );
+    private static Optional<JsonValue> getThingField(final Thing thing, final String fieldName) {
+        return thing.toJson(p -> true).getValue(fieldName);
     }
 
-    private static Optional<Object> mapJsonValueToJava(final JsonValue jsonValue) {
+    static Optional<Object> mapJsonValueToJava(final JsonValue jsonValue) {
         final Optional<Object> result;
 
         if (jsonValue.isString()) {
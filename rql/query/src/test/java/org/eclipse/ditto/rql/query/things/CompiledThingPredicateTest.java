@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.rql.query.things;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.placeholders.PlaceholderFactory;
+import org.eclipse.ditto.placeholders.TimePlaceholder;
+import org.eclipse.ditto.rql.parser.RqlPredicateParser;
+import org.eclipse.ditto.rql.query.criteria.Criteria;
+import org.eclipse.ditto.rql.query.filter.QueryFilterCriteriaFactory;
+import org.eclipse.ditto.things.model.Thing;
+import org.eclipse.ditto.things.model.ThingId;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link CompiledThingPredicate}.
+ */
+public final class CompiledThingPredicateTest {
+
+    private static final ThingPredicateTestPlaceholder TEST_PLACEHOLDER = new ThingPredicateTestPlaceholder();
+    private static final TimePlaceholder TIME_PLACEHOLDER = TimePlaceholder.getInstance();
+
+    private static final QueryFilterCriteriaFactory CRITERIA_FACTORY =
+            QueryFilterCriteriaFactory.modelBased(RqlPredicateParser.getInstance(), TEST_PLACEHOLDER,
+                    TIME_PLACEHOLDER);
+
+    private static final Thing THING = Thing.newBuilder()
+            .setId(ThingId.of("org.eclipse.ditto", "compiled"))
+            .setAttribute(JsonPointer.of("anInteger"), JsonValue.of(42))
+            .setAttribute(JsonPointer.of("aString"), JsonValue.of("LoreM"))
+            .setAttribute(JsonPointer.of("aNull"), JsonValue.nullLiteral())
+            .setFeatureProperty("foo", JsonPointer.of("aDouble"), JsonValue.of(22.26))
+            .build();
+
+    private static final List<String> FILTERS = Arrays.asList(
+            "eq(attributes/anInteger,42)",
+            "ne(attributes/anInteger,42)",
+            "gt(attributes/anInteger,\"41\")",
+            "le(features/foo/properties/aDouble,22.26)",
+            "lt(attributes/aString,\"M\")",
+            "eq(attributes/aNull,null)",
+            "ne(attributes/missing,null)",
+            "in(attributes/aString,\"foo\",\"LoreM\")",
+            "like(attributes/aString,\"Lo*\")",
+            "like(thingId,\"*compiled\")",
+            "exists(attributes/anInteger)",
+            "exists(features/foo/properties)",
+            "exists(features/bar)",
+            "eq(test:upper,\"LOREM\")",
+            "eq(test:lower,\"lorem\")",
+            "exists(test:upper)",
+            "lt(_modified,time:now)",
+            "and(eq(attributes/anInteger,42),like(attributes/aString,\"*M\"))",
+            "and(eq(attributes/anInteger,42),exists(features/bar))",
+            "or(eq(attributes/anInteger,1),eq(attributes/aString,\"LoreM\"))",
+            "or(eq(attributes/anInteger,1),exists(features/bar))",
+            "not(eq(attributes/anInteger,42))",
+            "not(or(exists(features/bar),eq(attributes/aNull,1)))"
+    );
+
+    @Test
+    public void evaluatesLikeThingPredicateVisitor() {
+        for (final String filter : FILTERS) {
+            final Criteria criteria = CRITERIA_FACTORY.filterCriteria(filter, DittoHeaders.empty());
+            final boolean expected = ThingPredicateVisitor.apply(criteria,
+                            PlaceholderFactory.newPlaceholderResolver(TEST_PLACEHOLDER, "LoreM"),
+                            PlaceholderFactory.newPlaceholderResolver(TIME_PLACEHOLDER, new Object()))
+                    .test(THING);
+
+            final CompiledThingPredicate underTest =
+                    CompiledThingPredicate.compile(criteria, TEST_PLACEHOLDER, TIME_PLACEHOLDER);
+
+            assertThat(underTest.test(THING, "LoreM", new Object()))
+                    .as("Filtering '%s' should be %s", filter, expected)
+                    .isEqualTo(expected);
+        }
+    }
+
+    @Test
+    public void placeholderSourcesArePassedPerEvaluation() {
+        final Criteria criteria = CRITERIA_FACTORY.filterCriteria("eq(test:upper,\"LOREM\")", DittoHeaders.empty());
+
+        final CompiledThingPredicate underTest = CompiledThingPredicate.compile(criteria, TEST_PLACEHOLDER);
+
+        assertThat(underTest.test(THING, "lorem")).isTrue();
+        assertThat(underTest.test(THING, "ipsum")).isFalse();
+        assertThat(underTest.test(THING, (Object) null)).isFalse();
+        assertThat(underTest.test(THING)).isFalse();
+    }
+
+    @Test
+    public void usesOnlyReferencedPlaceholders() {
+        final Criteria criteria = CRITERIA_FACTORY.filterCriteria("eq(test:lower,\"lorem\")", DittoHeaders.empty());
+
+        final CompiledThingPredicate underTest =
+                CompiledThingPredicate.compile(criteria, TEST_PLACEHOLDER, TIME_PLACEHOLDER);
+
+        assertThat(underTest.usesPlaceholder(TEST_PLACEHOLDER)).isTrue();
+        assertThat(underTest.usesPlaceholder(TIME_PLACEHOLDER)).isFalse();
+    }
+
+}
@@ -25,6 +25,7 @@ import org.eclipse.ditto.json.JsonField;
 import org.eclipse.ditto.json.JsonFieldDefinition;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonSerializationMode;
 import org.eclipse.ditto.json.JsonValue;
 
 /**
@@ -162,6 +163,11 @@ final class ImmutableAttributesBuilder implements AttributesBuilder {
         return ImmutableAttributes.of(attributesJsonObject);
     }
 
+    @Override
+    public Attributes build(final JsonSerializationMode serializationMode) {
+        return ImmutableAttributes.of(jsonObjectBuilder.build(serializationMode));
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
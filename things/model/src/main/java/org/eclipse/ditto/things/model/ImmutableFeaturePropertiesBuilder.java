@@ -25,6 +25,7 @@ import org.eclipse.ditto.json.JsonField;
 import org.eclipse.ditto.json.JsonFieldDefinition;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonSerializationMode;
 import org.eclipse.ditto.json.JsonValue;
 
 
@@ -157,6 +158,11 @@ final class ImmutableFeaturePropertiesBuilder implements FeaturePropertiesBuilde
         return ImmutableFeatureProperties.of(featurePropertiesJsonObject);
     }
 
+    @Override
+    public FeatureProperties build(final JsonSerializationMode serializationMode) {
+        return ImmutableFeatureProperties.of(jsonObjectBuilder.build(serializationMode));
+    }
+
     @Override
     public boolean isEmpty() {
         return jsonObjectBuilder.isEmpty();
@@ -13,7 +13,9 @@
 package org.eclipse.ditto.things.service.persistence.actors.strategies.commands;
 
 import java.time.Instant;
+import java.util.LinkedHashSet;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Supplier;
 
 import javax.annotation.Nullable;
@@ -26,11 +28,20 @@ import org.eclipse.ditto.base.model.headers.entitytag.EntityTag;
 import org.eclipse.ditto.base.model.json.FieldType;
 import org.eclipse.ditto.internal.utils.persistentactors.results.Result;
 import org.eclipse.ditto.internal.utils.persistentactors.results.ResultFactory;
+import org.eclipse.ditto.json.JsonKey;
 import org.eclipse.ditto.json.JsonMergePatch;
+import org.eclipse.ditto.json.JsonMergePatchResult;
 import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
 import org.eclipse.ditto.json.JsonPointer;
 import org.eclipse.ditto.json.JsonRuntimeException;
+import org.eclipse.ditto.json.JsonSerializationMode;
 import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.things.model.Attributes;
+import org.eclipse.ditto.things.model.Feature;
+import org.eclipse.ditto.things.model.FeatureDefinition;
+import org.eclipse.ditto.things.model.FeatureProperties;
+import org.eclipse.ditto.things.model.Features;
 import org.eclipse.ditto.things.model.Thing;
 import org.eclipse.ditto.things.model.ThingId;
 import org.eclipse.ditto.things.model.ThingsModelFactory;
@@ -51,6 +62,15 @@ final class MergeThingStrategy extends AbstractThingCommandStrategy<MergeThing>
     private static final ThingResourceMapper<Thing, Optional<EntityTag>> ENTITY_TAG_MAPPER =
             ThingResourceMapper.from(EntityTagCalculator.getInstance());
 
+    private static final JsonKey ATTRIBUTES_KEY = Thing.JsonFields.ATTRIBUTES.getPointer().getRoot().orElseThrow();
+    private static final JsonKey FEATURES_KEY = Thing.JsonFields.FEATURES.getPointer().getRoot().orElseThrow();
+    private static final JsonKey DEFINITION_KEY = Feature.JsonFields.DEFINITION.getPointer().getRoot().orElseThrow();
+    private static final JsonKey PROPERTIES_KEY = Feature.JsonFields.PROPERTIES.getPointer().getRoot().orElseThrow();
+    private static final JsonKey DESIRED_PROPERTIES_KEY =
+            Feature.JsonFields.DESIRED_PROPERTIES.getPointer().getRoot().orElseThrow();
+    private static final long NUM_ENCLOSING_BRACES = 2L;
+    private static final long MAX_CHAR_ESCAPE_SEQUENCE_LENGTH = 6L; // "\u1234"
+
     /**
      * Constructs a new {@code MergeThingStrategy} object.
      */
@@ -108,23 +128,193 @@ final class MergeThingStrategy extends AbstractThingCommandStrategy<MergeThing>
 
     private Thing mergeThing(final Context<ThingId> context, final MergeThing command, final Thing thing,
             final Instant eventTs, final long nextRevision) {
-        final JsonObject existingThingJson = thing.toJson(FieldType.all());
         final JsonMergePatch jsonMergePatch = JsonMergePatch.of(command.getPath(), command.getValue());
-        final JsonObject mergedJson = jsonMergePatch.applyOn(existingThingJson).asObject();
+        final Thing mergedThing = mergePatchedParts(thing, jsonMergePatch)
+                .orElseGet(() -> mergeWholeThing(context, thing, jsonMergePatch))
+                .toBuilder()
+                .setRevision(nextRevision)
+                .setModified(eventTs)
+                .build();
 
         ThingCommandSizeValidator.getInstance().ensureValidSize(
-                mergedJson::getUpperBoundForStringSize,
-                () -> mergedJson.toString().length(),
+                () -> getUpperBoundForStringSize(mergedThing),
+                () -> mergedThing.toJson(FieldType.all()).toString().length(),
                 command::getDittoHeaders);
 
-        context.getLog().debug("Result of JSON merge: {}", mergedJson);
-        final Thing mergedThing = ThingsModelFactory.newThingBuilder(mergedJson)
-                .setRevision(nextRevision)
-                .setModified(eventTs).build();
         context.getLog().debug("Thing created from merged JSON: {}", mergedThing);
         return mergedThing;
     }
 
+    /**
+     * Applies the merge patch only on the attributes and on the features of the existing Thing which are contained in
+     * the patch, so the existing Thing does not have to be converted to JSON as a whole.
+     *
+     * @return the Thing with the changes applied or an empty Optional if the patch contains other fields than
+     * attributes and features.
+     */
+    private static Optional<Thing> mergePatchedParts(final Thing thing, final JsonMergePatch jsonMergePatch) {
+        final JsonObject patch = jsonMergePatch.asJsonValue().asObject();
+        final JsonObjectBuilder patchedPartsBuilder = JsonObject.newBuilder();
+        for (final JsonKey key : patch.getKeys()) {
+            if (ATTRIBUTES_KEY.equals(key)) {
+                thing.getAttributes().ifPresent(attributes -> patchedPartsBuilder.set(key, attributes));
+            } else if (FEATURES_KEY.equals(key)) {
+                thing.getFeatures().ifPresent(features ->
+                        patchedPartsBuilder.set(key, getPatchedFeatures(features, patch.getValue(key).orElseThrow())));
+            } else {
+                return Optional.empty();
+            }
+        }
+        final JsonMergePatchResult mergePatchResult =
+                jsonMergePatch.applyOnTrackingChanges(patchedPartsBuilder.build(JsonSerializationMode.LAZY));
+
+        // the patch only contains attributes and features, thus all changes can be applied on the existing Thing
+        return applyChanges(thing, mergePatchResult.getMergedValue().asObject(),
+                mergePatchResult.getChangedPointers());
+    }
+
+    /**
+     * Returns the JSON of the existing features which are contained in the patch.
+     * If the patch replaces the features as a whole, the returned object is empty as it only indicates that the
+     * Thing has features.
+     */
+    private static JsonObject getPatchedFeatures(final Features features, final JsonValue featuresPatch) {
+        final JsonObjectBuilder patchedFeaturesBuilder = JsonObject.newBuilder();
+        if (featuresPatch.isObject() && !featuresPatch.isNull()) {
+            for (final JsonKey featureId : featuresPatch.asObject().getKeys()) {
+                features.getFeature(featureId.toString())
+                        .ifPresent(feature -> patchedFeaturesBuilder.set(featureId, feature.toJson()));
+            }
+        }
+        return patchedFeaturesBuilder.build(JsonSerializationMode.LAZY);
+    }
+
+    private static Thing mergeWholeThing(final Context<ThingId> context, final Thing thing,
+            final JsonMergePatch jsonMergePatch) {
+
+        final JsonObject existingThingJson = thing.toJson(FieldType.all());
+        final JsonMergePatchResult mergePatchResult = jsonMergePatch.applyOnTrackingChanges(existingThingJson);
+        final JsonObject mergedJson = mergePatchResult.getMergedValue().asObject();
+        context.getLog().debug("Result of JSON merge: {}", mergedJson);
+        return applyChanges(thing, mergedJson, mergePatchResult.getChangedPointers())
+                .orElseGet(() -> ThingsModelFactory.newThing(mergedJson));
+    }
+
+    /**
+     * Applies only the changed parts of the merged Thing JSON on the existing Thing in order to avoid rebuilding the
+     * whole Thing.
+     * This is supported for changes of attributes and features; for all other changes the Thing has to be built
+     * from the merged JSON.
+     *
+     * @return the Thing with the changes applied or an empty Optional if the Thing has to be built from the merged
+     * JSON.
+     */
+    private static Optional<Thing> applyChanges(final Thing thing, final JsonObject mergedJson,
+            final Set<JsonPointer> changedPointers) {
+
+        boolean attributesChanged = false;
+        boolean featuresChanged = false;
+        final Set<String> changedFeatureIds = new LinkedHashSet<>();
+        for (final JsonPointer changedPointer : changedPointers) {
+            final Optional<JsonKey> rootKey = changedPointer.getRoot();
+            if (rootKey.filter(ATTRIBUTES_KEY::equals).isPresent()) {
+                attributesChanged = true;
+            } else if (rootKey.filter(FEATURES_KEY::equals).isPresent()) {
+                final Optional<JsonKey> featureId = changedPointer.get(1);
+                if (featureId.isPresent()) {
+                    changedFeatureIds.add(featureId.get().toString());
+                } else {
+                    featuresChanged = true;
+                }
+            } else {
+                return Optional.empty();
+            }
+        }
+
+        Thing result = thing;
+        if (attributesChanged) {
+            result = mergedJson.getValue(Thing.JsonFields.ATTRIBUTES)
+                    .map(ThingsModelFactory::newAttributes)
+                    .map(result::setAttributes)
+                    .orElseGet(result::removeAttributes);
+        }
+        if (featuresChanged) {
+            result = mergedJson.getValue(Thing.JsonFields.FEATURES)
+                    .map(ThingsModelFactory::newFeatures)
+                    .map(result::setFeatures)
+                    .orElseGet(result::removeFeatures);
+        } else {
+            for (final String featureId : changedFeatureIds) {
+                final JsonKey featureKey = JsonKey.of(featureId);
+                final Optional<Feature> feature =
+                        mergedJson.getValue(Thing.JsonFields.FEATURES.getPointer().addLeaf(featureKey))
+                                .flatMap(featureJson -> newFeature(featureKey, featureJson));
+                result = feature.isPresent() ? result.setFeature(feature.get()) : result.removeFeature(featureId);
+            }
+        }
+        return Optional.of(result);
+    }
+
+    /**
+     * Builds a Feature from its merged JSON the same way as the Features of a Thing are built from JSON, so that an
+     * invalid Feature is reported the same way as if the whole Thing was built from the merged JSON.
+     */
+    private static Optional<Feature> newFeature(final JsonKey featureId, final JsonValue featureJson) {
+        return ThingsModelFactory.newFeatures(JsonObject.newBuilder().set(featureId, featureJson).build())
+                .getFeature(featureId.toString());
+    }
+
+    /**
+     * Calculates an upper bound for the size of the JSON string of the passed Thing from the sizes of its parts.
+     * The JSON representation of attributes and feature properties is already known, so only the small remainder of
+     * the Thing has to be converted to JSON.
+     */
+    private static long getUpperBoundForStringSize(final Thing thing) {
+        long result = thing.removeAttributes()
+                .removeFeatures()
+                .toJson(FieldType.all())
+                .getUpperBoundForStringSize();
+        final Optional<Attributes> attributes = thing.getAttributes();
+        if (attributes.isPresent()) {
+            result += getUpperBoundForFieldSize(ATTRIBUTES_KEY, attributes.get().getUpperBoundForStringSize());
+        }
+        final Optional<Features> features = thing.getFeatures();
+        if (features.isPresent()) {
+            long featuresSize = NUM_ENCLOSING_BRACES;
+            for (final Feature feature : features.get()) {
+                featuresSize += getUpperBoundForFieldSize(feature.getId(), getUpperBoundForStringSize(feature));
+            }
+            result += getUpperBoundForFieldSize(FEATURES_KEY, featuresSize);
+        }
+        return result;
+    }
+
+    private static long getUpperBoundForStringSize(final Feature feature) {
+        long result = NUM_ENCLOSING_BRACES;
+        final Optional<FeatureDefinition> definition = feature.getDefinition();
+        if (definition.isPresent()) {
+            result += getUpperBoundForFieldSize(DEFINITION_KEY, definition.get().toJson().getUpperBoundForStringSize());
+        }
+        final Optional<FeatureProperties> properties = feature.getProperties();
+        if (properties.isPresent()) {
+            result += getUpperBoundForFieldSize(PROPERTIES_KEY, properties.get().getUpperBoundForStringSize());
+        }
+        final Optional<FeatureProperties> desiredProperties = feature.getDesiredProperties();
+        if (desiredProperties.isPresent()) {
+            result += getUpperBoundForFieldSize(DESIRED_PROPERTIES_KEY,
+                    desiredProperties.get().getUpperBoundForStringSize());
+        }
+        return result;
+    }
+
+    /**
+     * Returns the upper bound for the size of a field with the passed key and value size including the quotes and
+     * escape sequences of the key, the colon and a delimiting comma.
+     */
+    private static long getUpperBoundForFieldSize(final CharSequence key, final long valueSize) {
+        return key.length() * MAX_CHAR_ESCAPE_SEQUENCE_LENGTH + 4L + valueSize;
+    }
+
     @Override
     public Optional<EntityTag> previousEntityTag(final MergeThing command, @Nullable final Thing previousEntity) {
         return ENTITY_TAG_MAPPER.map(command.getPath(), previousEntity);
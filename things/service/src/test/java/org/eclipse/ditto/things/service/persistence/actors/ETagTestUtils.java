@@ -95,6 +95,12 @@ public final class ETagTestUtils {
         return ModifyThingResponse.modified(modifiedThing.getEntityId().get(), dittoHeadersWithETag);
     }
 
+    /**
+     * Returns the response to a merge at {@code path} which resulted in {@code currentThing}.
+     * Like the responses to modify commands, the response carries the ETag of the resource at the merged path: the
+     * ETag of the whole Thing for the root path, otherwise the ETag of the JSON value at the path, which matches the
+     * ETag of merged attributes and feature properties.
+     */
     public static MergeThingResponse mergeThingResponse(final Thing currentThing, final JsonPointer path,
             final DittoHeaders dittoHeaders) {
         final Thing modifiedThingWithUpdatedRevision = currentThing.toBuilder()
@@ -102,8 +108,10 @@ public final class ETagTestUtils {
                         .map(Revision::increment)
                         .orElseGet(() -> ThingRevision.newInstance(1L)))
                 .build();
-        final DittoHeaders dittoHeadersWithETag =
-                appendETagToDittoHeaders(modifiedThingWithUpdatedRevision, dittoHeaders);
+        final DittoHeaders dittoHeadersWithETag = path.isEmpty()
+                ? appendETagToDittoHeaders(modifiedThingWithUpdatedRevision, dittoHeaders)
+                : appendETagToDittoHeaders(modifiedThingWithUpdatedRevision.toJson().getValue(path).orElseThrow(),
+                dittoHeaders);
         final ThingId thingId = currentThing.getEntityId().orElseThrow();
         return MergeThingResponse.of(thingId, path, dittoHeadersWithETag);
     }
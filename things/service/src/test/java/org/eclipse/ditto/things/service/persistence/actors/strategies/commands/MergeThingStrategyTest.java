@@ -14,6 +14,7 @@ package org.eclipse.ditto.things.service.persistence.actors.strategies.commands;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.eclipse.ditto.things.model.TestConstants.Feature.FLUX_CAPACITOR_ID;
 import static org.eclipse.ditto.things.model.TestConstants.Thing.THING_V2;
 import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
 import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
@@ -24,6 +25,7 @@ import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonPointer;
 import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.base.model.headers.entitytag.EntityTag;
 import org.eclipse.ditto.things.model.Thing;
 import org.eclipse.ditto.things.model.ThingId;
 import org.eclipse.ditto.things.model.ThingTooLargeException;
@@ -77,6 +79,37 @@ public final class MergeThingStrategyTest extends AbstractCommandStrategyTest {
         assertModificationResult(underTest, existing, mergeThing, ThingMerged.class, expectedCommandResponse);
     }
 
+    @Test
+    public void mergeFeatureProperty() {
+        final CommandStrategy.Context<ThingId> context = getDefaultContext();
+        final ThingId thingId = context.getState();
+
+        final Thing existing = THING_V2.toBuilder().setRevision(NEXT_REVISION - 1).build();
+
+        final JsonPointer path = JsonPointer.of("/features/" + FLUX_CAPACITOR_ID + "/properties/target_year_1");
+        final MergeThing mergeThing = MergeThing.of(thingId, path, JsonValue.of(1985), DittoHeaders.empty());
+        final Thing expected = existing.setFeatureProperty(FLUX_CAPACITOR_ID, JsonPointer.of("target_year_1"),
+                JsonValue.of(1985));
+        final MergeThingResponse expectedCommandResponse =
+                ETagTestUtils.mergeThingResponse(expected, path, mergeThing.getDittoHeaders());
+        assertModificationResult(underTest, existing, mergeThing, ThingMerged.class, expectedCommandResponse);
+    }
+
+    @Test
+    public void mergeFeaturePropertyRespondsWithETagOfMergedProperty() {
+        final CommandStrategy.Context<ThingId> context = getDefaultContext();
+        final ThingId thingId = context.getState();
+
+        final Thing existing = THING_V2.toBuilder().setRevision(NEXT_REVISION - 1).build();
+
+        // like ModifyFeatureProperty, a merge below the root responds with the ETag of the merged resource only
+        final JsonPointer path = JsonPointer.of("/features/" + FLUX_CAPACITOR_ID + "/properties/target_year_1");
+        final MergeThing mergeThing = MergeThing.of(thingId, path, JsonValue.of(1985), DittoHeaders.empty());
+        final MergeThingResponse expectedCommandResponse = MergeThingResponse.of(thingId, path,
+                mergeThing.getDittoHeaders().toBuilder().eTag(EntityTag.fromEntity(JsonValue.of(1985)).get()).build());
+        assertModificationResult(underTest, existing, mergeThing, ThingMerged.class, expectedCommandResponse);
+    }
+
     @Test
     public void mergeThingWithLargeAttributeExpectThingTooLargeException() {
         final CommandStrategy.Context<ThingId> context = getDefaultContext();
@@ -90,4 +123,36 @@ public final class MergeThingStrategyTest extends AbstractCommandStrategyTest {
                 .isThrownBy(() -> underTest.apply(context, existing, NEXT_REVISION, mergeThing))
                 .satisfies(e -> assertThat(e.getDittoHeaders()).containsAllEntriesOf(dittoHeaders));
     }
+
+    @Test
+    public void mergeFeatureWithLargePropertyExpectThingTooLargeException() {
+        final CommandStrategy.Context<ThingId> context = getDefaultContext();
+        final ThingId thingId = context.getState();
+        final Thing existing = THING_V2.toBuilder().setRevision(NEXT_REVISION - 1).build();
+        final JsonPointer path = JsonPointer.of("/features/" + FLUX_CAPACITOR_ID + "/properties/large");
+        final DittoHeaders dittoHeaders = DittoHeaders.newBuilder().correlationId(UUID.randomUUID().toString()).build();
+        final MergeThing mergeThing = MergeThing.of(thingId, path,
+                JsonValue.of("~".repeat((int) THING_SIZE_LIMIT_BYTES - 150)), dittoHeaders);
+        assertThatExceptionOfType(ThingTooLargeException.class)
+                .isThrownBy(() -> underTest.apply(context, existing, NEXT_REVISION, mergeThing))
+                .satisfies(e -> assertThat(e.getDittoHeaders()).containsAllEntriesOf(dittoHeaders));
+    }
+
+    @Test
+    public void mergeNullRemovesFeature() {
+        final CommandStrategy.Context<ThingId> context = getDefaultContext();
+        final ThingId thingId = context.getState();
+
+        final Thing existing = THING_V2.toBuilder().setRevision(NEXT_REVISION - 1).build();
+
+        final JsonPointer path = JsonPointer.empty();
+        final JsonObject patch = JsonObject.newBuilder()
+                .set(JsonPointer.of("/features/" + FLUX_CAPACITOR_ID), JsonValue.nullLiteral())
+                .build();
+        final MergeThing mergeThing = MergeThing.of(thingId, path, patch, DittoHeaders.empty());
+        final Thing expected = existing.removeFeature(FLUX_CAPACITOR_ID);
+        final MergeThingResponse expectedCommandResponse =
+                ETagTestUtils.mergeThingResponse(expected, path, mergeThing.getDittoHeaders());
+        assertModificationResult(underTest, existing, mergeThing, ThingMerged.class, expectedCommandResponse);
+    }
 }
@@ -26,6 +26,7 @@ import org.eclipse.ditto.json.JsonFieldDefinition;
 import org.eclipse.ditto.json.JsonKey;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonSerializationMode;
 import org.eclipse.ditto.json.JsonValue;
 
 /**
@@ -126,6 +127,11 @@ abstract class AbstractTypedJsonObjectBuilder<B extends TypedJsonObjectBuilder<B
         return wrappedObjectBuilder.isEmpty();
     }
 
+    @Override
+    public JsonObject build(final JsonSerializationMode serializationMode) {
+        return wrappedObjectBuilder.build(serializationMode);
+    }
+
     @Override
     public int getSize() {
         return wrappedObjectBuilder.getSize();